@@ -1,6 +1,8 @@
 package name.sugawara.hiroshi.math.array;
 
-import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import name.sugawara.hiroshi.math.fft.Convolution;
 
 /**
  * 配列演算クラス.
@@ -38,6 +40,23 @@ public final strictfp class ArraysUtil implements Cloneable {
     }
   }
 
+  /**
+   * 引数の配列と結果を書き込む配列のサイズが等しいことを確認する.
+   * 
+   * @param a
+   *          引数の配列
+   * @param result
+   *          結果を書き込む配列
+   * @exception IllegalArgumentException
+   *              サイズが異なる場合
+   * @since 2026/10/18 21:40:12
+   */
+  private static void checkLength(final double[] a, final double[] result) {
+    if (a.length != result.length) {
+      throw new IllegalArgumentException("The sizes of both of array differ.");
+    }
+  }
+
   /**
    * 配列をディープコピーする.
    * 
@@ -191,6 +210,60 @@ public final strictfp class ArraysUtil implements Cloneable {
     return ArraysUtil.sum(array) / array.length;
   }
 
+  /**
+   * 指定された計算方法で配列の要素の和を返す.
+   * 
+   * @param array
+   *          加算される配列
+   * @param summation
+   *          計算方法
+   * @return 配列の要素の和
+   * @see Summation
+   * @since 2026/10/18 22:10:25
+   */
+  public static double sum(final double[] array, final Summation summation) {
+    return summation.sum(array);
+  }
+
+  /**
+   * 指定された計算方法で配列の要素の平均値を返す.
+   * 
+   * @param array
+   *          配列
+   * @param summation
+   *          計算方法
+   * @return 配列の要素の平均値
+   * @see Summation
+   * @since 2026/10/18 22:10:25
+   */
+  public static double mean(final double[] array, final Summation summation) {
+    return summation.mean(array);
+  }
+
+  /**
+   * 共通プール(ForkJoinPool.commonPool())で大きな配列を並列に計算する演算を返す.
+   * 
+   * @return 並列演算
+   * @see ParallelArrays
+   * @since 2026/10/18 22:48:31
+   */
+  public static ParallelArrays parallel() {
+    return ParallelArrays.COMMON;
+  }
+
+  /**
+   * 指定されたプールで大きな配列を並列に計算する演算を返す.
+   * 
+   * @param pool
+   *          プール
+   * @return 並列演算
+   * @see ParallelArrays
+   * @since 2026/10/18 22:48:31
+   */
+  public static ParallelArrays parallel(final ForkJoinPool pool) {
+    return new ParallelArrays(pool);
+  }
+
   /**
    * 配列の要素の積(product 記号Π(Pi))を値で返す. 配列の要素を全て乗算した値を返す n-1 y = Π a_i i=0
    * 
@@ -218,13 +291,31 @@ public final strictfp class ArraysUtil implements Cloneable {
    * @return 指定された配列aと指定された配列bを加算した配列を返す。
    */
   public static double[] add(final double[] a, final double[] b) {
+    return ArraysUtil.add(a, b, new double[a.length]);
+  }
 
-    // test 5.9.2002 compareToEachArraySize( a, b );
-    final double[] c = new double[a.length];
-    for (int i = 0; i < a.length; i++) {
-      c[i] = a[i] + b[i];
+  /**
+   * 配列どうしの加算.<br />
+   * 結果を配列 result に書き込む. result は引数の配列と同じでもよい.
+   * 
+   * @param a
+   *          加算される配列
+   * @param b
+   *          加算する配列
+   * @param result
+   *          結果を書き込む配列
+   * @return result
+   * @exception IllegalArgumentException
+   *              配列のサイズが異なる場合
+   * @since 2026/10/18 21:40:12
+   */
+  public static double[] add(final double[] a, final double[] b, final double[] result) {
+    ArraysUtil.checkLength(a, result);
+    ArraysUtil.checkLength(b, result);
+    for (int i = 0; i < result.length; i++) {
+      result[i] = a[i] + b[i];
     }
-    return c;
+    return result;
   }
 
   /**
@@ -238,10 +329,30 @@ public final strictfp class ArraysUtil implements Cloneable {
    * @return 指定された配列aの各要素に指定された値bを加算した配列を返す。
    */
   public static double[] add(final double[] a, final double value) {
+    return ArraysUtil.add(a, value, new double[a.length]);
+  }
 
-    final double[] b = new double[a.length];
-    Arrays.fill(b, value);
-    return ArraysUtil.add(a, b);
+  /**
+   * 配列の各要素に指定された値を加算.<br />
+   * 結果を配列 result に書き込む. result は引数の配列と同じでもよい.
+   * 
+   * @param a
+   *          加算される配列
+   * @param value
+   *          配列の各要素に加算する値
+   * @param result
+   *          結果を書き込む配列
+   * @return result
+   * @exception IllegalArgumentException
+   *              配列のサイズが異なる場合
+   * @since 2026/10/18 21:40:12
+   */
+  public static double[] add(final double[] a, final double value, final double[] result) {
+    ArraysUtil.checkLength(a, result);
+    for (int i = 0; i < result.length; i++) {
+      result[i] = a[i] + value;
+    }
+    return result;
   }
 
   /**
@@ -255,13 +366,32 @@ public final strictfp class ArraysUtil implements Cloneable {
    * @return 指定された配列aと指定された配列bを減算した配列を返す。
    */
   public static double[] subtract(final double[] a, final double[] b) {
-
     ArraysUtil.compareToEachArraySize(a, b);
-    final double[] c = new double[a.length];
-    for (int i = 0; i < a.length || i < b.length; i++) {
-      c[i] = a[i] - b[i];
+    return ArraysUtil.subtract(a, b, new double[a.length]);
+  }
+
+  /**
+   * 配列どうしの減算.<br />
+   * 結果を配列 result に書き込む. result は引数の配列と同じでもよい.
+   * 
+   * @param a
+   *          減算される配列
+   * @param b
+   *          減算する配列
+   * @param result
+   *          結果を書き込む配列
+   * @return result
+   * @exception IllegalArgumentException
+   *              配列のサイズが異なる場合
+   * @since 2026/10/18 21:40:12
+   */
+  public static double[] subtract(final double[] a, final double[] b, final double[] result) {
+    ArraysUtil.checkLength(a, result);
+    ArraysUtil.checkLength(b, result);
+    for (int i = 0; i < result.length; i++) {
+      result[i] = a[i] - b[i];
     }
-    return c;
+    return result;
   }
 
   /**
@@ -275,10 +405,30 @@ public final strictfp class ArraysUtil implements Cloneable {
    * @return 指定された配列aの各要素に指定された値valueを減算した配列を返す。
    */
   public static double[] subtract(final double[] a, final double value) {
+    return ArraysUtil.subtract(a, value, new double[a.length]);
+  }
 
-    final double[] b = new double[a.length];
-    Arrays.fill(b, value);
-    return ArraysUtil.subtract(a, b);
+  /**
+   * 配列の各要素に指定された値を減算.<br />
+   * 結果を配列 result に書き込む. result は引数の配列と同じでもよい.
+   * 
+   * @param a
+   *          減算される配列
+   * @param value
+   *          配列の各要素に減算する値
+   * @param result
+   *          結果を書き込む配列
+   * @return result
+   * @exception IllegalArgumentException
+   *              配列のサイズが異なる場合
+   * @since 2026/10/18 21:40:12
+   */
+  public static double[] subtract(final double[] a, final double value, final double[] result) {
+    ArraysUtil.checkLength(a, result);
+    for (int i = 0; i < result.length; i++) {
+      result[i] = a[i] - value;
+    }
+    return result;
   }
 
   /**
@@ -292,10 +442,30 @@ public final strictfp class ArraysUtil implements Cloneable {
    * @return 指定された value 値から指定された配列 a の各要素を減算した配列を返す。
    */
   public static double[] subtract(final double value, final double[] a) {
+    return ArraysUtil.subtract(value, a, new double[a.length]);
+  }
 
-    final double[] b = new double[a.length];
-    Arrays.fill(b, value);
-    return ArraysUtil.subtract(b, a);
+  /**
+   * 指定された値から配列の各要素を減算.<br />
+   * 結果を配列 result に書き込む. result は引数の配列と同じでもよい.
+   * 
+   * @param value
+   *          配列の各要素に減算される値
+   * @param a
+   *          減算する側の配列
+   * @param result
+   *          結果を書き込む配列
+   * @return result
+   * @exception IllegalArgumentException
+   *              配列のサイズが異なる場合
+   * @since 2026/10/18 21:40:12
+   */
+  public static double[] subtract(final double value, final double[] a, final double[] result) {
+    ArraysUtil.checkLength(a, result);
+    for (int i = 0; i < result.length; i++) {
+      result[i] = value - a[i];
+    }
+    return result;
   }
 
   /**
@@ -310,11 +480,32 @@ public final strictfp class ArraysUtil implements Cloneable {
    */
   public static double[] multiply(final double[] multiplicand, final double[] multiplier) {
     ArraysUtil.compareToEachArraySize(multiplicand, multiplier);
-    final double[] product = new double[multiplicand.length];
-    for (int i = 0; i < multiplicand.length || i < multiplier.length; i++) {
-      product[i] = multiplicand[i] * multiplier[i];
+    return ArraysUtil.multiply(multiplicand, multiplier, new double[multiplicand.length]);
+  }
+
+  /**
+   * 配列どうしの乗算.<br />
+   * 結果を配列 result に書き込む. result は引数の配列と同じでもよい.
+   * 
+   * @param multiplicand
+   *          乗算される配列
+   * @param multiplier
+   *          乗算する配列
+   * @param result
+   *          結果を書き込む配列
+   * @return result
+   * @exception IllegalArgumentException
+   *              配列のサイズが異なる場合
+   * @since 2026/10/18 21:40:12
+   */
+  public static double[] multiply(final double[] multiplicand, final double[] multiplier,
+      final double[] result) {
+    ArraysUtil.checkLength(multiplicand, result);
+    ArraysUtil.checkLength(multiplier, result);
+    for (int i = 0; i < result.length; i++) {
+      result[i] = multiplicand[i] * multiplier[i];
     }
-    return product;
+    return result;
   }
 
   /**
@@ -328,11 +519,30 @@ public final strictfp class ArraysUtil implements Cloneable {
    * @return 指定された配列の個々の要素を実数倍した配列を返す。
    */
   public static double[] multiply(final double[] a, final double times) {
-    final double[] c = new double[a.length];
-    for (int i = 0; i < a.length; i++) {
-      c[i] = a[i] * times;
+    return ArraysUtil.multiply(a, times, new double[a.length]);
+  }
+
+  /**
+   * 配列の要素の実数倍.<br />
+   * 結果を配列 result に書き込む. result は引数の配列と同じでもよい.
+   * 
+   * @param a
+   *          実数倍する配列
+   * @param times
+   *          配列を実数倍する値
+   * @param result
+   *          結果を書き込む配列
+   * @return result
+   * @exception IllegalArgumentException
+   *              配列のサイズが異なる場合
+   * @since 2026/10/18 21:40:12
+   */
+  public static double[] multiply(final double[] a, final double times, final double[] result) {
+    ArraysUtil.checkLength(a, result);
+    for (int i = 0; i < result.length; i++) {
+      result[i] = a[i] * times;
     }
-    return c;
+    return result;
   }
 
   /**
@@ -344,12 +554,70 @@ public final strictfp class ArraysUtil implements Cloneable {
    *          配列
    * @param b
    *          配列
-   * @return 指定された配列aと指定された配列bを乗算した配列を返す。
+   * @return 指定された配列aと指定された配列bの内積を返す。
    */
   public static double innerProduct(final double[] a, final double[] b) {
     ArraysUtil.compareToEachArraySize(a, b);
+    return ArraysUtil.innerProduct(a, 0, b, 0, a.length);
+  }
 
-    return ArraysUtil.sum(ArraysUtil.multiply(a, b));
+  /**
+   * 指定された計算方法で配列どうしの内積を返す.
+   * 
+   * @param a
+   *          配列
+   * @param b
+   *          配列
+   * @param summation
+   *          計算方法
+   * @return 内積
+   * @exception IllegalArgumentException
+   *              配列のサイズが異なる場合
+   * @see Summation
+   * @since 2026/10/18 22:10:25
+   */
+  public static double innerProduct(final double[] a, final double[] b,
+      final Summation summation) {
+    return summation.innerProduct(a, b);
+  }
+
+  /**
+   * 配列 a[aOffset] からと b[bOffset] からの length 個どうしの内積.<br />
+   * 中間の配列を作らず、4つの部分和に分けて積和する. 部分和は依存関係がないため
+   * パイプライン上で並行して計算でき、1つの和に足し込むより速い. 和の順序が変わるため、
+   * 逐次に足した値とは丸め誤差の範囲で異なることがある.
+   * 
+   * @param a
+   *          配列
+   * @param aOffset
+   *          a の先頭位置
+   * @param b
+   *          配列
+   * @param bOffset
+   *          b の先頭位置
+   * @param length
+   *          要素数
+   * @return 内積
+   * @since 2026/10/18 21:40:12
+   */
+  public static double innerProduct(final double[] a, final int aOffset, final double[] b,
+      final int bOffset, final int length) {
+    double s0 = 0.0d;
+    double s1 = 0.0d;
+    double s2 = 0.0d;
+    double s3 = 0.0d;
+    final int end = length & ~3;
+    int i = 0;
+    for (; i < end; i += 4) {
+      s0 += a[aOffset + i] * b[bOffset + i];
+      s1 += a[aOffset + i + 1] * b[bOffset + i + 1];
+      s2 += a[aOffset + i + 2] * b[bOffset + i + 2];
+      s3 += a[aOffset + i + 3] * b[bOffset + i + 3];
+    }
+    for (; i < length; i++) {
+      s0 += a[aOffset + i] * b[bOffset + i];
+    }
+    return (s0 + s1) + (s2 + s3);
   }
 
   /**
@@ -363,13 +631,32 @@ public final strictfp class ArraysUtil implements Cloneable {
    * @return 指定された配列aと指定された配列bを除算した配列を返す。
    */
   public static double[] divide(final double[] a, final double[] b) {
-
     ArraysUtil.compareToEachArraySize(a, b);
-    final double[] c = new double[a.length];
-    for (int i = 0; i < a.length || i < b.length; i++) {
-      c[i] = a[i] / b[i];
+    return ArraysUtil.divide(a, b, new double[a.length]);
+  }
+
+  /**
+   * 配列どうしの除算.<br />
+   * 結果を配列 result に書き込む. result は引数の配列と同じでもよい.
+   * 
+   * @param a
+   *          除算される配列
+   * @param b
+   *          除算する配列
+   * @param result
+   *          結果を書き込む配列
+   * @return result
+   * @exception IllegalArgumentException
+   *              配列のサイズが異なる場合
+   * @since 2026/10/18 21:40:12
+   */
+  public static double[] divide(final double[] a, final double[] b, final double[] result) {
+    ArraysUtil.checkLength(a, result);
+    ArraysUtil.checkLength(b, result);
+    for (int i = 0; i < result.length; i++) {
+      result[i] = a[i] / b[i];
     }
-    return c;
+    return result;
   }
 
   /**
@@ -383,9 +670,31 @@ public final strictfp class ArraysUtil implements Cloneable {
    * @return 指定された配列aの各要素に指定された値bを除算した配列を返す。
    */
   public static double[] divide(final double[] a, final double value) {
-    final double[] b = new double[a.length];
-    Arrays.fill(b, value);
-    return ArraysUtil.divide(a, b);
+    return ArraysUtil.divide(a, value, new double[a.length]);
+  }
+
+  /**
+   * 配列の各要素を指定された値で除算.<br />
+   * 逆数を掛けるのではなく要素ごとに除算するため、2つの配列の除算と同じ値になる.<br />
+   * 結果を配列 result に書き込む. result は引数の配列と同じでもよい.
+   * 
+   * @param a
+   *          除算される配列
+   * @param value
+   *          配列の各要素を除算する値
+   * @param result
+   *          結果を書き込む配列
+   * @return result
+   * @exception IllegalArgumentException
+   *              配列のサイズが異なる場合
+   * @since 2026/10/18 21:40:12
+   */
+  public static double[] divide(final double[] a, final double value, final double[] result) {
+    ArraysUtil.checkLength(a, result);
+    for (int i = 0; i < result.length; i++) {
+      result[i] = a[i] / value;
+    }
+    return result;
   }
 
   /**
@@ -399,9 +708,30 @@ public final strictfp class ArraysUtil implements Cloneable {
    * @return 指定された配列aの各要素に指定された値bを除算した配列を返す。
    */
   public static double[] divide(final double value, final double[] a) {
-    final double[] b = new double[a.length];
-    Arrays.fill(b, value);
-    return ArraysUtil.divide(b, a);
+    return ArraysUtil.divide(value, a, new double[a.length]);
+  }
+
+  /**
+   * 指定された値を配列の各要素で除算.<br />
+   * 結果を配列 result に書き込む. result は引数の配列と同じでもよい.
+   * 
+   * @param value
+   *          除算される値
+   * @param a
+   *          除算する配列
+   * @param result
+   *          結果を書き込む配列
+   * @return result
+   * @exception IllegalArgumentException
+   *              配列のサイズが異なる場合
+   * @since 2026/10/18 21:40:12
+   */
+  public static double[] divide(final double value, final double[] a, final double[] result) {
+    ArraysUtil.checkLength(a, result);
+    for (int i = 0; i < result.length; i++) {
+      result[i] = value / a[i];
+    }
+    return result;
   }
 
   // /**
@@ -647,9 +977,33 @@ public final strictfp class ArraysUtil implements Cloneable {
    * @return 指定された2つの配列の個々の値の2乗の和を配列で返す。
    */
   public static double[] sumOfSquare(final double[] a, final double[] b) {
-
     ArraysUtil.compareToEachArraySize(a, b);
-    return ArraysUtil.add(ArraysUtil.pow(a, 2.0), ArraysUtil.pow(b, 2.0));
+    return ArraysUtil.sumOfSquare(a, b, new double[a.length]);
+  }
+
+  /**
+   * 2つの配列の個々の値の2乗の和 a^2 + b^2.<br />
+   * Math.pow を呼ばずに積で計算する.<br />
+   * 結果を配列 result に書き込む. result は引数の配列と同じでもよい.
+   * 
+   * @param a
+   *          配列
+   * @param b
+   *          配列
+   * @param result
+   *          結果を書き込む配列
+   * @return result
+   * @exception IllegalArgumentException
+   *              配列のサイズが異なる場合
+   * @since 2026/10/18 21:40:12
+   */
+  public static double[] sumOfSquare(final double[] a, final double[] b, final double[] result) {
+    ArraysUtil.checkLength(a, result);
+    ArraysUtil.checkLength(b, result);
+    for (int i = 0; i < result.length; i++) {
+      result[i] = a[i] * a[i] + b[i] * b[i];
+    }
+    return result;
   }
 
   /**
@@ -680,11 +1034,32 @@ public final strictfp class ArraysUtil implements Cloneable {
    */
   public static double[] hypot2(final double[] a, final double[] b) {
     ArraysUtil.compareToEachArraySize(a, b);
-    final double[] c = new double[a.length];
-    for (int i = 0; i < a.length; i++) {
-      c[i] = Math.hypot(a[i], b[i]);
+    return ArraysUtil.hypot2(a, b, new double[a.length]);
+  }
+
+  /**
+   * 2つの配列の個々の要素に対する sqrt(a^2 + b^2).<br />
+   * 途中でのオーバーフロー・アンダーフローを避けるため Math.hypot で計算する.<br />
+   * 結果を配列 result に書き込む. result は引数の配列と同じでもよい.
+   * 
+   * @param a
+   *          配列
+   * @param b
+   *          配列
+   * @param result
+   *          結果を書き込む配列
+   * @return result
+   * @exception IllegalArgumentException
+   *              配列のサイズが異なる場合
+   * @since 2026/10/18 21:40:12
+   */
+  public static double[] hypot2(final double[] a, final double[] b, final double[] result) {
+    ArraysUtil.checkLength(a, result);
+    ArraysUtil.checkLength(b, result);
+    for (int i = 0; i < result.length; i++) {
+      result[i] = Math.hypot(a[i], b[i]);
     }
-    return c;
+    return result;
   }
 
   /**
@@ -734,40 +1109,36 @@ public final strictfp class ArraysUtil implements Cloneable {
 
   /**
    * 引数で指定された2つの配列のconvolution(畳み込み)をdouble型の値を返す.<br />
-   * 返された配列のサイズは2つの配列のサイズの和から1を引いた値になる.
+   * 返された配列のサイズは2つの配列のサイズの和から1を引いた値になる.<br />
+   * 配列が長い場合はFFTで計算する.
    * 
    * @param x
    *          信号(配列)
    * @param h
    *          システム(配列)
    * @return サイズが x + h - 1 のdouble[]型を返す
+   * @see Convolution#convolve(double[], double[])
    * @since 1.1
    */
   public static double[] convolute(final double[] x, final double[] h) {
-    final double[] y = new double[x.length + h.length - 1];
-    for (int n = 0; n < y.length; n++) {
-      for (int k = 0; k < x.length; k++) {
-        if (0 <= n - k && n - k < h.length) {
-          y[n] += x[k] * h[n - k];
-        }
-      }
-    }
-    return y;
+    return Convolution.convolve(x, h);
   }
 
   /**
    * 引数で指定された2つの配列のcross-correlation(相互相関関数)をdouble型の配列で返す.<br />
-   * 返された配列のサイズは2つの配列のサイズの和から1を引いた値になる。
+   * 返された配列のサイズは2つの配列のサイズの和から1を引いた値になる。<br />
+   * h を逆順にした配列との畳み込みに等しいが、逆順の配列は作らない.
    * 
    * @param x
    *          信号(配列)
    * @param h
    *          システム(配列)
    * @return サイズが x + h - 1 のdouble[]型を返す
+   * @see Convolution#correlate(double[], double[])
    * @since 1.1
    */
   public static double[] correlate(final double[] x, final double[] h) {
-    return ArraysUtil.convolute(x, ArraysUtil.fliplr(h));
+    return Convolution.correlate(x, h);
   }
 
   /**
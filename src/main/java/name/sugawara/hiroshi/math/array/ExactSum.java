@@ -0,0 +1,274 @@
+/**
+ * Created Date : 2026/10/18 22:10:25
+ */
+package name.sugawara.hiroshi.math.array;
+
+/**
+ * double の和を丸め誤差なしで保持する固定小数点の累積器(long accumulator).
+ *
+ * <pre>
+ *  double が表せる最小の桁 2^-1074 を第0ビットとし、2^1024 を超える分の余裕を加えた約2240ビットを
+ *  32ビットずつ long の配列に持つ. 各要素は上位32ビットを桁上がりの余裕として使うため、
+ *  加算のたびに桁上がりを伝搬する必要はなく、2^30 回ごとにまとめて正規化する.
+ *  加算の順序によらず同じ値になり、doubleValue() は真の和を最近接偶数丸めした値を返す.
+ *  NaN と無限大は別に足し合わせ、ひとつでもあればその和を結果とする.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see Summation#EXACT
+ *
+ * Created Date : 2026/10/18 22:10:25
+ */
+final strictfp class ExactSum {
+
+  /**
+   * 要素の数. 2^1024 の桁(第2098ビット)より上に100ビット以上の余裕を持たせる.
+   *
+   * @since 2026/10/18 22:10:25
+   */
+  private static final int  LIMBS    = 70;
+
+  /**
+   * 下位32ビットのマスク.
+   *
+   * @since 2026/10/18 22:10:25
+   */
+  private static final long MASK     = 0xFFFFFFFFL;
+
+  /**
+   * 正規化せずに加算してよい回数.
+   *
+   * @since 2026/10/18 22:10:25
+   */
+  private static final int  INTERVAL = 1 << 30;
+
+  /**
+   * 32ビットずつの桁. limbs[i] の重みは 2^(32i - 1074).
+   *
+   * @since 2026/10/18 22:10:25
+   */
+  private final long[]      limbs    = new long[ExactSum.LIMBS];
+
+  /**
+   * 前回の正規化からの加算の回数.
+   *
+   * @since 2026/10/18 22:10:25
+   */
+  private int               pending;
+
+  /**
+   * NaN と無限大の和.
+   *
+   * @since 2026/10/18 22:10:25
+   */
+  private double            special;
+
+  /**
+   * NaN または無限大を加えたらtrue.
+   *
+   * @since 2026/10/18 22:10:25
+   */
+  private boolean           nonFinite;
+
+  /**
+   * 値 0 の累積器を作る.
+   *
+   * @since 2026/10/18 22:10:25
+   */
+  ExactSum() {
+    super();
+  }
+
+  /**
+   * x を加える.
+   *
+   * @param x
+   *          値
+   * @since 2026/10/18 22:10:25
+   */
+  void add(final double x) {
+    final long bits = Double.doubleToRawLongBits(x);
+    final int exponent = (int) (bits >>> 52) & 0x7FF;
+    if (exponent == 0x7FF) {
+      this.special += x;
+      this.nonFinite = true;
+      return;
+    }
+    long m = bits & 0xFFFFFFFFFFFFFL;
+    final int position;
+    if (exponent == 0) {
+      if (m == 0L) {
+        return;
+      }
+      position = 0;
+    } else {
+      m |= 1L << 52;
+      position = exponent - 1;
+    }
+    final int index = position >>> 5;
+    final int shift = position & 31;
+    final long low = (m << shift) & ExactSum.MASK;
+    final long middle;
+    final long high;
+    if (shift == 0) {
+      middle = m >>> 32;
+      high = 0L;
+    } else {
+      middle = (m >>> (32 - shift)) & ExactSum.MASK;
+      high = m >>> (64 - shift);
+    }
+    if (bits < 0L) {
+      this.limbs[index] -= low;
+      this.limbs[index + 1] -= middle;
+      this.limbs[index + 2] -= high;
+    } else {
+      this.limbs[index] += low;
+      this.limbs[index + 1] += middle;
+      this.limbs[index + 2] += high;
+    }
+    if (++this.pending == ExactSum.INTERVAL) {
+      this.normalize();
+    }
+  }
+
+  /**
+   * 積 a * b を誤差なしで加える. 積を丸めた値と丸め誤差の2つに分けて加える.
+   *
+   * @param a
+   *          値
+   * @param b
+   *          値
+   * @since 2026/10/18 22:10:25
+   */
+  void addProduct(final double a, final double b) {
+    final double p = a * b;
+    this.add(p);
+    if (!Double.isInfinite(p) && !Double.isNaN(p)) {
+      this.add(Summation.productError(a, b, p));
+    }
+  }
+
+  /**
+   * 別の累積器の値を加える.
+   *
+   * @param other
+   *          累積器
+   * @since 2026/10/18 22:10:25
+   */
+  void add(final ExactSum other) {
+    this.normalize();
+    other.normalize();
+    for (int i = 0; i < ExactSum.LIMBS; i++) {
+      this.limbs[i] += other.limbs[i];
+    }
+    this.pending = 1;
+    this.special += other.special;
+    this.nonFinite |= other.nonFinite;
+  }
+
+  /**
+   * 桁上がりを伝搬し、最上位以外の要素を [0, 2^32) にする.
+   *
+   * @since 2026/10/18 22:10:25
+   */
+  private void normalize() {
+    ExactSum.carry(this.limbs);
+    this.pending = 0;
+  }
+
+  /**
+   * 桁上がりを伝搬する. 最上位の要素が符号を持つ.
+   *
+   * @param v
+   *          桁の配列
+   * @since 2026/10/18 22:10:25
+   */
+  private static void carry(final long[] v) {
+    for (int i = 0; i < v.length - 1; i++) {
+      final long c = v[i] >> 32;
+      v[i] &= ExactSum.MASK;
+      v[i + 1] += c;
+    }
+  }
+
+  /**
+   * 和を最近接偶数丸めした double を返す.
+   *
+   * @return 和
+   * @since 2026/10/18 22:10:25
+   */
+  double doubleValue() {
+    if (this.nonFinite) {
+      return this.special;
+    }
+    this.normalize();
+    final long[] v = this.limbs.clone();
+    final boolean negative = v[ExactSum.LIMBS - 1] < 0L;
+    if (negative) {
+      for (int i = 0; i < v.length; i++) {
+        v[i] = -v[i];
+      }
+      ExactSum.carry(v);
+    }
+    int top = v.length - 1;
+    while (top >= 0 && v[top] == 0L) {
+      top--;
+    }
+    if (top < 0) {
+      return 0.0d;
+    }
+    final int msb = 32 * top + 63 - Long.numberOfLeadingZeros(v[top]);
+    if (msb >= 2098) {
+      return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+    }
+    final int lsb = Math.max(msb - 52, 0);
+    long m = 0L;
+    for (int p = msb; p >= lsb; p--) {
+      m = (m << 1) | ExactSum.bit(v, p);
+    }
+    if (lsb > 0 && ExactSum.bit(v, lsb - 1) != 0L
+        && ((m & 1L) != 0L || ExactSum.any(v, lsb - 1))) {
+      m++;
+    }
+    final double r = Math.scalb((double) m, lsb - 1074);
+    return negative ? -r : r;
+  }
+
+  /**
+   * 第 p ビットを返す.
+   *
+   * @param v
+   *          正規化した桁の配列
+   * @param p
+   *          ビットの位置
+   * @return 0 または 1
+   * @since 2026/10/18 22:10:25
+   */
+  private static long bit(final long[] v, final int p) {
+    return (v[p >>> 5] >>> (p & 31)) & 1L;
+  }
+
+  /**
+   * 第 p ビットより下に 1 のビットがあればtrueを返す.
+   *
+   * @param v
+   *          正規化した桁の配列
+   * @param p
+   *          ビットの位置
+   * @return 1 のビットがあればtrue
+   * @since 2026/10/18 22:10:25
+   */
+  private static boolean any(final long[] v, final int p) {
+    final int index = p >>> 5;
+    if ((v[index] & ((1L << (p & 31)) - 1L)) != 0L) {
+      return true;
+    }
+    for (int i = index - 1; i >= 0; i--) {
+      if (v[i] != 0L) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
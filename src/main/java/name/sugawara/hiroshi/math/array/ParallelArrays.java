@@ -0,0 +1,978 @@
+/**
+ * Created Date : 2026/10/18 22:48:31
+ */
+package name.sugawara.hiroshi.math.array;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * 大きな配列の要素ごとの演算・集約・列ごとの統計量を ForkJoinPool で並列に計算する.
+ *
+ * <pre>
+ *  要素数が閾値(threshold)以下の範囲は分割せずに呼び出したスレッドで計算し、
+ *  閾値を超える範囲だけを前半 n/2 個と後半に分けて指定された ForkJoinPool で計算する.
+ *
+ *  要素ごとの演算と列ごとの統計量は要素・列ごとの計算の順序が逐次計算と変わらないため、
+ *  ArraysUtil や DoubleMatrix の同名の演算と同じ値になる.
+ *  和と内積は Summation.PAIRWISE と同じ形に分割して足すため、閾値やスレッド数によらず
+ *  Summation.PAIRWISE の結果と一致する. 積は分割した部分積を掛け合わせる.
+ *  最大値・最小値の初期値は ArraysUtil.max, ArraysUtil.min と同じく ∓Double.MAX_VALUE である.
+ *
+ *  インスタンスは不変であり、複数のスレッドから同時に使ってよい.
+ * </pre>
+ *
+ * <pre>
+ *  double[] y = ArraysUtil.parallel().exp(x);
+ *  double s = new ParallelArrays(pool, 1 &lt;&lt; 16).sum(y);
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see ArraysUtil#parallel()
+ *
+ * Created Date : 2026/10/18 22:48:31
+ */
+public final strictfp class ParallelArrays {
+
+  /**
+   * 閾値の既定値.
+   *
+   * @since 2026/10/18 22:48:31
+   */
+  public static final int           DEFAULT_THRESHOLD = 1 << 14;
+
+  /**
+   * 共通プールと既定の閾値を使うインスタンス.
+   *
+   * @since 2026/10/18 22:48:31
+   */
+  static final ParallelArrays       COMMON            = new ParallelArrays();
+
+  /**
+   * 集約の種類.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   * @since 2026/10/18 22:48:31
+   */
+  private enum Reduction {
+    /**
+     * 和.
+     */
+    SUM,
+    /**
+     * 積.
+     */
+    PRODUCT,
+    /**
+     * 最大値.
+     */
+    MAX,
+    /**
+     * 最小値.
+     */
+    MIN
+  }
+
+  /**
+   * 計算に使うプール.
+   *
+   * @since 2026/10/18 22:48:31
+   */
+  private final ForkJoinPool        pool;
+
+  /**
+   * これ以下の要素数は分割しない.
+   *
+   * @since 2026/10/18 22:48:31
+   */
+  private final int                 threshold;
+
+  /**
+   * 共通プール(ForkJoinPool.commonPool())と既定の閾値で計算するインスタンスを作る.
+   *
+   * @since 2026/10/18 22:48:31
+   */
+  public ParallelArrays() {
+    this(ForkJoinPool.commonPool(), ParallelArrays.DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * 指定されたプールと既定の閾値で計算するインスタンスを作る.
+   *
+   * @param pool
+   *          プール
+   * @since 2026/10/18 22:48:31
+   */
+  public ParallelArrays(final ForkJoinPool pool) {
+    this(pool, ParallelArrays.DEFAULT_THRESHOLD);
+  }
+
+  /**
+   * 指定されたプールと閾値で計算するインスタンスを作る.
+   *
+   * @param pool
+   *          プール
+   * @param threshold
+   *          これ以下の要素数は分割せずに逐次計算する
+   * @exception IllegalArgumentException
+   *              閾値が正でない場合
+   * @since 2026/10/18 22:48:31
+   */
+  public ParallelArrays(final ForkJoinPool pool, final int threshold) {
+    if (pool == null) {
+      throw new NullPointerException("pool must not be null.");
+    }
+    if (threshold < 1) {
+      throw new IllegalArgumentException("threshold must be positive.");
+    }
+    this.pool = pool;
+    this.threshold = threshold;
+  }
+
+  /**
+   * 計算に使うプールを返す.
+   *
+   * @return プール
+   * @since 2026/10/18 22:48:31
+   */
+  public ForkJoinPool getPool() {
+    return this.pool;
+  }
+
+  /**
+   * 閾値を返す.
+   *
+   * @return 閾値
+   * @since 2026/10/18 22:48:31
+   */
+  public int getThreshold() {
+    return this.threshold;
+  }
+
+  /**
+   * タスクを実行する. 要素数が閾値以下なら呼び出したスレッドで計算する.
+   *
+   * @param task
+   *          タスク
+   * @param work
+   *          要素数
+   * @since 2026/10/18 22:48:31
+   */
+  private void run(final RecursiveAction task, final long work) {
+    if (work <= this.threshold) {
+      task.invoke();
+    } else {
+      this.pool.invoke(task);
+    }
+  }
+
+  /**
+   * 配列の各要素に関数 f を適用した配列を返す.
+   *
+   * @param a
+   *          配列
+   * @param f
+   *          関数
+   * @return 結果の配列
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] map(final double[] a, final DoubleUnaryOperator f) {
+    return this.map(a, f, new double[a.length]);
+  }
+
+  /**
+   * 配列の各要素に関数 f を適用し、結果を配列 result に書き込む. result は a と同じでもよい.
+   *
+   * @param a
+   *          配列
+   * @param f
+   *          関数
+   * @param result
+   *          結果を書き込む配列
+   * @return result
+   * @exception IllegalArgumentException
+   *              配列のサイズが異なる場合
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] map(final double[] a, final DoubleUnaryOperator f, final double[] result) {
+    if (a.length != result.length) {
+      throw new IllegalArgumentException("The sizes of both of array differ.");
+    }
+    this.run(new Apply(a, f, result, 0, a.length, this.threshold), a.length);
+    return result;
+  }
+
+  /**
+   * 配列の要素の指数関数 exp(x).
+   *
+   * @param a
+   *          配列
+   * @return 結果の配列
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] exp(final double[] a) {
+    return this.map(a, Math::exp);
+  }
+
+  /**
+   * 配列の要素の自然対数 log(x).
+   *
+   * @param a
+   *          配列
+   * @return 結果の配列
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] log(final double[] a) {
+    return this.map(a, Math::log);
+  }
+
+  /**
+   * 配列の要素の常用対数 log10(x). Math.log10 で計算する.
+   *
+   * @param a
+   *          配列
+   * @return 結果の配列
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] log10(final double[] a) {
+    return this.map(a, Math::log10);
+  }
+
+  /**
+   * 配列の要素の平方根.
+   *
+   * @param a
+   *          配列
+   * @return 結果の配列
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] sqrt(final double[] a) {
+    return this.map(a, Math::sqrt);
+  }
+
+  /**
+   * 配列の要素の立方根.
+   *
+   * @param a
+   *          配列
+   * @return 結果の配列
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] cbrt(final double[] a) {
+    return this.map(a, Math::cbrt);
+  }
+
+  /**
+   * 配列の要素の絶対値.
+   *
+   * @param a
+   *          配列
+   * @return 結果の配列
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] abs(final double[] a) {
+    return this.map(a, Math::abs);
+  }
+
+  /**
+   * 配列の要素の正弦.
+   *
+   * @param a
+   *          配列
+   * @return 結果の配列
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] sin(final double[] a) {
+    return this.map(a, Math::sin);
+  }
+
+  /**
+   * 配列の要素の余弦.
+   *
+   * @param a
+   *          配列
+   * @return 結果の配列
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] cos(final double[] a) {
+    return this.map(a, Math::cos);
+  }
+
+  /**
+   * 配列の要素の正接.
+   *
+   * @param a
+   *          配列
+   * @return 結果の配列
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] tan(final double[] a) {
+    return this.map(a, Math::tan);
+  }
+
+  /**
+   * 配列の要素の逆正弦.
+   *
+   * @param a
+   *          配列
+   * @return 結果の配列
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] asin(final double[] a) {
+    return this.map(a, Math::asin);
+  }
+
+  /**
+   * 配列の要素の逆余弦.
+   *
+   * @param a
+   *          配列
+   * @return 結果の配列
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] acos(final double[] a) {
+    return this.map(a, Math::acos);
+  }
+
+  /**
+   * 配列の要素の逆正接.
+   *
+   * @param a
+   *          配列
+   * @return 結果の配列
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] atan(final double[] a) {
+    return this.map(a, Math::atan);
+  }
+
+  /**
+   * 配列の要素の双曲線正弦.
+   *
+   * @param a
+   *          配列
+   * @return 結果の配列
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] sinh(final double[] a) {
+    return this.map(a, Math::sinh);
+  }
+
+  /**
+   * 配列の要素の双曲線余弦.
+   *
+   * @param a
+   *          配列
+   * @return 結果の配列
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] cosh(final double[] a) {
+    return this.map(a, Math::cosh);
+  }
+
+  /**
+   * 配列の要素の双曲線正接.
+   *
+   * @param a
+   *          配列
+   * @return 結果の配列
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] tanh(final double[] a) {
+    return this.map(a, Math::tanh);
+  }
+
+  /**
+   * 配列の要素の累乗.
+   *
+   * @param a
+   *          配列
+   * @param exponent
+   *          指数
+   * @return 結果の配列
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] pow(final double[] a, final double exponent) {
+    return this.map(a, x -> Math.pow(x, exponent));
+  }
+
+  /**
+   * 集約を計算する.
+   *
+   * @param a
+   *          配列
+   * @param b
+   *          内積なら配列, それ以外はnull
+   * @param reduction
+   *          集約の種類
+   * @return 集約した値
+   * @since 2026/10/18 22:48:31
+   */
+  private double reduce(final double[] a, final double[] b, final Reduction reduction) {
+    final Reduce task = new Reduce(a, b, reduction, 0, a.length, this.threshold);
+    this.run(task, a.length);
+    return task.result;
+  }
+
+  /**
+   * 配列の要素の和. Summation.PAIRWISE と同じ値になる.
+   *
+   * @param a
+   *          配列
+   * @return 和
+   * @since 2026/10/18 22:48:31
+   */
+  public double sum(final double[] a) {
+    return this.reduce(a, null, Reduction.SUM);
+  }
+
+  /**
+   * 配列の要素の積.
+   *
+   * @param a
+   *          配列
+   * @return 積. 空の配列なら 1
+   * @since 2026/10/18 22:48:31
+   */
+  public double product(final double[] a) {
+    return this.reduce(a, null, Reduction.PRODUCT);
+  }
+
+  /**
+   * 配列の要素の最大値.
+   *
+   * @param a
+   *          配列
+   * @return 最大値
+   * @since 2026/10/18 22:48:31
+   */
+  public double max(final double[] a) {
+    return this.reduce(a, null, Reduction.MAX);
+  }
+
+  /**
+   * 配列の要素の最小値.
+   *
+   * @param a
+   *          配列
+   * @return 最小値
+   * @since 2026/10/18 22:48:31
+   */
+  public double min(final double[] a) {
+    return this.reduce(a, null, Reduction.MIN);
+  }
+
+  /**
+   * 配列どうしの内積. Summation.PAIRWISE と同じ値になる.
+   *
+   * @param a
+   *          配列
+   * @param b
+   *          配列
+   * @return 内積
+   * @exception IllegalArgumentException
+   *              配列のサイズが異なる場合
+   * @since 2026/10/18 22:48:31
+   */
+  public double innerProduct(final double[] a, final double[] b) {
+    if (a.length != b.length) {
+      throw new IllegalArgumentException("The sizes of both of array differ.");
+    }
+    return this.reduce(a, b, Reduction.SUM);
+  }
+
+  /**
+   * 配列の2乗ノルム sqrt(Σ a_i^2).
+   *
+   * @param a
+   *          配列
+   * @return 2乗ノルム
+   * @since 2026/10/18 22:48:31
+   */
+  public double norm(final double[] a) {
+    return Math.sqrt(this.reduce(a, a, Reduction.SUM));
+  }
+
+  /**
+   * 列ごとの集約を計算する.
+   *
+   * @param matrix
+   *          行の配列
+   * @param reduction
+   *          集約の種類
+   * @return 列ごとの値
+   * @since 2026/10/18 22:48:31
+   */
+  private double[] columns(final double[][] matrix, final Reduction reduction) {
+    final int col = matrix[0].length;
+    final double[] c = new double[col];
+    this.run(new Columns(matrix, reduction, c, 0, col, this.threshold),
+        (long) matrix.length * col);
+    return c;
+  }
+
+  /**
+   * 行列の列ごとの和. DoubleMatrix.sum() と同じく 0 から上の行の順に足す.
+   *
+   * @param matrix
+   *          行の配列
+   * @return 列ごとの和
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] columnSum(final double[][] matrix) {
+    return this.columns(matrix, Reduction.SUM);
+  }
+
+  /**
+   * 行列の列ごとの平均.
+   *
+   * @param matrix
+   *          行の配列
+   * @return 列ごとの平均
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] columnMean(final double[][] matrix) {
+    final double[] c = this.columns(matrix, Reduction.SUM);
+    for (int j = 0; j < c.length; j++) {
+      c[j] /= matrix.length;
+    }
+    return c;
+  }
+
+  /**
+   * 行列の列ごとの積.
+   *
+   * @param matrix
+   *          行の配列
+   * @return 列ごとの積
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] columnProduct(final double[][] matrix) {
+    return this.columns(matrix, Reduction.PRODUCT);
+  }
+
+  /**
+   * 行列の列ごとの最大値.
+   *
+   * @param matrix
+   *          行の配列
+   * @return 列ごとの最大値
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] columnMax(final double[][] matrix) {
+    return this.columns(matrix, Reduction.MAX);
+  }
+
+  /**
+   * 行列の列ごとの最小値.
+   *
+   * @param matrix
+   *          行の配列
+   * @return 列ごとの最小値
+   * @since 2026/10/18 22:48:31
+   */
+  public double[] columnMin(final double[][] matrix) {
+    return this.columns(matrix, Reduction.MIN);
+  }
+
+  /**
+   * 集約の初期値を返す.
+   *
+   * @param reduction
+   *          集約の種類
+   * @return 初期値
+   * @since 2026/10/18 22:48:31
+   */
+  private static double identity(final Reduction reduction) {
+    switch (reduction) {
+    case PRODUCT:
+      return 1.0d;
+    case MAX:
+      return -Double.MAX_VALUE;
+    case MIN:
+      return Double.MAX_VALUE;
+    default:
+      return 0.0d;
+    }
+  }
+
+  /**
+   * 2つの部分結果を合わせる.
+   *
+   * @param reduction
+   *          集約の種類
+   * @param x
+   *          前半の結果
+   * @param y
+   *          後半の結果
+   * @return 合わせた結果
+   * @since 2026/10/18 22:48:31
+   */
+  private static double combine(final Reduction reduction, final double x, final double y) {
+    switch (reduction) {
+    case PRODUCT:
+      return x * y;
+    case MAX:
+      return Math.max(x, y);
+    case MIN:
+      return Math.min(x, y);
+    default:
+      return x + y;
+    }
+  }
+
+  /**
+   * 要素ごとの演算のタスク.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   * @since 2026/10/18 22:48:31
+   */
+  private static final class Apply extends RecursiveAction {
+
+    /**
+     * シリアルバージョンID.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private static final long         serialVersionUID = 6029133487721593845L;
+
+    /**
+     * 配列.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final double[]            a;
+
+    /**
+     * 関数.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final DoubleUnaryOperator f;
+
+    /**
+     * 結果の配列.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final double[]            result;
+
+    /**
+     * 最初の要素.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final int                 from;
+
+    /**
+     * 最後の要素の次.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final int                 to;
+
+    /**
+     * 閾値.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final int                 threshold;
+
+    /**
+     * タスクを作る.
+     *
+     * @param a
+     *          配列
+     * @param f
+     *          関数
+     * @param result
+     *          結果の配列
+     * @param from
+     *          最初の要素
+     * @param to
+     *          最後の要素の次
+     * @param threshold
+     *          閾値
+     * @since 2026/10/18 22:48:31
+     */
+    Apply(final double[] a, final DoubleUnaryOperator f, final double[] result, final int from,
+        final int to, final int threshold) {
+      super();
+      this.a = a;
+      this.f = f;
+      this.result = result;
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+    }
+
+    /**
+     * 要素が多ければ2分割し、少なければ逐次計算する.
+     *
+     * @see java.util.concurrent.RecursiveAction#compute()
+     * @since 2026/10/18 22:48:31
+     */
+    @Override
+    protected void compute() {
+      if (this.to - this.from > this.threshold) {
+        final int middle = (this.from + this.to) >>> 1;
+        ForkJoinTask.invokeAll(new Apply(this.a, this.f, this.result, this.from, middle,
+            this.threshold), new Apply(this.a, this.f, this.result, middle, this.to,
+            this.threshold));
+        return;
+      }
+      for (int i = this.from; i < this.to; i++) {
+        this.result[i] = this.f.applyAsDouble(this.a[i]);
+      }
+    }
+  }
+
+  /**
+   * 配列の集約のタスク.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   * @since 2026/10/18 22:48:31
+   */
+  private static final class Reduce extends RecursiveAction {
+
+    /**
+     * シリアルバージョンID.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private static final long serialVersionUID = -2935118046624120783L;
+
+    /**
+     * 配列.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final double[]    a;
+
+    /**
+     * 内積なら配列, それ以外はnull.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final double[]    b;
+
+    /**
+     * 集約の種類.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final Reduction   reduction;
+
+    /**
+     * 先頭位置.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final int         offset;
+
+    /**
+     * 要素数.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final int         n;
+
+    /**
+     * 閾値.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final int         threshold;
+
+    /**
+     * 結果.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private double            result;
+
+    /**
+     * タスクを作る.
+     *
+     * @param a
+     *          配列
+     * @param b
+     *          内積なら配列, それ以外はnull
+     * @param reduction
+     *          集約の種類
+     * @param offset
+     *          先頭位置
+     * @param n
+     *          要素数
+     * @param threshold
+     *          閾値
+     * @since 2026/10/18 22:48:31
+     */
+    Reduce(final double[] a, final double[] b, final Reduction reduction, final int offset,
+        final int n, final int threshold) {
+      super();
+      this.a = a;
+      this.b = b;
+      this.reduction = reduction;
+      this.offset = offset;
+      this.n = n;
+      this.threshold = threshold;
+    }
+
+    /**
+     * 要素が多ければ前半 n/2 個と後半に分割し、少なければ逐次計算する.
+     * 和は分割しない範囲も Summation.pairwise で同じ形に分けて足す.
+     *
+     * @see java.util.concurrent.RecursiveAction#compute()
+     * @since 2026/10/18 22:48:31
+     */
+    @Override
+    protected void compute() {
+      final boolean sum = this.reduction == Reduction.SUM;
+      if (this.n > this.threshold && (!sum || this.n > 128)) {
+        final int half = this.n >>> 1;
+        final Reduce left = new Reduce(this.a, this.b, this.reduction, this.offset, half,
+            this.threshold);
+        final Reduce right = new Reduce(this.a, this.b, this.reduction, this.offset + half,
+            this.n - half, this.threshold);
+        ForkJoinTask.invokeAll(left, right);
+        this.result = ParallelArrays.combine(this.reduction, left.result, right.result);
+        return;
+      }
+      if (sum) {
+        this.result = Summation.pairwise(this.a, this.offset, this.b, this.offset, this.n);
+        return;
+      }
+      double r = ParallelArrays.identity(this.reduction);
+      for (int i = this.offset; i < this.offset + this.n; i++) {
+        r = ParallelArrays.combine(this.reduction, r, this.a[i]);
+      }
+      this.result = r;
+    }
+  }
+
+  /**
+   * 列ごとの集約のタスク. 列の範囲を分割する.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   * @since 2026/10/18 22:48:31
+   */
+  private static final class Columns extends RecursiveAction {
+
+    /**
+     * シリアルバージョンID.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private static final long serialVersionUID = 4455072153318762306L;
+
+    /**
+     * 行の配列.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final double[][]  matrix;
+
+    /**
+     * 集約の種類.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final Reduction   reduction;
+
+    /**
+     * 列ごとの結果.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final double[]    c;
+
+    /**
+     * 最初の列.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final int         j0;
+
+    /**
+     * 最後の列の次.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final int         j1;
+
+    /**
+     * 閾値.
+     *
+     * @since 2026/10/18 22:48:31
+     */
+    private final int         threshold;
+
+    /**
+     * タスクを作る.
+     *
+     * @param matrix
+     *          行の配列
+     * @param reduction
+     *          集約の種類
+     * @param c
+     *          列ごとの結果
+     * @param j0
+     *          最初の列
+     * @param j1
+     *          最後の列の次
+     * @param threshold
+     *          閾値
+     * @since 2026/10/18 22:48:31
+     */
+    Columns(final double[][] matrix, final Reduction reduction, final double[] c, final int j0,
+        final int j1, final int threshold) {
+      super();
+      this.matrix = matrix;
+      this.reduction = reduction;
+      this.c = c;
+      this.j0 = j0;
+      this.j1 = j1;
+      this.threshold = threshold;
+    }
+
+    /**
+     * 要素が多ければ列を2分割し、少なければ上の行から順に集約する.
+     *
+     * @see java.util.concurrent.RecursiveAction#compute()
+     * @since 2026/10/18 22:48:31
+     */
+    @Override
+    protected void compute() {
+      final long work = (long) (this.j1 - this.j0) * this.matrix.length;
+      if (this.j1 - this.j0 > 1 && work > this.threshold) {
+        final int middle = (this.j0 + this.j1) >>> 1;
+        ForkJoinTask.invokeAll(new Columns(this.matrix, this.reduction, this.c, this.j0,
+            middle, this.threshold), new Columns(this.matrix, this.reduction, this.c, middle,
+            this.j1, this.threshold));
+        return;
+      }
+      int start = 0;
+      if (this.reduction == Reduction.PRODUCT) {
+        System.arraycopy(this.matrix[0], this.j0, this.c, this.j0, this.j1 - this.j0);
+        start = 1;
+      } else {
+        Arrays.fill(this.c, this.j0, this.j1, ParallelArrays.identity(this.reduction));
+      }
+      for (int i = start; i < this.matrix.length; i++) {
+        final double[] row = this.matrix[i];
+        for (int j = this.j0; j < this.j1; j++) {
+          this.c[j] = ParallelArrays.combine(this.reduction, this.c[j], row[j]);
+        }
+      }
+    }
+  }
+}
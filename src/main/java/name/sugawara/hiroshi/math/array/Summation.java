@@ -0,0 +1,557 @@
+/**
+ * Created Date : 2026/10/18 22:10:25
+ */
+package name.sugawara.hiroshi.math.array;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 配列の和・平均・内積の計算方法(summation strategy).
+ *
+ * <pre>
+ *  n 個の和の誤差の上界は計算方法により次のようになる(u は double の単位丸め誤差 2^-53).
+ *    NAIVE    : 先頭から順に足す. 誤差 O(n u) Σ|a_i|
+ *    PAIRWISE : 半分ずつに分けた和を足し合わせる. 誤差 O(u log n) Σ|a_i|
+ *    NEUMAIER : 補償加算(Kahan-Babuška/Neumaier). 誤差 u |Σa_i| + O(n u^2) Σ|a_i|
+ *    EXACT    : 固定小数点の累積器で誤差なしに足し、最後に1回だけ丸める. 正しく丸めた値
+ *  内積も同様で、NEUMAIER は積の丸め誤差も Dekker の方法で求めて補償し(Ogita-Rump-Oishi の Dot2)、
+ *  EXACT は積を丸めた値と丸め誤差の両方を累積器に加える.
+ *
+ *  NAIVE 以外は要素数が SEQUENTIAL_LIMIT を超えると ForkJoinPool で並列に計算する.
+ *  分割は常に前半 n/2 個と後半に分ける決まった形で行い、逐次計算も同じ形で部分和を作るため、
+ *  結果はスレッド数によらず同じになる. 末端の計算は独立な部分和を複数持つように展開している.
+ *  Dekker の方法は |a|, |b| が 2^996 程度を超える場合や積がアンダーフローする場合には
+ *  誤差を正しく求められない.
+ * </pre>
+ *
+ * <pre>
+ *  double s = Summation.NEUMAIER.sum(array);
+ *  double d = Summation.EXACT.innerProduct(a, b);
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see ArraysUtil#sum(double[], Summation)
+ *
+ * Created Date : 2026/10/18 22:10:25
+ */
+public strictfp enum Summation {
+
+  /**
+   * 先頭から順に足す.
+   */
+  NAIVE,
+
+  /**
+   * 半分ずつに分けた和を足し合わせる(pairwise summation).
+   */
+  PAIRWISE,
+
+  /**
+   * Neumaier の補償加算(Kahan-Babuška summation).
+   */
+  NEUMAIER,
+
+  /**
+   * 誤差なしに足し、最後に正しく丸める.
+   */
+  EXACT;
+
+  /**
+   * これ以下の要素数は分割せずに逐次計算する. 部分和の分割の単位でもある.
+   *
+   * @since 2026/10/18 22:10:25
+   */
+  static final int            SEQUENTIAL_LIMIT = 1 << 15;
+
+  /**
+   * PAIRWISE で部分和を展開して直接計算する要素数.
+   *
+   * @since 2026/10/18 22:10:25
+   */
+  private static final int    PAIRWISE_BLOCK   = 128;
+
+  /**
+   * Dekker の分割に使う定数 2^27 + 1.
+   *
+   * @since 2026/10/18 22:10:25
+   */
+  private static final double SPLITTER         = 134217729.0d;
+
+  /**
+   * 配列の要素の和を返す.
+   *
+   * @param a
+   *          配列
+   * @return 和
+   * @since 2026/10/18 22:10:25
+   */
+  public double sum(final double[] a) {
+    return this.reduce(a, 0, null, 0, a.length);
+  }
+
+  /**
+   * 配列 a[offset] から length 個の要素の和を返す.
+   *
+   * @param a
+   *          配列
+   * @param offset
+   *          先頭位置
+   * @param length
+   *          要素数
+   * @return 和
+   * @exception ArrayIndexOutOfBoundsException
+   *              範囲が配列の外にある場合
+   * @since 2026/10/18 22:10:25
+   */
+  public double sum(final double[] a, final int offset, final int length) {
+    Summation.checkRange(a.length, offset, length);
+    return this.reduce(a, offset, null, 0, length);
+  }
+
+  /**
+   * 配列の要素の平均を返す.
+   *
+   * @param a
+   *          配列
+   * @return 平均
+   * @since 2026/10/18 22:10:25
+   */
+  public double mean(final double[] a) {
+    return this.sum(a) / a.length;
+  }
+
+  /**
+   * 配列どうしの内積を返す.
+   *
+   * @param a
+   *          配列
+   * @param b
+   *          配列
+   * @return 内積
+   * @exception IllegalArgumentException
+   *              配列のサイズが異なる場合
+   * @since 2026/10/18 22:10:25
+   */
+  public double innerProduct(final double[] a, final double[] b) {
+    if (a.length != b.length) {
+      throw new IllegalArgumentException("The sizes of both of array differ.");
+    }
+    return this.reduce(a, 0, b, 0, a.length);
+  }
+
+  /**
+   * 配列 a[aOffset] からと b[bOffset] からの length 個どうしの内積を返す.
+   *
+   * @param a
+   *          配列
+   * @param aOffset
+   *          a の先頭位置
+   * @param b
+   *          配列
+   * @param bOffset
+   *          b の先頭位置
+   * @param length
+   *          要素数
+   * @return 内積
+   * @exception ArrayIndexOutOfBoundsException
+   *              範囲が配列の外にある場合
+   * @since 2026/10/18 22:10:25
+   */
+  public double innerProduct(final double[] a, final int aOffset, final double[] b,
+      final int bOffset, final int length) {
+    Summation.checkRange(a.length, aOffset, length);
+    Summation.checkRange(b.length, bOffset, length);
+    return this.reduce(a, aOffset, b, bOffset, length);
+  }
+
+  /**
+   * 和または内積を計算する.
+   *
+   * @param a
+   *          配列
+   * @param aOffset
+   *          a の先頭位置
+   * @param b
+   *          内積なら配列, 和ならnull
+   * @param bOffset
+   *          b の先頭位置
+   * @param n
+   *          要素数
+   * @return 和または内積
+   * @since 2026/10/18 22:10:25
+   */
+  private double reduce(final double[] a, final int aOffset, final double[] b,
+      final int bOffset, final int n) {
+    if (this == Summation.NAIVE) {
+      double s = 0.0d;
+      if (b == null) {
+        for (int i = 0; i < n; i++) {
+          s += a[aOffset + i];
+        }
+      } else {
+        for (int i = 0; i < n; i++) {
+          s += a[aOffset + i] * b[bOffset + i];
+        }
+      }
+      return s;
+    }
+    final Task task = new Task(this, a, aOffset, b, bOffset, n);
+    if (n <= Summation.SEQUENTIAL_LIMIT) {
+      task.compute();
+    } else {
+      ForkJoinPool.commonPool().invoke(task);
+    }
+    return task.result();
+  }
+
+  /**
+   * 範囲が配列の中にあることを確認する.
+   *
+   * @param arrayLength
+   *          配列の長さ
+   * @param offset
+   *          先頭位置
+   * @param length
+   *          要素数
+   * @since 2026/10/18 22:10:25
+   */
+  private static void checkRange(final int arrayLength, final int offset, final int length) {
+    if (offset < 0 || length < 0 || offset > arrayLength - length) {
+      throw new ArrayIndexOutOfBoundsException("Range [" + offset + ", " + offset + " + "
+          + length + ") is out of bounds for length " + arrayLength + ".");
+    }
+  }
+
+  /**
+   * 積 a * b を丸めた値 p の丸め誤差 a * b - p を Dekker の方法で返す.
+   *
+   * @param a
+   *          値
+   * @param b
+   *          値
+   * @param p
+   *          a * b を丸めた値
+   * @return 丸め誤差
+   * @since 2026/10/18 22:10:25
+   */
+  static double productError(final double a, final double b, final double p) {
+    double t = Summation.SPLITTER * a;
+    final double ah = t - (t - a);
+    final double al = a - ah;
+    t = Summation.SPLITTER * b;
+    final double bh = t - (t - b);
+    final double bl = b - bh;
+    return ((ah * bh - p) + ah * bl + al * bh) + al * bl;
+  }
+
+  /**
+   * 要素数 n 以下の範囲を PAIRWISE で計算する.
+   *
+   * @param a
+   *          配列
+   * @param aOffset
+   *          a の先頭位置
+   * @param b
+   *          内積なら配列, 和ならnull
+   * @param bOffset
+   *          b の先頭位置
+   * @param n
+   *          要素数
+   * @return 和または内積
+   * @since 2026/10/18 22:10:25
+   */
+  static double pairwise(final double[] a, final int aOffset, final double[] b,
+      final int bOffset, final int n) {
+    if (n > Summation.PAIRWISE_BLOCK) {
+      final int half = n >>> 1;
+      return Summation.pairwise(a, aOffset, b, bOffset, half)
+          + Summation.pairwise(a, aOffset + half, b, bOffset + half, n - half);
+    }
+    double s0 = 0.0d;
+    double s1 = 0.0d;
+    double s2 = 0.0d;
+    double s3 = 0.0d;
+    final int end = n & ~3;
+    int i = 0;
+    if (b == null) {
+      for (; i < end; i += 4) {
+        s0 += a[aOffset + i];
+        s1 += a[aOffset + i + 1];
+        s2 += a[aOffset + i + 2];
+        s3 += a[aOffset + i + 3];
+      }
+      for (; i < n; i++) {
+        s0 += a[aOffset + i];
+      }
+    } else {
+      for (; i < end; i += 4) {
+        s0 += a[aOffset + i] * b[bOffset + i];
+        s1 += a[aOffset + i + 1] * b[bOffset + i + 1];
+        s2 += a[aOffset + i + 2] * b[bOffset + i + 2];
+        s3 += a[aOffset + i + 3] * b[bOffset + i + 3];
+      }
+      for (; i < n; i++) {
+        s0 += a[aOffset + i] * b[bOffset + i];
+      }
+    }
+    return (s0 + s1) + (s2 + s3);
+  }
+
+  /**
+   * 範囲を NEUMAIER で計算し、和と補償項を result に書き込む.
+   *
+   * <pre>
+   *  偶数番目と奇数番目の2系列に分け、それぞれ誤差のない加算 TwoSum で補償項を集める.
+   * </pre>
+   *
+   * @param a
+   *          配列
+   * @param aOffset
+   *          a の先頭位置
+   * @param b
+   *          内積なら配列, 和ならnull
+   * @param bOffset
+   *          b の先頭位置
+   * @param n
+   *          要素数
+   * @param result
+   *          {和, 補償項}
+   * @since 2026/10/18 22:10:25
+   */
+  static void neumaier(final double[] a, final int aOffset, final double[] b,
+      final int bOffset, final int n, final double[] result) {
+    double s0 = 0.0d;
+    double c0 = 0.0d;
+    double s1 = 0.0d;
+    double c1 = 0.0d;
+    final int end = n & ~1;
+    for (int i = 0; i < end; i += 2) {
+      double x0 = a[aOffset + i];
+      double x1 = a[aOffset + i + 1];
+      if (b != null) {
+        final double y0 = b[bOffset + i];
+        final double y1 = b[bOffset + i + 1];
+        final double p0 = x0 * y0;
+        final double p1 = x1 * y1;
+        c0 += Summation.productError(x0, y0, p0);
+        c1 += Summation.productError(x1, y1, p1);
+        x0 = p0;
+        x1 = p1;
+      }
+      final double t0 = s0 + x0;
+      final double t1 = s1 + x1;
+      final double v0 = t0 - s0;
+      final double v1 = t1 - s1;
+      c0 += (s0 - (t0 - v0)) + (x0 - v0);
+      c1 += (s1 - (t1 - v1)) + (x1 - v1);
+      s0 = t0;
+      s1 = t1;
+    }
+    if (end < n) {
+      double x = a[aOffset + end];
+      if (b != null) {
+        final double y = b[bOffset + end];
+        final double p = x * y;
+        c0 += Summation.productError(x, y, p);
+        x = p;
+      }
+      final double t = s0 + x;
+      final double v = t - s0;
+      c0 += (s0 - (t - v)) + (x - v);
+      s0 = t;
+    }
+    final double s = s0 + s1;
+    final double v = s - s0;
+    result[0] = s;
+    result[1] = c0 + c1 + ((s0 - (s - v)) + (s1 - v));
+  }
+
+  /**
+   * 範囲を半分ずつに分けて計算するタスク. 結果はフィールドに持つ.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   * @since 2026/10/18 22:10:25
+   */
+  private static final class Task extends RecursiveAction {
+
+    /**
+     * シリアルバージョンID.
+     *
+     * @since 2026/10/18 22:10:25
+     */
+    private static final long serialVersionUID = -4411390273870658042L;
+
+    /**
+     * 計算方法.
+     *
+     * @since 2026/10/18 22:10:25
+     */
+    private final Summation   mode;
+
+    /**
+     * 配列.
+     *
+     * @since 2026/10/18 22:10:25
+     */
+    private final double[]    a;
+
+    /**
+     * a の先頭位置.
+     *
+     * @since 2026/10/18 22:10:25
+     */
+    private final int         aOffset;
+
+    /**
+     * 内積なら配列, 和ならnull.
+     *
+     * @since 2026/10/18 22:10:25
+     */
+    private final double[]    b;
+
+    /**
+     * b の先頭位置.
+     *
+     * @since 2026/10/18 22:10:25
+     */
+    private final int         bOffset;
+
+    /**
+     * 要素数.
+     *
+     * @since 2026/10/18 22:10:25
+     */
+    private final int         n;
+
+    /**
+     * 和と補償項.
+     *
+     * @since 2026/10/18 22:10:25
+     */
+    private final double[]    partial          = new double[2];
+
+    /**
+     * EXACT の累積器.
+     *
+     * @since 2026/10/18 22:10:25
+     */
+    private ExactSum          exact;
+
+    /**
+     * タスクを作る.
+     *
+     * @param mode
+     *          計算方法
+     * @param a
+     *          配列
+     * @param aOffset
+     *          a の先頭位置
+     * @param b
+     *          内積なら配列, 和ならnull
+     * @param bOffset
+     *          b の先頭位置
+     * @param n
+     *          要素数
+     * @since 2026/10/18 22:10:25
+     */
+    Task(final Summation mode, final double[] a, final int aOffset, final double[] b,
+        final int bOffset, final int n) {
+      super();
+      this.mode = mode;
+      this.a = a;
+      this.aOffset = aOffset;
+      this.b = b;
+      this.bOffset = bOffset;
+      this.n = n;
+    }
+
+    /**
+     * 要素が多ければ前半 n/2 個と後半に分割し、少なければ逐次計算する.
+     *
+     * @see java.util.concurrent.RecursiveAction#compute()
+     * @since 2026/10/18 22:10:25
+     */
+    @Override
+    protected void compute() {
+      if (this.n > Summation.SEQUENTIAL_LIMIT) {
+        final int half = this.n >>> 1;
+        final Task left = new Task(this.mode, this.a, this.aOffset, this.b, this.bOffset, half);
+        final Task right = new Task(this.mode, this.a, this.aOffset + half, this.b,
+            this.b == null ? 0 : this.bOffset + half, this.n - half);
+        ForkJoinTask.invokeAll(left, right);
+        this.combine(left, right);
+        return;
+      }
+      switch (this.mode) {
+      case PAIRWISE:
+        this.partial[0] = Summation.pairwise(this.a, this.aOffset, this.b, this.bOffset, this.n);
+        break;
+      case NEUMAIER:
+        Summation.neumaier(this.a, this.aOffset, this.b, this.bOffset, this.n, this.partial);
+        break;
+      default:
+        this.exact = new ExactSum();
+        if (this.b == null) {
+          for (int i = 0; i < this.n; i++) {
+            this.exact.add(this.a[this.aOffset + i]);
+          }
+        } else {
+          for (int i = 0; i < this.n; i++) {
+            this.exact.addProduct(this.a[this.aOffset + i], this.b[this.bOffset + i]);
+          }
+        }
+        break;
+      }
+    }
+
+    /**
+     * 前半と後半の結果を合わせる.
+     *
+     * @param left
+     *          前半
+     * @param right
+     *          後半
+     * @since 2026/10/18 22:10:25
+     */
+    private void combine(final Task left, final Task right) {
+      switch (this.mode) {
+      case PAIRWISE:
+        this.partial[0] = left.partial[0] + right.partial[0];
+        break;
+      case NEUMAIER:
+        final double x = left.partial[0];
+        final double y = right.partial[0];
+        final double s = x + y;
+        final double v = s - x;
+        this.partial[0] = s;
+        this.partial[1] = left.partial[1] + right.partial[1] + ((x - (s - v)) + (y - v));
+        break;
+      default:
+        left.exact.add(right.exact);
+        this.exact = left.exact;
+        break;
+      }
+    }
+
+    /**
+     * 計算結果を返す.
+     *
+     * @return 和または内積
+     * @since 2026/10/18 22:10:25
+     */
+    double result() {
+      switch (this.mode) {
+      case PAIRWISE:
+        return this.partial[0];
+      case NEUMAIER:
+        return this.partial[0] + this.partial[1];
+      default:
+        return this.exact.doubleValue();
+      }
+    }
+  }
+}
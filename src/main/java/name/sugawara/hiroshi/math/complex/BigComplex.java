@@ -405,37 +405,57 @@ public final strictfp class BigComplex extends Complex implements Cloneable,
    */
   @Deprecated
   public BigComplex pow(final BigInteger n) {
+    if (n.signum() == 0) {
+      return new BigComplex(BigDecimal.ONE, BigDecimal.ZERO);
+    } else if (n.compareTo(BigInteger.ONE) == 0) {
+      return this;
+    }
 
-    BigComplex result;
+    final MathContext mc = this.precision.getMathContext();
 
-    BigComplex c = this;
-    if (n.compareTo(BigInteger.ZERO) == 0) {
-      result = new BigComplex(BigDecimal.ONE, BigDecimal.ZERO);
-    } else if (n.compareTo(BigInteger.ONE) == 0) {
-      result = this;
-    } else if (n.compareTo(BigInteger.ONE) > 0) {
-      for (BigInteger i = BigInteger.ONE; i.compareTo(n) < 0; i = i.add(BigInteger.ONE)) {
-        c = this.multiply(c);
-      }
-      result = c;
-    } else {
+    // 2進法で上位ビットから2乗と掛け算を繰り返す. 逆数と途中の積は精度に指数の桁数と数桁を加えて丸め、
+    // mc で丸めるのは最後の1回だけにする.
+    final BigInteger m = n.abs();
+    MathContext working = MathContext.UNLIMITED;
+    if (mc.getPrecision() > 0) {
+      working = new MathContext(mc.getPrecision() + m.toString().length() + 3,
+          RoundingMode.HALF_EVEN);
+    }
 
+    BigComplex c = this;
+    if (n.signum() < 0) {
       final BigDecimal geometricNotMean = this.real.multiply(this.real).add(
           this.imaginary.multiply(this.imaginary));
 
-      final BigDecimal realResult = this.conjugate().real.divide(geometricNotMean, this.precision
-          .getMathContext());
+      final BigDecimal realResult = this.conjugate().real.divide(geometricNotMean, working);
       final BigDecimal imaginaryResult = this.conjugate().imaginary.divide(geometricNotMean,
-          this.precision.getMathContext());
+          working);
+
+      c = new BigComplex(realResult, imaginaryResult, this.precision);
+    }
 
-      final BigComplex inverseC = new BigComplex(realResult, imaginaryResult);
-      BigComplex next = inverseC;
-      for (BigInteger i = BigInteger.ZERO; i.compareTo(n) == -1; i = i.subtract(BigInteger.ONE)) {
-        next = inverseC.multiply(next);
+    BigComplex result = c;
+    for (int i = m.bitLength() - 2; i >= 0; i--) {
+      result = BigComplex.round(result.multiply(result), working);
+      if (m.testBit(i)) {
+        result = BigComplex.round(result.multiply(c), working);
       }
-      result = next;
     }
-    return result;
+    return BigComplex.round(result, mc);
+  }
+
+  /**
+   * 実部と虚部をそれぞれ mc で丸めた複素数を返す.
+   * 
+   * @param z
+   *          複素数
+   * @param mc
+   *          精度
+   * @return 丸めた複素数
+   * @since 2026/10/19 2:21:43
+   */
+  private static BigComplex round(final BigComplex z, final MathContext mc) {
+    return new BigComplex(z.real.round(mc), z.imaginary.round(mc), z.precision);
   }
 
   /**
@@ -448,16 +468,17 @@ public final strictfp class BigComplex extends Complex implements Cloneable,
    */
   @Deprecated
   public BigComplex sqrt() {
-    final BigDecimal two = new BigDecimal("2.0");
-    final BigDecimal rootTwo = this.math.sqrt(two);
+    // sqrt(z) = sqrt((r + a) / 2) + i sign(b) sqrt((r - a) / 2), r = |z|, z = a + bi.
+    final BigDecimal half = new BigDecimal("0.5");
     final BigDecimal r = this.abs();
 
-    final BigDecimal realResult = this.math.sqrt(r.add(this.real));
-    final BigDecimal imaginaryResult = this.math.sqrt(r.subtract(this.imaginary));
+    final BigDecimal realResult = this.math.sqrt(r.add(this.real).multiply(half));
+    BigDecimal imaginaryResult = this.math.sqrt(r.subtract(this.real).multiply(half));
+    if (this.imaginary.signum() < 0) {
+      imaginaryResult = imaginaryResult.negate();
+    }
 
-    return new BigComplex(
-        rootTwo.multiply(realResult).divide(two, this.precision.getMathContext()), rootTwo
-            .multiply(imaginaryResult).divide(two, this.precision.getMathContext()));
+    return new BigComplex(realResult, imaginaryResult);
   }
 
   /**
@@ -147,12 +147,11 @@ public final class BigComplexUtils {
     final BigDecimal e = this.math.exp(z.getImaginary());
 
     final BigDecimal f = BigDecimal.ONE.divide(e, this.precision.getMathContext());
+    final BigDecimal[] sincos = this.math.sincos(z.getReal());
 
-    final BigDecimal imaginary = new BigDecimal("0.5").multiply(this.math.sin(z.getReal()))
-        .multiply(f.subtract(e));
+    final BigDecimal imaginary = new BigDecimal("0.5").multiply(sincos[0]).multiply(f.subtract(e));
 
-    final BigDecimal real = new BigDecimal("0.5").multiply(this.math.cos(z.getReal())).multiply(
-        f.add(e));
+    final BigDecimal real = new BigDecimal("0.5").multiply(sincos[1]).multiply(f.add(e));
 
     return new BigComplex(real, imaginary);
   }
@@ -171,10 +170,9 @@ public final class BigComplexUtils {
     final BigDecimal e = this.math.exp(z.getReal());
 
     final BigDecimal f = BigDecimal.ONE.divide(e, this.precision.getMathContext());
-    final BigDecimal real = new BigDecimal("0.5").multiply(e.add(f)).multiply(
-        this.math.cos(z.getImaginary()));
-    final BigDecimal imaginary = new BigDecimal("0.5").multiply(e.subtract(f)).multiply(
-        this.math.sin(z.getImaginary()));
+    final BigDecimal[] sincos = this.math.sincos(z.getImaginary());
+    final BigDecimal real = new BigDecimal("0.5").multiply(e.add(f)).multiply(sincos[1]);
+    final BigDecimal imaginary = new BigDecimal("0.5").multiply(e.subtract(f)).multiply(sincos[0]);
     return new BigComplex(real, imaginary);
   }
 
@@ -190,8 +188,9 @@ public final class BigComplexUtils {
    */
   public BigComplex exp(final BigComplex z) {
     final BigDecimal a = this.math.exp(z.getReal());
-    final BigDecimal real = a.multiply(this.math.cos(z.getImaginary()));
-    final BigDecimal imaginary = a.multiply(this.math.sin(z.getImaginary()));
+    final BigDecimal[] sincos = this.math.sincos(z.getImaginary());
+    final BigDecimal real = a.multiply(sincos[1]);
+    final BigDecimal imaginary = a.multiply(sincos[0]);
     return new BigComplex(real, imaginary);
   }
 
@@ -263,8 +262,9 @@ public final class BigComplexUtils {
     final BigDecimal theta = this.math.atan2(imag, real);
     final BigDecimal temp = this.math.exp(u.multiply(this.math.log(r)).subtract(v.multiply(theta)));
     final BigDecimal value = v.multiply(this.math.log(r)).add(u.multiply(theta));
-    final BigDecimal x = temp.multiply(this.math.cos(value));
-    final BigDecimal y = temp.multiply(this.math.sin(value));
+    final BigDecimal[] sincos = this.math.sincos(value);
+    final BigDecimal x = temp.multiply(sincos[1]);
+    final BigDecimal y = temp.multiply(sincos[0]);
     return new BigComplex(x, y);
   }
 
@@ -281,10 +281,9 @@ public final class BigComplexUtils {
   public BigComplex sin(final BigComplex z) {
     final BigDecimal e = this.math.exp(z.getImaginary());
     final BigDecimal f = BigDecimal.ONE.divide(e, this.precision.getMathContext());
-    final BigDecimal imaginary = new BigDecimal("0.5").multiply(this.math.cos(z.getReal())
-        .multiply(e.subtract(f)));
-    final BigDecimal real = new BigDecimal("0.5").multiply(this.math.sin(z.getReal())).multiply(
-        e.add(f));
+    final BigDecimal[] sincos = this.math.sincos(z.getReal());
+    final BigDecimal imaginary = new BigDecimal("0.5").multiply(sincos[1].multiply(e.subtract(f)));
+    final BigDecimal real = new BigDecimal("0.5").multiply(sincos[0]).multiply(e.add(f));
     return new BigComplex(real, imaginary);
   }
 
@@ -301,10 +300,9 @@ public final class BigComplexUtils {
   public BigComplex sinh(final BigComplex z) {
     final BigDecimal e = this.math.exp(z.getReal());
     final BigDecimal f = BigDecimal.ONE.divide(e, this.precision.getMathContext());
-    final BigDecimal real = new BigDecimal("0.5").multiply(e.subtract(f)).multiply(
-        this.math.cos(z.getImaginary()));
-    final BigDecimal imaginary = new BigDecimal("0.5").multiply(e.add(f)).multiply(
-        this.math.sin(z.getImaginary()));
+    final BigDecimal[] sincos = this.math.sincos(z.getImaginary());
+    final BigDecimal real = new BigDecimal("0.5").multiply(e.subtract(f)).multiply(sincos[1]);
+    final BigDecimal imaginary = new BigDecimal("0.5").multiply(e.add(f)).multiply(sincos[0]);
     return new BigComplex(real, imaginary);
   }
 
@@ -319,15 +317,17 @@ public final class BigComplexUtils {
    */
 
   public BigComplex sqrt(final BigComplex z) {
-    final BigDecimal two = new BigDecimal("2.0");
-    final BigDecimal rootTwo = this.math.sqrt(two);
+    // sqrt(z) = sqrt((r + a) / 2) + i sign(b) sqrt((r - a) / 2), r = |z|, z = a + bi.
+    final BigDecimal half = new BigDecimal("0.5");
     final BigDecimal r = z.abs();
 
-    final BigDecimal real = this.math.sqrt(r.add(z.getReal()));
-    final BigDecimal imaginary = this.math.sqrt(r.subtract(z.getImaginary()));
+    final BigDecimal real = this.math.sqrt(r.add(z.getReal()).multiply(half));
+    BigDecimal imaginary = this.math.sqrt(r.subtract(z.getReal()).multiply(half));
+    if (z.getImaginary().signum() < 0) {
+      imaginary = imaginary.negate();
+    }
 
-    return new BigComplex(rootTwo.multiply(real).divide(two, this.precision.getMathContext()),
-        rootTwo.multiply(imaginary).divide(two, this.precision.getMathContext()));
+    return new BigComplex(real, imaginary);
   }
 
   /**
@@ -343,10 +343,9 @@ public final class BigComplexUtils {
     final BigDecimal two = new BigDecimal("2.0");
     final BigDecimal e = this.math.exp(z.getImaginary().multiply(two));
     final BigDecimal f = BigDecimal.ONE.divide(e, this.precision.getMathContext());
-    final BigDecimal d = this.math.cos(z.getReal().multiply(two)).add(
-        new BigDecimal("0.5").multiply(e.add(f)));
-    final BigDecimal real = this.math.sin(z.getReal().multiply(two)).divide(d,
-        this.precision.getMathContext());
+    final BigDecimal[] sincos = this.math.sincos(z.getReal().multiply(two));
+    final BigDecimal d = sincos[1].add(new BigDecimal("0.5").multiply(e.add(f)));
+    final BigDecimal real = sincos[0].divide(d, this.precision.getMathContext());
     final BigDecimal imaginary = new BigDecimal("0.5").multiply(e.subtract(f)).divide(d,
         this.precision.getMathContext());
     return new BigComplex(real, imaginary);
@@ -366,12 +365,11 @@ public final class BigComplexUtils {
 
     final BigDecimal f = BigDecimal.ONE.divide(e, this.precision.getMathContext());
 
-    final BigDecimal d = new BigDecimal("0.5").multiply(e.add(f)).add(
-        this.math.cos(z.getImaginary().multiply(two)));
+    final BigDecimal[] sincos = this.math.sincos(z.getImaginary().multiply(two));
+    final BigDecimal d = new BigDecimal("0.5").multiply(e.add(f)).add(sincos[1]);
     final BigDecimal real = new BigDecimal("0.5").multiply(e.subtract(f)).divide(d,
         this.precision.getMathContext());
-    final BigDecimal imaginary = this.math.sin(z.getImaginary().multiply(two)).divide(d,
-        this.precision.getMathContext());
+    final BigDecimal imaginary = sincos[0].divide(d, this.precision.getMathContext());
     return new BigComplex(real, imaginary);
   }
 
@@ -412,7 +410,8 @@ public final class BigComplexUtils {
     if (r.compareTo(BigDecimal.ZERO) < 0) {
       throw new IllegalArgumentException("Complex modulus must not be negative");
     }
-    return new BigComplex(r.multiply(this.math.cos(theta)), r.multiply(this.math.sin(theta)));
+    final BigDecimal[] sincos = this.math.sincos(theta);
+    return new BigComplex(r.multiply(sincos[1]), r.multiply(sincos[0]));
   }
 
   /**
@@ -3,6 +3,8 @@ package name.sugawara.hiroshi.math.complex;
 import java.util.Arrays;
 
 import name.sugawara.hiroshi.math.array.ArraysUtil;
+import name.sugawara.hiroshi.math.fft.Convolution;
+import name.sugawara.hiroshi.math.fft.FFT;
 
 import org.apache.commons.lang.builder.EqualsBuilder;
 import org.apache.commons.lang.builder.HashCodeBuilder;
@@ -1086,32 +1088,36 @@ public final strictfp class ComplexArray implements Cloneable {
 
   /**
    * 引数で指定された配列と現在のオブジェクトとのconvolution(畳み込み)をComplexArray型で返す. <br />
-   * 返された配列のサイズは2つの配列のサイズの和から1を引いた値になる.
+   * 返された配列のサイズは2つの配列のサイズの和から1を引いた値になる.<br />
+   * 複素数の積で畳み込み、配列が長い場合はFFTで計算する.
    * 
    * @param h
    *          システム(配列)
    * @return サイズが this + h - 1 のComplexArray型を返す
+   * @see Convolution#convolve(double[], double[], double[], double[])
    * @since 1.1
    */
   public ComplexArray convolute(final ComplexArray h) {
-    double[] r = ArraysUtil.convolute(this.getRealArray(), h.getRealArray());
-    double[] i = ArraysUtil.convolute(this.getImaginaryArray(), h.getImaginaryArray());
-    return new ComplexArray(r, i);
+    final double[][] y = Convolution.convolve(this.getRealArray(), this.getImaginaryArray(),
+        h.getRealArray(), h.getImaginaryArray());
+    return new ComplexArray(y[0], y[1]);
   }
 
   /**
    * 引数で指定された配列と現在のオブジェクトとのcross-correlation(相互相関)をComplexArray型で返す. <br />
-   * 返された配列のサイズは2つの配列のサイズの和から1を引いた値になる.
+   * 返された配列のサイズは2つの配列のサイズの和から1を引いた値になる.<br />
+   * h を逆順にした配列との畳み込みに等しく、h の共役はとらない.
    * 
    * @param h
    *          システム(配列)
    * @return サイズが this + h - 1 のComplexArray型を返す
+   * @see Convolution#correlate(double[], double[], double[], double[])
    * @since 1.1
    */
   public ComplexArray correlate(final ComplexArray h) {
-    double[] r = ArraysUtil.correlate(this.getRealArray(), h.getRealArray());
-    double[] i = ArraysUtil.correlate(this.getImaginaryArray(), h.getImaginaryArray());
-    return new ComplexArray(r, i);
+    final double[][] y = Convolution.correlate(this.getRealArray(), this.getImaginaryArray(),
+        h.getRealArray(), h.getImaginaryArray());
+    return new ComplexArray(y[0], y[1]);
   }
 
   /**
@@ -1122,9 +1128,54 @@ public final strictfp class ComplexArray implements Cloneable {
    * @since 1.1
    */
   public ComplexArray correlate() {
-    double[] r = ArraysUtil.correlate(this.getRealArray());
-    double[] i = ArraysUtil.correlate(this.getImaginaryArray());
-    return new ComplexArray(r, i);
+    return this.correlate(this);
+  }
+
+  /**
+   * 離散フーリエ変換(FFT)を返す. 現在のオブジェクトは変更しない.
+   *
+   * @return 長さが this と等しいComplexArray型のスペクトル
+   * @see FFT#forward(double[], double[])
+   * @since 2026/10/18 19:58:06
+   */
+  public ComplexArray fft() {
+    final ComplexArray result = new ComplexArray(this.realArray, this.imaginaryArray);
+    result.fftInPlace();
+    return result;
+  }
+
+  /**
+   * 逆離散フーリエ変換を返す. 1/length() で正規化する. 現在のオブジェクトは変更しない.
+   *
+   * @return 長さが this と等しいComplexArray型の信号
+   * @see FFT#inverse(double[], double[])
+   * @since 2026/10/18 19:58:06
+   */
+  public ComplexArray ifft() {
+    final ComplexArray result = new ComplexArray(this.realArray, this.imaginaryArray);
+    result.ifftInPlace();
+    return result;
+  }
+
+  /**
+   * 現在のオブジェクトの実部配列と虚部配列の上で離散フーリエ変換(FFT)を計算する.
+   * 新しい配列は確保しない(長さによっては作業用の配列を確保する).
+   *
+   * @see FFT#forward(double[], double[])
+   * @since 2026/10/18 19:58:06
+   */
+  public void fftInPlace() {
+    FFT.getInstance(this.realArray.length).forward(this.realArray, this.imaginaryArray);
+  }
+
+  /**
+   * 現在のオブジェクトの実部配列と虚部配列の上で逆離散フーリエ変換を計算する. 1/length() で正規化する.
+   *
+   * @see FFT#inverse(double[], double[])
+   * @since 2026/10/18 19:58:06
+   */
+  public void ifftInPlace() {
+    FFT.getInstance(this.realArray.length).inverse(this.realArray, this.imaginaryArray);
   }
 
   /**
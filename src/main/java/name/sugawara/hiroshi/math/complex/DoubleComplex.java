@@ -611,21 +611,21 @@ public final strictfp class DoubleComplex extends Complex implements Comparable<
       result = DoubleComplex.ONE;
     } else if (n == 1) {
       result = this;
-    } else if (n > 1) {
-      for (int i = 1; i < n; i++) {
-        c = this.multiply(c);
+    } else {
+      if (n < 0) {
+        final double denominator = this.real * this.real + this.imaginary * this.imaginary;
+        c = new DoubleComplex(this.conjugate().real / denominator, this.conjugate().imaginary
+            / denominator);
       }
+      // 2進法で上位ビットから2乗と掛け算を繰り返す.
+      final long m = Math.abs((long) n);
       result = c;
-    } else {
-      final double denominator = this.real * this.real + this.imaginary * this.imaginary;
-      final DoubleComplex inverseC = new DoubleComplex(this.conjugate().real / denominator, this
-          .conjugate().imaginary
-          / denominator);
-      DoubleComplex next = inverseC;
-      for (int i = -1; i > n; i--) {
-        next = inverseC.multiply(next);
+      for (int i = Long.SIZE - Long.numberOfLeadingZeros(m) - 2; i >= 0; i--) {
+        result = result.multiply(result);
+        if ((m >>> i & 1L) != 0L) {
+          result = result.multiply(c);
+        }
       }
-      result = next;
     }
     return result;
   }
@@ -0,0 +1,510 @@
+/**
+ * Created Date : 2026/10/18 23:52:37
+ */
+package name.sugawara.hiroshi.math.constant;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 二分分割法(binary splitting)で円周率と自然対数の底を長桁で求める.
+ *
+ * <pre>
+ *  級数の項の範囲 [a, b) を半分ずつに分け、部分和を整数の分数 T(a, b) / Q(a, b) のまま
+ *  掛け合わせて1つにまとめる. 途中の計算はすべて整数で誤差がなく、除算は最後の1回だけである.
+ *  桁数 n の乗算の計算量を M(n) とすると全体の計算量は O(M(n) log n) 程度になる.
+ *
+ *  円周率は Chudnovsky の公式
+ *    1/π = 12 Σ (-1)^k (6k)! (13591409 + 545140134k) / ((3k)! (k!)^3 640320^(3k + 3/2))
+ *  を用い、1項あたり約14桁ずつ精度が上がる.
+ *  自然対数の底は e = Σ 1/k! を用いる.
+ *
+ *  ForkJoinPool を指定すると、項の数が SEQUENTIAL_TERMS を超える範囲の2つの半分を並列に計算する.
+ *  指定しなければ呼び出したスレッドだけで計算する. どちらでも結果は同じである.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see ConstantCache
+ *
+ * Created Date : 2026/10/18 23:52:37
+ */
+public final strictfp class BinarySplitting {
+
+  /**
+   * これ以下の項の数の範囲は並列に分けない.
+   *
+   * @since 2026/10/18 23:52:37
+   */
+  static final int                SEQUENTIAL_TERMS = 256;
+
+  /**
+   * 要求された桁数に加えて計算する桁数.
+   *
+   * @since 2026/10/18 23:52:37
+   */
+  private static final int        GUARD            = 10;
+
+  /**
+   * Chudnovsky の公式の1項あたりに増える桁数 log10(640320^3 / 1728).
+   *
+   * @since 2026/10/18 23:52:37
+   */
+  private static final double     DIGITS_PER_TERM  = 14.181647462725477d;
+
+  /**
+   * 13591409.
+   *
+   * @since 2026/10/18 23:52:37
+   */
+  private static final BigInteger A                = BigInteger.valueOf(13591409L);
+
+  /**
+   * 545140134.
+   *
+   * @since 2026/10/18 23:52:37
+   */
+  private static final BigInteger B                = BigInteger.valueOf(545140134L);
+
+  /**
+   * 640320^3 / 24.
+   *
+   * @since 2026/10/18 23:52:37
+   */
+  private static final BigInteger C3_OVER_24       = BigInteger.valueOf(10939058860032000L);
+
+  /**
+   * コンストラクタ使用禁止.
+   *
+   * @since 2026/10/18 23:52:37
+   */
+  private BinarySplitting() {
+    // Empty block
+  }
+
+  /**
+   * 円周率を呼び出したスレッドだけで求める.
+   *
+   * @param mc
+   *          精度と丸めモード
+   * @return 円周率を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/18 23:52:37
+   */
+  public static BigDecimal pi(final MathContext mc) {
+    return BinarySplitting.pi(mc, null);
+  }
+
+  /**
+   * 円周率を求める.
+   *
+   * <pre>
+   *  π = 426880 √10005 Q(0, N) / T(0, N)
+   * </pre>
+   *
+   * @param mc
+   *          精度と丸めモード
+   * @param pool
+   *          分割した範囲を並列に計算するプール. null なら呼び出したスレッドだけで計算する
+   * @return 円周率を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/18 23:52:37
+   */
+  public static BigDecimal pi(final MathContext mc, final ForkJoinPool pool) {
+    final int digits = BinarySplitting.digits(mc);
+    final long terms = (long) (digits / BinarySplitting.DIGITS_PER_TERM) + 2L;
+    final Chudnovsky series = new Chudnovsky(0L, terms, pool != null);
+    BinarySplitting.run(series, pool);
+
+    final BigInteger scale = BigInteger.TEN.pow(digits);
+    final BigInteger sqrt = BinarySplitting.sqrt(BigInteger.valueOf(10005L).multiply(
+        scale.multiply(scale)));
+    final BigInteger numerator = sqrt.multiply(BigInteger.valueOf(426880L)).multiply(series.q);
+    return new BigDecimal(numerator.divide(series.t), digits).round(mc);
+  }
+
+  /**
+   * 自然対数の底を呼び出したスレッドだけで求める.
+   *
+   * @param mc
+   *          精度と丸めモード
+   * @return 自然対数の底を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/18 23:52:37
+   */
+  public static BigDecimal e(final MathContext mc) {
+    return BinarySplitting.e(mc, null);
+  }
+
+  /**
+   * 自然対数の底を求める.
+   *
+   * <pre>
+   *  e = 1 + T(0, N) / Q(0, N),  Q(a, b) = (a + 1)(a + 2)...b
+   * </pre>
+   *
+   * @param mc
+   *          精度と丸めモード
+   * @param pool
+   *          分割した範囲を並列に計算するプール. null なら呼び出したスレッドだけで計算する
+   * @return 自然対数の底を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/18 23:52:37
+   */
+  public static BigDecimal e(final MathContext mc, final ForkJoinPool pool) {
+    final int digits = BinarySplitting.digits(mc);
+    double log10 = 0.0d;
+    long terms = 1L;
+    while (log10 <= digits + 1) {
+      terms++;
+      log10 += Math.log10(terms);
+    }
+    final Factorials series = new Factorials(0L, terms, pool != null);
+    BinarySplitting.run(series, pool);
+
+    final BigInteger scaled = series.q.add(series.t).multiply(BigInteger.TEN.pow(digits));
+    return new BigDecimal(scaled.divide(series.q), digits).round(mc);
+  }
+
+  /**
+   * 計算する桁数を返す.
+   *
+   * @param mc
+   *          精度と丸めモード
+   * @return 計算する桁数
+   * @since 2026/10/18 23:52:37
+   */
+  private static int digits(final MathContext mc) {
+    if (mc.getPrecision() == 0) {
+      throw new IllegalArgumentException("An irrational constant needs a finite precision.");
+    }
+    return mc.getPrecision() + BinarySplitting.GUARD;
+  }
+
+  /**
+   * 級数を計算する.
+   *
+   * @param series
+   *          級数
+   * @param pool
+   *          プール. null なら呼び出したスレッドで計算する
+   * @since 2026/10/18 23:52:37
+   */
+  private static void run(final Series series, final ForkJoinPool pool) {
+    if (pool == null || series.b - series.a <= BinarySplitting.SEQUENTIAL_TERMS) {
+      series.compute();
+    } else {
+      pool.invoke(series);
+    }
+  }
+
+  /**
+   * 整数の平方根の切り捨て floor(√n) を求める.
+   *
+   * <pre>
+   *  上位の約半分のビットの平方根を再帰的に求めて初期値とし、Newton法で精度を倍にする.
+   * </pre>
+   *
+   * @param n
+   *          非負の整数
+   * @return floor(√n)
+   * @since 2026/10/18 23:52:37
+   */
+  static BigInteger sqrt(final BigInteger n) {
+    if (n.bitLength() <= 52) {
+      return BigInteger.valueOf((long) Math.sqrt(n.doubleValue()));
+    }
+    final int k = (n.bitLength() - 1) >>> 2;
+    BigInteger x = BinarySplitting.sqrt(n.shiftRight(2 * k)).add(BigInteger.ONE).shiftLeft(k);
+    for (int i = 0; i < 2; i++) {
+      x = x.add(n.divide(x)).shiftRight(1);
+    }
+    while (x.multiply(x).compareTo(n) > 0) {
+      x = x.subtract(BigInteger.ONE);
+    }
+    while (x.add(BigInteger.ONE).pow(2).compareTo(n) <= 0) {
+      x = x.add(BigInteger.ONE);
+    }
+    return x;
+  }
+
+  /**
+   * 項の範囲 [a, b) の部分和を分数 T / Q で表す級数. P は隣り合う項の比の分子の積である.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   * @since 2026/10/18 23:52:37
+   */
+  private abstract static class Series extends RecursiveAction {
+
+    /**
+     * シリアルバージョンID.
+     *
+     * @since 2026/10/18 23:52:37
+     */
+    private static final long serialVersionUID = 2306187447362515580L;
+
+    /**
+     * 最初の項.
+     *
+     * @since 2026/10/18 23:52:37
+     */
+    final long                a;
+
+    /**
+     * 最後の項の次.
+     *
+     * @since 2026/10/18 23:52:37
+     */
+    final long                b;
+
+    /**
+     * 範囲を並列に分けるならtrue.
+     *
+     * @since 2026/10/18 23:52:37
+     */
+    final boolean             parallel;
+
+    /**
+     * P(a, b).
+     *
+     * @since 2026/10/18 23:52:37
+     */
+    BigInteger                p;
+
+    /**
+     * Q(a, b).
+     *
+     * @since 2026/10/18 23:52:37
+     */
+    BigInteger                q;
+
+    /**
+     * T(a, b).
+     *
+     * @since 2026/10/18 23:52:37
+     */
+    BigInteger                t;
+
+    /**
+     * 級数の範囲を作る.
+     *
+     * @param a
+     *          最初の項
+     * @param b
+     *          最後の項の次
+     * @param parallel
+     *          範囲を並列に分けるならtrue
+     * @since 2026/10/18 23:52:37
+     */
+    Series(final long a, final long b, final boolean parallel) {
+      super();
+      this.a = a;
+      this.b = b;
+      this.parallel = parallel;
+    }
+
+    /**
+     * 同じ種類の級数の範囲を作る.
+     *
+     * @param from
+     *          最初の項
+     * @param to
+     *          最後の項の次
+     * @return 級数の範囲
+     * @since 2026/10/18 23:52:37
+     */
+    abstract Series create(long from, long to);
+
+    /**
+     * 1項だけの範囲 [a, a + 1) の P, Q, T を求める.
+     *
+     * @since 2026/10/18 23:52:37
+     */
+    abstract void leaf();
+
+    /**
+     * 2つの半分の範囲をまとめる.
+     *
+     * @param left
+     *          前半
+     * @param right
+     *          後半
+     * @since 2026/10/18 23:52:37
+     */
+    abstract void merge(Series left, Series right);
+
+    /**
+     * 範囲を2つに分けて計算し、まとめる.
+     *
+     * @see java.util.concurrent.RecursiveAction#compute()
+     * @since 2026/10/18 23:52:37
+     */
+    @Override
+    protected void compute() {
+      if (this.b - this.a == 1L) {
+        this.leaf();
+        return;
+      }
+      final long middle = (this.a + this.b) >>> 1;
+      final Series left = this.create(this.a, middle);
+      final Series right = this.create(middle, this.b);
+      if (this.parallel && this.b - this.a > BinarySplitting.SEQUENTIAL_TERMS) {
+        ForkJoinTask.invokeAll(left, right);
+      } else {
+        left.compute();
+        right.compute();
+      }
+      this.merge(left, right);
+    }
+  }
+
+  /**
+   * Chudnovsky の公式の級数.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   * @since 2026/10/18 23:52:37
+   */
+  private static final class Chudnovsky extends Series {
+
+    /**
+     * シリアルバージョンID.
+     *
+     * @since 2026/10/18 23:52:37
+     */
+    private static final long serialVersionUID = -5580432913437245517L;
+
+    /**
+     * 級数の範囲を作る.
+     *
+     * @param a
+     *          最初の項
+     * @param b
+     *          最後の項の次
+     * @param parallel
+     *          範囲を並列に分けるならtrue
+     * @since 2026/10/18 23:52:37
+     */
+    Chudnovsky(final long a, final long b, final boolean parallel) {
+      super(a, b, parallel);
+    }
+
+    /**
+     * @see BinarySplitting.Series#create(long, long)
+     * @since 2026/10/18 23:52:37
+     */
+    @Override
+    Series create(final long from, final long to) {
+      return new Chudnovsky(from, to, this.parallel);
+    }
+
+    /**
+     * P = -(6a - 5)(2a - 1)(6a - 1), Q = a^3 640320^3 / 24, T = P (13591409 + 545140134a).
+     * a = 0 では P = Q = 1 とする.
+     *
+     * @see BinarySplitting.Series#leaf()
+     * @since 2026/10/18 23:52:37
+     */
+    @Override
+    void leaf() {
+      if (this.a == 0L) {
+        this.p = BigInteger.ONE;
+        this.q = BigInteger.ONE;
+      } else {
+        final BigInteger k = BigInteger.valueOf(this.a);
+        this.p = BigInteger.valueOf(6L * this.a - 5L).multiply(BigInteger.valueOf(2L * this.a
+            - 1L)).multiply(BigInteger.valueOf(6L * this.a - 1L)).negate();
+        this.q = k.multiply(k).multiply(k).multiply(BinarySplitting.C3_OVER_24);
+      }
+      this.t = this.p.multiply(BinarySplitting.A.add(BinarySplitting.B.multiply(BigInteger
+          .valueOf(this.a))));
+    }
+
+    /**
+     * P = P(a, m) P(m, b), Q = Q(a, m) Q(m, b), T = Q(m, b) T(a, m) + P(a, m) T(m, b).
+     *
+     * @see BinarySplitting.Series#merge(BinarySplitting.Series, BinarySplitting.Series)
+     * @since 2026/10/18 23:52:37
+     */
+    @Override
+    void merge(final Series left, final Series right) {
+      this.p = left.p.multiply(right.p);
+      this.q = left.q.multiply(right.q);
+      this.t = right.q.multiply(left.t).add(left.p.multiply(right.t));
+    }
+  }
+
+  /**
+   * Σ 1/k! の級数. 範囲 [a, b) は Σ_{k=a+1}^{b} 1/((a + 1)(a + 2)...k) を T / Q で表す.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   * @since 2026/10/18 23:52:37
+   */
+  private static final class Factorials extends Series {
+
+    /**
+     * シリアルバージョンID.
+     *
+     * @since 2026/10/18 23:52:37
+     */
+    private static final long serialVersionUID = 8130958733602390713L;
+
+    /**
+     * 級数の範囲を作る.
+     *
+     * @param a
+     *          最初の項
+     * @param b
+     *          最後の項の次
+     * @param parallel
+     *          範囲を並列に分けるならtrue
+     * @since 2026/10/18 23:52:37
+     */
+    Factorials(final long a, final long b, final boolean parallel) {
+      super(a, b, parallel);
+    }
+
+    /**
+     * @see BinarySplitting.Series#create(long, long)
+     * @since 2026/10/18 23:52:37
+     */
+    @Override
+    Series create(final long from, final long to) {
+      return new Factorials(from, to, this.parallel);
+    }
+
+    /**
+     * Q = a + 1, T = 1.
+     *
+     * @see BinarySplitting.Series#leaf()
+     * @since 2026/10/18 23:52:37
+     */
+    @Override
+    void leaf() {
+      this.q = BigInteger.valueOf(this.a + 1L);
+      this.t = BigInteger.ONE;
+    }
+
+    /**
+     * Q = Q(a, m) Q(m, b), T = T(a, m) Q(m, b) + T(m, b).
+     *
+     * @see BinarySplitting.Series#merge(BinarySplitting.Series, BinarySplitting.Series)
+     * @since 2026/10/18 23:52:37
+     */
+    @Override
+    void merge(final Series left, final Series right) {
+      this.q = left.q.multiply(right.q);
+      this.t = left.t.multiply(right.q).add(right.t);
+    }
+  }
+}
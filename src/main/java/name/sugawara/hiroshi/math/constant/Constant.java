@@ -56,13 +56,14 @@ public final strictfp class Constant {
   }
 
   /**
-   * 円周率を返す.
+   * 円周率を返す. 同じ精度以下の値は ConstantCache に保持した値を丸めて返す.
    * 
    * @return BigDecimal型の値
+   * @see ConstantCache#pi(java.math.MathContext)
    * @since 2004/08/14
    */
   public BigDecimal pi() {
-    return Pi.pi(this.precision);
+    return ConstantCache.pi(this.precision.getMathContext());
   }
 
   /**
@@ -80,12 +81,35 @@ public final strictfp class Constant {
   }
 
   /**
-   * 自然対数の底を返す.
+   * 自然対数の底を返す. 同じ精度以下の値は ConstantCache に保持した値を丸めて返す.
    * 
    * @return BigDecimal型の値
+   * @see ConstantCache#e(java.math.MathContext)
    * @since 1.1
    */
   public BigDecimal exp() {
-    return Exp.exp(this.precision);
+    return ConstantCache.e(this.precision.getMathContext());
+  }
+
+  /**
+   * 2 の自然対数を返す.
+   * 
+   * @return BigDecimal型の値
+   * @see ConstantCache#ln2(java.math.MathContext)
+   * @since 2026/10/18 23:20:14
+   */
+  public BigDecimal ln2() {
+    return ConstantCache.ln2(this.precision.getMathContext());
+  }
+
+  /**
+   * 10 の自然対数を返す.
+   * 
+   * @return BigDecimal型の値
+   * @see ConstantCache#ln10(java.math.MathContext)
+   * @since 2026/10/18 23:20:14
+   */
+  public BigDecimal ln10() {
+    return ConstantCache.ln10(this.precision.getMathContext());
   }
 }
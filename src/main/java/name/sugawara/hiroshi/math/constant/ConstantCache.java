@@ -0,0 +1,302 @@
+/**
+ * Created Date : 2026/10/18 23:20:14
+ */
+package name.sugawara.hiroshi.math.constant;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 円周率 π, 自然対数の底 e, ln 2, ln 10 を精度ごとに計算し直さずに再利用するキャッシュ.
+ *
+ * <pre>
+ *  定数ごとにこれまでに求めた最も精度の高い値を1つだけ保持し、それ以下の精度の要求には
+ *  保持している値を MathContext で丸めて返す. より高い精度を要求されたときだけ計算し直して置き換える.
+ *  値は要求された桁数に GUARD 桁を加えて計算するため、丸めた結果の誤差は最後の桁で1以内である.
+ *  π と e は BinarySplitting で共通プールを使って求め、ln 2 と ln 10 は artanh の級数で求める.
+ *  保持する桁数は MAX_CACHED_DIGITS までで、それを超える精度の値は計算するが保持しない.
+ *  このため使用するメモリは定数ごとに MAX_CACHED_DIGITS 桁分を超えない.
+ *
+ *  複数のスレッドから同時に呼び出してよい. 同じ定数を同時に計算し直すことはない.
+ *  キャッシュを使った回数と計算し直した回数は getHitCount(), getMissCount() で得られる.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see Constant
+ *
+ * Created Date : 2026/10/18 23:20:14
+ */
+public final strictfp class ConstantCache {
+
+  /**
+   * 保持する最大の桁数.
+   *
+   * @since 2026/10/18 23:20:14
+   */
+  public static final int         MAX_CACHED_DIGITS = 1 << 20;
+
+  /**
+   * 要求された桁数に加えて計算する桁数.
+   *
+   * @since 2026/10/18 23:20:14
+   */
+  static final int                GUARD             = 16;
+
+  /**
+   * 定数の種類.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   * @since 2026/10/18 23:20:14
+   */
+  enum Kind {
+    /**
+     * 円周率.
+     */
+    PI,
+    /**
+     * 自然対数の底.
+     */
+    E,
+    /**
+     * 2 の自然対数.
+     */
+    LN2,
+    /**
+     * 10 の自然対数.
+     */
+    LN10
+  }
+
+  /**
+   * 定数ごとの保持している値. 添字は Kind の序数. 値を読み書きするときは同じ添字の LOCKS で同期する.
+   *
+   * @since 2026/10/18 23:20:14
+   */
+  private static final BigDecimal[] VALUES          = new BigDecimal[Kind.values().length];
+
+  /**
+   * 定数ごとのロック.
+   *
+   * @since 2026/10/18 23:20:14
+   */
+  private static final Object[]   LOCKS             = new Object[Kind.values().length];
+
+  /**
+   * キャッシュを使った回数.
+   *
+   * @since 2026/10/18 23:20:14
+   */
+  private static final AtomicLong HITS              = new AtomicLong();
+
+  /**
+   * 計算し直した回数.
+   *
+   * @since 2026/10/18 23:20:14
+   */
+  private static final AtomicLong MISSES            = new AtomicLong();
+
+  static {
+    for (int i = 0; i < ConstantCache.LOCKS.length; i++) {
+      ConstantCache.LOCKS[i] = new Object();
+    }
+  }
+
+  /**
+   * コンストラクタ使用禁止.
+   *
+   * @since 2026/10/18 23:20:14
+   */
+  private ConstantCache() {
+    // Empty block
+  }
+
+  /**
+   * 円周率を返す.
+   *
+   * @param mc
+   *          精度と丸めモード
+   * @return 円周率を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/18 23:20:14
+   */
+  public static BigDecimal pi(final MathContext mc) {
+    return ConstantCache.get(Kind.PI, mc);
+  }
+
+  /**
+   * 自然対数の底を返す.
+   *
+   * @param mc
+   *          精度と丸めモード
+   * @return 自然対数の底を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/18 23:20:14
+   */
+  public static BigDecimal e(final MathContext mc) {
+    return ConstantCache.get(Kind.E, mc);
+  }
+
+  /**
+   * 2 の自然対数を返す.
+   *
+   * @param mc
+   *          精度と丸めモード
+   * @return ln 2 を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/18 23:20:14
+   */
+  public static BigDecimal ln2(final MathContext mc) {
+    return ConstantCache.get(Kind.LN2, mc);
+  }
+
+  /**
+   * 10 の自然対数を返す.
+   *
+   * @param mc
+   *          精度と丸めモード
+   * @return ln 10 を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/18 23:20:14
+   */
+  public static BigDecimal ln10(final MathContext mc) {
+    return ConstantCache.get(Kind.LN10, mc);
+  }
+
+  /**
+   * キャッシュした値で要求に応えた回数を返す.
+   *
+   * @return 回数
+   * @since 2026/10/18 23:20:14
+   */
+  public static long getHitCount() {
+    return ConstantCache.HITS.get();
+  }
+
+  /**
+   * 値を計算し直した回数を返す.
+   *
+   * @return 回数
+   * @since 2026/10/18 23:20:14
+   */
+  public static long getMissCount() {
+    return ConstantCache.MISSES.get();
+  }
+
+  /**
+   * 保持している値を捨て、回数を 0 に戻す.
+   *
+   * @since 2026/10/18 23:20:14
+   */
+  public static void clear() {
+    for (int i = 0; i < ConstantCache.VALUES.length; i++) {
+      synchronized (ConstantCache.LOCKS[i]) {
+        ConstantCache.VALUES[i] = null;
+      }
+    }
+    ConstantCache.HITS.set(0L);
+    ConstantCache.MISSES.set(0L);
+  }
+
+  /**
+   * 定数を返す. 保持している値の精度が足りなければ計算し直す.
+   *
+   * @param kind
+   *          定数の種類
+   * @param mc
+   *          精度と丸めモード
+   * @return 定数を mc で丸めた値
+   * @since 2026/10/18 23:20:14
+   */
+  private static BigDecimal get(final Kind kind, final MathContext mc) {
+    final int precision = mc.getPrecision();
+    if (precision == 0) {
+      throw new IllegalArgumentException("An irrational constant needs a finite precision.");
+    }
+    final int digits = precision + ConstantCache.GUARD;
+    final int i = kind.ordinal();
+    final BigDecimal value;
+    synchronized (ConstantCache.LOCKS[i]) {
+      final BigDecimal cached = ConstantCache.VALUES[i];
+      if (cached != null && cached.precision() >= digits) {
+        ConstantCache.HITS.incrementAndGet();
+        value = cached;
+      } else {
+        ConstantCache.MISSES.incrementAndGet();
+        value = ConstantCache.compute(kind, digits);
+        if (digits <= ConstantCache.MAX_CACHED_DIGITS) {
+          ConstantCache.VALUES[i] = value;
+        }
+      }
+    }
+    return value.round(mc);
+  }
+
+  /**
+   * 定数を計算する.
+   *
+   * @param kind
+   *          定数の種類
+   * @param digits
+   *          有効桁数
+   * @return 有効桁数 digits に丸めた定数
+   * @since 2026/10/18 23:20:14
+   */
+  static BigDecimal compute(final Kind kind, final int digits) {
+    final MathContext mc = new MathContext(digits, RoundingMode.HALF_EVEN);
+    final int scale = digits + ConstantCache.GUARD;
+    switch (kind) {
+    case PI:
+      return BinarySplitting.pi(mc, ForkJoinPool.commonPool());
+    case E:
+      return BinarySplitting.e(mc, ForkJoinPool.commonPool());
+    case LN2:
+      return ConstantCache.ln2(scale).round(mc);
+    default:
+      final BigDecimal ln2 = ConstantCache.ln2(scale);
+      return ln2.multiply(BigDecimal.valueOf(3L)).add(ConstantCache.atanhOfInverse(9, scale)
+          .multiply(BigDecimal.valueOf(2L))).round(mc);
+    }
+  }
+
+  /**
+   * ln 2 = 2 artanh(1/3) を小数点以下 scale 桁で求める.
+   *
+   * @param scale
+   *          小数点以下の桁数
+   * @return ln 2
+   * @since 2026/10/18 23:20:14
+   */
+  private static BigDecimal ln2(final int scale) {
+    return ConstantCache.atanhOfInverse(3, scale).multiply(BigDecimal.valueOf(2L));
+  }
+
+  /**
+   * artanh(1/q) = Σ 1 / ((2k + 1) q^(2k+1)) を小数点以下 scale 桁で求める.
+   *
+   * @param q
+   *          2 以上の整数
+   * @param scale
+   *          小数点以下の桁数
+   * @return artanh(1/q)
+   * @since 2026/10/18 23:20:14
+   */
+  static BigDecimal atanhOfInverse(final int q, final int scale) {
+    final BigDecimal square = BigDecimal.valueOf((long) q * q);
+    BigDecimal power = BigDecimal.ONE.divide(BigDecimal.valueOf(q), scale, RoundingMode.DOWN);
+    BigDecimal sum = power;
+    for (long k = 3; power.signum() != 0; k += 2) {
+      power = power.divide(square, scale, RoundingMode.DOWN);
+      sum = sum.add(power.divide(BigDecimal.valueOf(k), scale, RoundingMode.DOWN));
+    }
+    return sum;
+  }
+}
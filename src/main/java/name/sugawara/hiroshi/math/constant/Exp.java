@@ -3,7 +3,6 @@ package name.sugawara.hiroshi.math.constant;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
-import name.sugawara.hiroshi.math.function.integer.BigIntegerMath;
 import name.sugawara.hiroshi.math.precision.NumberOfTerm;
 import name.sugawara.hiroshi.math.precision.Precision;
 
@@ -33,6 +32,7 @@ final strictfp class Exp {
    *  の範囲にする必要がある. (gammaはガンマ関数(nが整数より
    *  n! (nの階乗))) scaleを大 きくするために、 この式に従っ
    *  て n も大きくしなければならない.
+   *  l! は前の項の階乗に l を掛けて求める. 長桁が必要なら BinarySplitting.e() の方が速い.
    * </pre>
    *
    * @param p
@@ -49,9 +49,13 @@ final strictfp class Exp {
     final int mode = ((NumberOfTerm) p).getRoundingMode();
 
     BigDecimal e = BigDecimal.ZERO;
+    BigInteger factorial = BigInteger.ONE;
 
     for (BigInteger l = BigInteger.ZERO; l.compareTo(n) < 0; l = l.add(BigInteger.ONE)) {
-      e = e.add(BigDecimal.ONE.divide(new BigDecimal(BigIntegerMath.factorial(l)), scale, mode));
+      if (l.signum() > 0) {
+        factorial = factorial.multiply(l);
+      }
+      e = e.add(BigDecimal.ONE.divide(new BigDecimal(factorial), scale, mode));
     }
     return e;
   }
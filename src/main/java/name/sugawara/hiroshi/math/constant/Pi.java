@@ -26,6 +26,7 @@ final strictfp class Pi {
 
   /**
    * 円周率をJ.Machin(マチン)の公式を用いて求める.
+   * 数千桁以上を求める場合は BinarySplitting.pi() の方が速い.
    * 
    * @param p
    *          誤差
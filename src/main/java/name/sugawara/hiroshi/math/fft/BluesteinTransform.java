@@ -0,0 +1,130 @@
+/**
+ * Created Date : 2026/10/18 19:58:06
+ */
+package name.sugawara.hiroshi.math.fft;
+
+/**
+ * Bluestein の方法(チャープz変換)による任意の長さの複素FFT.
+ *
+ * <pre>
+ *  j * k = (j^2 + k^2 - (k - j)^2) / 2 を使い、長さ n のDFTを
+ *  チャープ w(k) = exp(-πi * k^2 / n) との巡回畳み込みに書き換える.
+ *  畳み込みは長さ m (2n - 1 以上の2の累乗) のFFTで計算するため、計算量は O(n log n) である.
+ *  チャープと、畳み込む側の列のFFTは生成時に計算して保持する.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see FFT
+ *
+ * Created Date : 2026/10/18 19:58:06
+ */
+final strictfp class BluesteinTransform extends ComplexTransform {
+
+  /**
+   * 畳み込みに使う2の累乗の長さ.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final int      m;
+
+  /**
+   * 長さ m のFFT.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final FFT      inner;
+
+  /**
+   * チャープ w(k) の実部.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final double[] chirpRe;
+
+  /**
+   * チャープ w(k) の虚部.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final double[] chirpIm;
+
+  /**
+   * conj(w(k)) を長さ m に巡回的に並べた列のFFTの実部.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final double[] filterRe;
+
+  /**
+   * conj(w(k)) を長さ m に巡回的に並べた列のFFTの虚部.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final double[] filterIm;
+
+  /**
+   * 長さ n のFFTを作る.
+   *
+   * @param n
+   *          変換の長さ
+   * @since 2026/10/18 19:58:06
+   */
+  BluesteinTransform(final int n) {
+    super(n);
+    this.m = Integer.highestOneBit(2 * n - 1) << 1;
+    this.inner = FFT.getInstance(this.m);
+    this.chirpRe = new double[n];
+    this.chirpIm = new double[n];
+    final long period = 2L * n;
+    for (int k = 0; k < n; k++) {
+      // k^2 を 2n で割った余りにしてから角度を求め、k が大きいときの桁落ちを防ぐ
+      final double angle = Math.PI * ((long) k * k % period) / n;
+      this.chirpRe[k] = Math.cos(angle);
+      this.chirpIm[k] = -Math.sin(angle);
+    }
+    this.filterRe = new double[this.m];
+    this.filterIm = new double[this.m];
+    this.filterRe[0] = this.chirpRe[0];
+    this.filterIm[0] = -this.chirpIm[0];
+    for (int k = 1; k < n; k++) {
+      this.filterRe[k] = this.chirpRe[k];
+      this.filterIm[k] = -this.chirpIm[k];
+      this.filterRe[this.m - k] = this.chirpRe[k];
+      this.filterIm[this.m - k] = -this.chirpIm[k];
+    }
+    this.inner.forward(this.filterRe, this.filterIm);
+  }
+
+  /**
+   * 順変換を計算する. 長さ m の作業用配列を2本確保する.
+   *
+   * @param re
+   *          実部
+   * @param im
+   *          虚部
+   * @see name.sugawara.hiroshi.math.fft.ComplexTransform#forward(double[], double[])
+   * @since 2026/10/18 19:58:06
+   */
+  @Override
+  void forward(final double[] re, final double[] im) {
+    final double[] ar = new double[this.m];
+    final double[] ai = new double[this.m];
+    for (int k = 0; k < this.n; k++) {
+      ar[k] = re[k] * this.chirpRe[k] - im[k] * this.chirpIm[k];
+      ai[k] = re[k] * this.chirpIm[k] + im[k] * this.chirpRe[k];
+    }
+    this.inner.forward(ar, ai);
+    for (int k = 0; k < this.m; k++) {
+      final double xr = ar[k];
+      final double xi = ai[k];
+      ar[k] = xr * this.filterRe[k] - xi * this.filterIm[k];
+      ai[k] = xr * this.filterIm[k] + xi * this.filterRe[k];
+    }
+    this.inner.inverse(ar, ai);
+    for (int k = 0; k < this.n; k++) {
+      re[k] = ar[k] * this.chirpRe[k] - ai[k] * this.chirpIm[k];
+      im[k] = ar[k] * this.chirpIm[k] + ai[k] * this.chirpRe[k];
+    }
+  }
+}
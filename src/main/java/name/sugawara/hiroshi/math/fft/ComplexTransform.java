@@ -0,0 +1,92 @@
+/**
+ * Created Date : 2026/10/18 19:58:06
+ */
+package name.sugawara.hiroshi.math.fft;
+
+/**
+ * 長さを固定した複素数の離散フーリエ変換の計算方法.
+ *
+ * <pre>
+ *  forward() は X(k) = Σ x(j) * exp(-2πi * j * k / n) を配列上で計算する.
+ *  回転因子などの表は生成時に作り、以降は読み取るだけであるため、
+ *  同じインスタンスを複数のスレッドから同時に使ってよい.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see FFT
+ *
+ * Created Date : 2026/10/18 19:58:06
+ */
+abstract strictfp class ComplexTransform {
+
+  /**
+   * 変換の長さ.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  final int n;
+
+  /**
+   * 長さを指定して作る.
+   *
+   * @param n
+   *          変換の長さ
+   * @since 2026/10/18 19:58:06
+   */
+  ComplexTransform(final int n) {
+    this.n = n;
+  }
+
+  /**
+   * 長さに応じた計算方法を選ぶ. 2の累乗なら基数2、小さな素因数だけからなる長さなら混合基数、
+   * それ以外は Bluestein の方法を使う.
+   *
+   * @param n
+   *          変換の長さ
+   * @return 計算方法
+   * @since 2026/10/18 19:58:06
+   */
+  static ComplexTransform create(final int n) {
+    if ((n & (n - 1)) == 0) {
+      return new Radix2Transform(n);
+    }
+    final int[] factors = MixedRadixTransform.factorize(n);
+    if (factors != null) {
+      return new MixedRadixTransform(n, factors);
+    }
+    return new BluesteinTransform(n);
+  }
+
+  /**
+   * 順変換を配列上で計算する. 正規化はしない.
+   *
+   * @param re
+   *          長さ n の実部. 結果で上書きする
+   * @param im
+   *          長さ n の虚部. 結果で上書きする
+   * @since 2026/10/18 19:58:06
+   */
+  abstract void forward(double[] re, double[] im);
+
+  /**
+   * exp(-2πi * k / n) の実部と虚部の表を作る.
+   *
+   * @param n
+   *          周期
+   * @param length
+   *          表の長さ
+   * @return {cos表, -sin表}
+   * @since 2026/10/18 19:58:06
+   */
+  static double[][] twiddles(final int n, final int length) {
+    final double[] c = new double[length];
+    final double[] s = new double[length];
+    for (int k = 0; k < length; k++) {
+      final double angle = 2.0d * Math.PI * k / n;
+      c[k] = Math.cos(angle);
+      s[k] = -Math.sin(angle);
+    }
+    return new double[][] { c, s };
+  }
+}
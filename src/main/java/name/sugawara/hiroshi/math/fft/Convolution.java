@@ -0,0 +1,374 @@
+/**
+ * Created Date : 2026/10/18 20:41:33
+ */
+package name.sugawara.hiroshi.math.fft;
+
+import java.util.Arrays;
+
+/**
+ * 実数列・複素数列の畳み込み(convolution)と相互相関(cross-correlation).
+ *
+ * <pre>
+ *  長さ n と m の列の畳み込み y(k) = Σ_j x(j) * h(k - j) は長さ n + m - 1 になる.
+ *  相互相関は h を逆順にした列との畳み込みとして定義し、逆順の配列は作らずに添字で参照する.
+ *
+ *  計算方法は長さから見積もった計算量が最小のものを選ぶ.
+ *    直接計算   : O(n * m). 短い列どうし、または片方がごく短い場合
+ *    FFT        : 長さ n + m - 1 以上の1回のFFTで巡回畳み込みとして計算する
+ *    overlap-add: 短い方の列のFFTを1回だけ計算し、長い方をブロックに分けて
+ *                 ブロックごとにFFTで畳み込み、結果を重ね合わせる
+ *  FFTを使う方法の計算量は O((n + m) log m) 程度である.
+ *  実数列には RealFFT を使い、複素数列の畳み込みは実部と虚部を混ぜた本来の複素数の積で計算する.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see FFT
+ * @see RealFFT
+ *
+ * Created Date : 2026/10/18 20:41:33
+ */
+public final strictfp class Convolution {
+
+  /**
+   * 長さ L のFFT1回の計算量を、積和1回を単位として L * log2(L) の何倍と見積もるか.
+   *
+   * @since 2026/10/18 20:41:33
+   */
+  private static final double FFT_COST = 4.0d;
+
+  /**
+   * 計算方法.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   * @since 2026/10/18 20:41:33
+   */
+  enum Method {
+    /**
+     * 直接計算.
+     */
+    DIRECT,
+    /**
+     * FFTによる計算. ブロックが1つなら全体を1回のFFTで計算する.
+     */
+    FFT
+  }
+
+  /**
+   * コンストラクタ使用禁止.
+   *
+   * @since 2026/10/18 20:41:33
+   */
+  private Convolution() {
+    // コンストラクタ使用禁止.
+  }
+
+  /**
+   * 実数列の畳み込みを求める.
+   *
+   * @param x
+   *          信号
+   * @param h
+   *          システム
+   * @return 長さ x.length + h.length - 1 の畳み込み
+   * @since 2026/10/18 20:41:33
+   */
+  public static double[] convolve(final double[] x, final double[] h) {
+    return Convolution.real(x, h, false, Convolution.blockSize(x.length, h.length));
+  }
+
+  /**
+   * 実数列の相互相関 y(k) = Σ_j x(j) * h(j - k + h.length - 1) を求める.
+   * h を逆順にした列との畳み込みに等しい.
+   *
+   * @param x
+   *          信号
+   * @param h
+   *          システム
+   * @return 長さ x.length + h.length - 1 の相互相関
+   * @since 2026/10/18 20:41:33
+   */
+  public static double[] correlate(final double[] x, final double[] h) {
+    return Convolution.real(x, h, true, Convolution.blockSize(x.length, h.length));
+  }
+
+  /**
+   * 複素数列の畳み込みを求める.
+   *
+   * @param xr
+   *          信号の実部
+   * @param xi
+   *          信号の虚部
+   * @param hr
+   *          システムの実部
+   * @param hi
+   *          システムの虚部
+   * @return {実部, 虚部}. それぞれ長さ xr.length + hr.length - 1
+   * @exception IllegalArgumentException
+   *              実部と虚部の長さが異なる場合
+   * @since 2026/10/18 20:41:33
+   */
+  public static double[][] convolve(final double[] xr, final double[] xi, final double[] hr,
+      final double[] hi) {
+    return Convolution.complex(xr, xi, hr, hi, false,
+        Convolution.blockSize(xr.length, hr.length));
+  }
+
+  /**
+   * 複素数列の相互相関を求める. h を逆順にした列との畳み込みに等しく、共役はとらない.
+   *
+   * @param xr
+   *          信号の実部
+   * @param xi
+   *          信号の虚部
+   * @param hr
+   *          システムの実部
+   * @param hi
+   *          システムの虚部
+   * @return {実部, 虚部}. それぞれ長さ xr.length + hr.length - 1
+   * @exception IllegalArgumentException
+   *              実部と虚部の長さが異なる場合
+   * @since 2026/10/18 20:41:33
+   */
+  public static double[][] correlate(final double[] xr, final double[] xi, final double[] hr,
+      final double[] hi) {
+    return Convolution.complex(xr, xi, hr, hi, true,
+        Convolution.blockSize(xr.length, hr.length));
+  }
+
+  /**
+   * 計算方法を選ぶ.
+   *
+   * @param n
+   *          列の長さ
+   * @param m
+   *          もう一方の列の長さ
+   * @return 計算方法
+   * @since 2026/10/18 20:41:33
+   */
+  static Method select(final int n, final int m) {
+    return Convolution.blockSize(n, m) == 0 ? Method.DIRECT : Method.FFT;
+  }
+
+  /**
+   * 計算量が最小になるFFTの長さを求める. 直接計算の方が速ければ 0 を返す.
+   *
+   * <pre>
+   *  長さ N (2の累乗) のFFTで、長い方の列を N - m + 1 ずつのブロックに分けて計算する場合の計算量は
+   *  短い方の列の変換1回と、ブロックごとの順変換・逆変換・スペクトルの積である.
+   *  N を 2m 程度から n + m - 1 まで変えて最小のものを選び、直接計算 n * m と比べる.
+   * </pre>
+   *
+   * @param n
+   *          列の長さ
+   * @param m
+   *          もう一方の列の長さ
+   * @return FFTの長さ. 直接計算なら 0
+   * @since 2026/10/18 20:41:33
+   */
+  static int blockSize(final int n, final int m) {
+    final int longer = Math.max(n, m);
+    final int shorter = Math.min(n, m);
+    if (shorter == 0) {
+      return 0;
+    }
+    final int full = longer + shorter - 1;
+    double best = (double) longer * shorter;
+    int size = 0;
+    int block = Integer.highestOneBit(Math.max(2 * shorter - 1, 1)) << 1;
+    while (true) {
+      final int step = block - shorter + 1;
+      final long blocks = (longer + step - 1) / step;
+      final double transform = Convolution.FFT_COST * block
+          * (31 - Integer.numberOfLeadingZeros(block));
+      final double cost = transform + blocks * (2.0d * transform + block);
+      if (cost < best) {
+        best = cost;
+        size = block;
+      }
+      if (block >= full || block >= 1 << 29) {
+        return size;
+      }
+      block <<= 1;
+    }
+  }
+
+  /**
+   * 実数列の畳み込みを計算する.
+   *
+   * @param x
+   *          信号
+   * @param h
+   *          システム
+   * @param reverse
+   *          h を逆順に参照するならtrue
+   * @param size
+   *          FFTの長さ. 0 なら直接計算
+   * @return 畳み込み
+   * @since 2026/10/18 20:41:33
+   */
+  static double[] real(final double[] x, final double[] h, final boolean reverse,
+      final int size) {
+    final int n = x.length;
+    final int m = h.length;
+    final double[] y = new double[Math.max(n + m - 1, 0)];
+    if (n == 0 || m == 0) {
+      return y;
+    }
+    if (size == 0) {
+      final int start = reverse ? m - 1 : 0;
+      final int step = reverse ? -1 : 1;
+      for (int i = 0; i < n; i++) {
+        final double xi = x[i];
+        for (int j = 0, p = start; j < m; j++, p += step) {
+          y[i + j] += xi * h[p];
+        }
+      }
+      return y;
+    }
+    // 長い方をブロックに分け、短い方のスペクトルを1回だけ求める
+    final boolean swap = m > n;
+    final double[] a = swap ? h : x;
+    final double[] b = swap ? x : h;
+    final boolean reverseA = swap && reverse;
+    final boolean reverseB = !swap && reverse;
+    final int na = a.length;
+    final int nb = b.length;
+    final RealFFT fft = RealFFT.getInstance(size);
+    final int bins = fft.getSpectrumSize();
+    final double[] buffer = new double[size];
+    Convolution.copy(b, 0, nb, reverseB, buffer);
+    final double[] fr = new double[bins];
+    final double[] fi = new double[bins];
+    fft.forward(buffer, fr, fi);
+    final double[] sr = new double[bins];
+    final double[] si = new double[bins];
+    final int step = size - nb + 1;
+    for (int start = 0; start < na; start += step) {
+      final int length = Math.min(step, na - start);
+      Convolution.copy(a, start, length, reverseA, buffer);
+      fft.forward(buffer, sr, si);
+      for (int k = 0; k < bins; k++) {
+        final double re = sr[k] * fr[k] - si[k] * fi[k];
+        si[k] = sr[k] * fi[k] + si[k] * fr[k];
+        sr[k] = re;
+      }
+      fft.inverse(sr, si, buffer);
+      final int end = Math.min(length + nb - 1, y.length - start);
+      for (int k = 0; k < end; k++) {
+        y[start + k] += buffer[k];
+      }
+    }
+    return y;
+  }
+
+  /**
+   * 複素数列の畳み込みを計算する.
+   *
+   * @param xr
+   *          信号の実部
+   * @param xi
+   *          信号の虚部
+   * @param hr
+   *          システムの実部
+   * @param hi
+   *          システムの虚部
+   * @param reverse
+   *          h を逆順に参照するならtrue
+   * @param size
+   *          FFTの長さ. 0 なら直接計算
+   * @return {実部, 虚部}
+   * @since 2026/10/18 20:41:33
+   */
+  static double[][] complex(final double[] xr, final double[] xi, final double[] hr,
+      final double[] hi, final boolean reverse, final int size) {
+    if (xr.length != xi.length || hr.length != hi.length) {
+      throw new IllegalArgumentException("The lengths of real and imaginary parts must agree.");
+    }
+    final int n = xr.length;
+    final int m = hr.length;
+    final double[] yr = new double[Math.max(n + m - 1, 0)];
+    final double[] yi = new double[yr.length];
+    if (n == 0 || m == 0) {
+      return new double[][] { yr, yi };
+    }
+    if (size == 0) {
+      final int start = reverse ? m - 1 : 0;
+      final int step = reverse ? -1 : 1;
+      for (int i = 0; i < n; i++) {
+        final double ar = xr[i];
+        final double ai = xi[i];
+        for (int j = 0, p = start; j < m; j++, p += step) {
+          yr[i + j] += ar * hr[p] - ai * hi[p];
+          yi[i + j] += ar * hi[p] + hr[p] * ai;
+        }
+      }
+      return new double[][] { yr, yi };
+    }
+    final boolean swap = m > n;
+    final double[] ar = swap ? hr : xr;
+    final double[] ai = swap ? hi : xi;
+    final double[] br = swap ? xr : hr;
+    final double[] bi = swap ? xi : hi;
+    final boolean reverseA = swap && reverse;
+    final boolean reverseB = !swap && reverse;
+    final int na = ar.length;
+    final int nb = br.length;
+    final FFT fft = FFT.getInstance(size);
+    final double[] fr = new double[size];
+    final double[] fi = new double[size];
+    Convolution.copy(br, 0, nb, reverseB, fr);
+    Convolution.copy(bi, 0, nb, reverseB, fi);
+    fft.forward(fr, fi);
+    final double[] sr = new double[size];
+    final double[] si = new double[size];
+    final int step = size - nb + 1;
+    for (int start = 0; start < na; start += step) {
+      final int length = Math.min(step, na - start);
+      Convolution.copy(ar, start, length, reverseA, sr);
+      Convolution.copy(ai, start, length, reverseA, si);
+      fft.forward(sr, si);
+      for (int k = 0; k < size; k++) {
+        final double re = sr[k] * fr[k] - si[k] * fi[k];
+        si[k] = sr[k] * fi[k] + si[k] * fr[k];
+        sr[k] = re;
+      }
+      fft.inverse(sr, si);
+      final int end = Math.min(length + nb - 1, yr.length - start);
+      for (int k = 0; k < end; k++) {
+        yr[start + k] += sr[k];
+        yi[start + k] += si[k];
+      }
+    }
+    return new double[][] { yr, yi };
+  }
+
+  /**
+   * 列の一部をバッファの先頭に複写し、残りを 0 で埋める.
+   *
+   * @param source
+   *          列
+   * @param start
+   *          複写する最初の位置. 逆順の場合は逆順にした列での位置
+   * @param length
+   *          複写する長さ
+   * @param reverse
+   *          列を逆順に参照するならtrue
+   * @param buffer
+   *          バッファ
+   * @since 2026/10/18 20:41:33
+   */
+  private static void copy(final double[] source, final int start, final int length,
+      final boolean reverse, final double[] buffer) {
+    if (reverse) {
+      final int last = source.length - 1 - start;
+      for (int k = 0; k < length; k++) {
+        buffer[k] = source[last - k];
+      }
+    } else {
+      System.arraycopy(source, start, buffer, 0, length);
+    }
+    Arrays.fill(buffer, length, buffer.length, 0.0d);
+  }
+}
@@ -0,0 +1,342 @@
+/**
+ * Created Date : 2026/10/18 19:58:06
+ */
+package name.sugawara.hiroshi.math.fft;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 任意の長さの複素数の高速フーリエ変換(FFT).
+ *
+ * <pre>
+ *  複素数列は実部と虚部を別々のdouble[]で与え、結果で上書きする(in-place).
+ *  順変換と逆変換の定義は次のとおりで、逆変換は 1/n で正規化する.
+ *
+ *    X(k) = Σ_j x(j) * exp(-2πi * j * k / n)
+ *    x(j) = (1/n) * Σ_k X(k) * exp(2πi * j * k / n)
+ *
+ *  長さに応じて計算方法を選ぶ.
+ *    2の累乗                          : 基数2 Cooley-Tukey (作業用配列なし)
+ *    素因数がすべて31以下             : 混合基数 Cooley-Tukey
+ *    それ以外(大きな素因数を含む長さ) : Bluestein の方法
+ *  いずれも計算量は O(n log n) である.
+ *
+ *  回転因子などの表は長さごとに一度だけ作り、getInstance() がキャッシュして共有する.
+ *  インスタンスは不変であり、複数のスレッドから同時に使ってよい.
+ *  同じ長さの多数の信号は forward(double[][], double[][]) でまとめて並列に変換できる.
+ * </pre>
+ *
+ * <pre>
+ *  FFT fft = FFT.getInstance(re.length);
+ *  fft.forward(re, im);
+ *  fft.inverse(re, im);
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see RealFFT
+ *
+ * Created Date : 2026/10/18 19:58:06
+ */
+public final strictfp class FFT {
+
+  /**
+   * これ以下の要素数(長さ * 信号数)の一括変換は分割せずに逐次計算する.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private static final long                         SEQUENTIAL_LIMIT = 1L << 15;
+
+  /**
+   * 長さごとのFFTのキャッシュ.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private static final ConcurrentMap<Integer, FFT> CACHE            =
+      new ConcurrentHashMap<Integer, FFT>();
+
+  /**
+   * 長さに応じた計算方法.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final ComplexTransform                    transform;
+
+  /**
+   * 計算方法を指定して作る.
+   *
+   * @param transform
+   *          計算方法
+   * @since 2026/10/18 19:58:06
+   */
+  private FFT(final ComplexTransform transform) {
+    this.transform = transform;
+  }
+
+  /**
+   * 長さ n のFFTを返す. 同じ長さに対しては同じインスタンスを返す.
+   *
+   * @param n
+   *          変換の長さ
+   * @return 長さ n のFFT
+   * @exception IllegalArgumentException
+   *              n が正でない場合
+   * @since 2026/10/18 19:58:06
+   */
+  public static FFT getInstance(final int n) {
+    if (n < 1) {
+      throw new IllegalArgumentException("FFT size must be positive.");
+    }
+    final Integer key = Integer.valueOf(n);
+    FFT fft = FFT.CACHE.get(key);
+    if (fft == null) {
+      fft = new FFT(ComplexTransform.create(n));
+      final FFT previous = FFT.CACHE.putIfAbsent(key, fft);
+      if (previous != null) {
+        fft = previous;
+      }
+    }
+    return fft;
+  }
+
+  /**
+   * 変換の長さを返す.
+   *
+   * @return 変換の長さ
+   * @since 2026/10/18 19:58:06
+   */
+  public int getSize() {
+    return this.transform.n;
+  }
+
+  /**
+   * 配列の長さが変換の長さと等しいことを確認する.
+   *
+   * @param re
+   *          実部
+   * @param im
+   *          虚部
+   * @since 2026/10/18 19:58:06
+   */
+  private void check(final double[] re, final double[] im) {
+    if (re.length != this.transform.n || im.length != this.transform.n) {
+      throw new IllegalArgumentException("Array length must be equal to the FFT size.");
+    }
+  }
+
+  /**
+   * 順変換を配列上で計算する.
+   *
+   * @param re
+   *          長さ n の実部. 結果で上書きする
+   * @param im
+   *          長さ n の虚部. 結果で上書きする
+   * @exception IllegalArgumentException
+   *              配列の長さが n でない場合
+   * @since 2026/10/18 19:58:06
+   */
+  public void forward(final double[] re, final double[] im) {
+    this.check(re, im);
+    this.transform.forward(re, im);
+  }
+
+  /**
+   * 逆変換を配列上で計算する. 結果は 1/n で正規化する.
+   *
+   * <pre>
+   *  ifft(x) = conj(fft(conj(x))) / n を使い、順変換と同じ計算方法で求める.
+   * </pre>
+   *
+   * @param re
+   *          長さ n の実部. 結果で上書きする
+   * @param im
+   *          長さ n の虚部. 結果で上書きする
+   * @exception IllegalArgumentException
+   *              配列の長さが n でない場合
+   * @since 2026/10/18 19:58:06
+   */
+  public void inverse(final double[] re, final double[] im) {
+    this.check(re, im);
+    final int n = this.transform.n;
+    for (int k = 0; k < n; k++) {
+      im[k] = -im[k];
+    }
+    this.transform.forward(re, im);
+    final double scale = 1.0d / n;
+    for (int k = 0; k < n; k++) {
+      re[k] *= scale;
+      im[k] *= -scale;
+    }
+  }
+
+  /**
+   * 同じ長さの多数の信号をまとめて順変換する. 信号ごとに並列に計算する.
+   *
+   * @param re
+   *          信号ごとの実部. re[i] は長さ n で、結果で上書きする
+   * @param im
+   *          信号ごとの虚部. im[i] は長さ n で、結果で上書きする
+   * @exception IllegalArgumentException
+   *              信号の数または長さが一致しない場合
+   * @since 2026/10/18 19:58:06
+   */
+  public void forward(final double[][] re, final double[][] im) {
+    this.batch(re, im, false);
+  }
+
+  /**
+   * 同じ長さの多数の信号をまとめて逆変換する. 信号ごとに並列に計算する.
+   *
+   * @param re
+   *          信号ごとの実部. re[i] は長さ n で、結果で上書きする
+   * @param im
+   *          信号ごとの虚部. im[i] は長さ n で、結果で上書きする
+   * @exception IllegalArgumentException
+   *              信号の数または長さが一致しない場合
+   * @since 2026/10/18 19:58:06
+   */
+  public void inverse(final double[][] re, final double[][] im) {
+    this.batch(re, im, true);
+  }
+
+  /**
+   * 一括変換を計算する.
+   *
+   * @param re
+   *          信号ごとの実部
+   * @param im
+   *          信号ごとの虚部
+   * @param inverse
+   *          逆変換ならtrue
+   * @since 2026/10/18 19:58:06
+   */
+  private void batch(final double[][] re, final double[][] im, final boolean inverse) {
+    if (re.length != im.length) {
+      throw new IllegalArgumentException("The number of real and imaginary parts must agree.");
+    }
+    for (int i = 0; i < re.length; i++) {
+      this.check(re[i], im[i]);
+    }
+    final Batch task = new Batch(this, re, im, inverse, 0, re.length);
+    if ((long) this.transform.n * re.length <= FFT.SEQUENTIAL_LIMIT) {
+      task.compute();
+    } else {
+      ForkJoinPool.commonPool().invoke(task);
+    }
+  }
+
+  /**
+   * 信号 i0 から i1 - 1 までを変換するタスク.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   * @since 2026/10/18 19:58:06
+   */
+  private static final class Batch extends RecursiveAction {
+
+    /**
+     * シリアルバージョンID.
+     *
+     * @since 2026/10/18 19:58:06
+     */
+    private static final long serialVersionUID = 2769140258313964721L;
+
+    /**
+     * FFT.
+     *
+     * @since 2026/10/18 19:58:06
+     */
+    private final FFT         fft;
+
+    /**
+     * 信号ごとの実部.
+     *
+     * @since 2026/10/18 19:58:06
+     */
+    private final double[][]  re;
+
+    /**
+     * 信号ごとの虚部.
+     *
+     * @since 2026/10/18 19:58:06
+     */
+    private final double[][]  im;
+
+    /**
+     * 逆変換ならtrue.
+     *
+     * @since 2026/10/18 19:58:06
+     */
+    private final boolean     inverse;
+
+    /**
+     * 最初の信号.
+     *
+     * @since 2026/10/18 19:58:06
+     */
+    private final int         i0;
+
+    /**
+     * 最後の信号の次.
+     *
+     * @since 2026/10/18 19:58:06
+     */
+    private final int         i1;
+
+    /**
+     * タスクを作る.
+     *
+     * @param fft
+     *          FFT
+     * @param re
+     *          信号ごとの実部
+     * @param im
+     *          信号ごとの虚部
+     * @param inverse
+     *          逆変換ならtrue
+     * @param i0
+     *          最初の信号
+     * @param i1
+     *          最後の信号の次
+     * @since 2026/10/18 19:58:06
+     */
+    Batch(final FFT fft, final double[][] re, final double[][] im, final boolean inverse,
+        final int i0, final int i1) {
+      super();
+      this.fft = fft;
+      this.re = re;
+      this.im = im;
+      this.inverse = inverse;
+      this.i0 = i0;
+      this.i1 = i1;
+    }
+
+    /**
+     * 信号が多ければ2分割し、少なければ逐次計算する.
+     *
+     * @see java.util.concurrent.RecursiveAction#compute()
+     * @since 2026/10/18 19:58:06
+     */
+    @Override
+    protected void compute() {
+      final long work = (long) (this.i1 - this.i0) * this.fft.transform.n;
+      if (this.i1 - this.i0 < 2 || work <= FFT.SEQUENTIAL_LIMIT) {
+        for (int i = this.i0; i < this.i1; i++) {
+          if (this.inverse) {
+            this.fft.inverse(this.re[i], this.im[i]);
+          } else {
+            this.fft.transform.forward(this.re[i], this.im[i]);
+          }
+        }
+      } else {
+        final int middle = (this.i0 + this.i1) >>> 1;
+        ForkJoinTask.invokeAll(new Batch(this.fft, this.re, this.im, this.inverse, this.i0,
+            middle), new Batch(this.fft, this.re, this.im, this.inverse, middle, this.i1));
+      }
+    }
+  }
+}
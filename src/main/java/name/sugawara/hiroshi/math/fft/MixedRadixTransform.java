@@ -0,0 +1,317 @@
+/**
+ * Created Date : 2026/10/18 19:58:06
+ */
+package name.sugawara.hiroshi.math.fft;
+
+import java.util.Arrays;
+
+/**
+ * 素因数がすべて MAX_RADIX 以下の長さの混合基数 Cooley-Tukey FFT.
+ *
+ * <pre>
+ *  n = p1 * p2 * ... と分解し、再帰的に時間間引きする. 因数 4 と 2 は専用のバタフライ、
+ *  それ以外の素因数 p は O(p^2) の汎用バタフライで計算する.
+ *  作業用に長さ n の配列を2本確保する.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see FFT
+ *
+ * Created Date : 2026/10/18 19:58:06
+ */
+final strictfp class MixedRadixTransform extends ComplexTransform {
+
+  /**
+   * 混合基数で扱う素因数の上限. これより大きな素因数を持つ長さは Bluestein の方法で計算する.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  static final int       MAX_RADIX = 31;
+
+  /**
+   * 分解した因数. 先頭から順に再帰の外側の段に対応する.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final int[]    factors;
+
+  /**
+   * 各段の部分変換の長さ m (= 後ろの因数の積).
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final int[]    spans;
+
+  /**
+   * 回転因子の実部 cos(2πk / n).
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final double[] cos;
+
+  /**
+   * 回転因子の虚部 -sin(2πk / n).
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final double[] sin;
+
+  /**
+   * 最大の因数.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final int      maxFactor;
+
+  /**
+   * 因数分解済みの長さ n のFFTを作る.
+   *
+   * @param n
+   *          変換の長さ
+   * @param factors
+   *          因数
+   * @since 2026/10/18 19:58:06
+   */
+  MixedRadixTransform(final int n, final int[] factors) {
+    super(n);
+    this.factors = factors;
+    this.spans = new int[factors.length];
+    int m = n;
+    int max = 0;
+    for (int i = 0; i < factors.length; i++) {
+      m /= factors[i];
+      this.spans[i] = m;
+      max = Math.max(max, factors[i]);
+    }
+    this.maxFactor = max;
+    final double[][] table = ComplexTransform.twiddles(n, n);
+    this.cos = table[0];
+    this.sin = table[1];
+  }
+
+  /**
+   * n を 4, 2, 3, 5, 7, ... の順に因数分解する.
+   *
+   * @param n
+   *          長さ
+   * @return 因数. MAX_RADIX より大きな素因数がある場合はnull
+   * @since 2026/10/18 19:58:06
+   */
+  static int[] factorize(final int n) {
+    final int[] result = new int[32];
+    int count = 0;
+    int rest = n;
+    while (rest % 4 == 0) {
+      result[count++] = 4;
+      rest /= 4;
+    }
+    while (rest % 2 == 0) {
+      result[count++] = 2;
+      rest /= 2;
+    }
+    for (int p = 3; p <= MixedRadixTransform.MAX_RADIX && rest > 1; p += 2) {
+      while (rest % p == 0) {
+        result[count++] = p;
+        rest /= p;
+      }
+    }
+    return rest == 1 ? Arrays.copyOf(result, count) : null;
+  }
+
+  /**
+   * 順変換を計算する. 作業用配列に結果を作ってから書き戻す.
+   *
+   * @param re
+   *          実部
+   * @param im
+   *          虚部
+   * @see name.sugawara.hiroshi.math.fft.ComplexTransform#forward(double[], double[])
+   * @since 2026/10/18 19:58:06
+   */
+  @Override
+  void forward(final double[] re, final double[] im) {
+    final double[] outRe = new double[this.n];
+    final double[] outIm = new double[this.n];
+    final double[] scratch = new double[4 * this.maxFactor];
+    this.work(0, outRe, outIm, 0, re, im, 0, 1, scratch);
+    System.arraycopy(outRe, 0, re, 0, this.n);
+    System.arraycopy(outIm, 0, im, 0, this.n);
+  }
+
+  /**
+   * level 段目の部分変換を計算する.
+   *
+   * @param level
+   *          段
+   * @param outRe
+   *          結果の実部
+   * @param outIm
+   *          結果の虚部
+   * @param out
+   *          結果の先頭位置
+   * @param inRe
+   *          入力の実部
+   * @param inIm
+   *          入力の虚部
+   * @param in
+   *          入力の先頭位置
+   * @param stride
+   *          入力の間隔
+   * @param scratch
+   *          汎用バタフライの作業用配列
+   * @since 2026/10/18 19:58:06
+   */
+  private void work(final int level, final double[] outRe, final double[] outIm, final int out,
+      final double[] inRe, final double[] inIm, final int in, final int stride,
+      final double[] scratch) {
+    final int p = this.factors[level];
+    final int m = this.spans[level];
+    if (m == 1) {
+      for (int q = 0; q < p; q++) {
+        outRe[out + q] = inRe[in + q * stride];
+        outIm[out + q] = inIm[in + q * stride];
+      }
+    } else {
+      for (int q = 0; q < p; q++) {
+        this.work(level + 1, outRe, outIm, out + q * m, inRe, inIm, in + q * stride,
+            stride * p, scratch);
+      }
+    }
+    if (p == 4) {
+      this.butterfly4(outRe, outIm, out, stride, m);
+    } else if (p == 2) {
+      this.butterfly2(outRe, outIm, out, stride, m);
+    } else {
+      this.butterfly(outRe, outIm, out, stride, m, p, scratch);
+    }
+  }
+
+  /**
+   * 基数2のバタフライ.
+   *
+   * @param re
+   *          実部
+   * @param im
+   *          虚部
+   * @param out
+   *          先頭位置
+   * @param stride
+   *          回転因子の間隔
+   * @param m
+   *          部分変換の長さ
+   * @since 2026/10/18 19:58:06
+   */
+  private void butterfly2(final double[] re, final double[] im, final int out, final int stride,
+      final int m) {
+    for (int k = 0; k < m; k++) {
+      final double wr = this.cos[k * stride];
+      final double wi = this.sin[k * stride];
+      final int a = out + k;
+      final int b = a + m;
+      final double tr = re[b] * wr - im[b] * wi;
+      final double ti = re[b] * wi + im[b] * wr;
+      re[b] = re[a] - tr;
+      im[b] = im[a] - ti;
+      re[a] += tr;
+      im[a] += ti;
+    }
+  }
+
+  /**
+   * 基数4のバタフライ.
+   *
+   * @param re
+   *          実部
+   * @param im
+   *          虚部
+   * @param out
+   *          先頭位置
+   * @param stride
+   *          回転因子の間隔
+   * @param m
+   *          部分変換の長さ
+   * @since 2026/10/18 19:58:06
+   */
+  private void butterfly4(final double[] re, final double[] im, final int out, final int stride,
+      final int m) {
+    for (int k = 0; k < m; k++) {
+      final int a0 = out + k;
+      final int a1 = a0 + m;
+      final int a2 = a1 + m;
+      final int a3 = a2 + m;
+      final int t1 = k * stride;
+      final int t2 = 2 * t1;
+      final int t3 = 3 * t1;
+      final double s0r = re[a1] * this.cos[t1] - im[a1] * this.sin[t1];
+      final double s0i = re[a1] * this.sin[t1] + im[a1] * this.cos[t1];
+      final double s1r = re[a2] * this.cos[t2] - im[a2] * this.sin[t2];
+      final double s1i = re[a2] * this.sin[t2] + im[a2] * this.cos[t2];
+      final double s2r = re[a3] * this.cos[t3] - im[a3] * this.sin[t3];
+      final double s2i = re[a3] * this.sin[t3] + im[a3] * this.cos[t3];
+      final double s5r = re[a0] - s1r;
+      final double s5i = im[a0] - s1i;
+      final double x0r = re[a0] + s1r;
+      final double x0i = im[a0] + s1i;
+      final double s3r = s0r + s2r;
+      final double s3i = s0i + s2i;
+      final double s4r = s0r - s2r;
+      final double s4i = s0i - s2i;
+      re[a2] = x0r - s3r;
+      im[a2] = x0i - s3i;
+      re[a0] = x0r + s3r;
+      im[a0] = x0i + s3i;
+      re[a1] = s5r + s4i;
+      im[a1] = s5i - s4r;
+      re[a3] = s5r - s4i;
+      im[a3] = s5i + s4r;
+    }
+  }
+
+  /**
+   * 任意の基数 p の汎用バタフライ. 計算量は O(p^2 * m).
+   *
+   * @param re
+   *          実部
+   * @param im
+   *          虚部
+   * @param out
+   *          先頭位置
+   * @param stride
+   *          回転因子の間隔
+   * @param m
+   *          部分変換の長さ
+   * @param p
+   *          基数
+   * @param scratch
+   *          長さ 2 * p 以上の作業用配列
+   * @since 2026/10/18 19:58:06
+   */
+  private void butterfly(final double[] re, final double[] im, final int out, final int stride,
+      final int m, final int p, final double[] scratch) {
+    final int n = this.n;
+    for (int u = 0; u < m; u++) {
+      for (int q = 0, k = out + u; q < p; q++, k += m) {
+        scratch[2 * q] = re[k];
+        scratch[2 * q + 1] = im[k];
+      }
+      for (int q1 = 0, k = u; q1 < p; q1++, k += m) {
+        double sr = scratch[0];
+        double si = scratch[1];
+        int index = 0;
+        for (int q = 1; q < p; q++) {
+          index += stride * k;
+          if (index >= n) {
+            index -= n;
+          }
+          final double xr = scratch[2 * q];
+          final double xi = scratch[2 * q + 1];
+          sr += xr * this.cos[index] - xi * this.sin[index];
+          si += xr * this.sin[index] + xi * this.cos[index];
+        }
+        re[out + k] = sr;
+        im[out + k] = si;
+      }
+    }
+  }
+}
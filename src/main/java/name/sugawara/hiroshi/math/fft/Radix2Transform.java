@@ -0,0 +1,96 @@
+/**
+ * Created Date : 2026/10/18 19:58:06
+ */
+package name.sugawara.hiroshi.math.fft;
+
+/**
+ * 長さが2の累乗の複素FFT. ビット反転で並べ替えてから時間間引きの基数2バタフライを重ねる.
+ *
+ * <pre>
+ *  配列上で計算し、作業用の配列を確保しない. 回転因子の表は長さ n / 2 である.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see FFT
+ *
+ * Created Date : 2026/10/18 19:58:06
+ */
+final strictfp class Radix2Transform extends ComplexTransform {
+
+  /**
+   * 回転因子の実部 cos(2πk / n).
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final double[] cos;
+
+  /**
+   * 回転因子の虚部 -sin(2πk / n).
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final double[] sin;
+
+  /**
+   * 2の累乗の長さ n のFFTを作る.
+   *
+   * @param n
+   *          変換の長さ
+   * @since 2026/10/18 19:58:06
+   */
+  Radix2Transform(final int n) {
+    super(n);
+    final double[][] table = ComplexTransform.twiddles(n, n / 2);
+    this.cos = table[0];
+    this.sin = table[1];
+  }
+
+  /**
+   * 順変換を配列上で計算する.
+   *
+   * @param re
+   *          実部
+   * @param im
+   *          虚部
+   * @see name.sugawara.hiroshi.math.fft.ComplexTransform#forward(double[], double[])
+   * @since 2026/10/18 19:58:06
+   */
+  @Override
+  void forward(final double[] re, final double[] im) {
+    final int n = this.n;
+    if (n < 2) {
+      return;
+    }
+    final int shift = Integer.numberOfLeadingZeros(n) + 1;
+    for (int i = 0; i < n; i++) {
+      final int j = Integer.reverse(i) >>> shift;
+      if (i < j) {
+        final double tr = re[i];
+        re[i] = re[j];
+        re[j] = tr;
+        final double ti = im[i];
+        im[i] = im[j];
+        im[j] = ti;
+      }
+    }
+    for (int size = 2; size <= n; size <<= 1) {
+      final int half = size >>> 1;
+      final int step = n / size;
+      for (int s = 0; s < n; s += size) {
+        for (int j = 0; j < half; j++) {
+          final double wr = this.cos[j * step];
+          final double wi = this.sin[j * step];
+          final int p = s + j;
+          final int q = p + half;
+          final double tr = wr * re[q] - wi * im[q];
+          final double ti = wr * im[q] + wi * re[q];
+          re[q] = re[p] - tr;
+          im[q] = im[p] - ti;
+          re[p] += tr;
+          im[p] += ti;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,282 @@
+/**
+ * Created Date : 2026/10/18 19:58:06
+ */
+package name.sugawara.hiroshi.math.fft;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 実数列の高速フーリエ変換.
+ *
+ * <pre>
+ *  実数列のスペクトルは X(n - k) = conj(X(k)) を満たすため、
+ *  k = 0, 1, ..., n/2 の n/2 + 1 個(n/2 は切り捨て)だけを求める.
+ *  n が偶数のときは、偶数番目を実部、奇数番目を虚部とした長さ n/2 の複素FFTを1回計算し、
+ *  その結果を分離して求める. 計算量と作業用メモリは長さ n の複素FFTのほぼ半分である.
+ *  n が奇数のときは長さ n の複素FFTで計算する.
+ *
+ *  逆変換 inverse() は順変換の逆で、1/n で正規化する.
+ *  インスタンスは不変であり、複数のスレッドから同時に使ってよい.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see FFT
+ *
+ * Created Date : 2026/10/18 19:58:06
+ */
+public final strictfp class RealFFT {
+
+  /**
+   * 長さごとの実数FFTのキャッシュ.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private static final ConcurrentMap<Integer, RealFFT> CACHE =
+      new ConcurrentHashMap<Integer, RealFFT>();
+
+  /**
+   * 変換の長さ.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final int                                     n;
+
+  /**
+   * 内部で使う複素FFT. n が偶数なら長さ n/2、奇数なら長さ n.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final FFT                                     complex;
+
+  /**
+   * 分離に使う回転因子の実部 cos(2πk / n). n が奇数ならnull.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final double[]                                cos;
+
+  /**
+   * 分離に使う回転因子の虚部 -sin(2πk / n). n が奇数ならnull.
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  private final double[]                                sin;
+
+  /**
+   * 長さ n の実数FFTを作る.
+   *
+   * @param n
+   *          変換の長さ
+   * @since 2026/10/18 19:58:06
+   */
+  private RealFFT(final int n) {
+    this.n = n;
+    if (n % 2 == 0) {
+      this.complex = FFT.getInstance(n / 2);
+      final double[][] table = ComplexTransform.twiddles(n, n / 2 + 1);
+      this.cos = table[0];
+      this.sin = table[1];
+    } else {
+      this.complex = FFT.getInstance(n);
+      this.cos = null;
+      this.sin = null;
+    }
+  }
+
+  /**
+   * 長さ n の実数FFTを返す. 同じ長さに対しては同じインスタンスを返す.
+   *
+   * @param n
+   *          変換の長さ
+   * @return 長さ n の実数FFT
+   * @exception IllegalArgumentException
+   *              n が正でない場合
+   * @since 2026/10/18 19:58:06
+   */
+  public static RealFFT getInstance(final int n) {
+    if (n < 1) {
+      throw new IllegalArgumentException("FFT size must be positive.");
+    }
+    final Integer key = Integer.valueOf(n);
+    RealFFT fft = RealFFT.CACHE.get(key);
+    if (fft == null) {
+      fft = new RealFFT(n);
+      final RealFFT previous = RealFFT.CACHE.putIfAbsent(key, fft);
+      if (previous != null) {
+        fft = previous;
+      }
+    }
+    return fft;
+  }
+
+  /**
+   * 変換の長さを返す.
+   *
+   * @return 変換の長さ
+   * @since 2026/10/18 19:58:06
+   */
+  public int getSize() {
+    return this.n;
+  }
+
+  /**
+   * スペクトルの長さ n/2 + 1 を返す.
+   *
+   * @return スペクトルの長さ
+   * @since 2026/10/18 19:58:06
+   */
+  public int getSpectrumSize() {
+    return this.n / 2 + 1;
+  }
+
+  /**
+   * 実数列を順変換する.
+   *
+   * @param x
+   *          長さ n の実数列. 変更しない
+   * @param re
+   *          スペクトルの実部を格納する長さ n/2 + 1 の配列
+   * @param im
+   *          スペクトルの虚部を格納する長さ n/2 + 1 の配列
+   * @exception IllegalArgumentException
+   *              配列の長さが一致しない場合
+   * @since 2026/10/18 19:58:06
+   */
+  public void forward(final double[] x, final double[] re, final double[] im) {
+    this.check(x, re, im);
+    final int h = this.n / 2;
+    if (this.cos == null) {
+      final double[] zr = x.clone();
+      final double[] zi = new double[this.n];
+      this.complex.forward(zr, zi);
+      System.arraycopy(zr, 0, re, 0, h + 1);
+      System.arraycopy(zi, 0, im, 0, h + 1);
+      return;
+    }
+    final double[] zr = new double[h];
+    final double[] zi = new double[h];
+    for (int k = 0; k < h; k++) {
+      zr[k] = x[2 * k];
+      zi[k] = x[2 * k + 1];
+    }
+    this.complex.forward(zr, zi);
+    for (int k = 0; k <= h; k++) {
+      final int a = k == h ? 0 : k;
+      final int b = k == 0 ? 0 : h - k;
+      // 偶数番目のスペクトル E = (Z(k) + conj(Z(h-k))) / 2
+      final double er = 0.5d * (zr[a] + zr[b]);
+      final double ei = 0.5d * (zi[a] - zi[b]);
+      // 奇数番目のスペクトル O = (Z(k) - conj(Z(h-k))) / 2i
+      final double or = 0.5d * (zi[a] + zi[b]);
+      final double oi = -0.5d * (zr[a] - zr[b]);
+      re[k] = er + this.cos[k] * or - this.sin[k] * oi;
+      im[k] = ei + this.cos[k] * oi + this.sin[k] * or;
+    }
+  }
+
+  /**
+   * スペクトルを逆変換して実数列を求める. 1/n で正規化する.
+   *
+   * <pre>
+   *  スペクトルの虚部のうち、実数列では 0 になるはずの im[0] と (n が偶数なら) im[n/2] は無視する.
+   * </pre>
+   *
+   * @param re
+   *          長さ n/2 + 1 のスペクトルの実部. 変更しない
+   * @param im
+   *          長さ n/2 + 1 のスペクトルの虚部. 変更しない
+   * @param x
+   *          結果を格納する長さ n の配列
+   * @exception IllegalArgumentException
+   *              配列の長さが一致しない場合
+   * @since 2026/10/18 19:58:06
+   */
+  public void inverse(final double[] re, final double[] im, final double[] x) {
+    this.check(x, re, im);
+    final int h = this.n / 2;
+    if (this.cos == null) {
+      final double[] zr = new double[this.n];
+      final double[] zi = new double[this.n];
+      zr[0] = re[0];
+      for (int k = 1; k <= h; k++) {
+        zr[k] = re[k];
+        zi[k] = im[k];
+        zr[this.n - k] = re[k];
+        zi[this.n - k] = -im[k];
+      }
+      this.complex.inverse(zr, zi);
+      System.arraycopy(zr, 0, x, 0, this.n);
+      return;
+    }
+    final double[] zr = new double[h];
+    final double[] zi = new double[h];
+    for (int k = 0; k < h; k++) {
+      final double xr = re[k];
+      final double xi = k == 0 ? 0.0d : im[k];
+      final double cr = re[h - k];
+      final double ci = k == 0 ? 0.0d : -im[h - k];
+      final double er = 0.5d * (xr + cr);
+      final double ei = 0.5d * (xi + ci);
+      final double dr = 0.5d * (xr - cr);
+      final double di = 0.5d * (xi - ci);
+      // O = D * exp(2πi k / n)
+      final double or = dr * this.cos[k] + di * this.sin[k];
+      final double oi = di * this.cos[k] - dr * this.sin[k];
+      zr[k] = er - oi;
+      zi[k] = ei + or;
+    }
+    this.complex.inverse(zr, zi);
+    for (int k = 0; k < h; k++) {
+      x[2 * k] = zr[k];
+      x[2 * k + 1] = zi[k];
+    }
+  }
+
+  /**
+   * 実数列の全スペクトル(長さ n)を求める. 後半は X(n - k) = conj(X(k)) で埋める.
+   *
+   * @param x
+   *          長さ n の実数列
+   * @param re
+   *          スペクトルの実部を格納する長さ n の配列
+   * @param im
+   *          スペクトルの虚部を格納する長さ n の配列
+   * @exception IllegalArgumentException
+   *              配列の長さが一致しない場合
+   * @since 2026/10/18 19:58:06
+   */
+  public void forwardFull(final double[] x, final double[] re, final double[] im) {
+    if (re.length != this.n || im.length != this.n) {
+      throw new IllegalArgumentException("Array length must be equal to the FFT size.");
+    }
+    final int h = this.n / 2;
+    final double[] hr = new double[h + 1];
+    final double[] hi = new double[h + 1];
+    this.forward(x, hr, hi);
+    System.arraycopy(hr, 0, re, 0, h + 1);
+    System.arraycopy(hi, 0, im, 0, h + 1);
+    for (int k = h + 1; k < this.n; k++) {
+      re[k] = hr[this.n - k];
+      im[k] = -hi[this.n - k];
+    }
+  }
+
+  /**
+   * 配列の長さを確認する.
+   *
+   * @param x
+   *          実数列
+   * @param re
+   *          スペクトルの実部
+   * @param im
+   *          スペクトルの虚部
+   * @since 2026/10/18 19:58:06
+   */
+  private void check(final double[] x, final double[] re, final double[] im) {
+    if (x.length != this.n || re.length != this.n / 2 + 1 || im.length != this.n / 2 + 1) {
+      throw new IllegalArgumentException("Array length must agree with the FFT size.");
+    }
+  }
+}
@@ -0,0 +1,525 @@
+/**
+ * Created Date : 2026/10/18 21:12:40
+ */
+package name.sugawara.hiroshi.math.fft;
+
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * 固定したインパルス応答 h による逐次(ストリーミング)畳み込み・相互相関.
+ *
+ * <pre>
+ *  入力を任意の長さの断片で受け取り、入力と同じ数の出力 y(n) = Σ_k h(k) * x(n - k) を返す.
+ *  最初の入力より前の信号は 0 とみなす. 出力に遅延はなく、すべての断片を連結した入力を
+ *  Convolution.convolve で畳み込んだ結果の先頭部分と一致する.
+ *  畳み込みの末尾の h.length - 1 個が必要なら、長さ h.length - 1 の 0 を入力すればよい.
+ *
+ *  長さ N のFFTによる overlap-save 法で計算する. 直前の h.length - 1 個の入力を保持したバッファに
+ *  N - h.length + 1 個ずつ新しい入力を詰め、巡回畳み込みのうち折り返しのない部分を出力する.
+ *  ブロックが埋まる前に断片が終わった場合は、そこまでの入力で計算して出力し、
+ *  次の断片で同じブロックの残りを詰める. 断片を N - h.length + 1 個程度にすると効率が良い.
+ *  バッファは作成時に確保して使い回すため、必要なメモリは入力の総数によらず一定である.
+ *
+ *  実数のフィルタ(double[] から作ったもの)は double[] と DoubleBuffer を、
+ *  複素数のフィルタ(実部と虚部の配列から作ったもの)は実部と虚部の配列の組を入力とする.
+ *  状態を持つため、複数のスレッドから同時に使ってはならない.
+ * </pre>
+ *
+ * <pre>
+ *  StreamingConvolution filter = StreamingConvolution.convolver(h);
+ *  while (...) {
+ *    double[] y = filter.process(x);
+ *  }
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see Convolution
+ *
+ * Created Date : 2026/10/18 21:12:40
+ */
+public final strictfp class StreamingConvolution {
+
+  /**
+   * ブロックの長さを決めるときに想定する信号の長さ.
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  private static final int STREAM_LENGTH = 1 << 20;
+
+  /**
+   * インパルス応答の長さ.
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  private final int        length;
+
+  /**
+   * ブロックごとの新しい入力の数 N - length + 1.
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  private final int        step;
+
+  /**
+   * 実数のフィルタのFFT. 複素数のフィルタならnull.
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  private final RealFFT    realFFT;
+
+  /**
+   * 複素数のフィルタのFFT. 実数のフィルタならnull.
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  private final FFT        complexFFT;
+
+  /**
+   * インパルス応答のスペクトルの実部.
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  private final double[]   filterRe;
+
+  /**
+   * インパルス応答のスペクトルの虚部.
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  private final double[]   filterIm;
+
+  /**
+   * 入力のバッファの実部. 先頭 length - 1 個が直前のブロックの末尾である.
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  private final double[]   inputRe;
+
+  /**
+   * 入力のバッファの虚部. 実数のフィルタならnull.
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  private final double[]   inputIm;
+
+  /**
+   * スペクトル・出力の作業用配列の実部.
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  private final double[]   workRe;
+
+  /**
+   * スペクトル・出力の作業用配列の虚部.
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  private final double[]   workIm;
+
+  /**
+   * 実数のフィルタの逆変換の結果.
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  private final double[]   output;
+
+  /**
+   * DoubleBuffer の読み書きに使う配列.
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  private double[]         chunk;
+
+  /**
+   * 現在のブロックに詰めた入力の数.
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  private int              filled;
+
+  /**
+   * フィルタを作る.
+   *
+   * @param hr
+   *          インパルス応答の実部
+   * @param hi
+   *          インパルス応答の虚部. 実数のフィルタならnull
+   * @param reverse
+   *          h を逆順にする(相互相関)ならtrue
+   * @param size
+   *          FFTの長さ. 2の累乗で h の長さ以上
+   * @since 2026/10/18 21:12:40
+   */
+  private StreamingConvolution(final double[] hr, final double[] hi, final boolean reverse,
+      final int size) {
+    final int m = hr.length;
+    this.length = m;
+    this.step = size - m + 1;
+    this.inputRe = new double[size];
+    this.output = new double[size];
+    final double[] buffer = new double[size];
+    for (int k = 0; k < m; k++) {
+      buffer[k] = reverse ? hr[m - 1 - k] : hr[k];
+    }
+    if (hi == null) {
+      this.realFFT = RealFFT.getInstance(size);
+      this.complexFFT = null;
+      final int bins = this.realFFT.getSpectrumSize();
+      this.filterRe = new double[bins];
+      this.filterIm = new double[bins];
+      this.realFFT.forward(buffer, this.filterRe, this.filterIm);
+      this.inputIm = null;
+      this.workRe = new double[bins];
+      this.workIm = new double[bins];
+    } else {
+      this.realFFT = null;
+      this.complexFFT = FFT.getInstance(size);
+      this.filterRe = buffer;
+      this.filterIm = new double[size];
+      for (int k = 0; k < m; k++) {
+        this.filterIm[k] = reverse ? hi[m - 1 - k] : hi[k];
+      }
+      this.complexFFT.forward(this.filterRe, this.filterIm);
+      this.inputIm = new double[size];
+      this.workRe = new double[size];
+      this.workIm = new double[size];
+    }
+  }
+
+  /**
+   * h の長さに合ったFFTの長さを返す.
+   *
+   * @param m
+   *          h の長さ
+   * @return FFTの長さ
+   * @since 2026/10/18 21:12:40
+   */
+  private static int blockSize(final int m) {
+    if (m < 1) {
+      throw new IllegalArgumentException("Impulse response must not be empty.");
+    }
+    final int size = Convolution.blockSize(StreamingConvolution.STREAM_LENGTH, m);
+    if (size != 0) {
+      return size;
+    }
+    return Math.max(Integer.highestOneBit(Math.max(2 * m - 1, 1)) << 1, 64);
+  }
+
+  /**
+   * 実数のインパルス応答 h で畳み込むフィルタを作る.
+   *
+   * @param h
+   *          インパルス応答
+   * @return フィルタ
+   * @exception IllegalArgumentException
+   *              h が空の場合
+   * @since 2026/10/18 21:12:40
+   */
+  public static StreamingConvolution convolver(final double[] h) {
+    return new StreamingConvolution(h, null, false, StreamingConvolution.blockSize(h.length));
+  }
+
+  /**
+   * 実数の h との相互相関を計算するフィルタを作る. h を逆順にした畳み込みに等しい.
+   *
+   * @param h
+   *          システム
+   * @return フィルタ
+   * @exception IllegalArgumentException
+   *              h が空の場合
+   * @since 2026/10/18 21:12:40
+   */
+  public static StreamingConvolution correlator(final double[] h) {
+    return new StreamingConvolution(h, null, true, StreamingConvolution.blockSize(h.length));
+  }
+
+  /**
+   * 複素数のインパルス応答 h で畳み込むフィルタを作る.
+   *
+   * @param hr
+   *          インパルス応答の実部
+   * @param hi
+   *          インパルス応答の虚部
+   * @return フィルタ
+   * @exception IllegalArgumentException
+   *              h が空の場合、実部と虚部の長さが異なる場合
+   * @since 2026/10/18 21:12:40
+   */
+  public static StreamingConvolution convolver(final double[] hr, final double[] hi) {
+    StreamingConvolution.checkParts(hr, hi);
+    return new StreamingConvolution(hr, hi, false, StreamingConvolution.blockSize(hr.length));
+  }
+
+  /**
+   * 複素数の h との相互相関を計算するフィルタを作る. h を逆順にした畳み込みに等しく、共役はとらない.
+   *
+   * @param hr
+   *          システムの実部
+   * @param hi
+   *          システムの虚部
+   * @return フィルタ
+   * @exception IllegalArgumentException
+   *              h が空の場合、実部と虚部の長さが異なる場合
+   * @since 2026/10/18 21:12:40
+   */
+  public static StreamingConvolution correlator(final double[] hr, final double[] hi) {
+    StreamingConvolution.checkParts(hr, hi);
+    return new StreamingConvolution(hr, hi, true, StreamingConvolution.blockSize(hr.length));
+  }
+
+  /**
+   * 複素数列の実部と虚部の長さが等しいことを確認する.
+   *
+   * @param re
+   *          実部
+   * @param im
+   *          虚部
+   * @exception IllegalArgumentException
+   *              長さが異なる場合
+   * @since 2026/10/19 5:44:51
+   */
+  private static void checkParts(final double[] re, final double[] im) {
+    if (re.length != im.length) {
+      throw new IllegalArgumentException("The lengths of real and imaginary parts must agree.");
+    }
+  }
+
+  /**
+   * インパルス応答の長さを返す.
+   *
+   * @return インパルス応答の長さ
+   * @since 2026/10/18 21:12:40
+   */
+  public int getFilterLength() {
+    return this.length;
+  }
+
+  /**
+   * overlap-save のブロックで使うFFTの長さを返す.
+   *
+   * @return FFTの長さ
+   * @since 2026/10/18 21:12:40
+   */
+  public int getBlockSize() {
+    return this.inputRe.length;
+  }
+
+  /**
+   * 複素数のフィルタならtrueを返す.
+   *
+   * @return 複素数のフィルタならtrue
+   * @since 2026/10/18 21:12:40
+   */
+  public boolean isComplex() {
+    return this.complexFFT != null;
+  }
+
+  /**
+   * 保持している過去の入力を捨て、作成直後の状態に戻す.
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  public void reset() {
+    Arrays.fill(this.inputRe, 0.0d);
+    if (this.inputIm != null) {
+      Arrays.fill(this.inputIm, 0.0d);
+    }
+    this.filled = 0;
+  }
+
+  /**
+   * 実数の入力の断片を処理し、同じ長さの出力を返す.
+   *
+   * @param x
+   *          入力
+   * @return 出力
+   * @exception IllegalStateException
+   *              複素数のフィルタの場合
+   * @since 2026/10/18 21:12:40
+   */
+  public double[] process(final double[] x) {
+    final double[] y = new double[x.length];
+    this.process(x, 0, x.length, y, 0);
+    return y;
+  }
+
+  /**
+   * 実数の入力 x[offset] から length 個を処理し、出力を y[yOffset] から書き込む.
+   * offset と yOffset が等しければ x と y は同じ配列でもよい.
+   *
+   * @param x
+   *          入力
+   * @param offset
+   *          入力の先頭位置
+   * @param length
+   *          入力の数
+   * @param y
+   *          出力
+   * @param yOffset
+   *          出力の先頭位置
+   * @exception IllegalStateException
+   *              複素数のフィルタの場合
+   * @exception ArrayIndexOutOfBoundsException
+   *              範囲が配列の外にある場合
+   * @since 2026/10/18 21:12:40
+   */
+  public void process(final double[] x, final int offset, final int length, final double[] y,
+      final int yOffset) {
+    if (this.realFFT == null) {
+      throw new IllegalStateException("This filter expects complex input.");
+    }
+    StreamingConvolution.checkRange(x.length, offset, length);
+    StreamingConvolution.checkRange(y.length, yOffset, length);
+    final int history = this.length - 1;
+    int done = 0;
+    while (done < length) {
+      final int take = Math.min(length - done, this.step - this.filled);
+      final int start = history + this.filled;
+      System.arraycopy(x, offset + done, this.inputRe, start, take);
+      this.realFFT.forward(this.inputRe, this.workRe, this.workIm);
+      this.multiply(this.workRe.length);
+      this.realFFT.inverse(this.workRe, this.workIm, this.output);
+      System.arraycopy(this.output, start, y, yOffset + done, take);
+      done += take;
+      this.advance(take);
+    }
+  }
+
+  /**
+   * 実数の入力 in の残りをすべて処理し、出力を out に書き込む. 両方の位置は処理した数だけ進む.
+   *
+   * @param in
+   *          入力
+   * @param out
+   *          出力
+   * @exception BufferOverflowException
+   *              out の残りが in の残りより少ない場合
+   * @exception IllegalStateException
+   *              複素数のフィルタの場合
+   * @since 2026/10/18 21:12:40
+   */
+  public void process(final DoubleBuffer in, final DoubleBuffer out) {
+    if (out.remaining() < in.remaining()) {
+      throw new BufferOverflowException();
+    }
+    if (in.hasArray() && out.hasArray() && in.array() != out.array()) {
+      final int n = in.remaining();
+      this.process(in.array(), in.arrayOffset() + in.position(), n, out.array(),
+          out.arrayOffset() + out.position());
+      in.position(in.position() + n);
+      out.position(out.position() + n);
+      return;
+    }
+    if (this.chunk == null) {
+      this.chunk = new double[this.step];
+    }
+    while (in.hasRemaining()) {
+      final int n = Math.min(in.remaining(), this.chunk.length);
+      in.get(this.chunk, 0, n);
+      this.process(this.chunk, 0, n, this.chunk, 0);
+      out.put(this.chunk, 0, n);
+    }
+  }
+
+  /**
+   * 複素数の入力の断片を処理し、同じ長さの出力を返す.
+   *
+   * @param xr
+   *          入力の実部
+   * @param xi
+   *          入力の虚部
+   * @return {実部, 虚部}
+   * @exception IllegalArgumentException
+   *              実部と虚部の長さが異なる場合
+   * @exception IllegalStateException
+   *              実数のフィルタの場合
+   * @since 2026/10/18 21:12:40
+   */
+  public double[][] process(final double[] xr, final double[] xi) {
+    if (this.complexFFT == null) {
+      throw new IllegalStateException("This filter expects real input.");
+    }
+    StreamingConvolution.checkParts(xr, xi);
+    final double[] re = xr.clone();
+    final double[] im = xi.clone();
+    final int history = this.length - 1;
+    final int size = this.inputRe.length;
+    int done = 0;
+    while (done < re.length) {
+      final int take = Math.min(re.length - done, this.step - this.filled);
+      final int start = history + this.filled;
+      System.arraycopy(re, done, this.inputRe, start, take);
+      System.arraycopy(im, done, this.inputIm, start, take);
+      System.arraycopy(this.inputRe, 0, this.workRe, 0, size);
+      System.arraycopy(this.inputIm, 0, this.workIm, 0, size);
+      this.complexFFT.forward(this.workRe, this.workIm);
+      this.multiply(size);
+      this.complexFFT.inverse(this.workRe, this.workIm);
+      System.arraycopy(this.workRe, start, re, done, take);
+      System.arraycopy(this.workIm, start, im, done, take);
+      done += take;
+      this.advance(take);
+    }
+    return new double[][] { re, im };
+  }
+
+  /**
+   * 作業用配列のスペクトルにインパルス応答のスペクトルを掛ける.
+   *
+   * @param bins
+   *          スペクトルの長さ
+   * @since 2026/10/18 21:12:40
+   */
+  private void multiply(final int bins) {
+    final double[] sr = this.workRe;
+    final double[] si = this.workIm;
+    final double[] fr = this.filterRe;
+    final double[] fi = this.filterIm;
+    for (int k = 0; k < bins; k++) {
+      final double re = sr[k] * fr[k] - si[k] * fi[k];
+      si[k] = sr[k] * fi[k] + si[k] * fr[k];
+      sr[k] = re;
+    }
+  }
+
+  /**
+   * 詰めた入力の数を進め、ブロックが埋まったら末尾の length - 1 個を先頭に移す.
+   * 先頭より後ろに残った古い値は折り返しのない出力に影響しないため消さない.
+   *
+   * @param take
+   *          詰めた入力の数
+   * @since 2026/10/18 21:12:40
+   */
+  private void advance(final int take) {
+    this.filled += take;
+    if (this.filled == this.step) {
+      final int history = this.length - 1;
+      System.arraycopy(this.inputRe, this.step, this.inputRe, 0, history);
+      if (this.inputIm != null) {
+        System.arraycopy(this.inputIm, this.step, this.inputIm, 0, history);
+      }
+      this.filled = 0;
+    }
+  }
+
+  /**
+   * 範囲が配列の中にあることを確認する.
+   *
+   * @param arrayLength
+   *          配列の長さ
+   * @param offset
+   *          先頭位置
+   * @param length
+   *          数
+   * @since 2026/10/18 21:12:40
+   */
+  private static void checkRange(final int arrayLength, final int offset, final int length) {
+    if (offset < 0 || length < 0 || offset > arrayLength - length) {
+      throw new ArrayIndexOutOfBoundsException("Range [" + offset + ", " + offset + " + "
+          + length + ") is out of bounds for length " + arrayLength + ".");
+    }
+  }
+}
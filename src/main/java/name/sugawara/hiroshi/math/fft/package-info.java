@@ -0,0 +1,4 @@
+/**
+ * 高速フーリエ変換(FFT)を提供する. 複素数は実部と虚部を別々の配列で扱う.
+ */
+package name.sugawara.hiroshi.math.fft;
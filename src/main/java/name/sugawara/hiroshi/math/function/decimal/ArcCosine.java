@@ -2,7 +2,6 @@ package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
 
-import name.sugawara.hiroshi.math.constant.Constant;
 import name.sugawara.hiroshi.math.function.object.FunctionOfSingleVariable;
 import name.sugawara.hiroshi.math.precision.Precision;
 
@@ -20,7 +19,7 @@ public strictfp class ArcCosine implements
   /**
    * 精度.
    */
-  private Precision precision;
+  private final Precision precision;
 
   /**
    * 精度を指定する.
@@ -33,52 +32,25 @@ public strictfp class ArcCosine implements
   }
 
   /**
-   * {@Link BigDecimal}でアークコサイン(逆余弦)関数 {@code acos(x)} を求める.
-   *
-   * @param argument
-   *          ラジアンで表した BigDecimal型の角度
-   * @param p
-   *          誤差
-   * @return 引数の逆余弦 (アークコサイン)をBigDecimal 型で返す
-   */
-  private static BigDecimal acos(final BigDecimal argument, final Precision p) {
-    final Constant c = new Constant(p);
-    BigDecimal result;
-
-    if (argument.compareTo(BigDecimal.ZERO) == 0) {
-      result = c.pi().multiply(new BigDecimal("0.5"));
-    } else if (argument.compareTo(BigDecimal.ONE) == 0) {
-      result = BigDecimal.ZERO;
-    } else if (argument.compareTo(BigDecimal.ONE.negate()) == 0) {
-      result = c.pi();
-    } else if (argument.abs().compareTo(BigDecimal.ONE) == 1) {
-      throw new ArithmeticException(
-          "The expression is Not a Number. This method"
-              + " ArcSine.asin() cannot operate the complex"
-              + " numbers. The value of an argument must be"
-              + " the range of |a| <= 1.");
-    } else {
-      final ArcSine asin = new ArcSine(p);
-      result = asin.getDependentVariable(argument).negate().add(
-          c.pi().multiply(new BigDecimal("0.5")));
-    }
-    return result;
-  }
-
-  /**
-   * 指定された角度の逆余弦 (アークコサイン) を返す. <br />
+   * 指定された値の逆余弦 (アークコサイン) を返す. <br />
    * 引数の値が-1から1までの範囲外のとき、ArithmeticExceptionを返す。
    *
+   * <pre>
+   *  acos(x) = 2 atan(sqrt((1 - x) / (1 + x))) で、x が 1 に近く結果が 0 に近くても桁落ちしない.
+   *  以前のバージョンは acos(x) ではなく asin(x) を返していた.
+   * </pre>
+   *
    * @param argument
-   *          ラジアンで表した BigDecimal型の角度
+   *          -1 以上 1 以下の BigDecimal型の値
    * @return 逆余弦 (アークコサイン)
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
    * @see FunctionOfSingleVariable#getDependentVariable(Number)
+   * @see InverseTrigonometric
    */
   @Override
   public final BigDecimal getDependentVariable(final BigDecimal argument) {
-
-    return ArcCosine.acos(argument, this.precision);
-
+    return InverseTrigonometric.acos(argument, this.precision.getMathContext());
   }
 
 }
@@ -2,7 +2,6 @@ package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
 
-import name.sugawara.hiroshi.math.constant.Constant;
 import name.sugawara.hiroshi.math.function.object.FunctionOfSingleVariable;
 import name.sugawara.hiroshi.math.precision.Precision;
 
@@ -23,7 +22,7 @@ public strictfp class ArcSine implements FunctionOfSingleVariable<BigDecimal, Bi
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision precision;
+  private final Precision precision;
 
   /**
    * 精度を指定する.
@@ -36,54 +35,24 @@ public strictfp class ArcSine implements FunctionOfSingleVariable<BigDecimal, Bi
   }
 
   /**
-   * 計算する.
+   * 指定された値の逆正弦 (アークサイン) を返す.
    *
-   * @param argument
-   *          ラジアンで表した BigDecimal型の角度
-   * @return 引数の逆余弦 (アークコサイン)をBigDecimal 型で返す
-   */
-  @Override
-  public final BigDecimal getDependentVariable(final BigDecimal argument) {
-
-    final Constant c = new Constant(this.precision);
-    return ArcSine.asin(argument, this.precision).negate().add(
-        c.pi().multiply(new BigDecimal("0.5")));
-  }
-
-  /**
-   * 指定された角度の逆正弦 (アークサイン) を返す. 引数の値が-1から1までの範囲外のとき、ArithmeticExceptionを返す.
+   * <pre>
+   *  asin(x) = atan(x / sqrt(1 - x^2)) で、1 - x^2 は丸めずに求める.
+   *  以前のバージョンは asin(x) ではなく π/2 - asin(x) (逆余弦) を返していた.
+   * </pre>
    *
    * @param argument
-   *          ラジアンで表した BigDecimal型の角度
-   * @param p
-   *          誤差
+   *          -1 以上 1 以下の BigDecimal型の値
    * @return 引数の逆正弦 (アークサイン)をBigDecimal 型で返す
-   * @since 1.1
+   * @exception ArithmeticException
+   *              引数の値が-1から1までの範囲外の場合
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @see InverseTrigonometric
    */
-  private static BigDecimal asin(final BigDecimal argument, final Precision p) {
-    final Constant c = new Constant(p);
-
-    BigDecimal result;
-    if (argument.compareTo(BigDecimal.ZERO) == 0) {
-      result = BigDecimal.ZERO;
-    } else if (argument.compareTo(BigDecimal.ONE) == 0) {
-      result = c.pi().multiply(new BigDecimal("0.5"));
-    } else if (argument.compareTo(BigDecimal.ONE.negate()) == 0) {
-      result = c.pi().multiply(new BigDecimal("0.5")).negate();
-    } else if (argument.abs().compareTo(BigDecimal.ONE) == 1) {
-      throw new ArithmeticException("The expression is Not a Number. This method ArcSine.asin()"
-          + " cannot operate the complex numbers. The value of an argument"
-          + " must be the range of |a| <= 1.");
-    } else {
-
-      final BigDecimal a2 = argument.multiply(argument);
-      final BigDecimal oneSubA2 = BigDecimal.ONE.subtract(a2);
-
-      final ArcTangent atan = new ArcTangent(p);
-      final SquareRoot sqrt = new SquareRoot(p);
-      result = atan.getDependentVariable(
-      argument.divide(sqrt.getDependentVariable(oneSubA2), p.getMathContext()));
-    }
-    return result;
+  @Override
+  public final BigDecimal getDependentVariable(final BigDecimal argument) {
+    return InverseTrigonometric.asin(argument, this.precision.getMathContext());
   }
 }
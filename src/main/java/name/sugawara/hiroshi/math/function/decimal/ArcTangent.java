@@ -1,11 +1,8 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
 
-import name.sugawara.hiroshi.math.constant.Constant;
 import name.sugawara.hiroshi.math.function.object.FunctionOfSingleVariable;
-import name.sugawara.hiroshi.math.precision.NandEpsilon;
 import name.sugawara.hiroshi.math.precision.Precision;
 
 /**
@@ -25,7 +22,7 @@ public final strictfp class ArcTangent implements FunctionOfSingleVariable<BigDe
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision precision;
+  private final Precision precision;
 
   /**
    * 精度を指定する.
@@ -38,70 +35,22 @@ public final strictfp class ArcTangent implements FunctionOfSingleVariable<BigDe
   }
 
   /**
-   * 指定された角度の逆正接 (アークタンジェント) を返す.
+   * 指定された値の逆正接 (アークタンジェント) を返す.
+   *
+   * <pre>
+   *  固定した項数の連分数ではなく、引数を半分にしてから級数で求める. 項数は精度から決まり、
+   *  結果は精度の MathContext で正しく丸めた値である.
+   * </pre>
    *
    * @param argument
    *          引数
    * @return 引数の逆正接 (アークタンジェント)をBigDecimal 型で返す
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @see InverseTrigonometric
    */
   @Override
   public BigDecimal getDependentVariable(final BigDecimal argument) {
-    return ArcTangent.atan(argument, this.precision);
-  }
-
-  /**
-   * 指定された角度の逆正接 (アークタンジェント) を返す.
-   *
-   * @param argument
-   *          引数
-   * @param p
-   *          誤差
-   * @return 引数の逆正接 (アークタンジェント)をBigDecimal 型で返す
-   */
-  private static BigDecimal atan(final BigDecimal argument, final Precision p) {
-    BigDecimal arg = argument;
-
-    final BigDecimal zero = BigDecimal.ZERO;
-    final BigDecimal one = BigDecimal.ONE;
-    final BigDecimal two = new BigDecimal("2.0");
-    int sign;
-    BigDecimal result;
-
-    if (argument.compareTo(zero) == 0) {
-      return zero;
-    } else if (arg.compareTo(one) > 0) {
-      sign = 1;
-      arg = one.divide(arg, p.getMathContext());
-    } else if (arg.compareTo(one.negate()) < 0) {
-      sign = -1;
-      arg = one.divide(arg, p.getMathContext());
-    } else {
-      sign = 0;
-    }
-
-    final BigInteger number = ((NandEpsilon) p).getN();
-
-    BigDecimal a = zero;
-    BigDecimal numerator;
-    BigDecimal denominator;
-    BigDecimal squareI;
-    for (BigInteger i = number; i.compareTo(BigInteger.ONE) >= 0; i = i.subtract(BigInteger.ONE)) {
-      squareI = new BigDecimal(i.multiply(i));
-      numerator = squareI.multiply(arg).multiply(arg);
-      denominator = two.multiply(new BigDecimal(i)).add(one).add(a);
-      a = numerator.divide(denominator, p.getMathContext());
-    }
-    final Constant c = new Constant(p);
-
-    final BigDecimal ninty = c.pi().multiply(new BigDecimal("0.5"));
-
-    if (sign > 0) {
-      result = ninty.subtract(arg.divide(one.add(a), p.getMathContext()));
-    } else if (sign < 0) {
-      result = ninty.negate().subtract(arg.divide(one.add(a), p.getMathContext()));
-    } else {
-      result = arg.divide(one.add(a), p.getMathContext());
-    }
-    return result;
+    return InverseTrigonometric.atan(argument, this.precision.getMathContext());
   }
 }
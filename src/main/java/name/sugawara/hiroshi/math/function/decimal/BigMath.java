@@ -7,6 +7,12 @@ import name.sugawara.hiroshi.math.precision.Precision;
 
 /**
  * 各種数学関数を任意精度で求める. <br/>Facadeパターンを適用.
+ *
+ * <pre>
+ *  関数オブジェクトは精度ごとに一度だけ生成して共有し、呼び出しごとには生成しない.
+ *  π / 2, 3π / 2, 2π, ln 2 などの定数も精度ごとに一度だけ求める.
+ *  同じインスタンスを複数のスレッドから同時に使ってよい.
+ * </pre>
  * 
  * @author Hiroshi Sugawara
  * @version $Id: BigMath.java 109 2010-06-13 04:26:48Z sugawara $
@@ -15,12 +21,11 @@ import name.sugawara.hiroshi.math.precision.Precision;
 public final strictfp class BigMath {
 
   /**
-   * 精度.
-   * 
-   * @uml.property name="precision"
-   * @uml.associationEnd multiplicity="(1 1)"
+   * 精度ごとに共有する関数オブジェクト.
+   *
+   * @since 2026/10/19 0:31:08
    */
-  private Precision precision;
+  private final DecimalFunctions functions;
 
   /**
    * デフォルトコンストラクタ使用禁止.
@@ -29,7 +34,7 @@ public final strictfp class BigMath {
    */
   @SuppressWarnings("unused")
   private BigMath() {
-    // Empty block.
+    this.functions = null;
   }
 
   /**
@@ -40,7 +45,9 @@ public final strictfp class BigMath {
    * @since 2004/08/03
    */
   public BigMath(final Precision precision) {
-    this.precision = precision;
+    // BigComplex の定数のように精度が null のまま生成される場合があるため、
+    // null のときは従来どおり関数を使う時点で例外にする.
+    this.functions = precision == null ? null : DecimalFunctions.of(precision);
   }
 
   /**
@@ -52,8 +59,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal exp(final BigDecimal exponent) {
-    final Exponent exp = new Exponent(this.precision);
-    return exp.getDependentVariable(exponent);
+    return this.functions.exp.getDependentVariable(exponent);
   }
 
   /**
@@ -67,9 +73,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal pow(final BigDecimal base, final BigDecimal exponent) {
-
-    final PowerOfDecimal pow = new PowerOfDecimal(this.precision);
-    return pow.getDependentVariable(base, exponent);
+    return this.functions.powerOfDecimal.getDependentVariable(base, exponent);
   }
 
   /**
@@ -83,8 +87,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal pow(final BigDecimal base, final BigInteger exponent) {
-    final Power pow = new Power(this.precision);
-    return pow.getDependentVariable(base, exponent);
+    return this.functions.power.getDependentVariable(base, exponent);
   }
 
   /**
@@ -96,8 +99,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal sin(final BigDecimal argument) {
-    final Sine sin = new Sine(this.precision);
-    return sin.getDependentVariable(argument);
+    return this.functions.sin.getDependentVariable(argument);
   }
 
   /**
@@ -109,8 +111,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal cos(final BigDecimal argument) {
-    final Cosine cos = new Cosine(this.precision);
-    return cos.getDependentVariable(argument);
+    return this.functions.cos.getDependentVariable(argument);
   }
 
   /**
@@ -122,8 +123,20 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal tan(final BigDecimal argument) {
-    final Tangent tan = new Tangent(this.precision);
-    return tan.getDependentVariable(argument);
+    return this.functions.tan.getDependentVariable(argument);
+  }
+
+  /**
+   * 指定された角度の正弦 (サイン) と余弦 (コサイン) を一度に求める.
+   * 引数の還元とテイラー展開が1回で済むため、sin と cos を別々に呼ぶよりも速い.
+   * 
+   * @param argument
+   *          ラジアンで表した角度
+   * @return {sin(argument), cos(argument)}
+   * @since 2026/10/19 3:36:52
+   */
+  public BigDecimal[] sincos(final BigDecimal argument) {
+    return Trigonometric.sincos(argument, this.functions.precision.getMathContext());
   }
 
   /**
@@ -135,8 +148,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal asin(final BigDecimal argument) {
-    final ArcSine asin = new ArcSine(this.precision);
-    return asin.getDependentVariable(argument);
+    return this.functions.asin.getDependentVariable(argument);
   }
 
   /**
@@ -148,8 +160,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal acos(final BigDecimal argument) {
-    final ArcCosine acos = new ArcCosine(this.precision);
-    return acos.getDependentVariable(argument);
+    return this.functions.acos.getDependentVariable(argument);
   }
 
   /**
@@ -161,8 +172,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal atan(final BigDecimal argument) {
-    final ArcTangent atan = new ArcTangent(this.precision);
-    return atan.getDependentVariable(argument);
+    return this.functions.atan.getDependentVariable(argument);
   }
 
   /**
@@ -176,8 +186,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal atan2(final BigDecimal y, final BigDecimal x) {
-    final FourQuadrantArcTangent atan2 = new FourQuadrantArcTangent(this.precision);
-    return atan2.getDependentVariable(y, x);
+    return this.functions.atan2.getDependentVariable(y, x);
   }
 
   /**
@@ -189,8 +198,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal sinh(final BigDecimal argument) {
-    final HyperbolicCosine sinh = new HyperbolicCosine(this.precision);
-    return sinh.getDependentVariable(argument);
+    return this.functions.sinh.getDependentVariable(argument);
   }
 
   /**
@@ -202,8 +210,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal cosh(final BigDecimal argument) {
-    final HyperbolicCosine cosh = new HyperbolicCosine(this.precision);
-    return cosh.getDependentVariable(argument);
+    return this.functions.cosh.getDependentVariable(argument);
   }
 
   /**
@@ -215,8 +222,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal tanh(final BigDecimal argument) {
-    final HyperbolicTangent tanh = new HyperbolicTangent(this.precision);
-    return tanh.getDependentVariable(argument);
+    return this.functions.tanh.getDependentVariable(argument);
   }
 
   /**
@@ -228,8 +234,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal asinh(final BigDecimal argument) {
-    final InverseHyperbolicSine asinh = new InverseHyperbolicSine(this.precision);
-    return asinh.getDependentVariable(argument);
+    return this.functions.asinh.getDependentVariable(argument);
   }
 
   /**
@@ -241,8 +246,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal acosh(final BigDecimal argument) {
-    final InverseHyperbolicCosine acosh = new InverseHyperbolicCosine(this.precision);
-    return acosh.getDependentVariable(argument);
+    return this.functions.acosh.getDependentVariable(argument);
   }
 
   /**
@@ -254,8 +258,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal atanh(final BigDecimal argument) {
-    final InverseHyperbolicTangent atanh = new InverseHyperbolicTangent(this.precision);
-    return atanh.getDependentVariable(argument);
+    return this.functions.atanh.getDependentVariable(argument);
   }
 
   /**
@@ -267,8 +270,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal log(final BigDecimal a) {
-    final Log log = new Log(this.precision);
-    return log.getDependentVariable(a);
+    return this.functions.log.getDependentVariable(a);
   }
 
   /**
@@ -280,8 +282,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal log2(final BigDecimal x) {
-    final Log2 log2 = new Log2(this.precision);
-    return log2.getDependentVariable(x);
+    return this.functions.log2.getDependentVariable(x);
   }
 
   /**
@@ -293,13 +294,11 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal log10(final BigDecimal x) {
-    final Log10 log10 = new Log10(this.precision);
-    return log10.getDependentVariable(x);
+    return this.functions.log10.getDependentVariable(x);
   }
 
   /**
-   * 直角三角形の斜辺の(hypotenuse)の長さをBigDecimal型で返す C. B. Moler and D. Morrison
-   * による方法を適用している. 演算繰り返し数は単精度で2,倍精度で3でよい.
+   * 直角三角形の斜辺の(hypotenuse)の長さをBigDecimal型で返す.
    * 
    * @param x
    *          x 斜辺でない一方の辺
@@ -309,13 +308,11 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal hypot2(final BigDecimal x, final BigDecimal y) {
-    final Hypotenuse hypot2 = new Hypotenuse(this.precision);
-    return hypot2.getDependentVariable(x, y);
+    return this.functions.hypot2.getDependentVariable(x, y);
   }
 
   /**
-   * 平方根をBigDecimal型で求める. <br />
-   * 許容誤差を10の-6乗以下にするとdouble型以上の精度を得られる.
+   * 平方根をBigDecimal型で求める.
    * 
    * @param x
    *          値
@@ -323,8 +320,7 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal sqrt(final BigDecimal x) {
-    final SquareRoot sqrt = new SquareRoot(this.precision);
-    return sqrt.getDependentVariable(x);
+    return this.functions.sqrt.getDependentVariable(x);
   }
 
   /**
@@ -337,7 +333,6 @@ public final strictfp class BigMath {
    * @since 1.1
    */
   public BigDecimal cbrt(final BigDecimal a) {
-    final CubeRoot cubeRoot = new CubeRoot(this.precision);
-    return cubeRoot.getDependentVariable(a);
+    return this.functions.cbrt.getDependentVariable(a);
   }
 }
@@ -1,9 +1,7 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
-import java.math.MathContext;
 
-import name.sugawara.hiroshi.math.constant.Constant;
 import name.sugawara.hiroshi.math.function.object.FunctionOfSingleVariable;
 import name.sugawara.hiroshi.math.precision.Precision;
 
@@ -24,7 +22,7 @@ public final strictfp class Cosine implements FunctionOfSingleVariable<BigDecima
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision precision;
+  private final Precision precision;
 
   /**
    * 精度を指定する.
@@ -74,59 +72,20 @@ public final strictfp class Cosine implements FunctionOfSingleVariable<BigDecima
   //
   // return (BigDecimal)sin.getDependentVariable(argument.add(ninty));
   // }
-  /**
-   * 1から指定された角度の余弦 (コサイン) を引いた値を返す。 1 - cos(argument) を返す.
-   *
-   * @param argument
-   *          ラジアンで表した BigDecimal型の角度
-   * @param p
-   *          誤差
-   * @return 1 から引数の余弦 (コサイン)を引いた値を BigDecimal 型で返す
-   */
-  private static BigDecimal oneDivideCos(final BigDecimal argument, final Precision p) {
-    BigDecimal result;
-    final MathContext mc = p.getMathContext();
-    final Constant c = new Constant(p);
-
-    final BigDecimal one = BigDecimal.ONE;
-    final BigDecimal two = new BigDecimal("2.0");
-    // BigDecimal four = new BigDecimal("4.0");
-
-    // BigDecimal fourtyFive = Constant.pi(p).divide(four, mc);
-    final BigDecimal ninty = c.pi().divide(two, mc);
-    final BigDecimal pi = c.pi();
-    final BigDecimal twoHundredAndSeventy = c.pi().multiply(new BigDecimal("3.0")).divide(two, mc);
-
-    final BigDecimal cycle = pi.multiply(two);
-
-    if (argument.compareTo(BigDecimal.ZERO) == 0 || argument.compareTo(cycle) == 0) {
-      result = BigDecimal.ZERO;
-    } else if (argument.compareTo(ninty) == 0 || argument.compareTo(twoHundredAndSeventy) == 0) {
-      result = BigDecimal.ONE;
-    } else if (argument.compareTo(pi) == 0) {
-      result = two;
-    } else {
-
-      final Tangent tangent = new Tangent(p);
-      BigDecimal tan = tangent.getDependentVariable(argument.divide(two, mc));
-      tan = tan.multiply(tan);
-      final BigDecimal numerator = two.multiply(tan);
-      final BigDecimal denominator = tan.add(one);
-      result = numerator.divide(denominator, mc);
-
-    }
-    return result;
-  }
-
   /**
    * 指定された角度の余弦 (コサイン) を返す.
    *
+   * 以前のバージョンは cos(x) ではなく 1 - cos(x) を返していた.
+   *
    * @param argument
    *          ラジアンで表した BigDecimal型の角度
    * @return 引数の余弦 (コサイン)をBigDecimal 型で返す
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @see Trigonometric
    */
   @Override
   public BigDecimal getDependentVariable(final BigDecimal argument) {
-    return Cosine.oneDivideCos(argument, this.precision);
+    return Trigonometric.cos(argument, this.precision.getMathContext());
   }
 }
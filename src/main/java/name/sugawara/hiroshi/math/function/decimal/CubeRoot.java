@@ -1,10 +1,8 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
-import java.math.MathContext;
 
 import name.sugawara.hiroshi.math.function.object.FunctionOfSingleVariable;
-import name.sugawara.hiroshi.math.precision.NandEpsilon;
 import name.sugawara.hiroshi.math.precision.Precision;
 
 /**
@@ -25,7 +23,7 @@ public class CubeRoot implements FunctionOfSingleVariable<BigDecimal, BigDecimal
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision precision;
+  private final Precision precision;
 
   /**
    * 精度を指定する.
@@ -44,52 +42,14 @@ public class CubeRoot implements FunctionOfSingleVariable<BigDecimal, BigDecimal
    *
    * このメソッドでは虚数解を返さない.
    *
+   * Math.cbrt() の値を初期値とし、作業精度を2倍ずつ増やすニュートン法で求める.
+   *
    * @param argument
    *          値
    * @return aの立方根のうち実数解を返す
    */
   @Override
   public final BigDecimal getDependentVariable(final BigDecimal argument) {
-    return CubeRoot.cubeRoot(argument, this.precision);
-  }
-
-  /**
-   * 立方根を実数の範囲内でBigDecimal型で求める. <br />
-   * 値が負のとき、正のときの結果に符号をつけたものが返される。 このメソッドでは虚数解を返さない。
-   *
-   * @param a
-   *          値
-   * @param p
-   *          誤差
-   * @return aの立方根のうち実数解を返す
-   */
-  private static BigDecimal cubeRoot(final BigDecimal a, final Precision p) {
-    BigDecimal result;
-
-    if (a.compareTo(BigDecimal.ZERO) == 0) {
-      result = BigDecimal.ZERO;
-    } else if (a.compareTo(BigDecimal.ONE) == 0) {
-      result = BigDecimal.ONE;
-    } else {
-
-      final BigDecimal two = new BigDecimal("2.0");
-      final BigDecimal three = new BigDecimal("3.0");
-      BigDecimal x1;
-      BigDecimal x2;
-      x1 = a;
-      final NandEpsilon castedP = (NandEpsilon) p;
-
-      final BigDecimal eps = castedP.getEpsilon();
-      final MathContext mc = p.getMathContext();
-      x2 = (two.multiply(x1).add(a.divide(x1.multiply(x1), mc))).divide(three, mc);
-
-      while (x2.subtract(x1).abs().compareTo(eps) == 1) {
-        x1 = x2;
-        x2 = (two.multiply(x1).add(a.divide(x1.multiply(x1), mc))).divide(three, mc);
-      }
-
-      result = x2;
-    }
-    return result;
+    return NewtonRoot.cbrt(argument, this.precision.getMathContext());
   }
 }
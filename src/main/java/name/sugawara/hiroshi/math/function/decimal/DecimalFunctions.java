@@ -0,0 +1,265 @@
+/**
+ * Created Date : 2026/10/19 0:31:08
+ */
+package name.sugawara.hiroshi.math.function.decimal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import name.sugawara.hiroshi.math.precision.Precision;
+
+/**
+ * BigMath が使う関数オブジェクトを Precision ごとにまとめたもの.
+ *
+ * <pre>
+ *  関数オブジェクトは状態を持たない(定数を一度だけ求めて保持するのみ)ため、
+ *  複数のスレッドから同時に使ってよい. 同じ Precision のインスタンスを最大 MAX_ENTRIES 個まで共有し、
+ *  BigMath を生成するたびに関数オブジェクトを生成し直さないようにする.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see BigMath
+ *
+ * Created Date : 2026/10/19 0:31:08
+ */
+final strictfp class DecimalFunctions {
+
+  /**
+   * 保持するインスタンスの最大数. 超えたら捨てて作り直す.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  private static final int MAX_ENTRIES = 32;
+
+  /**
+   * Precision ごとのインスタンス.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  private static final ConcurrentMap<Precision, DecimalFunctions> CACHE =
+      new ConcurrentHashMap<Precision, DecimalFunctions>();
+
+  /**
+   * 精度.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final Precision                precision;
+
+  /**
+   * 指数関数.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final Exponent                 exp;
+
+  /**
+   * 実数乗.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final PowerOfDecimal           powerOfDecimal;
+
+  /**
+   * 整数乗.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final Power                    power;
+
+  /**
+   * 正弦.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final Sine                     sin;
+
+  /**
+   * 余弦.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final Cosine                   cos;
+
+  /**
+   * 正接.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final Tangent                  tan;
+
+  /**
+   * 逆正弦.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final ArcSine                  asin;
+
+  /**
+   * 逆余弦.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final ArcCosine                acos;
+
+  /**
+   * 逆正接.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final ArcTangent               atan;
+
+  /**
+   * 4象限逆正接.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final FourQuadrantArcTangent   atan2;
+
+  /**
+   * 双曲線正弦.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final HyperbolicSine           sinh;
+
+  /**
+   * 双曲線余弦.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final HyperbolicCosine         cosh;
+
+  /**
+   * 双曲線正接.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final HyperbolicTangent        tanh;
+
+  /**
+   * 逆双曲線正弦.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final InverseHyperbolicSine    asinh;
+
+  /**
+   * 逆双曲線余弦.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final InverseHyperbolicCosine  acosh;
+
+  /**
+   * 逆双曲線正接.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final InverseHyperbolicTangent atanh;
+
+  /**
+   * 自然対数.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final Log                      log;
+
+  /**
+   * 2進対数.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final Log2                     log2;
+
+  /**
+   * 常用対数.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final Log10                    log10;
+
+  /**
+   * 斜辺の長さ.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final Hypotenuse               hypot2;
+
+  /**
+   * 平方根.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final SquareRoot               sqrt;
+
+  /**
+   * 立方根.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  final CubeRoot                 cbrt;
+
+  /**
+   * 関数オブジェクトを生成する. 定数はそれぞれの関数を初めて使うときに求める.
+   *
+   * @param precision
+   *          精度
+   * @since 2026/10/19 0:31:08
+   */
+  private DecimalFunctions(final Precision precision) {
+    this.precision = precision;
+    this.exp = new Exponent(precision);
+    this.powerOfDecimal = new PowerOfDecimal(precision);
+    this.power = new Power(precision);
+    this.sin = new Sine(precision);
+    this.cos = new Cosine(precision);
+    this.tan = new Tangent(precision);
+    this.asin = new ArcSine(precision);
+    this.acos = new ArcCosine(precision);
+    this.atan = new ArcTangent(precision);
+    this.atan2 = new FourQuadrantArcTangent(precision);
+    this.sinh = new HyperbolicSine(precision);
+    this.cosh = new HyperbolicCosine(precision);
+    this.tanh = new HyperbolicTangent(precision);
+    this.asinh = new InverseHyperbolicSine(precision);
+    this.acosh = new InverseHyperbolicCosine(precision);
+    this.atanh = new InverseHyperbolicTangent(precision);
+    this.log = new Log(precision);
+    this.log2 = new Log2(precision);
+    this.log10 = new Log10(precision);
+    this.hypot2 = new Hypotenuse(precision);
+    this.sqrt = new SquareRoot(precision);
+    this.cbrt = new CubeRoot(precision);
+  }
+
+  /**
+   * 精度 precision の関数オブジェクトを返す.
+   *
+   * <pre>
+   *  Precision の equals は対称とは限らない(上位クラスの equals が下位クラスのインスタンスと
+   *  等しいと判定することがある)ため、互いに等しい場合だけキャッシュしたものを返す.
+   * </pre>
+   *
+   * @param precision
+   *          精度
+   * @return 関数オブジェクト
+   * @since 2026/10/19 0:31:08
+   */
+  static DecimalFunctions of(final Precision precision) {
+    final DecimalFunctions cached = DecimalFunctions.CACHE.get(precision);
+    if (cached != null && cached.precision.equals(precision)) {
+      return cached;
+    }
+    final DecimalFunctions functions = new DecimalFunctions(precision);
+    if (cached != null) {
+      return functions;
+    }
+    if (DecimalFunctions.CACHE.size() >= DecimalFunctions.MAX_ENTRIES) {
+      DecimalFunctions.CACHE.clear();
+    }
+    final DecimalFunctions previous = DecimalFunctions.CACHE.putIfAbsent(precision, functions);
+    return previous == null || !previous.precision.equals(precision) ? functions : previous;
+  }
+}
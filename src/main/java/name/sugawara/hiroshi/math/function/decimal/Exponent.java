@@ -3,14 +3,20 @@ package name.sugawara.hiroshi.math.function.decimal;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
+import java.math.RoundingMode;
 
-import name.sugawara.hiroshi.math.function.integer.BigIntegerMath;
+import name.sugawara.hiroshi.math.constant.ConstantCache;
 import name.sugawara.hiroshi.math.function.object.FunctionOfSingleVariable;
-import name.sugawara.hiroshi.math.precision.NandEpsilon;
 import name.sugawara.hiroshi.math.precision.Precision;
 
 /**
  * 自然対数の底 (base of natural logarithm) の累乗.
+ *
+ * <pre>
+ *  x = k ln 2 + y (|y| &lt;= ln 2 / 2) と分解し、y を 2^r で割ってからテイラー展開し、
+ *  r 回2乗してから 2^k 倍する. ln 2 は ConstantCache から必要な桁数で得る.
+ *  項数は Precision の項数ではなく MathContext の精度から決まる.
+ * </pre>
  * 
  * @author Hiroshi Sugawara
  * @version 0.1
@@ -21,11 +27,11 @@ import name.sugawara.hiroshi.math.precision.Precision;
 public final strictfp class Exponent implements FunctionOfSingleVariable<BigDecimal, BigDecimal> {
 
   /**
-   * 計算用実数2.
-   * 
-   * @since 2006/07/19 21:52:57
+   * 要求された桁数に加えて計算する桁数.
+   *
+   * @since 2026/10/19 1:12:40
    */
-  private static final BigDecimal TWO = new BigDecimal("2.0");
+  private static final int GUARD = 10;
 
   /**
    * 精度.
@@ -33,7 +39,7 @@ public final strictfp class Exponent implements FunctionOfSingleVariable<BigDeci
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision               precision;
+  private final Precision  precision;
 
   /**
    * 精度を指定する.
@@ -46,174 +52,103 @@ public final strictfp class Exponent implements FunctionOfSingleVariable<BigDeci
   }
 
   /**
-   * 自然対数の底のexponent乗 e^exponentをテイラー(Taylor)展開を用いて求める.
+   * 自然対数の底のexponent乗 e^exponentを求める.
    * 
    * <pre>
    *          (Exponential Function).
-   *          exponentが負数の場合は正数として求めてから逆数を求めることにより
-   *          桁落ちを最小限にしている. 連分数展開版よりも精度が悪く、速度も遅い.
-   *          許容誤差EPSが0以下のとき例外をスローする.
+   *          結果は精度の MathContext で丸めた値で、誤差は最後の桁で1程度である.
    * </pre>
    * 
    * @param exponent
    *          指数
    * @return 自然対数の底のbase乗をBigDecimal型で返す
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @exception ArithmeticException
+   *              結果が表現できないほど大きいまたは小さい場合
    * @since 1.1
    */
   public BigDecimal getDependentVariable(final BigDecimal exponent) {
-    return Exponent.expOfContinuedFraction(exponent, this.precision);
+    return Exponent.exp(exponent, this.precision.getMathContext());
   }
 
   /**
-   * 自然対数の底のexponent乗 e^exponentをテイラー(Taylor)展開を用いて求める.
-   * 
+   * 自然対数の底のx乗 e^x を求める.
+   *
    * <pre>
-   *            (Exponential Function).
-   *            exponentが負数の場合は正数として求めてから逆数を求めることにより
-   *            桁落ちを最小限にしている. 連分数展開版よりも精度が悪く、速度も遅い.
-   *            許容誤差EPSが0以下のとき例外をスローする.
+   *  x = k ln 2 + y と分解し、e^x = 2^k (e^(y / 2^r))^(2^r) として求める.
+   *  r を精度の平方根程度にとると、テイラー展開の項数と2乗の回数がつりあう.
+   *  2乗するごとに相対誤差が2倍になるため、r log10(2) 桁を余分に計算する.
    * </pre>
-   * 
-   * @param exponent
-   *          指数
-   * @param p
-   *          誤差
-   * @return 自然対数の底のbase乗をBigDecimal型で返す
-   * @since 1.1
-   */
-  // private static BigDecimal exp(BigDecimal exponent, Precision p) {
-  // int scale = ((Epsilon) p).getScale();
-  // int mode = ((Epsilon) p).getRoundingMode();
-  // BigDecimal eps = ((Epsilon) p).getEpsilon();
-  //
-  // //exponentが負数の場合、正数として求めてから逆数を求めることにより桁落ちを最小限にする
-  // //指数が 0 のとき 1 を返す
-  // if (exponent.compareTo(BigDecimal.ZERO) == -1) {
-  // return BigDecimal.ONE.divide(exp(exponent.abs(), p), scale, mode);
-  // } else if (exponent.compareTo(BigDecimal.ZERO) == 0) {
-  // return BigDecimal.ONE;
-  // }
-  //
-  // if (eps.compareTo(BigDecimal.ZERO) == -1
-  // || eps.compareTo(BigDecimal.ZERO) == 0) {
-  // throw new ArithmeticException("A permissible error must be greater than
-  // zero.");
-  // }
-  //
-  // BigDecimal s = BigDecimal.ONE;
-  // BigDecimal e = BigDecimal.ONE;
-  // BigDecimal d = BigDecimal.ONE;
-  //
-  // for (int k = 1;; k++) {
-  // d = s;
-  // e = (e.multiply(exponent)).divide(new BigDecimal(k), scale, mode);
-  // s = s.add(e);
-  // BigDecimal sd = s.subtract(d);
-  // BigDecimal absSD = sd.abs();
-  //
-  // BigDecimal absD = d.abs();
-  // BigDecimal epsMultiplyAbsD = eps.multiply(absD);
-  //
-  // if (absSD.compareTo(epsMultiplyAbsD) == -1) {
-  // return s;
-  // }
-  // }
-  // }
-  /**
-   * ldexp(x,k)関数.
-   * 
+   *
    * @param x
-   *          BigDecimal型の実数
-   * @param k
-   *          BigInteger型の整数
-   * @param p
-   *          精度
-   * @return BigDecimal型の実数
-   * @since 2006/07/19 21:23:30
+   *          指数
+   * @param mc
+   *          精度と丸めモード
+   * @return e^x を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @exception ArithmeticException
+   *              結果が表現できないほど大きいまたは小さい場合
+   * @since 2026/10/19 1:12:40
    */
-  private static BigDecimal ldexp(final BigDecimal x, final BigInteger k, final Precision p) {
-
-    boolean sign = false;
-    if (k.compareTo(BigInteger.ZERO) < 0) {
-      sign = true;
+  static BigDecimal exp(final BigDecimal x, final MathContext mc) {
+    final int digits = mc.getPrecision();
+    if (digits == 0) {
+      throw new IllegalArgumentException("The exponential function needs a finite precision.");
+    }
+    if (x.signum() == 0) {
+      return BigDecimal.ONE;
     }
-    final BigDecimal twoK = new BigDecimal(BigIntegerMath.power(BigInteger.valueOf(2), k.abs()));
 
-    if (sign) {
-      return x.divide(twoK, p.getMathContext());
-    } else {
-      return x.multiply(twoK);
+    final int r = (int) Math.ceil(Math.sqrt(digits));
+    final int working = digits + Exponent.GUARD + (int) Math.ceil(r * Math.log10(2.0));
+    final MathContext wmc = new MathContext(working, RoundingMode.HALF_EVEN);
+
+    // k = round(x / ln 2). k ln 2 の誤差を working 桁に収めるため、ln 2 は k の桁数だけ多く求める.
+    final int integerDigits = Math.max(1, x.precision() - x.scale() + 1);
+    final BigDecimal quotient = x.divide(ConstantCache.ln2(MathContext.DECIMAL64), new MathContext(
+        integerDigits + 2, RoundingMode.HALF_EVEN));
+    final BigInteger bigK = quotient.setScale(0, RoundingMode.HALF_EVEN).toBigInteger();
+    if (bigK.bitLength() > 31) {
+      throw new ArithmeticException("The exponential function overflows or underflows.");
+    }
+    final int k = bigK.intValue();
+    final BigDecimal ln2 = ConstantCache.ln2(new MathContext(working + integerDigits,
+        RoundingMode.HALF_EVEN));
+    final BigDecimal y = x.subtract(ln2.multiply(BigDecimal.valueOf(k)));
+
+    // e^(y / 2^r) = Σ z^i / i! を z^i / i! が 10^-working を下回るまで足す.
+    final BigDecimal z = y.divide(new BigDecimal(BigInteger.ONE.shiftLeft(r)), wmc);
+    final BigDecimal eps = BigDecimal.ONE.movePointLeft(working + 1);
+    BigDecimal sum = BigDecimal.ONE;
+    BigDecimal term = BigDecimal.ONE;
+    for (int i = 1; term.abs().compareTo(eps) >= 0; i++) {
+      term = term.multiply(z, wmc).divide(BigDecimal.valueOf(i), wmc);
+      sum = sum.add(term, wmc);
     }
+    for (int i = 0; i < r; i++) {
+      sum = sum.multiply(sum, wmc);
+    }
+    return Exponent.ldexp(sum, k, wmc).round(mc);
   }
 
   /**
-   * 自然対数の底のexponent乗 e^exponentを連分数展開を用いて求める.
-   * 
-   * <pre>
-   *         (Exponential Function).
-   *         桁落ちは級数展開版よりも小さくなっている。
-   * </pre>
+   * ldexp(x,k)関数. x 2^k を返す.
    * 
-   * @param exponent
-   *          指数
-   * @param p
-   *          誤差
-   * @return 自然対数の底のbase乗をBigDecimal型で返す
-   * @since 1.1
+   * @param x
+   *          BigDecimal型の実数
+   * @param k
+   *          整数
+   * @param mc
+   *          k が負のときに割り算を丸める精度
+   * @return BigDecimal型の実数
+   * @since 2006/07/19 21:23:30
    */
-  private static BigDecimal expOfContinuedFraction(final BigDecimal exponent, final Precision p) {
-
-    if (exponent.compareTo(BigDecimal.ZERO) == 0) {
-      return BigDecimal.ONE;
-    }
-
-    final Log log = new Log(p);
-
-    final MathContext mc = p.getMathContext();
-    final BigDecimal log2 = log.getDependentVariable(Exponent.TWO);
-
-    BigDecimal addedValue;
-    if (exponent.compareTo(BigDecimal.ZERO) >= 0) {
-      addedValue = new BigDecimal("0.5");
-    } else {
-      addedValue = new BigDecimal("-0.5");
+  static BigDecimal ldexp(final BigDecimal x, final int k, final MathContext mc) {
+    if (k < 0) {
+      return x.divide(new BigDecimal(BigInteger.ONE.shiftLeft(-k)), mc);
     }
-
-    final int four = 4;
-    final int six = 6;
-    final BigInteger k = exponent.divide(log2, mc).add(addedValue).toBigInteger();
-    final BigDecimal x = exponent.subtract(new BigDecimal(k).multiply(log2));
-    final BigDecimal x2 = x.multiply(x);
-    final BigInteger n = ((NandEpsilon) p).getN().multiply(BigInteger.valueOf(four)).add(
-        BigInteger.valueOf(2));
-    BigDecimal w = x2.divide(new BigDecimal(n), mc);
-
-    for (BigInteger i = n.subtract(BigInteger.valueOf(four)); i.compareTo(BigInteger.valueOf(six)) >= 0; i = i
-        .subtract(BigInteger.valueOf(four))) {
-      w = x2.divide(w.add(new BigDecimal(i)), mc);
-    }
-    final BigDecimal twoW = Exponent.TWO.add(w);
-
-    return Exponent.ldexp(twoW.add(x).divide(twoW.subtract(x), mc), k, p);
-
-    // BigDecimal s = BigDecimal.ZERO;
-    // // BigDecimal one = BigDecimal.ONE;
-    // BigInteger two = BigInteger.valueOf(2);
-    // BigDecimal decimalTwo = new BigDecimal("2.0");
-    // int intFour = 4;
-    // BigInteger four = BigInteger.valueOf(intFour);
-    // BigInteger partsOfDenominator;
-    // BigDecimal denominator;
-    //
-    // for (BigInteger i = n; i.compareTo(BigInteger.ONE) == 1
-    // || i.compareTo(BigInteger.ONE) == 0; i = i.subtract(BigInteger.ONE)) {
-    //
-    // partsOfDenominator = four.multiply(i).add(two);
-    // denominator = new BigDecimal(partsOfDenominator).add(s);
-    // s = (exponent.multiply(exponent)).divide(denominator, mc);
-    // }
-    // s = s.add(decimalTwo);
-    //
-    // return (s.add(exponent)).divide(s.subtract(exponent), mc);
+    return x.multiply(new BigDecimal(BigInteger.ONE.shiftLeft(k)));
   }
 }
@@ -1,9 +1,7 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
-import java.math.MathContext;
 
-import name.sugawara.hiroshi.math.constant.Constant;
 import name.sugawara.hiroshi.math.function.object.FunctionOfTwoVariable;
 import name.sugawara.hiroshi.math.precision.Precision;
 
@@ -25,7 +23,7 @@ public final strictfp class FourQuadrantArcTangent implements
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision precision;
+  private final Precision precision;
 
   /**
    * 精度を指定する.
@@ -41,60 +39,22 @@ public final strictfp class FourQuadrantArcTangent implements
   /**
    * 指定された角度の4象限逆正接逆正接 (4象限アークタンジェント) を返す.
    * 
-   * @param y
-   *          ラジアンで表した BigDecimal型の角度
-   * @param x
-   *          ラジアンで表した BigDecimal型の角度
-   * @return 引数の逆正接 (アークタンジェント)をBigDecimal 型で返す
-   * @since 1.1
-   */
-  public BigDecimal getDependentVariable(final BigDecimal y, final BigDecimal x) {
-    return FourQuadrantArcTangent.atan2(y, x, this.precision);
-  }
-
-  /**
-   * 指定された角度の4象限逆正接逆正接 (4象限アークタンジェント) を返す.
+   * <pre>
+   *  y / x の逆正接に x &lt; 0 なら ±π を足す. π は精度の桁数で丸めた値ではなく作業精度で求め、
+   *  結果は精度の MathContext で正しく丸めた値である. x = y = 0 のときは 0 を返す.
+   * </pre>
    * 
    * @param y
    *          ラジアンで表した BigDecimal型の角度
    * @param x
    *          ラジアンで表した BigDecimal型の角度
-   * @param p
-   *          誤差
    * @return 引数の逆正接 (アークタンジェント)をBigDecimal 型で返す
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @see InverseTrigonometric
    * @since 1.1
    */
-  private static BigDecimal atan2(final BigDecimal y, final BigDecimal x, final Precision p) {
-    final Constant c = new Constant(p);
-    final BigDecimal zero = BigDecimal.ZERO;
-    final BigDecimal two = new BigDecimal("2.0");
-    final BigDecimal pi = c.pi();
-    final MathContext mc = p.getMathContext();
-    final BigMath math = new BigMath(p);
-
-    BigDecimal result;
-
-    if (x.compareTo(zero) == 0 && y.compareTo(zero) == 0) {
-      result = zero;
-    } else if (x.compareTo(zero) > 0 && y.compareTo(zero) == 0) {
-      result = zero;
-    } else if (x.compareTo(zero) == 0 && y.compareTo(zero) > 0) {
-      result = pi.divide(two, mc);
-    } else if (x.compareTo(zero) < 0 && y.compareTo(zero) == 0) {
-      result = pi;
-    } else if (x.compareTo(zero) == 0 && y.compareTo(zero) < 0) {
-      result = pi.divide(two, mc).negate();
-    } else if (x.compareTo(zero) > 0 && y.compareTo(zero) > 0) {
-      result = math.atan(y.divide(x, mc));
-    } else if (x.compareTo(zero) < 0 && y.compareTo(zero) > 0) {
-      result = math.atan(y.divide(x, mc)).add(pi);
-    } else if (x.compareTo(zero) < 0 && y.compareTo(zero) < 0) {
-      result = math.atan(y.divide(x, mc)).subtract(pi);
-    } else if (x.compareTo(zero) > 0 && y.compareTo(zero) < 0) {
-      result = math.atan(y.divide(x, mc));
-    } else {
-      throw new Error("An unexpected error.");
-    }
-    return result;
+  public BigDecimal getDependentVariable(final BigDecimal y, final BigDecimal x) {
+    return InverseTrigonometric.atan2(y, x, this.precision.getMathContext());
   }
 }
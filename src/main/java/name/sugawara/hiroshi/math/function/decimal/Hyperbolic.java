@@ -0,0 +1,326 @@
+/**
+ * Created Date : 2026/10/19 4:12:30
+ */
+package name.sugawara.hiroshi.math.function.decimal;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * 双曲線関数と逆双曲線関数を求める.
+ *
+ * <pre>
+ *  sinh(x), cosh(x) は e^x を1回だけ求め、e^-x はその逆数とする. x が 0 に近く e^x - e^-x が
+ *  桁落ちする場合は、落ちる桁数だけ多く求めるか、十分小さければテイラー展開で求める.
+ *  逆双曲線関数は log(1 + u) の形に直し、u を丸めたうえで 1 + u を丸めずに Logarithm に渡す.
+ *  u は正の値の和と商だけで求まるため、x が 0 に近くても 1 に近くても桁落ちしない.
+ *  丸めの境界に近い場合は作業精度を2倍にして求め直す.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see HyperbolicSine
+ * @see HyperbolicCosine
+ * @see HyperbolicTangent
+ * @see InverseHyperbolicSine
+ * @see InverseHyperbolicCosine
+ * @see InverseHyperbolicTangent
+ *
+ * Created Date : 2026/10/19 4:12:30
+ */
+final strictfp class Hyperbolic {
+
+  /**
+   * 要求された桁数に加えて計算する桁数.
+   *
+   * @since 2026/10/19 4:12:30
+   */
+  private static final int        GUARD = 10;
+
+  /**
+   * ln(10).
+   *
+   * @since 2026/10/19 4:12:30
+   */
+  private static final double     LN10  = Math.log(10.0d);
+
+  /**
+   * 1/2.
+   *
+   * @since 2026/10/19 4:12:30
+   */
+  private static final BigDecimal HALF  = new BigDecimal("0.5");
+
+  /**
+   * コンストラクタ使用禁止.
+   *
+   * @since 2026/10/19 4:12:30
+   */
+  private Hyperbolic() {
+    // Empty block
+  }
+
+  /**
+   * 双曲線正弦を求める.
+   *
+   * @param x
+   *          値
+   * @param mc
+   *          精度と丸めモード
+   * @return sinh(x) を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @exception ArithmeticException
+   *              結果が表現できないほど大きい場合
+   * @since 2026/10/19 4:12:30
+   */
+  static BigDecimal sinh(final BigDecimal x, final MathContext mc) {
+    final int digits = Hyperbolic.digits(mc);
+    if (x.signum() == 0) {
+      return BigDecimal.ZERO;
+    }
+    for (int working = digits + Hyperbolic.GUARD;; working += working) {
+      final BigDecimal result = RoundingJudgement.round(Hyperbolic.evaluate(x, working)[0],
+          working, mc);
+      if (result != null) {
+        return result;
+      }
+    }
+  }
+
+  /**
+   * 双曲線余弦を求める.
+   *
+   * @param x
+   *          値
+   * @param mc
+   *          精度と丸めモード
+   * @return cosh(x) を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @exception ArithmeticException
+   *              結果が表現できないほど大きい場合
+   * @since 2026/10/19 4:12:30
+   */
+  static BigDecimal cosh(final BigDecimal x, final MathContext mc) {
+    final int digits = Hyperbolic.digits(mc);
+    if (x.signum() == 0) {
+      return BigDecimal.ONE;
+    }
+    for (int working = digits + Hyperbolic.GUARD;; working += working) {
+      final BigDecimal result = RoundingJudgement.round(Hyperbolic.evaluate(x, working)[1],
+          working, mc);
+      if (result != null) {
+        return result;
+      }
+    }
+  }
+
+  /**
+   * 双曲線正接を求める.
+   *
+   * <pre>
+   *  1 - |tanh(x)| = 2 / (e^2|x| + 1) が精度の桁数より十分小さい場合は、e^x を求めずに
+   *  1 よりわずかに小さい値を mc で丸める. 真の値とその値は同じ値に丸まる.
+   * </pre>
+   *
+   * @param x
+   *          値
+   * @param mc
+   *          精度と丸めモード
+   * @return tanh(x) を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/19 4:12:30
+   */
+  static BigDecimal tanh(final BigDecimal x, final MathContext mc) {
+    final int digits = Hyperbolic.digits(mc);
+    if (x.signum() == 0) {
+      return BigDecimal.ZERO;
+    }
+    if (x.abs().compareTo(BigDecimal.valueOf((digits + 3) * Hyperbolic.LN10 / 2.0d)) > 0) {
+      final BigDecimal nearOne = BigDecimal.ONE.subtract(BigDecimal.ONE.movePointLeft(digits
+          + 2));
+      return (x.signum() > 0 ? nearOne : nearOne.negate()).round(mc);
+    }
+    for (int working = digits + Hyperbolic.GUARD;; working += working) {
+      final BigDecimal[] value = Hyperbolic.evaluate(x, working);
+      final BigDecimal result = RoundingJudgement.round(value[0].divide(value[1],
+          new MathContext(working + 2, RoundingMode.HALF_EVEN)), working, mc);
+      if (result != null) {
+        return result;
+      }
+    }
+  }
+
+  /**
+   * 逆双曲線正弦を asinh(|x|) = log(1 + |x| + x^2 / (1 + sqrt(1 + x^2))) で求める.
+   *
+   * @param x
+   *          値
+   * @param mc
+   *          精度と丸めモード
+   * @return asinh(x) を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/19 4:12:30
+   */
+  static BigDecimal asinh(final BigDecimal x, final MathContext mc) {
+    final int digits = Hyperbolic.digits(mc);
+    if (x.signum() == 0) {
+      return BigDecimal.ZERO;
+    }
+    final BigDecimal a = x.abs();
+    final BigDecimal a2 = a.multiply(a);
+    for (int working = digits + Hyperbolic.GUARD;; working += working) {
+      final MathContext wmc = new MathContext(working + 2, RoundingMode.HALF_EVEN);
+      final BigDecimal u = a.add(a2.divide(BigDecimal.ONE.add(NewtonRoot.sqrt(BigDecimal.ONE
+          .add(a2), wmc)), wmc), wmc);
+      final BigDecimal value = Logarithm.ln(BigDecimal.ONE.add(u), working);
+      final BigDecimal result = RoundingJudgement.round(x.signum() > 0 ? value : value.negate(),
+          working, mc);
+      if (result != null) {
+        return result;
+      }
+    }
+  }
+
+  /**
+   * 逆双曲線余弦を acosh(x) = log(1 + (x - 1) + sqrt((x - 1)(x + 1))) で求める.
+   *
+   * @param x
+   *          1 以上の値
+   * @param mc
+   *          精度と丸めモード
+   * @return acosh(x) を mc で丸めた値
+   * @exception ArithmeticException
+   *              x &lt; 1 の場合
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/19 4:12:30
+   */
+  static BigDecimal acosh(final BigDecimal x, final MathContext mc) {
+    final int digits = Hyperbolic.digits(mc);
+    if (x.compareTo(BigDecimal.ONE) < 0) {
+      throw new ArithmeticException("The inverse hyperbolic cosine"
+          + " cannot operate the complex numbers. The value"
+          + " of an argument must be the range of  a >= 1 .");
+    } else if (x.compareTo(BigDecimal.ONE) == 0) {
+      return BigDecimal.ZERO;
+    }
+    final BigDecimal xSubOne = x.subtract(BigDecimal.ONE);
+    final BigDecimal product = xSubOne.multiply(x.add(BigDecimal.ONE));
+    for (int working = digits + Hyperbolic.GUARD;; working += working) {
+      final MathContext wmc = new MathContext(working + 2, RoundingMode.HALF_EVEN);
+      final BigDecimal u = xSubOne.add(NewtonRoot.sqrt(product, wmc), wmc);
+      final BigDecimal result = RoundingJudgement.round(Logarithm.ln(BigDecimal.ONE.add(u),
+          working), working, mc);
+      if (result != null) {
+        return result;
+      }
+    }
+  }
+
+  /**
+   * 逆双曲線正接を atanh(|x|) = log(1 + 2|x| / (1 - |x|)) / 2 で求める.
+   *
+   * @param x
+   *          -1 より大きく 1 より小さい値
+   * @param mc
+   *          精度と丸めモード
+   * @return atanh(x) を mc で丸めた値
+   * @exception ArithmeticException
+   *              |x| &gt;= 1 の場合
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/19 4:12:30
+   */
+  static BigDecimal atanh(final BigDecimal x, final MathContext mc) {
+    final int digits = Hyperbolic.digits(mc);
+    final BigDecimal a = x.abs();
+    if (a.compareTo(BigDecimal.ONE) >= 0) {
+      throw new ArithmeticException("The inverse hyperbolic tangent cannot operate"
+          + " the complex numbers or the infinite numbers. The value of "
+          + "an argument must be the range of  -1 < a < 1 .");
+    } else if (x.signum() == 0) {
+      return BigDecimal.ZERO;
+    }
+    final BigDecimal oneSubA = BigDecimal.ONE.subtract(a);
+    for (int working = digits + Hyperbolic.GUARD;; working += working) {
+      final MathContext wmc = new MathContext(working + 2, RoundingMode.HALF_EVEN);
+      final BigDecimal u = a.add(a).divide(oneSubA, wmc);
+      final BigDecimal value = Logarithm.ln(BigDecimal.ONE.add(u), working).multiply(
+          Hyperbolic.HALF);
+      final BigDecimal result = RoundingJudgement.round(x.signum() > 0 ? value : value.negate(),
+          working, mc);
+      if (result != null) {
+        return result;
+      }
+    }
+  }
+
+  /**
+   * 精度の桁数を返す.
+   *
+   * @param mc
+   *          精度
+   * @return 精度の桁数
+   * @since 2026/10/19 4:12:30
+   */
+  private static int digits(final MathContext mc) {
+    final int digits = mc.getPrecision();
+    if (digits == 0) {
+      throw new IllegalArgumentException("The hyperbolic functions need a finite precision.");
+    }
+    return digits;
+  }
+
+  /**
+   * 0 ではない x の双曲線正弦と双曲線余弦を相対誤差 10^-working 程度で求める.
+   *
+   * <pre>
+   *  |x| &lt; 10^-zeros とすると、e^x - e^-x では約 zeros 桁が落ちる. zeros が作業精度の平方根
+   *  以上であれば、テイラー展開の項が1項ごとに 10^-zeros 倍以下になるため、e^x を求めるより速い.
+   *  cosh(x) = 1 + h の 1 + h は丸めない. 丸めると 1 に近い値が切り上げ、切り捨てで正しく丸まらない.
+   * </pre>
+   *
+   * @param x
+   *          0 ではない値
+   * @param working
+   *          桁数
+   * @return {sinh(x), cosh(x)}
+   * @since 2026/10/19 4:12:30
+   */
+  private static BigDecimal[] evaluate(final BigDecimal x, final int working) {
+    final int zeros = Math.max(0, x.scale() - x.precision());
+    if (zeros < Math.sqrt(working)) {
+      final MathContext wmc = new MathContext(working + zeros + 2, RoundingMode.HALF_EVEN);
+      final BigDecimal e = Exponent.exp(x, wmc);
+      final BigDecimal r = BigDecimal.ONE.divide(e, wmc);
+      return new BigDecimal[] { e.subtract(r).multiply(Hyperbolic.HALF),
+          e.add(r).multiply(Hyperbolic.HALF) };
+    }
+
+    // x^n / n! を奇数次は sinh(x) に、偶数次は h = cosh(x) - 1 に足す.
+    // h は x^2 / 2 程度で sinh(x) より小さいため、h の大きさから打ち切る値を決める.
+    final MathContext wmc = new MathContext(working + 2, RoundingMode.HALF_EVEN);
+    BigDecimal term = x.multiply(x, wmc).multiply(Hyperbolic.HALF);
+    final BigDecimal eps = BigDecimal.ONE.scaleByPowerOfTen(term.precision() - term.scale()
+        - wmc.getPrecision());
+    BigDecimal sinh = x;
+    BigDecimal h = term;
+    for (int n = 3;; n++) {
+      term = term.multiply(x, wmc).divide(BigDecimal.valueOf(n), wmc);
+      if (term.abs().compareTo(eps) < 0) {
+        break;
+      }
+      if ((n & 1) == 1) {
+        sinh = sinh.add(term, wmc);
+      } else {
+        h = h.add(term, wmc);
+      }
+    }
+    return new BigDecimal[] { sinh, BigDecimal.ONE.add(h) };
+  }
+}
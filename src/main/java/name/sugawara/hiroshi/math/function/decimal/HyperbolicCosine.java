@@ -1,7 +1,6 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
-import java.math.MathContext;
 
 import name.sugawara.hiroshi.math.function.object.FunctionOfSingleVariable;
 import name.sugawara.hiroshi.math.precision.Precision;
@@ -27,7 +26,7 @@ public final class HyperbolicCosine implements FunctionOfSingleVariable<BigDecim
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision precision;
+  private final Precision precision;
 
   /**
    * 精度を指定する.
@@ -42,34 +41,22 @@ public final class HyperbolicCosine implements FunctionOfSingleVariable<BigDecim
   /**
    * hyperbolic cosine (双曲線余弦) cosh(x) を求める.
    * 
-   * @param argument
-   *          値
-   * @return cosh(argument)
-   * @since 1.1
-   */
-  public BigDecimal getDependentVariable(final BigDecimal argument) {
-    return HyperbolicCosine.cosh(argument, this.precision);
-  }
-
-  /**
-   * hyperbolic cosine (双曲線余弦) cosh(x) を求める.
+   * <pre>
+   *  e^x を1回だけ求め、(e^x + 1 / e^x) / 2 とする. argument = 0 付近では 1 + (cosh(x) - 1) の
+   *  和を丸めずに精度の MathContext で丸めるため、切り上げ、切り捨てでも正しく丸まる.
+   * </pre>
    * 
    * @param argument
    *          値
-   * @param p
-   *          誤差
    * @return cosh(argument)
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @exception ArithmeticException
+   *              結果が表現できないほど大きい場合
+   * @see Hyperbolic
    * @since 1.1
    */
-  private static BigDecimal cosh(final BigDecimal argument, final Precision p) {
-    if (argument.compareTo(BigDecimal.ZERO) == 0) {
-      return BigDecimal.ONE;
-    }
-
-    final BigMath math = new BigMath(p);
-    final BigDecimal t = math.exp(argument);
-
-    final MathContext mc = p.getMathContext();
-    return t.add(BigDecimal.ONE.divide(t, mc)).multiply(new BigDecimal("0.5"));
+  public BigDecimal getDependentVariable(final BigDecimal argument) {
+    return Hyperbolic.cosh(argument, this.precision.getMathContext());
   }
 }
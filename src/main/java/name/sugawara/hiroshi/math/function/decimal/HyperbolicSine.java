@@ -22,7 +22,7 @@ public final class HyperbolicSine implements FunctionOfSingleVariable<BigDecimal
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision precision;
+  private final Precision precision;
 
   /**
    * 精度を指定する.
@@ -40,18 +40,27 @@ public final class HyperbolicSine implements FunctionOfSingleVariable<BigDecimal
    * @param argument
    *          値
    * @return sinh(argument)
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @exception ArithmeticException
+   *              結果が表現できないほど大きい場合
+   * @see Hyperbolic
    * @since 1.1
    */
   public BigDecimal getDependentVariable(final BigDecimal argument) {
 
     // return HyperbolicSine.sinh(argument, this.precision);
-    return HyperbolicSine.sinhWithResidual(argument, this.precision);
+    return Hyperbolic.sinh(argument, this.precision.getMathContext());
   }
 
   /**
    * hyperbolic sine (双曲線正弦) sinh(x) を求める.
    * 
-   * argument = 0 付近では落ちが生じやすい. 改良.
+   * <pre>
+   *  e^x を1回求め、e^-x はその逆数とする. argument = 0 付近では e^x - e^-x で落ちる桁数だけ多く求め、
+   *  十分 0 に近ければテイラー展開で求める. 以前のように |x| &lt;= 0.001 を x + x^3 / 6 で
+   *  打ち切らないため、精度の桁数まで正しい.
+   * </pre>
    * 
    * @param argument
    *          値
@@ -61,21 +70,7 @@ public final class HyperbolicSine implements FunctionOfSingleVariable<BigDecimal
    * @since 1.1
    */
   static BigDecimal sinhWithResidual(final BigDecimal argument, final Precision p) {
-
-    final BigDecimal eps5 = new BigDecimal("0.001");
-
-    final BigMath math = new BigMath(p);
-
-    if (argument.abs().compareTo(eps5) > 0) {
-      final BigDecimal t = math.exp(argument);
-      return t.subtract(BigDecimal.ONE.divide(t, p.getMathContext())).multiply(
-          new BigDecimal("0.5"));
-
-    }
-
-    return argument.multiply(BigDecimal.ONE.add(argument.multiply(argument).divide(
-        new BigDecimal("6"), p.getMathContext())));
-
+    return Hyperbolic.sinh(argument, p.getMathContext());
   }
 
   /**
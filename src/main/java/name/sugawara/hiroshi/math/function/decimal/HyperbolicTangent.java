@@ -1,7 +1,6 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
-import java.math.MathContext;
 
 import name.sugawara.hiroshi.math.function.object.FunctionOfSingleVariable;
 import name.sugawara.hiroshi.math.precision.Precision;
@@ -22,7 +21,7 @@ public final class HyperbolicTangent implements FunctionOfSingleVariable<BigDeci
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision precision;
+  private final Precision precision;
 
   /**
    * 精度を指定する.
@@ -37,13 +36,21 @@ public final class HyperbolicTangent implements FunctionOfSingleVariable<BigDeci
   /**
    * hyperbolic tangent (双曲線正接) tanh(x) を求める 桁落ちが無い.
    * 
+   * <pre>
+   *  sinh(x) と cosh(x) を同じ e^x から求めて割る. |argument| が大きく結果が ±1 に丸まる場合は
+   *  e^x を求めないため、指数関数があふれる大きさの引数でも値を返す.
+   * </pre>
+   * 
    * @param argument
    *          値
    * @return tanh(argument)
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @see Hyperbolic
    * @since 1.1
    */
   public BigDecimal getDependentVariable(final BigDecimal argument) {
-    return HyperbolicTangent.tanh(argument, this.precision);
+    return Hyperbolic.tanh(argument, this.precision.getMathContext());
   }
 
   /**
@@ -74,25 +81,4 @@ public final class HyperbolicTangent implements FunctionOfSingleVariable<BigDeci
   // scale,
   // mode);
   // }
-  /**
-   * hyperbolic tangent (双曲線正接) tanh(x) を求める 桁落ちが無い.
-   * 
-   * @param argument
-   *          値
-   * @param p
-   *          誤差
-   * @return tanh(argument)
-   * @since 1.1
-   */
-  private static BigDecimal tanh(final BigDecimal argument, final Precision p) {
-    if (argument.compareTo(BigDecimal.ZERO) == 0) {
-      return BigDecimal.ZERO;
-    }
-
-    final MathContext mc = p.getMathContext();
-    final HyperbolicSine sinh = new HyperbolicSine(p);
-    final HyperbolicCosine cosh = new HyperbolicCosine(p);
-
-    return (sinh.getDependentVariable(argument)).divide(cosh.getDependentVariable(argument), mc);
-  }
 }
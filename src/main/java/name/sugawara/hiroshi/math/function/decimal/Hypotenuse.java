@@ -1,11 +1,8 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.math.MathContext;
 
 import name.sugawara.hiroshi.math.function.object.FunctionOfTwoVariable;
-import name.sugawara.hiroshi.math.precision.NandEpsilon;
 import name.sugawara.hiroshi.math.precision.Precision;
 
 /**
@@ -25,7 +22,7 @@ public final class Hypotenuse implements FunctionOfTwoVariable<BigDecimal, BigDe
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision precision;
+  private final Precision precision;
 
   /**
    * 精度を指定する.
@@ -38,8 +35,8 @@ public final class Hypotenuse implements FunctionOfTwoVariable<BigDecimal, BigDe
   }
 
   /**
-   * C. B. Moler and D. Morrison による方法でhypotenuseの長さをBigDecimal型で返す.<br />
-   * 演算繰り返し数は単精度で2,倍精度で3でよい。
+   * hypotenuseの長さをBigDecimal型で返す.<br />
+   * BigDecimal はオーバーフローしないため、x^2 + y^2 を丸めずに求めてから平方根を1回だけ丸める.
    * 
    * @param x
    *          値
@@ -49,52 +46,11 @@ public final class Hypotenuse implements FunctionOfTwoVariable<BigDecimal, BigDe
    * @since 1.1
    */
   public BigDecimal getDependentVariable(final BigDecimal x, final BigDecimal y) {
-    return Hypotenuse.hypot2(x, y, this.precision);
-  }
-
-  /**
-   * C. B. Moler and D. Morrison による方法でhypotenuseの長さをBigDecimal型で返す.<br />
-   * 演算繰り返し数は単精度で2,倍精度で3でよい。
-   * 
-   * @param x
-   *          x
-   * @param y
-   *          y
-   * @param p
-   *          誤差
-   * @return sqrt(x^2 + y^2)
-   * @since 1.1
-   * 
-   */
-  private static strictfp BigDecimal hypot2(final BigDecimal x, final BigDecimal y,
-      final Precision p) {
-    BigDecimal t;
-    BigDecimal absx = x.abs();
-    BigDecimal absy = y.abs();
-    if (absx.compareTo(absy) < 0) {
-      t = absx;
-      absx = absy;
-      absy = t;
-    }
-
-    final BigInteger n = ((NandEpsilon) p).getN();
-    // BigInteger n = BigInteger.valueOf(50);
-
-    final MathContext mc = ((NandEpsilon) p).getMathContext();
-
-    final BigDecimal two = new BigDecimal("2.0");
-    final BigDecimal four = new BigDecimal("4.0");
-
-    if (absy.compareTo(BigDecimal.ZERO) == 0) {
-      return absx;
-    }
-    for (BigInteger i = BigInteger.ZERO; i.compareTo(n) < 0; i = i.add(BigInteger.ONE)) {
-      t = absy.divide(absx, mc);
-      t = t.multiply(t);
-      t = t.divide(t.add(four), mc);
-      absx = absx.add(t.multiply(absx).multiply(two));
-      absy = absy.multiply(t);
+    if (y.signum() == 0) {
+      return x.abs();
+    } else if (x.signum() == 0) {
+      return y.abs();
     }
-    return absx;
+    return NewtonRoot.sqrt(x.multiply(x).add(y.multiply(y)), this.precision.getMathContext());
   }
 }
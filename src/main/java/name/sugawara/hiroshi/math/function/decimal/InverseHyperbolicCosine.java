@@ -22,7 +22,7 @@ public final class InverseHyperbolicCosine implements
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision precision;
+  private final Precision precision;
 
   /**
    * 精度を指定して関数オブジェクトを生成.
@@ -36,38 +36,24 @@ public final class InverseHyperbolicCosine implements
   }
 
   /**
-   * hyperbolic sine (双曲線正弦) sinh(x) を求める. 桁落ちが生じない.
+   * inverse hyperbolic cosine (逆双曲線余弦) arccosh(x) を求める. 桁落ちが生じない.
    * 
-   * @param argument
-   *          値
-   * @return sinh(argument)
-   * @since 1.1
-   */
-  public BigDecimal getDependentVariable(final BigDecimal argument) {
-    return InverseHyperbolicCosine.acosh(argument, this.precision);
-  }
-
-  /**
-   * inverse hyperbolic cosine (双曲線余弦) arccosh(x) を求める.
+   * <pre>
+   *  arccosh(x) = log(1 + u), u = (x - 1) + sqrt((x - 1)(x + 1)) とする. x - 1 と (x - 1)(x + 1) は
+   *  丸めないため、x が 1 に近くても x^2 - 1 の桁落ちが生じない.
+   * </pre>
    * 
    * @param argument
-   *          値
-   * @param p
-   *          誤差
+   *          1 以上の値
    * @return arccosh(argument)
+   * @exception ArithmeticException
+   *              引数が 1 より小さい場合
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @see Hyperbolic
    * @since 1.1
    */
-  private static BigDecimal acosh(final BigDecimal argument, final Precision p) {
-    if (argument.compareTo(BigDecimal.ONE) == -1) {
-      throw new ArithmeticException("This method InverseHyperbolicCosine.acosh()"
-          + " cannot operate the complex numbers. The value"
-          + " of an argument must be the range of  a >= 1 .");
-    } else if (argument.compareTo(BigDecimal.ONE) == 0) {
-      return BigDecimal.ZERO;
-    }
-
-    final BigDecimal x2subOne = argument.multiply(argument).subtract(BigDecimal.ONE);
-    final BigMath math = new BigMath(p);
-    return math.log(argument.add(math.sqrt(x2subOne)));
+  public BigDecimal getDependentVariable(final BigDecimal argument) {
+    return Hyperbolic.acosh(argument, this.precision.getMathContext());
   }
 }
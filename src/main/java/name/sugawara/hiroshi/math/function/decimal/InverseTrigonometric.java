@@ -0,0 +1,367 @@
+/**
+ * Created Date : 2026/10/19 4:12:30
+ */
+package name.sugawara.hiroshi.math.function.decimal;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import name.sugawara.hiroshi.math.constant.ConstantCache;
+
+/**
+ * 逆正接、逆正弦、逆余弦、4象限逆正接をひとつの逆正接から求める.
+ *
+ * <pre>
+ *  |x| &gt; 1 は atan(x) = ±π/2 - atan(1/x) で |x| &lt;= 1 に移し、tan(y) = x をニュートン法で解く.
+ *  tan(y) は Trigonometric の正弦と余弦から求め、0 に近い x だけは級数で求める.
+ *  asin(x) = atan(x / sqrt(1 - x^2)), acos(x) = 2 atan(sqrt((1 - x) / (1 + x))) とする.
+ *  1 - x^2 と 1 ± x は丸めずに求めるため、|x| が 1 に近くても桁落ちしない.
+ *  丸めの境界に近い場合は作業精度を2倍にして求め直す.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see ArcTangent
+ * @see ArcSine
+ * @see ArcCosine
+ * @see FourQuadrantArcTangent
+ *
+ * Created Date : 2026/10/19 4:12:30
+ */
+final strictfp class InverseTrigonometric {
+
+  /**
+   * 要求された桁数に加えて計算する桁数.
+   *
+   * @since 2026/10/19 4:12:30
+   */
+  private static final int        GUARD       = 10;
+
+  /**
+   * 1/2.
+   *
+   * @since 2026/10/19 4:12:30
+   */
+  private static final BigDecimal HALF        = new BigDecimal("0.5");
+
+  /**
+   * Math.atan の値で正しい桁数.
+   *
+   * @since 2026/10/19 4:12:30
+   */
+  private static final int        SEED_DIGITS = 15;
+
+  /**
+   * コンストラクタ使用禁止.
+   *
+   * @since 2026/10/19 4:12:30
+   */
+  private InverseTrigonometric() {
+    // Empty block
+  }
+
+  /**
+   * 逆正接を求める.
+   *
+   * @param x
+   *          値
+   * @param mc
+   *          精度と丸めモード
+   * @return atan(x) を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/19 4:12:30
+   */
+  static BigDecimal atan(final BigDecimal x, final MathContext mc) {
+    final int digits = InverseTrigonometric.digits(mc);
+    if (x.signum() == 0) {
+      return BigDecimal.ZERO;
+    }
+    for (int working = digits + InverseTrigonometric.GUARD;; working += working) {
+      final BigDecimal result = RoundingJudgement.round(InverseTrigonometric.arctan(x, working),
+          working, mc);
+      if (result != null) {
+        return result;
+      }
+    }
+  }
+
+  /**
+   * 逆正弦を求める.
+   *
+   * @param x
+   *          -1 以上 1 以下の値
+   * @param mc
+   *          精度と丸めモード
+   * @return asin(x) を mc で丸めた値
+   * @exception ArithmeticException
+   *              |x| &gt; 1 の場合
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/19 4:12:30
+   */
+  static BigDecimal asin(final BigDecimal x, final MathContext mc) {
+    final int digits = InverseTrigonometric.digits(mc);
+    InverseTrigonometric.judgeOfDomain(x);
+    if (x.signum() == 0) {
+      return BigDecimal.ZERO;
+    }
+    // 1 - x^2 は丸めない.
+    final BigDecimal oneSubX2 = BigDecimal.ONE.subtract(x.multiply(x));
+    for (int working = digits + InverseTrigonometric.GUARD;; working += working) {
+      final BigDecimal value;
+      if (oneSubX2.signum() == 0) {
+        final BigDecimal halfPi = InverseTrigonometric.halfPi(working);
+        value = x.signum() > 0 ? halfPi : halfPi.negate();
+      } else {
+        final MathContext wmc = new MathContext(working + 2, RoundingMode.HALF_EVEN);
+        value = InverseTrigonometric.arctan(x.divide(NewtonRoot.sqrt(oneSubX2, wmc), wmc),
+            working);
+      }
+      final BigDecimal result = RoundingJudgement.round(value, working, mc);
+      if (result != null) {
+        return result;
+      }
+    }
+  }
+
+  /**
+   * 逆余弦を求める.
+   *
+   * @param x
+   *          -1 以上 1 以下の値
+   * @param mc
+   *          精度と丸めモード
+   * @return acos(x) を mc で丸めた値
+   * @exception ArithmeticException
+   *              |x| &gt; 1 の場合
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/19 4:12:30
+   */
+  static BigDecimal acos(final BigDecimal x, final MathContext mc) {
+    final int digits = InverseTrigonometric.digits(mc);
+    InverseTrigonometric.judgeOfDomain(x);
+    if (x.compareTo(BigDecimal.ONE) == 0) {
+      return BigDecimal.ZERO;
+    }
+    final BigDecimal onePlusX = BigDecimal.ONE.add(x);
+    for (int working = digits + InverseTrigonometric.GUARD;; working += working) {
+      final BigDecimal value;
+      if (onePlusX.signum() == 0) {
+        value = ConstantCache.pi(new MathContext(working + 2, RoundingMode.HALF_EVEN));
+      } else {
+        final MathContext wmc = new MathContext(working + 2, RoundingMode.HALF_EVEN);
+        final BigDecimal half = InverseTrigonometric.arctan(NewtonRoot.sqrt(BigDecimal.ONE
+            .subtract(x).divide(onePlusX, wmc), wmc), working);
+        value = half.add(half);
+      }
+      final BigDecimal result = RoundingJudgement.round(value, working, mc);
+      if (result != null) {
+        return result;
+      }
+    }
+  }
+
+  /**
+   * 4象限逆正接を求める. 結果は -π より大きく π 以下である.
+   *
+   * <pre>
+   *  x = y = 0 のときと、x &gt; 0, y = 0 のときは 0 を返す.
+   * </pre>
+   *
+   * @param y
+   *          y 座標
+   * @param x
+   *          x 座標
+   * @param mc
+   *          精度と丸めモード
+   * @return atan2(y, x) を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/19 4:12:30
+   */
+  static BigDecimal atan2(final BigDecimal y, final BigDecimal x, final MathContext mc) {
+    final int digits = InverseTrigonometric.digits(mc);
+    if (y.signum() == 0 && x.signum() >= 0) {
+      return BigDecimal.ZERO;
+    }
+    for (int working = digits + InverseTrigonometric.GUARD;; working += working) {
+      final MathContext wmc = new MathContext(working + 2, RoundingMode.HALF_EVEN);
+      final BigDecimal value;
+      if (x.signum() == 0) {
+        final BigDecimal halfPi = InverseTrigonometric.halfPi(working);
+        value = y.signum() > 0 ? halfPi : halfPi.negate();
+      } else if (y.signum() == 0) {
+        value = ConstantCache.pi(wmc);
+      } else if (x.signum() > 0) {
+        value = InverseTrigonometric.arctan(y.divide(x, wmc), working);
+      } else {
+        // 結果の絶対値は π/2 以上になるため、π との和で桁落ちしない.
+        final BigDecimal pi = ConstantCache.pi(wmc);
+        value = InverseTrigonometric.arctan(y.divide(x, wmc), working + 2).add(
+            y.signum() > 0 ? pi : pi.negate(), wmc);
+      }
+      final BigDecimal result = RoundingJudgement.round(value, working, mc);
+      if (result != null) {
+        return result;
+      }
+    }
+  }
+
+  /**
+   * 精度の桁数を返す.
+   *
+   * @param mc
+   *          精度
+   * @return 精度の桁数
+   * @since 2026/10/19 4:12:30
+   */
+  private static int digits(final MathContext mc) {
+    final int digits = mc.getPrecision();
+    if (digits == 0) {
+      throw new IllegalArgumentException(
+          "The inverse trigonometric functions need a finite precision.");
+    }
+    return digits;
+  }
+
+  /**
+   * 逆正弦と逆余弦の引数が -1 以上 1 以下であることを確かめる.
+   *
+   * @param x
+   *          値
+   * @exception ArithmeticException
+   *              |x| &gt; 1 の場合
+   * @since 2026/10/19 4:12:30
+   */
+  private static void judgeOfDomain(final BigDecimal x) {
+    if (x.abs().compareTo(BigDecimal.ONE) > 0) {
+      throw new ArithmeticException("The expression is Not a Number. The arcsine and arccosine"
+          + " cannot operate the complex numbers. The value of an argument"
+          + " must be the range of |a| <= 1.");
+    }
+  }
+
+  /**
+   * π/2 を相対誤差 10^-working 程度で求める.
+   *
+   * @param working
+   *          桁数
+   * @return π/2
+   * @since 2026/10/19 4:12:30
+   */
+  private static BigDecimal halfPi(final int working) {
+    return ConstantCache.pi(new MathContext(working + 2, RoundingMode.HALF_EVEN)).multiply(
+        InverseTrigonometric.HALF);
+  }
+
+  /**
+   * 0 ではない x の逆正接を相対誤差 10^-working 程度で求める.
+   *
+   * @param x
+   *          0 ではない値
+   * @param working
+   *          桁数
+   * @return atan(x)
+   * @since 2026/10/19 4:12:30
+   */
+  private static BigDecimal arctan(final BigDecimal x, final int working) {
+    if (x.abs().compareTo(BigDecimal.ONE) <= 0) {
+      return InverseTrigonometric.arctanReduced(x, working);
+    }
+    // 結果の絶対値は π/4 以上で、π/2 との差で失う桁は1桁未満である.
+    final MathContext wmc = new MathContext(working + 2, RoundingMode.HALF_EVEN);
+    final BigDecimal halfPi = InverseTrigonometric.halfPi(working + 2);
+    final BigDecimal inner = InverseTrigonometric.arctanReduced(BigDecimal.ONE.divide(x, wmc),
+        working + 2);
+    return (x.signum() > 0 ? halfPi : halfPi.negate()).subtract(inner, wmc);
+  }
+
+  /**
+   * |x| &lt;= 1 の逆正接を求める.
+   *
+   * <pre>
+   *  |x| が 10^-target より小さければ級数の項が1項ごとに 10^-2target 倍以下になるため、級数で求める.
+   *  それ以外は tan(y) = x をニュートン法で解く. 結果の絶対値は |x| 程度で、
+   *  ニュートン法の誤差は y の大きさによらないため、|x| が小さい分だけ多く求める.
+   * </pre>
+   *
+   * @param x
+   *          0 ではない |x| &lt;= 1 の値
+   * @param working
+   *          桁数
+   * @return atan(x)
+   * @since 2026/10/19 4:12:30
+   */
+  private static BigDecimal arctanReduced(final BigDecimal x, final int working) {
+    final double log10 = Math.log10(Math.abs(x.doubleValue()));
+    if (log10 < -Math.sqrt(working / 25.0d)) {
+      return InverseTrigonometric.arctanSeries(x, working);
+    }
+    return InverseTrigonometric.arctanNewton(x, working + Math.max(0, (int) Math.ceil(-log10)));
+  }
+
+  /**
+   * 逆正接を級数 atan(x) = x - x^3/3 + x^5/5 - ... で求める.
+   *
+   * @param x
+   *          0 ではない |x| &lt; 1 の値
+   * @param working
+   *          桁数
+   * @return atan(x)
+   * @since 2026/10/19 4:12:30
+   */
+  private static BigDecimal arctanSeries(final BigDecimal x, final int working) {
+    final MathContext wmc = new MathContext(working + 2, RoundingMode.HALF_EVEN);
+    final BigDecimal x2 = x.multiply(x, wmc);
+    // x は桁数が少ないことがあるため、ulp ではなく大きさと作業精度から打ち切る値を決める.
+    final BigDecimal eps = BigDecimal.ONE.scaleByPowerOfTen(x.precision() - x.scale()
+        - wmc.getPrecision());
+    BigDecimal sum = x;
+    BigDecimal power = x;
+    for (int i = 3;; i += 2) {
+      power = power.multiply(x2, wmc).negate();
+      final BigDecimal term = power.divide(BigDecimal.valueOf(i), wmc);
+      if (term.abs().compareTo(eps) < 0) {
+        break;
+      }
+      sum = sum.add(term, wmc);
+    }
+    return sum;
+  }
+
+  /**
+   * tan(y) = x をニュートン法 y' = y - (sin(y) - x cos(y)) cos(y) で解く.
+   *
+   * <pre>
+   *  Math.atan の値から始め、1回ごとに正しい桁数が2倍になるため、精度も2倍ずつ増やす.
+   *  sin(y), cos(y) は Trigonometric で1回の展開から両方求める. 最後の1回だけが作業精度で、
+   *  それまでの計算を合わせても最後の1回とほぼ同じ時間で済む.
+   *  引数を半分にしてから級数で求める方法は、半分にするたびに平方根が必要で遅い.
+   * </pre>
+   *
+   * @param x
+   *          |x| &lt;= 1 の値
+   * @param working
+   *          桁数
+   * @return 誤差が 10^-working 程度の atan(x)
+   * @since 2026/10/19 4:12:30
+   */
+  private static BigDecimal arctanNewton(final BigDecimal x, final int working) {
+    final int[] precisions = new int[Integer.SIZE];
+    int steps = 0;
+    for (int q = working + 2; q > InverseTrigonometric.SEED_DIGITS; q = (q + 1) / 2) {
+      precisions[steps++] = q;
+    }
+    BigDecimal y = new BigDecimal(Math.atan(x.doubleValue()));
+    for (int i = steps - 1; i >= 0; i--) {
+      final MathContext qmc = new MathContext(precisions[i] + 2, RoundingMode.HALF_EVEN);
+      final BigDecimal[] value = Trigonometric.evaluate(y, qmc.getPrecision());
+      y = y.subtract(value[0].subtract(x.multiply(value[1], qmc), qmc).multiply(value[1], qmc),
+          qmc);
+    }
+    return y;
+  }
+}
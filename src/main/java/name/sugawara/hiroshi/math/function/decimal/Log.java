@@ -25,7 +25,7 @@ public final strictfp class Log implements FunctionOfSingleVariable<BigDecimal,
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision precision;
+  private final Precision precision;
 
   /**
    * コンストラクタ.
@@ -39,18 +39,22 @@ public final strictfp class Log implements FunctionOfSingleVariable<BigDecimal,
   }
 
   /**
-   * 自然対数(連分数展開版)を求める.
+   * 自然対数を求める.
    * 
-   * 
-   * 級数展開版より高速。 桁落ちが無い。
+   * <pre>
+   *  Logarithm により、引数から 10 と 2 の累乗を括り出して 1 に近い値の対数に帰着させる.
+   *  項数は Precision の項数ではなく MathContext の精度から決まり、結果は MathContext で丸めた値である.
+   * </pre>
    * 
    * @param argument
    *          BigDecimal型の値
    * @return 自然対数log_e(x)をBigDecimal型で返す
+   * @exception ArithmeticException
+   *              引数が 0 以下の場合
    * @since 1.1
    */
   public BigDecimal getDependentVariable(final BigDecimal argument) {
-    return Log.logOfContinuedFraction(argument, this.precision);
+    return Logarithm.log(argument, this.precision.getMathContext());
   }
 
   /**
@@ -1,7 +1,6 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
-import java.math.MathContext;
 
 import name.sugawara.hiroshi.math.function.object.FunctionOfSingleVariable;
 import name.sugawara.hiroshi.math.precision.Precision;
@@ -23,7 +22,7 @@ public final strictfp class Log10 implements FunctionOfSingleVariable<BigDecimal
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision precision;
+  private final Precision precision;
 
   /**
    * 精度情報を指定する.
@@ -36,7 +35,12 @@ public final strictfp class Log10 implements FunctionOfSingleVariable<BigDecimal
   }
 
   /**
-   * 常用対数を自然対数を連分数展開で求めるLog.logOfContinuedFraction()を用いて求める.<br />
+   * 常用対数を求める.<br />
+   * 
+   * <pre>
+   *  Logarithm で自然対数を求めて ln 10 で割る. 引数が10の整数乗なら正確な値を返す.
+   *  項数は Precision の項数ではなく MathContext の精度から決まる.
+   * </pre>
    * 
    * @param argument
    *          BigDecimal型の値
@@ -44,13 +48,11 @@ public final strictfp class Log10 implements FunctionOfSingleVariable<BigDecimal
    * @since 1.1
    */
   public BigDecimal getDependentVariable(final BigDecimal argument) {
-    return Log10.log10(argument, this.precision);
+    return Logarithm.log10(argument, this.precision.getMathContext());
   }
 
-
-
   /**
-   * 常用対数を自然対数を連分数展開で求めるLog.logOfContinuedFraction()を用いて求める.<br />
+   * 常用対数を求める.<br />
    * 
    * @param x
    *          BigDecimal型の値
@@ -60,9 +62,6 @@ public final strictfp class Log10 implements FunctionOfSingleVariable<BigDecimal
    * @since 1.1
    */
   public static BigDecimal log10(final BigDecimal x, final Precision p) {
-    final  BigDecimal numerator = Log.logOfContinuedFraction(x, p);
-    final  BigDecimal denominator = Log.logOfContinuedFraction(new BigDecimal("10"), p);
-    final   MathContext mc = p.getMathContext();
-    return numerator.divide(denominator, mc);
+    return Logarithm.log10(x, p.getMathContext());
   }
 }
@@ -1,7 +1,6 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
-import java.math.MathContext;
 
 import name.sugawara.hiroshi.math.function.object.FunctionOfSingleVariable;
 import name.sugawara.hiroshi.math.precision.Precision;
@@ -23,7 +22,7 @@ public final strictfp class Log2 implements FunctionOfSingleVariable<BigDecimal,
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision precision;
+  private final Precision precision;
 
   /**
    * 精度情報を指定する.
@@ -36,37 +35,33 @@ public final strictfp class Log2 implements FunctionOfSingleVariable<BigDecimal,
   }
 
   /**
-   * 底を2とした対数を、自然対数を連分数展開で求める.
+   * 底を2とした対数を求める.
    * 
    * <pre>
-   *    Log.logOfContinuedFraction()を用いて求める.
+   *    Logarithm で自然対数を求めて ln 2 で割る. 引数が2の整数乗なら正確な値を返す.
+   *    項数は Precision の項数ではなく MathContext の精度から決まる.
    * </pre>
    * 
    * @param argument
    *          BigDecimal型の値
-   * @return 常用対数log_10(x)をBigDecimal型で返す
+   * @return 底を2とした対数log_2(x)をBigDecimal型で返す
    * @since 1.1
    */
   public BigDecimal getDependentVariable(final BigDecimal argument) {
-    return Log2.log2(argument, this.precision);
+    return Logarithm.log2(argument, this.precision.getMathContext());
   }
 
   /**
-   * 底を2とした対数を、自然対数を連分数展開で求めるLog.
-   * 
-   * logOfContinuedFraction()を用いて求める.
+   * 底を2とした対数を求める.
    * 
    * @param x
    *          BigDecimal型の値
    * @param p
    *          誤差
-   * @return 常用対数log_10(x)をBigDecimal型で返す
+   * @return 底を2とした対数log_2(x)をBigDecimal型で返す
    * @since 1.1
    */
   public static BigDecimal log2(final BigDecimal x, final Precision p) {
-    final BigDecimal numerator = Log.logOfContinuedFraction(x, p);
-    final BigDecimal denominator = Log.logOfContinuedFraction(new BigDecimal("2"), p);
-    final MathContext mc = p.getMathContext();
-    return numerator.divide(denominator, mc);
+    return Logarithm.log2(x, p.getMathContext());
   }
 }
@@ -0,0 +1,369 @@
+/**
+ * Created Date : 2026/10/19 2:58:10
+ */
+package name.sugawara.hiroshi.math.function.decimal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import name.sugawara.hiroshi.math.constant.ConstantCache;
+
+/**
+ * 自然対数, 2を底とする対数, 常用対数を求める.
+ *
+ * <pre>
+ *  引数を a = 10^k 2^j r (2^-1/2 &lt;= r &lt;= 2^1/2) と分解し、ln a = k ln 10 + j ln 2 + ln r とする.
+ *  ln 2, ln 10 は ConstantCache から必要な桁数で得る. a が 1 に近い場合は桁落ちを避けるため分解しない.
+ *  ln r は精度が AGM_DIGITS 桁未満か r が十分 1 に近ければ atanh の級数で、
+ *  それ以外は算術幾何平均 (AGM) で求める. 項数と反復の回数は MathContext の精度から決まる.
+ *  丸めの境界に近く正しく丸められない場合は、作業精度を2倍にして求め直す.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see Log
+ * @see Log2
+ * @see Log10
+ *
+ * Created Date : 2026/10/19 2:58:10
+ */
+final strictfp class Logarithm {
+
+  /**
+   * 要求された桁数に加えて計算する桁数.
+   *
+   * @since 2026/10/19 2:58:10
+   */
+  private static final int        GUARD      = 10;
+
+  /**
+   * この桁数以上では AGM で ln r を求める.
+   *
+   * @since 2026/10/19 2:58:10
+   */
+  private static final int        AGM_DIGITS = 250;
+
+  /**
+   * log10(2).
+   *
+   * @since 2026/10/19 2:58:10
+   */
+  private static final double     LOG10_2    = Math.log10(2.0d);
+
+  /**
+   * ln(10).
+   *
+   * @since 2026/10/19 2:58:10
+   */
+  private static final double     LN10       = Math.log(10.0d);
+
+  /**
+   * 1/2.
+   *
+   * @since 2026/10/19 2:58:10
+   */
+  private static final BigDecimal HALF       = new BigDecimal("0.5");
+
+  /**
+   * 4.
+   *
+   * @since 2026/10/19 2:58:10
+   */
+  private static final BigDecimal FOUR       = BigDecimal.valueOf(4L);
+
+  /**
+   * 5.
+   *
+   * @since 2026/10/19 2:58:10
+   */
+  private static final BigInteger FIVE       = BigInteger.valueOf(5L);
+
+  /**
+   * コンストラクタ使用禁止.
+   *
+   * @since 2026/10/19 2:58:10
+   */
+  private Logarithm() {
+    // Empty block
+  }
+
+  /**
+   * 自然対数を求める.
+   *
+   * @param a
+   *          正の値
+   * @param mc
+   *          精度と丸めモード
+   * @return ln(a) を mc で丸めた値
+   * @exception ArithmeticException
+   *              a が 0 以下の場合
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/19 2:58:10
+   */
+  static BigDecimal log(final BigDecimal a, final MathContext mc) {
+    final int digits = Logarithm.digits(a, mc);
+    if (a.compareTo(BigDecimal.ONE) == 0) {
+      return BigDecimal.ZERO;
+    }
+    for (int working = digits + Logarithm.GUARD;; working += working) {
+      final BigDecimal result = RoundingJudgement.round(Logarithm.ln(a, working), working, mc);
+      if (result != null) {
+        return result;
+      }
+    }
+  }
+
+  /**
+   * 2を底とする対数を求める. a が2の整数乗なら正確な値を返す.
+   *
+   * @param a
+   *          正の値
+   * @param mc
+   *          精度と丸めモード
+   * @return log2(a) を mc で丸めた値
+   * @exception ArithmeticException
+   *              a が 0 以下の場合
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/19 2:58:10
+   */
+  static BigDecimal log2(final BigDecimal a, final MathContext mc) {
+    final int digits = Logarithm.digits(a, mc);
+    final BigDecimal exact = Logarithm.exactLog2(a);
+    if (exact != null) {
+      return exact.round(mc);
+    }
+    for (int working = digits + Logarithm.GUARD;; working += working) {
+      final MathContext wmc = new MathContext(working, RoundingMode.HALF_EVEN);
+      final BigDecimal result = RoundingJudgement.round(Logarithm.ln(a, working).divide(
+          ConstantCache.ln2(wmc), wmc), working, mc);
+      if (result != null) {
+        return result;
+      }
+    }
+  }
+
+  /**
+   * 常用対数を求める. a が10の整数乗なら正確な値を返す.
+   *
+   * @param a
+   *          正の値
+   * @param mc
+   *          精度と丸めモード
+   * @return log10(a) を mc で丸めた値
+   * @exception ArithmeticException
+   *              a が 0 以下の場合
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/19 2:58:10
+   */
+  static BigDecimal log10(final BigDecimal a, final MathContext mc) {
+    final int digits = Logarithm.digits(a, mc);
+    final BigDecimal stripped = a.stripTrailingZeros();
+    if (stripped.unscaledValue().equals(BigInteger.ONE)) {
+      return BigDecimal.valueOf(-(long) stripped.scale()).round(mc);
+    }
+    for (int working = digits + Logarithm.GUARD;; working += working) {
+      final MathContext wmc = new MathContext(working, RoundingMode.HALF_EVEN);
+      final BigDecimal result = RoundingJudgement.round(Logarithm.ln(a, working).divide(
+          ConstantCache.ln10(wmc), wmc), working, mc);
+      if (result != null) {
+        return result;
+      }
+    }
+  }
+
+  /**
+   * 引数を確かめ、精度の桁数を返す.
+   *
+   * @param a
+   *          値
+   * @param mc
+   *          精度
+   * @return 精度の桁数
+   * @since 2026/10/19 2:58:10
+   */
+  private static int digits(final BigDecimal a, final MathContext mc) {
+    LogJudgement.judgeOfNegativeNumber(a);
+    final int digits = mc.getPrecision();
+    if (digits == 0) {
+      throw new IllegalArgumentException("The logarithm needs a finite precision.");
+    }
+    return digits;
+  }
+
+  /**
+   * a が2の整数乗なら指数を、そうでなければ null を返す.
+   *
+   * @param a
+   *          正の値
+   * @return log2(a) または null
+   * @since 2026/10/19 2:58:10
+   */
+  private static BigDecimal exactLog2(final BigDecimal a) {
+    final BigDecimal stripped = a.stripTrailingZeros();
+    final BigInteger unscaled = stripped.unscaledValue();
+    final int scale = stripped.scale();
+    if (scale == 0) {
+      return unscaled.bitCount() == 1 ? BigDecimal.valueOf(unscaled.bitLength() - 1) : null;
+    }
+    // 2^-n = 5^n 10^-n で、5^n は10で割り切れない.
+    final double bits = scale * Math.log(5.0d) / Math.log(2.0d);
+    if (scale < 0 || Math.abs(unscaled.bitLength() - bits) > 2.0d) {
+      return null;
+    }
+    return unscaled.equals(Logarithm.FIVE.pow(scale)) ? BigDecimal.valueOf(-(long) scale) : null;
+  }
+
+  /**
+   * 自然対数を相対誤差 10^-working 程度で求める.
+   *
+   * @param a
+   *          1 ではない正の値
+   * @param working
+   *          桁数
+   * @return ln(a)
+   * @since 2026/10/19 2:58:10
+   */
+  static BigDecimal ln(final BigDecimal a, final int working) {
+    // a = m 10^k (1 <= m < 10)
+    final int k = a.precision() - a.scale() - 1;
+    final BigDecimal m = a.scaleByPowerOfTen(-k);
+    final double lnM = Math.log(m.doubleValue());
+    final double estimate = Math.abs(lnM + k * Logarithm.LN10);
+    if (estimate < 0.5d) {
+      return Logarithm.lnNearOne(a, working);
+    }
+
+    // m = 2^j r. r は m を 2^j で割った値で、5^j 10^-j を掛けて丸めずに求める.
+    final int j = (int) Math.round(lnM / Math.log(2.0d));
+    final BigDecimal r = m.multiply(new BigDecimal(Logarithm.FIVE.pow(j))).scaleByPowerOfTen(-j);
+
+    // k ln 10 + j ln 2 と ln r の打ち消し合いで失う桁数だけ多く求める.
+    final int cancel = (int) Math.ceil(Math.log10((Math.abs(k) * Logarithm.LN10 + 3.0d)
+        / estimate));
+    final int w = working + Math.max(0, cancel);
+    final MathContext wmc = new MathContext(w, RoundingMode.HALF_EVEN);
+    BigDecimal sum = r.compareTo(BigDecimal.ONE) == 0 ? BigDecimal.ZERO : Logarithm.lnNearOne(r,
+        w);
+    if (j != 0) {
+      sum = sum.add(ConstantCache.ln2(wmc).multiply(BigDecimal.valueOf(j)), wmc);
+    }
+    if (k != 0) {
+      sum = sum.add(ConstantCache.ln10(wmc).multiply(BigDecimal.valueOf(k)), wmc);
+    }
+    return sum;
+  }
+
+  /**
+   * 1/2 から 2 程度の値の自然対数を相対誤差 10^-working 程度で求める.
+   *
+   * @param r
+   *          1 ではない 1 に近い正の値
+   * @param working
+   *          桁数
+   * @return ln(r)
+   * @since 2026/10/19 2:58:10
+   */
+  private static BigDecimal lnNearOne(final BigDecimal r, final int working) {
+    // |r - 1| < 10^-zeros
+    final BigDecimal t = r.subtract(BigDecimal.ONE);
+    final int zeros = t.scale() - t.precision();
+    final double target = Math.sqrt(working / 50.0d);
+    if (working >= Logarithm.AGM_DIGITS && zeros < target) {
+      return Logarithm.lnAgm(r, working);
+    }
+    return Logarithm.lnSeries(r, working, zeros, target);
+  }
+
+  /**
+   * ln(r) = 2 atanh((r - 1) / (r + 1)) を級数で求める.
+   *
+   * <pre>
+   *  平方根を s 回とると (r - 1) / (r + 1) はおよそ 2^-s 倍になり、級数の項数が減る.
+   *  平方根1回は級数の数十項分の時間がかかるため、|(r - 1) / (r + 1)| がおよそ 10^-target に
+   *  なるまでとる. 平方根をとると r - 1 の桁落ちが生じるため、その桁数だけ多く求める.
+   * </pre>
+   *
+   * @param r
+   *          1 ではない 1 に近い正の値
+   * @param working
+   *          桁数
+   * @param zeros
+   *          |r - 1| &lt; 10^-zeros となる整数
+   * @param target
+   *          平方根をとって (r - 1) / (r + 1) を 10^-target 程度にする
+   * @return ln(r)
+   * @since 2026/10/19 2:58:10
+   */
+  private static BigDecimal lnSeries(final BigDecimal r, final int working, final int zeros,
+      final double target) {
+    final int roots = Math.max(0, (int) Math.ceil((target - zeros) / Logarithm.LOG10_2));
+    final int guard = roots == 0 ? 2 : (int) Math.ceil(target) + 3;
+    final MathContext wmc = new MathContext(working + guard, RoundingMode.HALF_EVEN);
+
+    BigDecimal x = r;
+    for (int i = 0; i < roots; i++) {
+      x = NewtonRoot.sqrt(x, wmc);
+    }
+    final BigDecimal z = x.subtract(BigDecimal.ONE).divide(x.add(BigDecimal.ONE), wmc);
+    final BigDecimal z2 = z.multiply(z, wmc);
+    // z は割り切れると桁数が少ないため、ulp ではなく大きさと作業精度から打ち切る値を決める.
+    final BigDecimal eps = BigDecimal.ONE.scaleByPowerOfTen(z.precision() - z.scale()
+        - wmc.getPrecision());
+    BigDecimal sum = z;
+    BigDecimal power = z;
+    for (int i = 3;; i += 2) {
+      power = power.multiply(z2, wmc);
+      final BigDecimal term = power.divide(BigDecimal.valueOf(i), wmc);
+      if (term.abs().compareTo(eps) < 0) {
+        break;
+      }
+      sum = sum.add(term, wmc);
+    }
+    return sum.multiply(new BigDecimal(BigInteger.ONE.shiftLeft(roots + 1)));
+  }
+
+  /**
+   * ln(r) を算術幾何平均で求める.
+   *
+   * <pre>
+   *  s = r 2^m が 10^(working / 2) より大きければ ln(s) = π / (2 AGM(1, 4 / s)) が working 桁の精度で
+   *  成り立つ. ln(r) = ln(s) - m ln 2 で、ln(s) と m ln 2 の打ち消し合いで失う桁数だけ多く求める.
+   * </pre>
+   *
+   * @param r
+   *          1/2 から 2 程度の正の値
+   * @param working
+   *          桁数
+   * @return ln(r)
+   * @since 2026/10/19 2:58:10
+   */
+  private static BigDecimal lnAgm(final BigDecimal r, final int working) {
+    final int m = (int) Math.ceil((working + 2) / Logarithm.LOG10_2 / 2.0d) + 2;
+    final double lnR = Math.abs(Math.log(r.doubleValue()));
+    final int cancel = (int) Math.ceil(Math.log10(m / lnR)) + 2;
+    final int w = working + cancel;
+    final MathContext wmc = new MathContext(w, RoundingMode.HALF_EVEN);
+
+    BigDecimal a = BigDecimal.ONE;
+    BigDecimal b = Exponent.ldexp(Logarithm.FOUR.divide(r, wmc), -m, wmc);
+    while (true) {
+      final BigDecimal next = a.add(b).multiply(Logarithm.HALF, wmc);
+      final boolean converged = a.subtract(b).abs().compareTo(next.ulp().scaleByPowerOfTen(
+          w / 2)) <= 0;
+      b = NewtonRoot.sqrt(a.multiply(b, wmc), wmc);
+      a = next;
+      if (converged) {
+        // 差が 10^(-w/2) 程度になれば、次の平均で w 桁一致する.
+        a = a.add(b).multiply(Logarithm.HALF, wmc);
+        break;
+      }
+    }
+    final BigDecimal lnS = ConstantCache.pi(wmc).divide(a.add(a), wmc);
+    return lnS.subtract(ConstantCache.ln2(wmc).multiply(BigDecimal.valueOf(m)), wmc);
+  }
+}
@@ -0,0 +1,241 @@
+/**
+ * Created Date : 2026/10/19 1:48:26
+ */
+package name.sugawara.hiroshi.math.function.decimal;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * 平方根と立方根をニュートン法で求める.
+ *
+ * <pre>
+ *  引数を m 10^(n e) (1 &lt;= m &lt; 10^n) と分解し、m の double 値の Math.sqrt, Math.cbrt を
+ *  初期値にする. ニュートン法は1回ごとに正しい桁数が2倍になるため、作業精度も1回ごとに2倍にし、
+ *  MathContext の精度に達したら終える. 反復の回数は精度だけから決まり、許容誤差は使わない.
+ *  最後に、近似値を切り捨てた候補 c と c + ulp を正確に n 乗して m と比べ、
+ *  c &lt;= m^(1/n) &lt; c + ulp となる c を定めてから丸めモードに従って選ぶ. そのため丸めの境界に
+ *  近い根も正しく丸められ、結果が MathContext の精度で正確に表せる場合は丸めモードによらずその値を返す.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see SquareRoot
+ * @see CubeRoot
+ *
+ * Created Date : 2026/10/19 1:48:26
+ */
+final strictfp class NewtonRoot {
+
+  /**
+   * 要求された桁数に加えて計算する桁数.
+   *
+   * @since 2026/10/19 1:48:26
+   */
+  private static final int GUARD        = 5;
+
+  /**
+   * 初期値の正しい桁数. double の有効桁数より少し小さくとる.
+   *
+   * @since 2026/10/19 1:48:26
+   */
+  private static final int SEED_DIGITS  = 14;
+
+  /**
+   * 1/2.
+   *
+   * @since 2026/10/19 1:48:26
+   */
+  private static final BigDecimal HALF  = new BigDecimal("0.5");
+
+  /**
+   * 3.
+   *
+   * @since 2026/10/19 1:48:26
+   */
+  private static final BigDecimal THREE = BigDecimal.valueOf(3L);
+
+  /**
+   * コンストラクタ使用禁止.
+   *
+   * @since 2026/10/19 1:48:26
+   */
+  private NewtonRoot() {
+    // Empty block
+  }
+
+  /**
+   * 平方根を求める.
+   *
+   * @param a
+   *          0 以上の値
+   * @param mc
+   *          精度と丸めモード
+   * @return sqrt(a) を mc で丸めた値
+   * @exception ArithmeticException
+   *              a が負の場合
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/19 1:48:26
+   */
+  static BigDecimal sqrt(final BigDecimal a, final MathContext mc) {
+    if (a.signum() < 0) {
+      throw new ArithmeticException("The expression is Not a Number."
+          + " This method and class cannot operate the complex numbers.");
+    }
+    return NewtonRoot.root(a, 2, mc);
+  }
+
+  /**
+   * 実数の立方根を求める. a が負のときは -cbrt(-a) を返す.
+   *
+   * @param a
+   *          値
+   * @param mc
+   *          精度と丸めモード
+   * @return cbrt(a) を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/19 1:48:26
+   */
+  static BigDecimal cbrt(final BigDecimal a, final MathContext mc) {
+    if (a.signum() < 0) {
+      return NewtonRoot.root(a.negate(), 3, NewtonRoot.negate(mc)).negate();
+    }
+    return NewtonRoot.root(a, 3, mc);
+  }
+
+  /**
+   * 0 以上の値の n 乗根 (n = 2, 3) を求める.
+   *
+   * @param a
+   *          0 以上の値
+   * @param n
+   *          2 または 3
+   * @param mc
+   *          精度と丸めモード
+   * @return a の n 乗根を mc で丸めた値
+   * @since 2026/10/19 1:48:26
+   */
+  private static BigDecimal root(final BigDecimal a, final int n, final MathContext mc) {
+    final int digits = mc.getPrecision();
+    if (digits == 0) {
+      throw new IllegalArgumentException("A root needs a finite precision.");
+    }
+    if (a.signum() == 0) {
+      return BigDecimal.ZERO;
+    }
+
+    // a = m 10^(n e), 1 <= m < 10^n
+    final int adjusted = a.precision() - a.scale() - 1;
+    final int e = (int) Math.floor((double) adjusted / n);
+    final BigDecimal m = a.scaleByPowerOfTen(-n * e);
+    final double seed;
+    if (n == 2) {
+      seed = Math.sqrt(m.doubleValue());
+    } else {
+      seed = Math.cbrt(m.doubleValue());
+    }
+    BigDecimal y = new BigDecimal(seed, new MathContext(NewtonRoot.SEED_DIGITS + 2));
+
+    // 作業精度を 2 倍ずつ増やす. 最後の精度が digits + GUARD になるよう、後ろから半分にして並べる.
+    final int[] precisions = new int[Integer.SIZE];
+    int steps = 0;
+    for (int q = digits + NewtonRoot.GUARD; q > NewtonRoot.SEED_DIGITS; q = (q + 1) / 2) {
+      precisions[steps++] = q;
+    }
+    for (int i = steps - 1; i >= 0; i--) {
+      final MathContext qmc = new MathContext(precisions[i] + 2, RoundingMode.HALF_EVEN);
+      if (n == 2) {
+        y = y.add(m.divide(y, qmc)).multiply(NewtonRoot.HALF, qmc);
+      } else {
+        y = y.add(y).add(m.divide(y.multiply(y, qmc), qmc)).divide(NewtonRoot.THREE, qmc);
+      }
+    }
+
+    // 1 <= m^(1/n) < 10 なので、digits 桁の ulp は 10^(1 - digits) で一定になる.
+    final BigDecimal ulp = BigDecimal.ONE.scaleByPowerOfTen(1 - digits);
+    BigDecimal lower = y.setScale(digits - 1, RoundingMode.FLOOR);
+    while (lower.pow(n).compareTo(m) > 0) {
+      lower = lower.subtract(ulp);
+    }
+    while (lower.add(ulp).pow(n).compareTo(m) <= 0) {
+      lower = lower.add(ulp);
+    }
+    final BigDecimal result;
+    if (lower.pow(n).compareTo(m) == 0) {
+      result = lower;
+    } else if (NewtonRoot.roundsUp(lower, ulp, n, m, mc.getRoundingMode())) {
+      result = lower.add(ulp);
+    } else {
+      result = lower;
+    }
+    return result.round(new MathContext(digits, RoundingMode.DOWN)).scaleByPowerOfTen(e);
+  }
+
+  /**
+   * 正確には表せない根 r (lower &lt; r &lt; lower + ulp) を、丸めモードに従って lower + ulp に丸めるかどうかを
+   * 返す.
+   *
+   * @param lower
+   *          r を切り捨てた値
+   * @param ulp
+   *          lower の最後の桁の単位
+   * @param n
+   *          2 または 3
+   * @param m
+   *          r^n
+   * @param mode
+   *          丸めモード
+   * @return lower + ulp に丸める場合 true
+   * @exception ArithmeticException
+   *              mode が UNNECESSARY の場合
+   * @since 2026/10/19 6:34:52
+   */
+  private static boolean roundsUp(final BigDecimal lower, final BigDecimal ulp, final int n,
+      final BigDecimal m, final RoundingMode mode) {
+    switch (mode) {
+    case UP:
+    case CEILING:
+      return true;
+    case DOWN:
+    case FLOOR:
+      return false;
+    case UNNECESSARY:
+      throw new ArithmeticException("Rounding necessary");
+    default:
+      // 中点の n 乗と m を比べる. 中点に等しいときだけ HALF_UP, HALF_DOWN, HALF_EVEN で分かれる.
+      final int c = lower.add(ulp.multiply(NewtonRoot.HALF)).pow(n).compareTo(m);
+      if (c != 0) {
+        return c < 0;
+      }
+      if (mode == RoundingMode.HALF_UP) {
+        return true;
+      } else if (mode == RoundingMode.HALF_DOWN) {
+        return false;
+      }
+      return lower.unscaledValue().testBit(0);
+    }
+  }
+
+  /**
+   * 符号を反転した値を丸めるための MathContext を返す.
+   * -x を mc で丸めた値は、x を返り値で丸めて符号を反転した値に等しい.
+   *
+   * @param mc
+   *          精度と丸めモード
+   * @return 丸めの向きを反転した MathContext
+   * @since 2026/10/19 1:48:26
+   */
+  private static MathContext negate(final MathContext mc) {
+    switch (mc.getRoundingMode()) {
+    case CEILING:
+      return new MathContext(mc.getPrecision(), RoundingMode.FLOOR);
+    case FLOOR:
+      return new MathContext(mc.getPrecision(), RoundingMode.CEILING);
+    default:
+      return mc;
+    }
+  }
+}
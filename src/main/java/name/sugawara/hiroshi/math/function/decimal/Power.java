@@ -3,6 +3,7 @@ package name.sugawara.hiroshi.math.function.decimal;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.MathContext;
+import java.math.RoundingMode;
 
 import name.sugawara.hiroshi.math.function.object.FunctionOfTwoVariable;
 import name.sugawara.hiroshi.math.precision.Precision;
@@ -25,7 +26,28 @@ public final strictfp class Power implements
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision precision;
+  private final Precision precision;
+
+  /**
+   * 指数の桁数に加えて途中の積に持たせる桁数.
+   * 
+   * @since 2026/10/19 2:21:43
+   */
+  private static final int GUARD = 3;
+
+  /**
+   * log10(2).
+   * 
+   * @since 2026/10/19 2:21:43
+   */
+  private static final double LOG10_2 = Math.log10(2.0d);
+
+  /**
+   * ウィンドウ幅を決める指数のビット数. ビット数が WINDOW_THRESHOLDS[w - 1] 以下なら幅 w とする.
+   * 
+   * @since 2026/10/19 2:21:43
+   */
+  private static final int[] WINDOW_THRESHOLDS = { 7, 25, 81, 241, 673, 1793 };
 
   /**
    * コンストラクタ.
@@ -40,7 +62,8 @@ public final strictfp class Power implements
 
   /**
    * 基数の整数乗 base^exponent を返す.<br />
-   * 指数が負数でない場合はscaleとroundingModeは使用されない。
+   * 結果は精度の MathContext で丸める. MathContext の精度が 0 (無制限) の場合、指数が負数でなければ
+   * 正確な値を返す.
    * 
    * @param base
    *          指数関数の基数部
@@ -50,44 +73,102 @@ public final strictfp class Power implements
    * @since 1.1
    */
   public BigDecimal getDependentVariable(final BigDecimal base, final BigInteger exponent) {
-    return Power.pow(base, exponent, this.precision);
+    return Power.pow(base, exponent, this.precision.getMathContext());
   }
 
   /**
-   * 基数の整数乗 base^exponent を返す. <br />
-   * 指数が負数でない場合はscaleとroundingModeは使用されない。
+   * 基数の整数乗 base^exponent を mc で丸めて返す.
+   * 
+   * <pre>
+   *  スライディングウィンドウ法で |exponent| の2進表現を上位から読み、約 log2|exponent| 回の2乗と
+   *  それより少ない回数の掛け算で求める. 途中の積は mc の精度に exponent の桁数と GUARD を加えた
+   *  精度で丸め、桁数が際限なく増えないようにする. 指数が負の場合は最後に逆数をとる.
+   * </pre>
    * 
    * @param base
    *          指数関数の基数部
    * @param exponent
    *          指数関数の指数部
-   * @param p
-   *          誤差
-   * @return 1 番目の BigDecimal 型引数を、2 番目の BigInteger 型引数で累乗した値
-   * @since 1.1
+   * @param mc
+   *          精度
+   * @return base^exponent を mc で丸めた値
+   * @exception ArithmeticException
+   *              base が 0 で exponent が負の場合、または結果の指数部が範囲を超えた場合
+   * @since 2026/10/19 2:21:43
+   */
+  static BigDecimal pow(final BigDecimal base, final BigInteger exponent, final MathContext mc) {
+    if (exponent.signum() == 0) {
+      return BigDecimal.ONE;
+    }
+    final BigInteger magnitude = exponent.abs();
+    MathContext working = MathContext.UNLIMITED;
+    if (mc.getPrecision() > 0) {
+      // 丸めの相対誤差は最大で exponent 倍に拡大する.
+      final int guard = (int) Math.ceil(magnitude.bitLength() * Power.LOG10_2) + Power.GUARD;
+      working = new MathContext(mc.getPrecision() + guard, RoundingMode.HALF_EVEN);
+    }
+    final BigDecimal result = Power.slidingWindow(base, magnitude, working);
+    if (exponent.signum() < 0) {
+      return BigDecimal.ONE.divide(result, mc);
+    }
+    return result.round(mc);
+  }
+
+  /**
+   * スライディングウィンドウ法で x^n (n &gt; 0) を求める.
+   * 
+   * @param x
+   *          基数
+   * @param n
+   *          正の指数
+   * @param mc
+   *          途中の積を丸める精度
+   * @return x^n
+   * @since 2026/10/19 2:21:43
    */
-  private static BigDecimal pow(final BigDecimal base, final BigInteger exponent, final Precision p) {
-    BigDecimal lastResult;
-    if (exponent.compareTo(BigInteger.ZERO) == 0) {
-      lastResult = BigDecimal.ONE;
-    } else if (exponent.compareTo(BigInteger.ZERO) > 0) {
-      BigDecimal result = base;
+  private static BigDecimal slidingWindow(final BigDecimal x, final BigInteger n,
+      final MathContext mc) {
+    final int bits = n.bitLength();
+    int width = 1;
+    while (width < Power.WINDOW_THRESHOLDS.length && bits > Power.WINDOW_THRESHOLDS[width - 1]) {
+      width++;
+    }
 
-      for (BigInteger bi = BigInteger.ONE; bi.compareTo(exponent) < 0; bi = bi.add(BigInteger.ONE)) {
-        result = result.multiply(base);
+    // odd[i] = x^(2i + 1)
+    final BigDecimal[] odd = new BigDecimal[1 << (width - 1)];
+    odd[0] = x;
+    if (odd.length > 1) {
+      final BigDecimal square = x.multiply(x, mc);
+      for (int i = 1; i < odd.length; i++) {
+        odd[i] = odd[i - 1].multiply(square, mc);
       }
-      lastResult = result;
-    } else {
+    }
 
-      BigDecimal mResult = base;
-      for (BigInteger bi = BigInteger.ONE; bi.compareTo(exponent.abs()) < 0; bi = bi
-          .add(BigInteger.ONE)) {
-        mResult = mResult.multiply(base);
+    // 最上位ビットは 1 なので、最初の窓で result を初期化する.
+    BigDecimal result = null;
+    int i = bits - 1;
+    while (i >= 0) {
+      if (!n.testBit(i)) {
+        result = result.multiply(result, mc);
+        i--;
+        continue;
+      }
+      // 下端のビットが 1 になる、幅 width 以下の窓 [j, i] をとる.
+      int j = Math.max(i - width + 1, 0);
+      while (!n.testBit(j)) {
+        j++;
+      }
+      int window = 0;
+      for (int k = i; k >= j; k--) {
+        window = (window << 1) | (n.testBit(k) ? 1 : 0);
+        if (result != null) {
+          result = result.multiply(result, mc);
+        }
       }
-      final MathContext mc = p.getMathContext();
-      lastResult = BigDecimal.ONE.divide(mResult, mc);
+      result = result == null ? odd[window >> 1] : result.multiply(odd[window >> 1], mc);
+      i = j - 1;
     }
-    return lastResult;
+    return result;
   }
 
   // /** 整数を基数とする基数の正の整数乗 base^exponent を返す。
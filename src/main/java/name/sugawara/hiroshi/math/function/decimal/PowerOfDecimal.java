@@ -26,7 +26,21 @@ public final strictfp class PowerOfDecimal implements
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision precision;
+  private final Precision precision;
+
+  /**
+   * base^exponent = exp(exponent log(base)) で使う指数関数.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  private final Exponent exp;
+
+  /**
+   * base^exponent = exp(exponent log(base)) で使う自然対数.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  private final Log log;
 
   /**
    * 誤差を指定する.
@@ -37,6 +51,8 @@ public final strictfp class PowerOfDecimal implements
    */
   public PowerOfDecimal(final Precision precision) {
     this.precision = precision;
+    this.exp = new Exponent(precision);
+    this.log = new Log(precision);
   }
 
   /**
@@ -55,7 +71,7 @@ public final strictfp class PowerOfDecimal implements
    * @since 1.1
    */
   public BigDecimal getDependentVariable(final BigDecimal base, final BigDecimal exponent) {
-    return PowerOfDecimal.pow(base, exponent, this.precision);
+    return this.pow(base, exponent);
   }
 
   /**
@@ -76,12 +92,10 @@ public final strictfp class PowerOfDecimal implements
    *          指数関数の基数部
    * @param exponent
    *          指数関数の指数部
-   * @param p
-   *          誤差
    * @return pow( base, exponent ) を返す
    * @since 1.1
    */
-  private static BigDecimal pow(final BigDecimal base, final BigDecimal exponent, final Precision p) {
+  private BigDecimal pow(final BigDecimal base, final BigDecimal exponent) {
     BigDecimal result;
     if (exponent.compareTo(BigDecimal.ZERO) == 0) {
       result = BigDecimal.ONE;
@@ -100,18 +114,17 @@ public final strictfp class PowerOfDecimal implements
       final BigInteger bigInteger = exponent.toBigIntegerExact();
       // bigInteger(exponent)が偶数のとき
       if (bigInteger.remainder(new BigInteger("2")).compareTo(BigInteger.ZERO) == 0) {
-        result = PowerOfDecimal.pow(base.abs(), exponent, p);
+        result = this.pow(base.abs(), exponent);
       } else {
-        result = PowerOfDecimal.pow(base.abs(), exponent, p).negate();
+        result = this.pow(base.abs(), exponent).negate();
       }
 
     } else if (base.compareTo(BigDecimal.ZERO) < 0) {
       throw new ArithmeticException("The expression is Not a Number."
           + " This method PowerOfDecimal.pow() cannot operate the complex numbers.");
     } else {
-      final Exponent exp = new Exponent(p);
-      final Log log = new Log(p);
-      result = exp.getDependentVariable(exponent.multiply(log.getDependentVariable(base)));
+      result = this.exp.getDependentVariable(exponent.multiply(
+          this.log.getDependentVariable(base)));
     }
     return result;
   }
@@ -0,0 +1,67 @@
+/**
+ * Created Date : 2026/10/19 3:20:15
+ */
+package name.sugawara.hiroshi.math.function.decimal;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+/**
+ * 作業精度で求めた近似値を、要求された精度で正しく丸められるか判定する.
+ *
+ * <pre>
+ *  近似値 v の相対誤差が 10^-(working - ERROR_DIGITS) 未満のとき、真の値は v から誤差の上限だけ
+ *  離れた2つの値の間にある. 2つを MathContext で丸めた値が一致すれば、真の値もその値に丸まる.
+ *  一致しなければ v は丸めの境界に近いため、呼び出し側は作業精度を上げて求め直す.
+ *  切り上げや切り捨てで、v が丸めの境界にちょうど重なる場合もこれで正しく丸まる.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ *
+ * Created Date : 2026/10/19 3:20:15
+ */
+final strictfp class RoundingJudgement {
+
+  /**
+   * 近似値の誤差が作業精度の最下位の桁の何桁上までありうるか.
+   *
+   * @since 2026/10/19 3:20:15
+   */
+  private static final int ERROR_DIGITS = 2;
+
+  /**
+   * コンストラクタ使用禁止.
+   *
+   * @since 2026/10/19 3:20:15
+   */
+  private RoundingJudgement() {
+    // Empty block
+  }
+
+  /**
+   * 近似値を丸める. 誤差の範囲で丸めた結果が変わる場合は null を返す.
+   *
+   * @param value
+   *          相対誤差が 10^-(working - 2) 未満の近似値
+   * @param working
+   *          近似値の桁数
+   * @param mc
+   *          精度と丸めモード
+   * @return value を mc で丸めた値. 作業精度が足りない場合は null
+   * @since 2026/10/19 3:20:15
+   */
+  static BigDecimal round(final BigDecimal value, final int working, final MathContext mc) {
+    if (value.signum() == 0) {
+      return BigDecimal.ZERO;
+    }
+    final BigDecimal error = BigDecimal.ONE.scaleByPowerOfTen(value.precision() - value.scale()
+        - working + RoundingJudgement.ERROR_DIGITS);
+    final BigDecimal lower = value.subtract(error).round(mc);
+    final BigDecimal upper = value.add(error).round(mc);
+    if (lower.compareTo(upper) != 0) {
+      return null;
+    }
+    return value.round(mc);
+  }
+}
@@ -1,9 +1,7 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
-import java.math.MathContext;
 
-import name.sugawara.hiroshi.math.constant.Constant;
 import name.sugawara.hiroshi.math.function.object.FunctionOfSingleVariable;
 import name.sugawara.hiroshi.math.precision.Precision;
 
@@ -23,7 +21,7 @@ public final strictfp class Sine implements FunctionOfSingleVariable<BigDecimal,
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision precision;
+  private final Precision precision;
 
   /**
    * 精度を指定する.
@@ -36,61 +34,22 @@ public final strictfp class Sine implements FunctionOfSingleVariable<BigDecimal,
     this.precision = precision;
   }
 
-  /**
-   * 底を2とした対数を、自然対数を連分数展開で求める.
-   * 
-   * Log.logOfContinuedFraction()を用いて求める.
-   * 
-   * @param argument
-   *          BigDecimal型の値
-   * @return 常用対数log_10(x)をBigDecimal型で返す
-   * @since 1.1
-   */
-  public BigDecimal getDependentVariable(final BigDecimal argument) {
-    return Sine.sin(argument, this.precision);
-  }
-
   /**
    * 指定された角度の正弦 (サイン) を返す.
-   * 
+   *
+   * <pre>
+   *  引数を π/2 で割った余りに還元し、テイラー展開で求める. 結果は精度の MathContext で丸める.
+   * </pre>
+   *
    * @param argument
    *          ラジアンで表した BigDecimal型の角度
-   * @param p
-   *          誤差
    * @return 引数の正弦 (サイン)をBigDecimal 型で返す
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
    * @since 1.1
+   * @see Trigonometric
    */
-  private static BigDecimal sin(final BigDecimal argument, final Precision p) {
-    final MathContext mc = p.getMathContext();
-    final Constant c = new Constant(p);
-
-    final BigDecimal two = new BigDecimal("2.0");
-    // BigDecimal four = new BigDecimal("4.0");
-
-    // BigDecimal fourtyFive = Constant.pi(p).divide(four, mc);
-    final BigDecimal ninty = c.pi().divide(two, mc);
-    final BigDecimal pi = c.pi();
-    final BigDecimal twoHundredAndSeventy = pi.multiply(new BigDecimal("3.0")).divide(two, mc);
-
-    final BigDecimal cycle = pi.multiply(two);
-    BigDecimal result = null;
-
-    if (argument.compareTo(BigDecimal.ZERO) == 0 || argument.compareTo(cycle) == 0
-        || argument.compareTo(pi) == 0) {
-      result = BigDecimal.ZERO;
-    } else if (argument.compareTo(ninty) == 0) {
-      result = BigDecimal.ONE;
-    } else if (argument.compareTo(twoHundredAndSeventy) == 0) {
-      result = BigDecimal.ONE.negate();
-    } else {
-
-      final Tangent tan = new Tangent(p);
-
-      final BigDecimal valueOfTangent = tan.getDependentVariable(argument.divide(two, mc));
-      final BigDecimal numerator = valueOfTangent.multiply(two);
-      final BigDecimal denominator = valueOfTangent.multiply(valueOfTangent).add(BigDecimal.ONE);
-      result = numerator.divide(denominator, mc);
-    }
-    return result;
+  public BigDecimal getDependentVariable(final BigDecimal argument) {
+    return Trigonometric.sin(argument, this.precision.getMathContext());
   }
 }
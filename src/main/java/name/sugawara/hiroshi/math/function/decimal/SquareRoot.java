@@ -1,10 +1,8 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
-import java.math.MathContext;
 
 import name.sugawara.hiroshi.math.function.object.FunctionOfSingleVariable;
-import name.sugawara.hiroshi.math.precision.NandEpsilon;
 import name.sugawara.hiroshi.math.precision.Precision;
 
 /**
@@ -24,7 +22,7 @@ public final class SquareRoot implements FunctionOfSingleVariable<BigDecimal, Bi
    * @uml.property name="precision"
    * @uml.associationEnd multiplicity="(1 1)"
    */
-  private Precision precision;
+  private final Precision precision;
 
   /**
    * 精度を設定する.
@@ -37,52 +35,22 @@ public final class SquareRoot implements FunctionOfSingleVariable<BigDecimal, Bi
     this.precision = precision;
   }
 
-  /**
-   * 底を2とした対数を、自然対数を連分数展開で求める.
-   * 
-   * Log.logOfContinuedFraction()を用いて求める.
-   * 
-   * @param argument
-   *          BigDecimal型の値
-   * @return 常用対数log_10(x)をBigDecimal型で返す
-   * @since 1.1
-   */
-  public BigDecimal getDependentVariable(final BigDecimal argument) {
-    return SquareRoot.sqrt(argument, this.precision);
-  }
-
   /**
    * 平方根をBigDecimal型で求める.
    * 
    * <pre>
-   *   許容誤差を10の-6乗以下にするとdouble型以上の精度を得られる.
+   *   Math.sqrt() の値を初期値とし、作業精度を2倍ずつ増やすニュートン法で求める.
+   *   結果は精度の MathContext で丸めた値である.
    * </pre>
    * 
-   * @param a
-   *          値
-   * @param p
-   *          誤差
+   * @param argument
+   *          0 以上の値
    * @return sqrt(a) (aの平方)を返す
+   * @exception ArithmeticException
+   *              argument が負の場合
    * @since 1.1
    */
-  private static BigDecimal sqrt(final BigDecimal a, final Precision p) {
-    if (a.compareTo(BigDecimal.ZERO) == 0) {
-      return BigDecimal.ZERO;
-    } else if (a.compareTo(BigDecimal.ZERO) < 0) {
-      throw new ArithmeticException("The expression is Not a Number."
-          + " This method and class cannot operate the complex numbers.");
-    }
-
-    final BigDecimal eps = ((NandEpsilon) p).getEpsilon();
-    final MathContext mc = p.getMathContext();
-    BigDecimal x = a;
-    BigDecimal y;
-    while (true) {
-      y = x.add(a.divide(x, mc)).multiply(new BigDecimal("0.5"));
-      if (x.subtract(y).abs().compareTo(eps) < 0) {
-        return y;
-      }
-      x = y;
-    }
+  public BigDecimal getDependentVariable(final BigDecimal argument) {
+    return NewtonRoot.sqrt(argument, this.precision.getMathContext());
   }
 }
@@ -0,0 +1,307 @@
+/**
+ * Created Date : 2026/10/19 3:36:52
+ */
+package name.sugawara.hiroshi.math.function.decimal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import name.sugawara.hiroshi.math.constant.ConstantCache;
+
+/**
+ * 正弦、余弦、正接をまとめて求める.
+ *
+ * <pre>
+ *  引数を x = n π/2 + r (|r| &lt;= π/4) と分解する. π は ConstantCache から n の桁数だけ多く得るため、
+ *  再帰や繰り返しの引き算をせずに一度で r が求まる. x が π/2 の倍数に近く r が桁落ちするときは、
+ *  失った桁数だけ π を多くとってやり直す.
+ *  r から 1 - cos(r) をテイラー展開で求め、sin(r) と cos(r) を両方得る. n mod 4 で符号と入れ替えを決める.
+ *  丸めの境界に近く正しく丸められない場合は、作業精度を2倍にして求め直す.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see Sine
+ * @see Cosine
+ * @see Tangent
+ *
+ * Created Date : 2026/10/19 3:36:52
+ */
+final strictfp class Trigonometric {
+
+  /**
+   * 要求された桁数に加えて計算する桁数.
+   *
+   * @since 2026/10/19 3:36:52
+   */
+  private static final int        GUARD = 10;
+
+  /**
+   * 1/2.
+   *
+   * @since 2026/10/19 3:36:52
+   */
+  private static final BigDecimal HALF  = new BigDecimal("0.5");
+
+  /**
+   * 2.
+   *
+   * @since 2026/10/19 3:36:52
+   */
+  private static final BigDecimal TWO   = BigDecimal.valueOf(2L);
+
+  /**
+   * 4.
+   *
+   * @since 2026/10/19 3:36:52
+   */
+  private static final BigDecimal FOUR  = BigDecimal.valueOf(4L);
+
+  /**
+   * コンストラクタ使用禁止.
+   *
+   * @since 2026/10/19 3:36:52
+   */
+  private Trigonometric() {
+    // Empty block
+  }
+
+  /**
+   * 正弦と余弦を一度に求める.
+   *
+   * @param x
+   *          ラジアンで表した角度
+   * @param mc
+   *          精度と丸めモード
+   * @return {sin(x), cos(x)} をそれぞれ mc で丸めた配列
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/19 3:36:52
+   */
+  static BigDecimal[] sincos(final BigDecimal x, final MathContext mc) {
+    final int digits = Trigonometric.digits(mc);
+    if (x.signum() == 0) {
+      return new BigDecimal[] { BigDecimal.ZERO, BigDecimal.ONE };
+    }
+    for (int working = digits + Trigonometric.GUARD;; working += working) {
+      final BigDecimal[] value = Trigonometric.evaluate(x, working);
+      final BigDecimal sin = RoundingJudgement.round(value[0], working, mc);
+      final BigDecimal cos = RoundingJudgement.round(value[1], working, mc);
+      if (sin != null && cos != null) {
+        return new BigDecimal[] { sin, cos };
+      }
+    }
+  }
+
+  /**
+   * 正弦を求める.
+   *
+   * @param x
+   *          ラジアンで表した角度
+   * @param mc
+   *          精度と丸めモード
+   * @return sin(x) を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/19 3:36:52
+   */
+  static BigDecimal sin(final BigDecimal x, final MathContext mc) {
+    final int digits = Trigonometric.digits(mc);
+    if (x.signum() == 0) {
+      return BigDecimal.ZERO;
+    }
+    for (int working = digits + Trigonometric.GUARD;; working += working) {
+      final BigDecimal sin = RoundingJudgement.round(Trigonometric.evaluate(x, working)[0],
+          working, mc);
+      if (sin != null) {
+        return sin;
+      }
+    }
+  }
+
+  /**
+   * 余弦を求める.
+   *
+   * @param x
+   *          ラジアンで表した角度
+   * @param mc
+   *          精度と丸めモード
+   * @return cos(x) を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/19 3:36:52
+   */
+  static BigDecimal cos(final BigDecimal x, final MathContext mc) {
+    final int digits = Trigonometric.digits(mc);
+    if (x.signum() == 0) {
+      return BigDecimal.ONE;
+    }
+    for (int working = digits + Trigonometric.GUARD;; working += working) {
+      final BigDecimal cos = RoundingJudgement.round(Trigonometric.evaluate(x, working)[1],
+          working, mc);
+      if (cos != null) {
+        return cos;
+      }
+    }
+  }
+
+  /**
+   * 正接を sin(x) / cos(x) で求める.
+   *
+   * @param x
+   *          ラジアンで表した角度
+   * @param mc
+   *          精度と丸めモード
+   * @return tan(x) を mc で丸めた値
+   * @exception IllegalArgumentException
+   *              精度が 0 (無制限) の場合
+   * @since 2026/10/19 3:36:52
+   */
+  static BigDecimal tan(final BigDecimal x, final MathContext mc) {
+    final int digits = Trigonometric.digits(mc);
+    if (x.signum() == 0) {
+      return BigDecimal.ZERO;
+    }
+    for (int working = digits + Trigonometric.GUARD;; working += working) {
+      final BigDecimal[] value = Trigonometric.evaluate(x, working);
+      final BigDecimal tan = RoundingJudgement.round(value[0].divide(value[1], new MathContext(
+          working, RoundingMode.HALF_EVEN)), working, mc);
+      if (tan != null) {
+        return tan;
+      }
+    }
+  }
+
+  /**
+   * 精度の桁数を返す.
+   *
+   * @param mc
+   *          精度
+   * @return 精度の桁数
+   * @since 2026/10/19 3:36:52
+   */
+  private static int digits(final MathContext mc) {
+    final int digits = mc.getPrecision();
+    if (digits == 0) {
+      throw new IllegalArgumentException("The trigonometric functions need a finite precision.");
+    }
+    return digits;
+  }
+
+  /**
+   * 0 ではない x の正弦と余弦を相対誤差 10^-working 程度で求める.
+   *
+   * @param x
+   *          0 ではない角度
+   * @param working
+   *          桁数
+   * @return {sin(x), cos(x)}
+   * @since 2026/10/19 3:36:52
+   */
+  static BigDecimal[] evaluate(final BigDecimal x, final int working) {
+    // n = round(x / (π/2)). |x| < π/4 ならば π は要らない.
+    final BigInteger n;
+    if (Math.abs(x.doubleValue()) < 0.78d) {
+      n = BigInteger.ZERO;
+    } else {
+      final MathContext qmc = new MathContext(Math.max(1, x.precision() - x.scale()) + 3,
+          RoundingMode.HALF_EVEN);
+      final BigDecimal quotient = x.divide(ConstantCache.pi(qmc).multiply(Trigonometric.HALF),
+          qmc);
+      n = quotient.setScale(0, RoundingMode.HALF_EVEN).toBigInteger();
+    }
+
+    BigDecimal r = x;
+    if (n.signum() != 0) {
+      // n π/2 の誤差を 10^-working |r| に収める. 桁落ちした桁数は r を求めるまでわからないため、
+      // 足りなければその分だけ π を多くとってやり直す.
+      final int integerDigits = n.toString().length();
+      int lost = 0;
+      while (true) {
+        final MathContext pmc = new MathContext(working + integerDigits + lost + 2,
+            RoundingMode.HALF_EVEN);
+        final BigDecimal halfPi = ConstantCache.pi(pmc).multiply(Trigonometric.HALF);
+        r = x.subtract(halfPi.multiply(new BigDecimal(n)));
+        final int needed = -(r.precision() - r.scale());
+        if (needed <= lost) {
+          break;
+        }
+        lost = needed;
+      }
+    }
+
+    final BigDecimal[] value = Trigonometric.sincosReduced(r, working);
+    final BigDecimal sin = value[0];
+    final BigDecimal cos = value[1];
+    switch (n.intValue() & 3) {
+    case 1:
+      value[0] = cos;
+      value[1] = sin.negate();
+      break;
+    case 2:
+      value[0] = sin.negate();
+      value[1] = cos.negate();
+      break;
+    case 3:
+      value[0] = cos.negate();
+      value[1] = sin;
+      break;
+    default:
+      break;
+    }
+    return value;
+  }
+
+  /**
+   * |r| &lt;= π/4 程度の r の正弦と余弦を求める.
+   *
+   * <pre>
+   *  y = r / 2^k として h = 1 - cos(y) をテイラー展開で求め、1 - cos(2y) = 2h(2 - h) を k 回繰り返す.
+   *  h は1より十分小さいため、繰り返しで相対誤差はほとんど増えない. 最後に cos(r) = 1 - h,
+   *  sin(r) = ±sqrt(h(2 - h)) とする. |y| をおよそ 10^-target にすると、テイラー展開の項数と
+   *  繰り返しの回数がつりあう.
+   * </pre>
+   *
+   * @param r
+   *          0 ではない角度
+   * @param working
+   *          桁数
+   * @return {sin(r), cos(r)}
+   * @since 2026/10/19 3:36:52
+   */
+  private static BigDecimal[] sincosReduced(final BigDecimal r, final int working) {
+    final double target = Math.sqrt(working / 8.0d);
+    final int exponent = r.precision() - r.scale();
+    final int k = Math.max(0, (int) Math.ceil((target + exponent) / Math.log10(2.0d)));
+    final MathContext wmc = new MathContext(working + (int) Math.ceil(Math.log10(k + 1.0d)) + 2,
+        RoundingMode.HALF_EVEN);
+
+    // h = y^2/2 - y^4/24 + ... を項が h の最下位の桁を下回るまで足す.
+    // y^2 は割り切れて桁数が少ないことがあるため、ulp ではなく大きさと作業精度から打ち切る値を決める.
+    final BigDecimal y = Exponent.ldexp(r, -k, wmc);
+    final BigDecimal y2 = y.multiply(y, wmc);
+    BigDecimal term = y2.multiply(Trigonometric.HALF);
+    final BigDecimal eps = BigDecimal.ONE.scaleByPowerOfTen(term.precision() - term.scale()
+        - wmc.getPrecision());
+    BigDecimal h = term;
+    for (long i = 3;; i += 2) {
+      term = term.multiply(y2, wmc).divide(BigDecimal.valueOf(i * (i + 1)), wmc).negate();
+      if (term.abs().compareTo(eps) < 0) {
+        break;
+      }
+      h = h.add(term, wmc);
+    }
+    for (int i = 0; i < k; i++) {
+      h = h.multiply(Trigonometric.FOUR.subtract(h.add(h)), wmc);
+    }
+
+    BigDecimal sin = NewtonRoot.sqrt(h.multiply(Trigonometric.TWO.subtract(h), wmc), wmc);
+    if (r.signum() < 0) {
+      sin = sin.negate();
+    }
+    // 1 - h は丸めない. 丸めると 1 に近い cos(r) が切り上げ、切り捨てで正しく丸まらない.
+    return new BigDecimal[] { sin, BigDecimal.ONE.subtract(h) };
+  }
+}
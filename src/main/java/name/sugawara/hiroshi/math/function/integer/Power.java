@@ -23,13 +23,16 @@ public final class Power implements FunctionOfTwoVariable<BigInteger, BigInteger
   /**
    * 引数・戻り値が整数のみの指数関数の結果を返す.
    * 
-   * 引数の指数部には自然数のみしか入れることができない.
+   * 引数の指数部には自然数のみしか入れることができない. BigInteger#pow(int) により2乗と掛け算を
+   * 約 log2(exponent) 回ずつ行って求める.
    * 
    * @param base
    *          基数部
    * @param exponent
    *          自然数の指数部
    * @return BigInteger型の値
+   * @exception ArithmeticException
+   *              指数部が負の場合、または結果が大きすぎて表せない場合
    * @since 2006/07/19 17:04:55
    */
   public static BigInteger pow(final BigInteger base, final BigInteger exponent) {
@@ -39,14 +42,14 @@ public final class Power implements FunctionOfTwoVariable<BigInteger, BigInteger
       throw new ArithmeticException("The exponent must be natural number");
     } else if (base.compareTo(BigInteger.ONE) == 0 || exponent.compareTo(BigInteger.ZERO) == 0) {
       result = BigInteger.ONE;
-      // } else if (exponent.compareTo(BigInteger.ONE) == 0) {
-      // result = base;
+    } else if (base.signum() == 0) {
+      result = BigInteger.ZERO;
+    } else if (base.abs().compareTo(BigInteger.ONE) == 0) {
+      result = exponent.testBit(0) ? base : BigInteger.ONE;
+    } else if (exponent.bitLength() >= Integer.SIZE) {
+      throw new ArithmeticException("The result is too large to be represented");
     } else {
-      BigInteger product = base;
-      for (BigInteger i = BigInteger.ONE; i.compareTo(exponent) < 0; i = i.add(BigInteger.ONE)) {
-        product = product.multiply(base);
-      }
-      result = product;
+      result = base.pow(exponent.intValue());
     }
 
     return result;
@@ -16,14 +16,18 @@ package name.sugawara.hiroshi.math.function.typedouble;
 public final class InverseHyperbolicSine {
 
   /**
-   * 
-   * 機械エプシロンの1/5乗程度.
-   * 
-   * {@code EPS5} のコメント
-   * 
-   * @since 2005/01/03
+   * これより大きい |x| では x^2 + 1 が x^2 に丸められるので asinh(x) = log(2|x|) とする.
+   *
+   * @since 2026/10/19 5:58:06
    */
-  private static final double EPS5 = 0.001;
+  private static final double LARGE = 0x1.0p28;
+
+  /**
+   * log(2).
+   *
+   * @since 2026/10/19 5:58:06
+   */
+  private static final double LN2 = Math.log(2.0d);
 
   /**
    * コンストラクタ使用禁止.
@@ -35,7 +39,8 @@ public final class InverseHyperbolicSine {
   }
 
   /**
-   * Inverse hyperbolic sine (逆双曲線正弦) arcsinh(x) を求める.
+   * Inverse hyperbolic sine (逆双曲線正弦) arcsinh(x) を求める. 0 に近い x で桁落ちしないように
+   * asinh(|x|) = log1p(|x| + x^2 / (1 + sqrt(1 + x^2))) で計算し、符号を付ける.
    * 
    * @param argument
    *          値
@@ -43,16 +48,15 @@ public final class InverseHyperbolicSine {
    * @since 2005/01/03
    */
   public static double asinh(final double argument) {
-    double result = 0;
-    if (argument > InverseHyperbolicSine.EPS5) {
-      result = Math.log(Math.sqrt(argument * argument + 1) + argument);
-    }
-    if (argument < -InverseHyperbolicSine.EPS5) {
-      result = -Math.log(Math.sqrt(argument * argument + 1) - argument);
+    final double x = Math.abs(argument);
+    final double result;
+    if (x > InverseHyperbolicSine.LARGE) {
+      result = Math.log(x) + InverseHyperbolicSine.LN2;
     } else {
-      return argument * (1 - argument * argument / 6);
+      final double square = x * x;
+      result = Math.log1p(x + square / (1.0d + Math.sqrt(1.0d + square)));
     }
-    return result;
+    return Math.copySign(result, argument);
   }
 
 }
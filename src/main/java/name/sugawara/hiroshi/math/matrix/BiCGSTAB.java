@@ -0,0 +1,148 @@
+/**
+ * Created Date : 2026/10/18 18:48:20
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+/**
+ * 右前処理付き安定化双共役勾配法 (BiCGSTAB).
+ *
+ * <pre>
+ *  非対称な係数行列に使える. 反復1回あたり A の作用と前処理をそれぞれ2回ずつ計算し、
+ *  作業用ベクトルは8本である. 右前処理 A * M^-1 * u = b の形で解くため、
+ *  記録する残差は前処理をしない元の方程式の残差 b - A * x である.
+ *  rho または omega が 0 になって反復を続けられない場合は、収束していない結果を返す.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see IterativeSolver
+ *
+ * Created Date : 2026/10/18 18:48:20
+ */
+public final strictfp class BiCGSTAB extends IterativeSolver {
+
+  /**
+   * 前処理なしのBiCGSTABを作る.
+   *
+   * @param tolerance
+   *          相対残差の許容誤差
+   * @param maxIterations
+   *          反復回数の上限
+   * @since 2026/10/18 18:48:20
+   */
+  public BiCGSTAB(final double tolerance, final int maxIterations) {
+    this(tolerance, maxIterations, null);
+  }
+
+  /**
+   * 前処理付きのBiCGSTABを作る.
+   *
+   * @param tolerance
+   *          相対残差の許容誤差
+   * @param maxIterations
+   *          反復回数の上限
+   * @param preconditioner
+   *          前処理. nullの場合は前処理なし
+   * @since 2026/10/18 18:48:20
+   */
+  public BiCGSTAB(final double tolerance, final int maxIterations,
+      final Preconditioner preconditioner) {
+    super(tolerance, maxIterations, preconditioner);
+  }
+
+  /**
+   * BiCGSTABの反復を実行する.
+   *
+   * @param a
+   *          係数行列
+   * @param b
+   *          右辺
+   * @param x
+   *          初期値. 解で上書きする
+   * @param bnorm
+   *          右辺のノルム
+   * @param history
+   *          相対残差の記録
+   * @return 収束した場合はtrue
+   * @see name.sugawara.hiroshi.math.matrix.IterativeSolver#iterate(LinearOperator, double[],
+   *      double[], double, IterativeSolver.History)
+   * @since 2026/10/18 18:48:20
+   */
+  @Override
+  boolean iterate(final LinearOperator a, final double[] b, final double[] x,
+      final double bnorm, final History history) {
+    final int n = x.length;
+    final double[][] work = this.workspace(8, n);
+    final double[] r = work[0];
+    final double[] shadow = work[1];
+    final double[] p = work[2];
+    final double[] v = work[3];
+    final double[] pHat = work[4];
+    final double[] s = work[5];
+    final double[] sHat = work[6];
+    final double[] t = work[7];
+
+    IterativeSolver.residual(a, b, x, r);
+    double relative = IterativeSolver.norm(r) / bnorm;
+    history.record(relative);
+    if (relative <= this.getTolerance()) {
+      return true;
+    }
+    System.arraycopy(r, 0, shadow, 0, n);
+    double rho = 1.0d;
+    double alpha = 1.0d;
+    double omega = 1.0d;
+    for (int k = 0; k < this.getMaxIterations(); k++) {
+      final double next = IterativeSolver.dot(shadow, r);
+      if (next == 0.0d) {
+        return false;
+      }
+      if (k == 0) {
+        System.arraycopy(r, 0, p, 0, n);
+      } else {
+        final double beta = next / rho * (alpha / omega);
+        for (int i = 0; i < n; i++) {
+          p[i] = r[i] + beta * (p[i] - omega * v[i]);
+        }
+      }
+      rho = next;
+      this.precondition(p, pHat);
+      a.apply(pHat, v);
+      final double sv = IterativeSolver.dot(shadow, v);
+      if (sv == 0.0d) {
+        return false;
+      }
+      alpha = rho / sv;
+      for (int i = 0; i < n; i++) {
+        s[i] = r[i] - alpha * v[i];
+      }
+      IterativeSolver.axpy(alpha, pHat, x);
+      relative = IterativeSolver.norm(s) / bnorm;
+      if (relative <= this.getTolerance()) {
+        history.record(relative);
+        return true;
+      }
+      this.precondition(s, sHat);
+      a.apply(sHat, t);
+      final double tt = IterativeSolver.dot(t, t);
+      if (tt == 0.0d) {
+        history.record(relative);
+        return false;
+      }
+      omega = IterativeSolver.dot(t, s) / tt;
+      IterativeSolver.axpy(omega, sHat, x);
+      for (int i = 0; i < n; i++) {
+        r[i] = s[i] - omega * t[i];
+      }
+      relative = IterativeSolver.norm(r) / bnorm;
+      history.record(relative);
+      if (relative <= this.getTolerance()) {
+        return true;
+      }
+      if (omega == 0.0d) {
+        return false;
+      }
+    }
+    return false;
+  }
+}
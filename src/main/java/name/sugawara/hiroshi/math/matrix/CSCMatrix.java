@@ -0,0 +1,317 @@
+/**
+ * Created Date : 2026/10/18 18:05:37
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+/**
+ * 圧縮列格納形式 (CSC: Compressed Sparse Column) のdouble型疎行列.
+ *
+ * <pre>
+ *  列ごとに非零要素を行インデックスの昇順で格納する. この格納形式は転置行列の
+ *  CSR形式と同じ配列になるため、内部では転置行列をCSRMatrixとして保持する.
+ *  したがって transpose() は配列を共有したまま定数時間でCSRMatrixを返す.
+ *
+ *  列の取り出しや A' * x は列ごとの連続したアクセスで並列に計算できる.
+ *  A * x は各列の寄与を結果に足し込むため逐次計算になる.
+ *  A * x を繰り返す場合は toCSR() で変換してから使うとよい.
+ *  このクラスは不変(immutable)である.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see SparseMatrixBuilder
+ * @see CSRMatrix
+ *
+ * Created Date : 2026/10/18 18:05:37
+ */
+public final strictfp class CSCMatrix implements LinearOperator {
+
+  /**
+   * 転置行列のCSR形式.
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  private final CSRMatrix transposed;
+
+  /**
+   * 転置行列のCSR形式から、配列を共有して疎行列を作る.
+   *
+   * @param transposed
+   *          転置行列のCSR形式
+   * @since 2026/10/18 18:05:37
+   */
+  CSCMatrix(final CSRMatrix transposed) {
+    this.transposed = transposed;
+  }
+
+  /**
+   * 密行列の 0 でない要素から疎行列を作る.
+   *
+   * @param a
+   *          密行列
+   * @return 疎行列
+   * @since 2026/10/18 18:05:37
+   */
+  public static CSCMatrix valueOf(final DoubleMatrix a) {
+    return CSRMatrix.valueOf(a).toCSC();
+  }
+
+  /**
+   * 行数を返す.
+   *
+   * @return 行数
+   * @see name.sugawara.hiroshi.math.matrix.LinearOperator#getRowDimension()
+   * @since 2026/10/18 18:05:37
+   */
+  @Override
+  public int getRowDimension() {
+    return this.transposed.getColumnDimension();
+  }
+
+  /**
+   * 列数を返す.
+   *
+   * @return 列数
+   * @see name.sugawara.hiroshi.math.matrix.LinearOperator#getColumnDimension()
+   * @since 2026/10/18 18:05:37
+   */
+  @Override
+  public int getColumnDimension() {
+    return this.transposed.getRowDimension();
+  }
+
+  /**
+   * 格納している非零要素の数を返す.
+   *
+   * @return 非零要素数
+   * @since 2026/10/18 18:05:37
+   */
+  public int nnz() {
+    return this.transposed.nnz();
+  }
+
+  /**
+   * 要素を取得する. 列内の行インデックスを二分探索する.
+   *
+   * @param i
+   *          行インデックス
+   * @param j
+   *          列インデックス
+   * @return A(i,j)
+   * @exception ArrayIndexOutOfBoundsException
+   * @since 2026/10/18 18:05:37
+   */
+  public double get(final int i, final int j) {
+    return this.transposed.get(j, i);
+  }
+
+  /**
+   * 密行列に変換する.
+   *
+   * @return 密行列
+   * @since 2026/10/18 18:05:37
+   */
+  public DoubleMatrix toDoubleMatrix() {
+    return this.transposed.toDoubleMatrix().transpose();
+  }
+
+  /**
+   * 転置行列を返す. 配列を共有するCSR形式の行列として定数時間で作る.
+   *
+   * @return 転置行列
+   * @since 2026/10/18 18:05:37
+   */
+  public CSRMatrix transpose() {
+    return this.transposed;
+  }
+
+  /**
+   * 同じ行列をCSR形式に変換する. 計算量は O(nnz + 行数 + 列数) である.
+   *
+   * @return CSR形式の行列
+   * @since 2026/10/18 18:05:37
+   */
+  public CSRMatrix toCSR() {
+    return this.transposed.transposeStorage();
+  }
+
+  /**
+   * 行列とベクトルの積 A * x を求める.
+   *
+   * @param x
+   *          次数が列数と等しいベクトル
+   * @return A * x
+   * @exception IllegalArgumentException
+   *              次数が一致しない場合
+   * @since 2026/10/18 18:05:37
+   */
+  public DoubleVector multiply(final DoubleVector x) {
+    return this.transposed.transposeMultiply(x);
+  }
+
+  /**
+   * 行列とベクトルの積 A * x を求め、yに格納する. 各列の寄与を足し込むため逐次計算する.
+   *
+   * @param x
+   *          長さが列数と等しい配列
+   * @param y
+   *          結果を格納する長さが行数と等しい配列. xと同じ配列であってはならない
+   * @see name.sugawara.hiroshi.math.matrix.LinearOperator#apply(double[], double[])
+   * @since 2026/10/18 18:48:20
+   */
+  @Override
+  public void apply(final double[] x, final double[] y) {
+    this.transposed.transposeMultiply(x, y);
+  }
+
+  /**
+   * 疎行列と密行列の積 A * B を求める.
+   *
+   * @param b
+   *          行数がこの行列の列数と等しい密行列
+   * @return A * B
+   * @exception IllegalArgumentException
+   *              次元が一致しない場合
+   * @since 2026/10/18 18:05:37
+   */
+  public DoubleMatrix multiply(final DoubleMatrix b) {
+    return this.transposed.transposeMultiply(b);
+  }
+
+  /**
+   * 転置行列とベクトルの積 A' * x を求める. 列のブロックごとに並列に計算する.
+   *
+   * @param x
+   *          次数が行数と等しいベクトル
+   * @return A' * x
+   * @exception IllegalArgumentException
+   *              次数が一致しない場合
+   * @since 2026/10/18 18:05:37
+   */
+  public DoubleVector transposeMultiply(final DoubleVector x) {
+    return this.transposed.multiply(x);
+  }
+
+  /**
+   * 転置行列と密行列の積 A' * B を求める. 列のブロックごとに並列に計算する.
+   *
+   * @param b
+   *          行数がこの行列の行数と等しい密行列
+   * @return A' * B
+   * @exception IllegalArgumentException
+   *              次元が一致しない場合
+   * @since 2026/10/18 18:05:37
+   */
+  public DoubleMatrix transposeMultiply(final DoubleMatrix b) {
+    return this.transposed.multiply(b);
+  }
+
+  /**
+   * 行列のスカラー倍.
+   *
+   * @param s
+   *          スカラー
+   * @return s * A
+   * @since 2026/10/18 18:05:37
+   */
+  public CSCMatrix times(final double s) {
+    return new CSCMatrix(this.transposed.times(s));
+  }
+
+  /**
+   * 単項マイナス.
+   *
+   * @return -A
+   * @since 2026/10/18 18:05:37
+   */
+  public CSCMatrix negate() {
+    return new CSCMatrix(this.transposed.negate());
+  }
+
+  /**
+   * 行列の個々の要素の絶対値.
+   *
+   * @return 個々の要素の絶対値の行列
+   * @since 2026/10/18 18:05:37
+   */
+  public CSCMatrix abs() {
+    return new CSCMatrix(this.transposed.abs());
+  }
+
+  /**
+   * 行列の和.
+   *
+   * @param b
+   *          同じ次元の疎行列
+   * @return A + B
+   * @since 2026/10/18 18:05:37
+   */
+  public CSCMatrix add(final CSCMatrix b) {
+    return new CSCMatrix(this.transposed.add(b.transposed));
+  }
+
+  /**
+   * 行列の差.
+   *
+   * @param b
+   *          同じ次元の疎行列
+   * @return A - B
+   * @since 2026/10/18 18:05:37
+   */
+  public CSCMatrix subtract(final CSCMatrix b) {
+    return new CSCMatrix(this.transposed.subtract(b.transposed));
+  }
+
+  /**
+   * 行列の個々の要素どうしの積 (C = A .* B). 非零要素の位置の共通部分だけを計算する.
+   *
+   * @param b
+   *          同じ次元の疎行列
+   * @return A .* B
+   * @since 2026/10/18 18:05:37
+   */
+  public CSCMatrix times(final CSCMatrix b) {
+    return new CSCMatrix(this.transposed.times(b.transposed));
+  }
+
+  /**
+   * 同じ型のオブジェクトと内容が等しいかどうか.
+   *
+   * @param other
+   *          比較対象
+   * @return 等しければtrue
+   * @see java.lang.Object#equals(java.lang.Object)
+   * @since 2026/10/18 18:05:37
+   */
+  @Override
+  public boolean equals(final Object other) {
+    if (!(other instanceof CSCMatrix)) {
+      return false;
+    }
+    return this.transposed.equals(((CSCMatrix) other).transposed);
+  }
+
+  /**
+   * ハッシュコードを求める.
+   *
+   * @return ハッシュコード
+   * @see java.lang.Object#hashCode()
+   * @since 2026/10/18 18:05:37
+   */
+  @Override
+  public int hashCode() {
+    return ~this.transposed.hashCode();
+  }
+
+  /**
+   * このオブジェクトの文字列表現. CSR形式に変換して非零要素を行の順に並べる.
+   *
+   * @return 文字列表現
+   * @see java.lang.Object#toString()
+   * @since 2026/10/18 18:05:37
+   */
+  @Override
+  public String toString() {
+    return this.toCSR().toString();
+  }
+}
@@ -0,0 +1,961 @@
+/**
+ * Created Date : 2026/10/18 18:05:37
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 圧縮行格納形式 (CSR: Compressed Sparse Row) のdouble型疎行列.
+ *
+ * <pre>
+ *  i 行目の非零要素は values[rowPointer[i]] から values[rowPointer[i + 1] - 1] までに
+ *  列インデックスの昇順で格納し、その列インデックスを columnIndex に格納する.
+ *  必要なメモリは非零要素数 nnz と行数に比例し、行数 * 列数 には依存しない.
+ *  値が 0 の要素は格納しない.
+ *
+ *  行列とベクトル・密行列の積は、非零要素数がほぼ等しくなるように行をブロックに分け、
+ *  ForkJoinPoolで並列に計算する. 各行の結果は列インデックスの昇順に加算されるため、
+ *  並列化の有無にかかわらず結果は一致する.
+ *  転置は行と列の役割を入れ替えるだけで、同じ配列を共有するCSCMatrixを定数時間で返す.
+ *  このクラスは不変(immutable)である.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see SparseMatrixBuilder
+ * @see CSCMatrix
+ *
+ * Created Date : 2026/10/18 18:05:37
+ */
+public final strictfp class CSRMatrix implements LinearOperator {
+
+  /**
+   * これ以下の積和回数の積は分割せずに逐次計算する.
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  private static final long SEQUENTIAL_LIMIT = 1L << 16;
+
+  /**
+   * 行数.
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  private final int         row;
+
+  /**
+   * 列数.
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  private final int         col;
+
+  /**
+   * 各行の先頭要素の位置. 長さは行数 + 1.
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  private final int[]       rowPointer;
+
+  /**
+   * 非零要素の列インデックス.
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  private final int[]       columnIndex;
+
+  /**
+   * 非零要素の値.
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  private final double[]    values;
+
+  /**
+   * 配列をコピーせずに疎行列を作る. 配列は呼び出し元で変更してはならない.
+   *
+   * @param row
+   *          行数
+   * @param col
+   *          列数
+   * @param rowPointer
+   *          各行の先頭要素の位置
+   * @param columnIndex
+   *          非零要素の列インデックス(各行で昇順)
+   * @param values
+   *          非零要素の値
+   * @since 2026/10/18 18:05:37
+   */
+  CSRMatrix(final int row, final int col, final int[] rowPointer, final int[] columnIndex,
+      final double[] values) {
+    this.row = row;
+    this.col = col;
+    this.rowPointer = rowPointer;
+    this.columnIndex = columnIndex;
+    this.values = values;
+  }
+
+  /**
+   * (行, 列, 値) の組から疎行列を作る. 同じ位置の値は加算し、和が 0 の要素は格納しない.
+   *
+   * <pre>
+   *  列、行の順に安定な計数ソートを行うため、計算量は O(nnz + 行数 + 列数) である.
+   * </pre>
+   *
+   * @param row
+   *          行数
+   * @param col
+   *          列数
+   * @param rows
+   *          行インデックス
+   * @param cols
+   *          列インデックス
+   * @param vals
+   *          値
+   * @param count
+   *          組の数
+   * @return 疎行列
+   * @since 2026/10/18 18:05:37
+   */
+  static CSRMatrix fromTriplets(final int row, final int col, final int[] rows,
+      final int[] cols, final double[] vals, final int count) {
+    // 列インデックスで安定に並べる.
+    final int[] colStart = new int[col + 1];
+    for (int k = 0; k < count; k++) {
+      colStart[cols[k] + 1]++;
+    }
+    for (int j = 0; j < col; j++) {
+      colStart[j + 1] += colStart[j];
+    }
+    final int[] byColumn = new int[count];
+    for (int k = 0; k < count; k++) {
+      byColumn[colStart[cols[k]]++] = k;
+    }
+
+    // 行インデックスで安定に並べると、各行の中は列の昇順になる.
+    final int[] pointer = new int[row + 1];
+    for (int k = 0; k < count; k++) {
+      pointer[rows[k] + 1]++;
+    }
+    for (int i = 0; i < row; i++) {
+      pointer[i + 1] += pointer[i];
+    }
+    final int[] next = Arrays.copyOf(pointer, row);
+    final int[] order = new int[count];
+    for (final int k : byColumn) {
+      order[next[rows[k]]++] = k;
+    }
+
+    // 重複した位置の値を加算し、0 を取り除く.
+    final int[] index = new int[count];
+    final double[] value = new double[count];
+    int nnz = 0;
+    for (int i = 0; i < row; i++) {
+      final int start = nnz;
+      for (int p = pointer[i]; p < pointer[i + 1]; p++) {
+        final int k = order[p];
+        if (nnz > start && index[nnz - 1] == cols[k]) {
+          value[nnz - 1] += vals[k];
+        } else {
+          index[nnz] = cols[k];
+          value[nnz] = vals[k];
+          nnz++;
+        }
+      }
+      int kept = start;
+      for (int p = start; p < nnz; p++) {
+        if (value[p] != 0.0d) {
+          index[kept] = index[p];
+          value[kept] = value[p];
+          kept++;
+        }
+      }
+      nnz = kept;
+      pointer[i] = start;
+    }
+    pointer[row] = nnz;
+    return new CSRMatrix(row, col, pointer, Arrays.copyOf(index, nnz), Arrays.copyOf(value,
+        nnz));
+  }
+
+  /**
+   * 密行列の 0 でない要素から疎行列を作る.
+   *
+   * @param a
+   *          密行列
+   * @return 疎行列
+   * @since 2026/10/18 18:05:37
+   */
+  public static CSRMatrix valueOf(final DoubleMatrix a) {
+    final int row = a.getRowDimension();
+    final int col = a.getColumnDimension();
+    final double[][] source = a.array();
+    final int[] pointer = new int[row + 1];
+    for (int i = 0; i < row; i++) {
+      int count = 0;
+      for (final double d : source[i]) {
+        if (d != 0.0d) {
+          count++;
+        }
+      }
+      pointer[i + 1] = pointer[i] + count;
+    }
+    final int[] index = new int[pointer[row]];
+    final double[] value = new double[pointer[row]];
+    int p = 0;
+    for (int i = 0; i < row; i++) {
+      final double[] ai = source[i];
+      for (int j = 0; j < col; j++) {
+        if (ai[j] != 0.0d) {
+          index[p] = j;
+          value[p] = ai[j];
+          p++;
+        }
+      }
+    }
+    return new CSRMatrix(row, col, pointer, index, value);
+  }
+
+  /**
+   * 行数を返す.
+   *
+   * @return 行数
+   * @see name.sugawara.hiroshi.math.matrix.LinearOperator#getRowDimension()
+   * @since 2026/10/18 18:05:37
+   */
+  @Override
+  public int getRowDimension() {
+    return this.row;
+  }
+
+  /**
+   * 列数を返す.
+   *
+   * @return 列数
+   * @see name.sugawara.hiroshi.math.matrix.LinearOperator#getColumnDimension()
+   * @since 2026/10/18 18:05:37
+   */
+  @Override
+  public int getColumnDimension() {
+    return this.col;
+  }
+
+  /**
+   * 格納している非零要素の数を返す.
+   *
+   * @return 非零要素数
+   * @since 2026/10/18 18:05:37
+   */
+  public int nnz() {
+    return this.rowPointer[this.row];
+  }
+
+  /**
+   * 各行の先頭要素の位置の配列を返す. 配列は共有しているため変更してはならない.
+   *
+   * @return 各行の先頭要素の位置
+   * @since 2026/10/18 18:48:20
+   */
+  int[] rowPointer() {
+    return this.rowPointer;
+  }
+
+  /**
+   * 非零要素の列インデックスの配列を返す. 配列は共有しているため変更してはならない.
+   *
+   * @return 非零要素の列インデックス
+   * @since 2026/10/18 18:48:20
+   */
+  int[] columnIndex() {
+    return this.columnIndex;
+  }
+
+  /**
+   * 非零要素の値の配列を返す. 配列は共有しているため変更してはならない.
+   *
+   * @return 非零要素の値
+   * @since 2026/10/18 18:48:20
+   */
+  double[] values() {
+    return this.values;
+  }
+
+  /**
+   * 要素を取得する. 行内の列インデックスを二分探索する.
+   *
+   * @param i
+   *          行インデックス
+   * @param j
+   *          列インデックス
+   * @return A(i,j)
+   * @exception ArrayIndexOutOfBoundsException
+   * @since 2026/10/18 18:05:37
+   */
+  public double get(final int i, final int j) {
+    if (i < 0 || i >= this.row || j < 0 || j >= this.col) {
+      throw new ArrayIndexOutOfBoundsException();
+    }
+    final int p = Arrays.binarySearch(this.columnIndex, this.rowPointer[i],
+        this.rowPointer[i + 1], j);
+    return p >= 0 ? this.values[p] : 0.0d;
+  }
+
+  /**
+   * 密行列に変換する.
+   *
+   * @return 密行列
+   * @since 2026/10/18 18:05:37
+   */
+  public DoubleMatrix toDoubleMatrix() {
+    final double[][] c = new double[this.row][this.col];
+    for (int i = 0; i < this.row; i++) {
+      final double[] ci = c[i];
+      for (int p = this.rowPointer[i]; p < this.rowPointer[i + 1]; p++) {
+        ci[this.columnIndex[p]] = this.values[p];
+      }
+    }
+    return DoubleMatrix.wrap(c);
+  }
+
+  /**
+   * 転置行列を返す. 配列を共有するCSC形式の行列として定数時間で作る.
+   *
+   * @return 転置行列
+   * @since 2026/10/18 18:05:37
+   */
+  public CSCMatrix transpose() {
+    return new CSCMatrix(this);
+  }
+
+  /**
+   * 同じ行列をCSC形式に変換する. 計算量は O(nnz + 行数 + 列数) である.
+   *
+   * @return CSC形式の行列
+   * @since 2026/10/18 18:05:37
+   */
+  public CSCMatrix toCSC() {
+    return new CSCMatrix(this.transposeStorage());
+  }
+
+  /**
+   * 転置行列をCSR形式で作る. 列ごとの要素数を数えてから行の昇順に振り分ける.
+   *
+   * @return 転置行列
+   * @since 2026/10/18 18:05:37
+   */
+  CSRMatrix transposeStorage() {
+    final int nnz = this.nnz();
+    final int[] pointer = new int[this.col + 1];
+    for (int p = 0; p < nnz; p++) {
+      pointer[this.columnIndex[p] + 1]++;
+    }
+    for (int j = 0; j < this.col; j++) {
+      pointer[j + 1] += pointer[j];
+    }
+    final int[] next = Arrays.copyOf(pointer, this.col);
+    final int[] index = new int[nnz];
+    final double[] value = new double[nnz];
+    for (int i = 0; i < this.row; i++) {
+      for (int p = this.rowPointer[i]; p < this.rowPointer[i + 1]; p++) {
+        final int q = next[this.columnIndex[p]]++;
+        index[q] = i;
+        value[q] = this.values[p];
+      }
+    }
+    return new CSRMatrix(this.col, this.row, pointer, index, value);
+  }
+
+  /**
+   * 行列とベクトルの積 A * x を求める. 行のブロックごとに並列に計算する.
+   *
+   * @param x
+   *          次数が列数と等しいベクトル
+   * @return A * x
+   * @exception IllegalArgumentException
+   *              次数が一致しない場合
+   * @since 2026/10/18 18:05:37
+   */
+  public DoubleVector multiply(final DoubleVector x) {
+    if (x.size() != this.col) {
+      throw new IllegalArgumentException("Matrix inner dimensions must agree.");
+    }
+    final double[] y = new double[this.row];
+    this.run(new Product(this, x.array(), y, null, null, 0, 0, this.row), 1);
+    return new DoubleVector(y, true);
+  }
+
+  /**
+   * 行列とベクトルの積 A * x を求め、yに格納する. 反復法の中で結果用の配列を確保しないために使用する.
+   *
+   * @param x
+   *          長さが列数と等しい配列
+   * @param y
+   *          結果を格納する長さが行数と等しい配列. xと同じ配列であってはならない
+   * @see name.sugawara.hiroshi.math.matrix.LinearOperator#apply(double[], double[])
+   * @since 2026/10/18 18:05:37
+   */
+  @Override
+  public void apply(final double[] x, final double[] y) {
+    this.run(new Product(this, x, y, null, null, 0, 0, this.row), 1);
+  }
+
+  /**
+   * 疎行列と密行列の積 A * B を求める. 行のブロックごとに並列に計算する.
+   *
+   * @param b
+   *          行数がこの行列の列数と等しい密行列
+   * @return A * B
+   * @exception IllegalArgumentException
+   *              次元が一致しない場合
+   * @since 2026/10/18 18:05:37
+   */
+  public DoubleMatrix multiply(final DoubleMatrix b) {
+    if (b.getRowDimension() != this.col) {
+      throw new IllegalArgumentException("Matrix inner dimensions must agree.");
+    }
+    final int p = b.getColumnDimension();
+    final double[][] c = new double[this.row][p];
+    this.run(new Product(this, null, null, b.array(), c, p, 0, this.row), p);
+    return DoubleMatrix.wrap(c);
+  }
+
+  /**
+   * 積の計算量が小さければ呼び出し元のスレッドで、大きければForkJoinPoolで計算する.
+   *
+   * @param task
+   *          全行の積
+   * @param width
+   *          右辺の列数
+   * @since 2026/10/18 18:05:37
+   */
+  private void run(final Product task, final int width) {
+    if ((long) this.nnz() * width <= CSRMatrix.SEQUENTIAL_LIMIT) {
+      task.compute();
+    } else {
+      ForkJoinPool.commonPool().invoke(task);
+    }
+  }
+
+  /**
+   * 転置行列とベクトルの積 A' * x を求める. 各行の寄与を結果に足し込むため逐次計算する.
+   *
+   * @param x
+   *          次数が行数と等しいベクトル
+   * @return A' * x
+   * @exception IllegalArgumentException
+   *              次数が一致しない場合
+   * @since 2026/10/18 18:05:37
+   */
+  public DoubleVector transposeMultiply(final DoubleVector x) {
+    if (x.size() != this.row) {
+      throw new IllegalArgumentException("Matrix inner dimensions must agree.");
+    }
+    final double[] y = new double[this.col];
+    this.transposeMultiply(x.array(), y);
+    return new DoubleVector(y, true);
+  }
+
+  /**
+   * 転置行列とベクトルの積 A' * x を求め、yに格納する.
+   *
+   * @param x
+   *          長さが行数と等しい配列
+   * @param y
+   *          結果を格納する長さが列数と等しい配列. xと同じ配列であってはならない
+   * @since 2026/10/18 18:05:37
+   */
+  void transposeMultiply(final double[] x, final double[] y) {
+    Arrays.fill(y, 0.0d);
+    for (int i = 0; i < this.row; i++) {
+      final double xi = x[i];
+      if (xi == 0.0d) {
+        continue;
+      }
+      for (int p = this.rowPointer[i]; p < this.rowPointer[i + 1]; p++) {
+        y[this.columnIndex[p]] += this.values[p] * xi;
+      }
+    }
+  }
+
+  /**
+   * 転置行列と密行列の積 A' * B を求める. 各行の寄与を結果に足し込むため逐次計算する.
+   *
+   * @param b
+   *          行数がこの行列の行数と等しい密行列
+   * @return A' * B
+   * @exception IllegalArgumentException
+   *              次元が一致しない場合
+   * @since 2026/10/18 18:05:37
+   */
+  public DoubleMatrix transposeMultiply(final DoubleMatrix b) {
+    if (b.getRowDimension() != this.row) {
+      throw new IllegalArgumentException("Matrix inner dimensions must agree.");
+    }
+    final int p = b.getColumnDimension();
+    final double[][] source = b.array();
+    final double[][] c = new double[this.col][p];
+    for (int i = 0; i < this.row; i++) {
+      final double[] bi = source[i];
+      for (int q = this.rowPointer[i]; q < this.rowPointer[i + 1]; q++) {
+        final double v = this.values[q];
+        final double[] cj = c[this.columnIndex[q]];
+        for (int k = 0; k < p; k++) {
+          cj[k] += v * bi[k];
+        }
+      }
+    }
+    return DoubleMatrix.wrap(c);
+  }
+
+  /**
+   * 対角要素を返す. 格納されていない対角要素は 0 である.
+   *
+   * @return 長さ min(行数, 列数) の対角要素
+   * @since 2026/10/18 18:05:37
+   */
+  public DoubleVector diagonal() {
+    final double[] d = new double[Math.min(this.row, this.col)];
+    for (int i = 0; i < d.length; i++) {
+      d[i] = this.get(i, i);
+    }
+    return new DoubleVector(d, true);
+  }
+
+  /**
+   * 非零要素の位置を保ったまま値を置き換えた行列を作る. 値が 0 になった要素は取り除く.
+   *
+   * @param value
+   *          非零要素ごとの新しい値
+   * @return 疎行列
+   * @since 2026/10/18 18:05:37
+   */
+  private CSRMatrix withValues(final double[] value) {
+    final int[] pointer = new int[this.row + 1];
+    final int[] index = new int[value.length];
+    int nnz = 0;
+    for (int i = 0; i < this.row; i++) {
+      for (int p = this.rowPointer[i]; p < this.rowPointer[i + 1]; p++) {
+        if (value[p] != 0.0d) {
+          index[nnz] = this.columnIndex[p];
+          value[nnz] = value[p];
+          nnz++;
+        }
+      }
+      pointer[i + 1] = nnz;
+    }
+    return CSRMatrix.fromSorted(this.row, this.col, pointer, index, value, nnz);
+  }
+
+  /**
+   * 行列のスカラー倍.
+   *
+   * @param s
+   *          スカラー
+   * @return s * A
+   * @since 2026/10/18 18:05:37
+   */
+  public CSRMatrix times(final double s) {
+    final double[] value = new double[this.nnz()];
+    for (int p = 0; p < value.length; p++) {
+      value[p] = s * this.values[p];
+    }
+    return this.withValues(value);
+  }
+
+  /**
+   * 単項マイナス.
+   *
+   * @return -A
+   * @since 2026/10/18 18:05:37
+   */
+  public CSRMatrix negate() {
+    final double[] value = new double[this.nnz()];
+    for (int p = 0; p < value.length; p++) {
+      value[p] = -this.values[p];
+    }
+    return this.withValues(value);
+  }
+
+  /**
+   * 行列の個々の要素の絶対値.
+   *
+   * @return 個々の要素の絶対値の行列
+   * @since 2026/10/18 18:05:37
+   */
+  public CSRMatrix abs() {
+    final double[] value = new double[this.nnz()];
+    for (int p = 0; p < value.length; p++) {
+      value[p] = Math.abs(this.values[p]);
+    }
+    return this.withValues(value);
+  }
+
+  /**
+   * 行列の和.
+   *
+   * @param b
+   *          同じ次元の疎行列
+   * @return A + B
+   * @since 2026/10/18 18:05:37
+   */
+  public CSRMatrix add(final CSRMatrix b) {
+    return this.combine(b, CSRMatrix.Merge.ADD);
+  }
+
+  /**
+   * 行列の差.
+   *
+   * @param b
+   *          同じ次元の疎行列
+   * @return A - B
+   * @since 2026/10/18 18:05:37
+   */
+  public CSRMatrix subtract(final CSRMatrix b) {
+    return this.combine(b, CSRMatrix.Merge.SUBTRACT);
+  }
+
+  /**
+   * 行列の個々の要素どうしの積 (C = A .* B). 非零要素の位置の共通部分だけを計算する.
+   *
+   * @param b
+   *          同じ次元の疎行列
+   * @return A .* B
+   * @since 2026/10/18 18:05:37
+   */
+  public CSRMatrix times(final CSRMatrix b) {
+    return this.combine(b, CSRMatrix.Merge.TIMES);
+  }
+
+  /**
+   * 2つの疎行列の各行を列インデックスの順にマージして要素ごとの演算を行う.
+   *
+   * @param b
+   *          同じ次元の疎行列
+   * @param merge
+   *          演算
+   * @return 結果の疎行列
+   * @exception IllegalArgumentException
+   *              次元が一致しない場合
+   * @since 2026/10/18 18:05:37
+   */
+  private CSRMatrix combine(final CSRMatrix b, final Merge merge) {
+    if (b.row != this.row || b.col != this.col) {
+      throw new IllegalArgumentException("Matrix dimensions must agree.");
+    }
+    final int capacity = merge == Merge.TIMES ? Math.min(this.nnz(), b.nnz()) : this.nnz()
+        + b.nnz();
+    final int[] pointer = new int[this.row + 1];
+    final int[] index = new int[capacity];
+    final double[] value = new double[capacity];
+    int nnz = 0;
+    for (int i = 0; i < this.row; i++) {
+      int p = this.rowPointer[i];
+      int q = b.rowPointer[i];
+      final int pe = this.rowPointer[i + 1];
+      final int qe = b.rowPointer[i + 1];
+      while (p < pe || q < qe) {
+        final int jp = p < pe ? this.columnIndex[p] : Integer.MAX_VALUE;
+        final int jq = q < qe ? b.columnIndex[q] : Integer.MAX_VALUE;
+        final int j = Math.min(jp, jq);
+        final double x = jp == j ? this.values[p++] : 0.0d;
+        final double y = jq == j ? b.values[q++] : 0.0d;
+        final double r = merge.apply(x, y);
+        if (r != 0.0d) {
+          index[nnz] = j;
+          value[nnz] = r;
+          nnz++;
+        }
+      }
+      pointer[i + 1] = nnz;
+    }
+    return CSRMatrix.fromSorted(this.row, this.col, pointer, index, value, nnz);
+  }
+
+  /**
+   * 行ごとに列インデックスが昇順に並んだ配列から、余分な長さを切り詰めて疎行列を作る.
+   *
+   * @param row
+   *          行数
+   * @param col
+   *          列数
+   * @param pointer
+   *          各行の先頭要素の位置
+   * @param index
+   *          列インデックス
+   * @param value
+   *          値
+   * @param nnz
+   *          非零要素数
+   * @return 疎行列
+   * @since 2026/10/18 18:05:37
+   */
+  private static CSRMatrix fromSorted(final int row, final int col, final int[] pointer,
+      final int[] index, final double[] value, final int nnz) {
+    if (index.length == nnz) {
+      return new CSRMatrix(row, col, pointer, index, value);
+    }
+    return new CSRMatrix(row, col, pointer, Arrays.copyOf(index, nnz), Arrays.copyOf(value,
+        nnz));
+  }
+
+  /**
+   * 同じ型のオブジェクトと内容が等しいかどうか.
+   *
+   * @param other
+   *          比較対象
+   * @return 等しければtrue
+   * @see java.lang.Object#equals(java.lang.Object)
+   * @since 2026/10/18 18:05:37
+   */
+  @Override
+  public boolean equals(final Object other) {
+    if (!(other instanceof CSRMatrix)) {
+      return false;
+    }
+    final CSRMatrix o = (CSRMatrix) other;
+    return this.row == o.row && this.col == o.col
+        && Arrays.equals(this.rowPointer, o.rowPointer)
+        && Arrays.equals(this.columnIndex, o.columnIndex) && Arrays.equals(this.values, o.values);
+  }
+
+  /**
+   * ハッシュコードを求める.
+   *
+   * @return ハッシュコード
+   * @see java.lang.Object#hashCode()
+   * @since 2026/10/18 18:05:37
+   */
+  @Override
+  public int hashCode() {
+    return 31 * (31 * Arrays.hashCode(this.rowPointer) + Arrays.hashCode(this.columnIndex))
+        + Arrays.hashCode(this.values);
+  }
+
+  /**
+   * このオブジェクトの文字列表現. 非零要素を1行に1つずつ「(i, j) 値」の形式で並べる.
+   *
+   * @return 文字列表現
+   * @see java.lang.Object#toString()
+   * @since 2026/10/18 18:05:37
+   */
+  @Override
+  public String toString() {
+    final StringBuilder result = new StringBuilder();
+    result.append(this.row).append(" x ").append(this.col).append(", nnz = ").append(
+        this.nnz()).append('\n');
+    for (int i = 0; i < this.row; i++) {
+      for (int p = this.rowPointer[i]; p < this.rowPointer[i + 1]; p++) {
+        result.append('(').append(i).append(", ").append(this.columnIndex[p]).append(") ")
+            .append(this.values[p]).append('\n');
+      }
+    }
+    return result.toString();
+  }
+
+  /**
+   * 要素ごとの2項演算.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   *
+   * Created Date : 2026/10/18 18:05:37
+   */
+  private enum Merge {
+    /**
+     * 和.
+     */
+    ADD {
+      @Override
+      double apply(final double x, final double y) {
+        return x + y;
+      }
+    },
+    /**
+     * 差.
+     */
+    SUBTRACT {
+      @Override
+      double apply(final double x, final double y) {
+        return x - y;
+      }
+    },
+    /**
+     * 積.
+     */
+    TIMES {
+      @Override
+      double apply(final double x, final double y) {
+        return x * y;
+      }
+    };
+
+    /**
+     * 演算を行う.
+     *
+     * @param x
+     *          左辺の要素(格納されていなければ0)
+     * @param y
+     *          右辺の要素(格納されていなければ0)
+     * @return 結果
+     */
+    abstract double apply(double x, double y);
+  }
+
+  /**
+   * 行のブロックごとに積を計算するタスク. 非零要素数が半分になる位置で行を2分割する.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   *
+   * Created Date : 2026/10/18 18:05:37
+   */
+  private static final class Product extends RecursiveAction {
+
+    /**
+     * シリアルバージョンID.
+     *
+     * @since 2026/10/18 18:05:37
+     */
+    private static final long serialVersionUID = 3346017725160394851L;
+
+    /**
+     * 疎行列.
+     */
+    private final CSRMatrix   a;
+
+    /**
+     * 右辺のベクトル. 密行列との積ではnull.
+     */
+    private final double[]    x;
+
+    /**
+     * 結果のベクトル. 密行列との積ではnull.
+     */
+    private final double[]    y;
+
+    /**
+     * 右辺の密行列. ベクトルとの積ではnull.
+     */
+    private final double[][]  b;
+
+    /**
+     * 結果の密行列. ベクトルとの積ではnull.
+     */
+    private final double[][]  c;
+
+    /**
+     * 右辺の密行列の列数.
+     */
+    private final int         width;
+
+    /**
+     * 先頭行(含む).
+     */
+    private final int         i0;
+
+    /**
+     * 末端行(含まない).
+     */
+    private final int         i1;
+
+    /**
+     * タスクを生成する.
+     *
+     * @param a
+     *          疎行列
+     * @param x
+     *          右辺のベクトル
+     * @param y
+     *          結果のベクトル
+     * @param b
+     *          右辺の密行列
+     * @param c
+     *          結果の密行列
+     * @param width
+     *          右辺の密行列の列数
+     * @param i0
+     *          先頭行(含む)
+     * @param i1
+     *          末端行(含まない)
+     * @since 2026/10/18 18:05:37
+     */
+    Product(final CSRMatrix a, final double[] x, final double[] y, final double[][] b,
+        final double[][] c, final int width, final int i0, final int i1) {
+      this.a = a;
+      this.x = x;
+      this.y = y;
+      this.b = b;
+      this.c = c;
+      this.width = width;
+      this.i0 = i0;
+      this.i1 = i1;
+    }
+
+    /**
+     * 計算量が大きければ非零要素数で2分割し、小さければ逐次計算する.
+     *
+     * @see java.util.concurrent.RecursiveAction#compute()
+     * @since 2026/10/18 18:05:37
+     */
+    @Override
+    protected void compute() {
+      final int[] pointer = this.a.rowPointer;
+      final int[] index = this.a.columnIndex;
+      final double[] value = this.a.values;
+      final long work = (long) (pointer[this.i1] - pointer[this.i0]) * Math.max(this.width, 1);
+      if (this.i1 - this.i0 > 1 && work > CSRMatrix.SEQUENTIAL_LIMIT) {
+        final int mid = this.split();
+        ForkJoinTask.invokeAll(new Product(this.a, this.x, this.y, this.b, this.c,
+            this.width, this.i0, mid), new Product(this.a, this.x, this.y, this.b, this.c,
+            this.width, mid, this.i1));
+        return;
+      }
+      if (this.b == null) {
+        for (int i = this.i0; i < this.i1; i++) {
+          double s = 0.0d;
+          for (int p = pointer[i]; p < pointer[i + 1]; p++) {
+            s += value[p] * this.x[index[p]];
+          }
+          this.y[i] = s;
+        }
+      } else {
+        for (int i = this.i0; i < this.i1; i++) {
+          final double[] ci = this.c[i];
+          for (int p = pointer[i]; p < pointer[i + 1]; p++) {
+            final double v = value[p];
+            final double[] bj = this.b[index[p]];
+            for (int k = 0; k < this.width; k++) {
+              ci[k] += v * bj[k];
+            }
+          }
+        }
+      }
+    }
+
+    /**
+     * 非零要素数がほぼ半分になる行を二分探索で求める.
+     *
+     * @return i0 &lt; mid &lt; i1 を満たす分割位置
+     * @since 2026/10/18 18:05:37
+     */
+    private int split() {
+      final int[] pointer = this.a.rowPointer;
+      final int half = pointer[this.i0] + (pointer[this.i1] - pointer[this.i0]) / 2;
+      int lo = this.i0 + 1;
+      int hi = this.i1 - 1;
+      while (lo < hi) {
+        final int m = (lo + hi) >>> 1;
+        if (pointer[m] < half) {
+          lo = m + 1;
+        } else {
+          hi = m;
+        }
+      }
+      return lo;
+    }
+  }
+}
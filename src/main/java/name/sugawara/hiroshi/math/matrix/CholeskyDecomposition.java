@@ -0,0 +1,240 @@
+/**
+ * Created Date : 2026/10/18 17:20:14
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+/**
+ * 対称正定値行列のCholesky分解 A = L * L'. Mathworks, Inc
+ * のJAMAのCholeskyDecompositionを参考にして作成.
+ *
+ * <pre>
+ *  Lの各行を、それより上の行との内積から順に求める. 内積は行配列どうしの
+ *  連続したメモリ上で計算するため、列を縦にたどる実装よりキャッシュの効率がよい.
+ *  対称正定値でない場合も分解は最後まで行い、isSPD() が false を返す.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see DoubleMatrix#chol()
+ * @see DecompositionWorkspace
+ *
+ * Created Date : 2026/10/18 17:20:14
+ */
+public final strictfp class CholeskyDecomposition {
+
+  /**
+   * 下三角行列L.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final double[][] l;
+
+  /**
+   * 行列の次数.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final int        n;
+
+  /**
+   * 対称正定値ならtrue.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final boolean    spd;
+
+  /**
+   * 正方行列をCholesky分解する. 元の行列は変更しない.
+   *
+   * @param a
+   *          対称正定値行列
+   * @exception IllegalArgumentException
+   *              正方行列でない場合
+   * @since 2026/10/18 17:20:14
+   */
+  public CholeskyDecomposition(final DoubleMatrix a) {
+    this(a, new DecompositionWorkspace());
+  }
+
+  /**
+   * ワークスペースの配列を使って正方行列をCholesky分解する. 元の行列は変更しない.
+   *
+   * @param a
+   *          対称正定値行列
+   * @param workspace
+   *          作業用配列. 次にこのワークスペースで分解を行うまで、この分解オブジェクトは有効である
+   * @exception IllegalArgumentException
+   *              正方行列でない場合
+   * @since 2026/10/18 17:20:14
+   */
+  public CholeskyDecomposition(final DoubleMatrix a, final DecompositionWorkspace workspace) {
+    if (a.getRowDimension() != a.getColumnDimension()) {
+      throw new IllegalArgumentException("Matrix must be square.");
+    }
+    this.n = a.getRowDimension();
+    final double[][] s = a.array();
+    this.l = workspace.matrix("chol", this.n, this.n);
+    boolean positive = true;
+    for (int j = 0; j < this.n; j++) {
+      final double[] lj = this.l[j];
+      double d = 0.0d;
+      for (int k = 0; k < j; k++) {
+        final double[] lk = this.l[k];
+        double sum = 0.0d;
+        for (int i = 0; i < k; i++) {
+          sum += lk[i] * lj[i];
+        }
+        final double v = (s[j][k] - sum) / lk[k];
+        lj[k] = v;
+        d += v * v;
+        positive &= s[k][j] == s[j][k];
+      }
+      d = s[j][j] - d;
+      positive &= d > 0.0d;
+      lj[j] = Math.sqrt(Math.max(d, 0.0d));
+      for (int k = j + 1; k < this.n; k++) {
+        lj[k] = 0.0d;
+      }
+    }
+    this.spd = positive;
+  }
+
+  /**
+   * 行列が対称正定値であるかどうかを返す.
+   *
+   * @return 対称正定値ならtrue
+   * @since 2026/10/18 17:20:14
+   */
+  public boolean isSPD() {
+    return this.spd;
+  }
+
+  /**
+   * 下三角行列Lを返す.
+   *
+   * @return L
+   * @since 2026/10/18 17:20:14
+   */
+  public DoubleMatrix getL() {
+    final double[][] c = new double[this.n][];
+    for (int i = 0; i < this.n; i++) {
+      c[i] = this.l[i].clone();
+    }
+    return DoubleMatrix.wrap(c);
+  }
+
+  /**
+   * 行列式を返す.
+   *
+   * @return 行列式. 対称正定値でない場合の値は意味を持たない
+   * @since 2026/10/18 17:20:14
+   */
+  public double determinant() {
+    double d = 1.0d;
+    for (int i = 0; i < this.n; i++) {
+      d *= this.l[i][i];
+    }
+    return d * d;
+  }
+
+  /**
+   * 連立一次方程式 A * X = B を解く.
+   *
+   * @param b
+   *          Aと同じ行数の右辺行列
+   * @return X
+   * @exception IllegalArgumentException
+   *              行数が一致しない場合
+   * @exception ArithmeticException
+   *              対称正定値でない場合
+   * @since 2026/10/18 17:20:14
+   */
+  public DoubleMatrix solve(final DoubleMatrix b) {
+    if (b.getRowDimension() != this.n) {
+      throw new IllegalArgumentException("Matrix row dimensions must agree.");
+    }
+    if (!this.spd) {
+      throw new ArithmeticException("Matrix is not symmetric positive definite.");
+    }
+    final int cols = b.getColumnDimension();
+    final double[][] source = b.array();
+    final double[][] x = new double[this.n][];
+    for (int i = 0; i < this.n; i++) {
+      x[i] = source[i].clone();
+    }
+
+    // L * Y = B.
+    for (int k = 0; k < this.n; k++) {
+      final double[] xk = x[k];
+      final double[] lk = this.l[k];
+      for (int i = 0; i < k; i++) {
+        final double lki = lk[i];
+        final double[] xi = x[i];
+        for (int j = 0; j < cols; j++) {
+          xk[j] -= xi[j] * lki;
+        }
+      }
+      final double lkk = lk[k];
+      for (int j = 0; j < cols; j++) {
+        xk[j] /= lkk;
+      }
+    }
+
+    // L' * X = Y.
+    for (int k = this.n - 1; k >= 0; k--) {
+      final double[] xk = x[k];
+      final double[] lk = this.l[k];
+      final double lkk = lk[k];
+      for (int j = 0; j < cols; j++) {
+        xk[j] /= lkk;
+      }
+      for (int i = 0; i < k; i++) {
+        final double lki = lk[i];
+        final double[] xi = x[i];
+        for (int j = 0; j < cols; j++) {
+          xi[j] -= xk[j] * lki;
+        }
+      }
+    }
+    return DoubleMatrix.wrap(x);
+  }
+
+  /**
+   * 連立一次方程式 A * x = b を解く.
+   *
+   * @param b
+   *          次数がAの行数と等しい右辺ベクトル
+   * @return x
+   * @exception IllegalArgumentException
+   *              次数が一致しない場合
+   * @exception ArithmeticException
+   *              対称正定値でない場合
+   * @since 2026/10/18 17:20:14
+   */
+  public DoubleVector solve(final DoubleVector b) {
+    if (b.size() != this.n) {
+      throw new IllegalArgumentException("Matrix row dimensions must agree.");
+    }
+    if (!this.spd) {
+      throw new ArithmeticException("Matrix is not symmetric positive definite.");
+    }
+    final double[] x = b.getArray();
+    for (int k = 0; k < this.n; k++) {
+      final double[] lk = this.l[k];
+      double s = x[k];
+      for (int i = 0; i < k; i++) {
+        s -= lk[i] * x[i];
+      }
+      x[k] = s / lk[k];
+    }
+    for (int k = this.n - 1; k >= 0; k--) {
+      x[k] /= this.l[k][k];
+      final double xk = x[k];
+      final double[] lk = this.l[k];
+      for (int i = 0; i < k; i++) {
+        x[i] -= xk * lk[i];
+      }
+    }
+    return new DoubleVector(x, true);
+  }
+}
@@ -130,6 +130,8 @@ public final class ComplexMatrix extends Matrix implements Cloneable {
    */
   public ComplexMatrix(final DoubleMatrix real, final DoubleMatrix imaginary) {
     this.matrix = new DoubleComplex[real.getRowDimension()][real.getColumnDimension()];
+    this.row = real.getRowDimension();
+    this.col = real.getColumnDimension();
 
     for (int i = 0; i < real.getRowDimension(); i++) {
 
@@ -164,7 +166,7 @@ public final class ComplexMatrix extends Matrix implements Cloneable {
         c[i][j] = this.get(i, j).abs();
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -1257,6 +1259,21 @@ public final class ComplexMatrix extends Matrix implements Cloneable {
     return new ComplexMatrix(c);
   }
 
+  /**
+   * 行列全体を参照するビューを返す. 要素はコピーしない.
+   * 
+   * <pre>
+   *  ビューの getMatrix(i0, i1, j0, j1), transpose(), fliplr(), flipud(), rot90() は
+   *  要素をコピーせずに定数時間で求まる.
+   * </pre>
+   * 
+   * @return ビュー
+   * @since 2026/10/18 14:20:31
+   */
+  public ComplexMatrixView view() {
+    return new ComplexMatrixView(this.matrix, new ViewIndex(this.row, this.col));
+  }
+
   /**
    * 行を指定して行ベクトル抽出. ComplexMatrix to ComplexVector.
    * 
@@ -12,6 +12,8 @@ import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.apache.commons.lang.builder.ToStringBuilder;
 
 import name.sugawara.hiroshi.math.complex.DoubleComplex;
+import name.sugawara.hiroshi.math.fft.Convolution;
+import name.sugawara.hiroshi.math.fft.FFT;
 
 /**
  * doulble型複素数行ベクトル.
@@ -289,26 +291,8 @@ public final class ComplexVector extends RowVector implements Comparable<Complex
    * @since 1.1
    */
   public ComplexVector convolute(final ComplexVector h) {
-    this.checkVectorSize(h);
-
-    int size = this.real.length + h.real.length - 1;
-    double[] yReal = new double[size];
-    double[] yImaginary = new double[size];
-
-    Arrays.fill(yReal, 0.0d);
-    Arrays.fill(yImaginary, 0.0d);
-
-    for (int n = 0; n < h.real.length; n++) {
-      for (int k = 0; k < this.real.length; k++) {
-        int hIndex = n - k;
-        // if ((hIndex < 0) || (hIndex >= h.real.length)) {
-        if ((0 <= hIndex) && (hIndex < h.real.length)) {
-          yReal[n] = yReal[n] + (this.real[k] * this.real[n - k]);
-          yImaginary[n] = yImaginary[n] + (this.real[k] * this.real[n - k]);
-        }
-      }
-    }
-    return new ComplexVector(yReal, yImaginary);
+    final double[][] y = Convolution.convolve(this.real, this.imaginary, h.real, h.imaginary);
+    return new ComplexVector(y[0], y[1]);
   }
 
   /**
@@ -334,7 +318,36 @@ public final class ComplexVector extends RowVector implements Comparable<Complex
    * @since 1.1
    */
   public ComplexVector correlate(final ComplexVector h) {
-    return this.convolute(h.fliplr());
+    final double[][] y = Convolution.correlate(this.real, this.imaginary, h.real, h.imaginary);
+    return new ComplexVector(y[0], y[1]);
+  }
+
+  /**
+   * 離散フーリエ変換(FFT)を返す.
+   *
+   * @return 長さが this.size() のスペクトル
+   * @see FFT#forward(double[], double[])
+   * @since 2026/10/18 19:58:06
+   */
+  public ComplexVector fft() {
+    final double[] re = this.real.clone();
+    final double[] im = this.imaginary.clone();
+    FFT.getInstance(re.length).forward(re, im);
+    return new ComplexVector(re, im);
+  }
+
+  /**
+   * 逆離散フーリエ変換を返す. 1/size() で正規化する.
+   *
+   * @return 長さが this.size() の信号
+   * @see FFT#inverse(double[], double[])
+   * @since 2026/10/18 19:58:06
+   */
+  public ComplexVector ifft() {
+    final double[] re = this.real.clone();
+    final double[] im = this.imaginary.clone();
+    FFT.getInstance(re.length).inverse(re, im);
+    return new ComplexVector(re, im);
   }
 
   /**
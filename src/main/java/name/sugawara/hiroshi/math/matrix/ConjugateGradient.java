@@ -0,0 +1,116 @@
+/**
+ * Created Date : 2026/10/18 18:48:20
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+/**
+ * 前処理付き共役勾配法 (PCG).
+ *
+ * <pre>
+ *  係数行列と前処理はともに対称正定値でなければならない.
+ *  反復1回あたり A の作用と前処理をそれぞれ1回ずつ計算し、作業用ベクトルは4本である.
+ * </pre>
+ *
+ * <pre>
+ *  IterativeResult result = new ConjugateGradient(1.0e-10, 1000,
+ *      new ILU0Preconditioner(a)).solve(a, b);
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see IterativeSolver
+ *
+ * Created Date : 2026/10/18 18:48:20
+ */
+public final strictfp class ConjugateGradient extends IterativeSolver {
+
+  /**
+   * 前処理なしの共役勾配法を作る.
+   *
+   * @param tolerance
+   *          相対残差の許容誤差
+   * @param maxIterations
+   *          反復回数の上限
+   * @since 2026/10/18 18:48:20
+   */
+  public ConjugateGradient(final double tolerance, final int maxIterations) {
+    this(tolerance, maxIterations, null);
+  }
+
+  /**
+   * 前処理付きの共役勾配法を作る.
+   *
+   * @param tolerance
+   *          相対残差の許容誤差
+   * @param maxIterations
+   *          反復回数の上限
+   * @param preconditioner
+   *          対称正定値の前処理. nullの場合は前処理なし
+   * @since 2026/10/18 18:48:20
+   */
+  public ConjugateGradient(final double tolerance, final int maxIterations,
+      final Preconditioner preconditioner) {
+    super(tolerance, maxIterations, preconditioner);
+  }
+
+  /**
+   * 共役勾配法の反復を実行する.
+   *
+   * @param a
+   *          係数行列
+   * @param b
+   *          右辺
+   * @param x
+   *          初期値. 解で上書きする
+   * @param bnorm
+   *          右辺のノルム
+   * @param history
+   *          相対残差の記録
+   * @return 収束した場合はtrue
+   * @see name.sugawara.hiroshi.math.matrix.IterativeSolver#iterate(LinearOperator, double[],
+   *      double[], double, IterativeSolver.History)
+   * @since 2026/10/18 18:48:20
+   */
+  @Override
+  boolean iterate(final LinearOperator a, final double[] b, final double[] x,
+      final double bnorm, final History history) {
+    final double[][] work = this.workspace(4, x.length);
+    final double[] r = work[0];
+    final double[] z = work[1];
+    final double[] p = work[2];
+    final double[] q = work[3];
+
+    IterativeSolver.residual(a, b, x, r);
+    double relative = IterativeSolver.norm(r) / bnorm;
+    history.record(relative);
+    if (relative <= this.getTolerance()) {
+      return true;
+    }
+    this.precondition(r, z);
+    System.arraycopy(z, 0, p, 0, z.length);
+    double rz = IterativeSolver.dot(r, z);
+    for (int k = 0; k < this.getMaxIterations(); k++) {
+      a.apply(p, q);
+      final double pq = IterativeSolver.dot(p, q);
+      if (pq == 0.0d) {
+        return false;
+      }
+      final double alpha = rz / pq;
+      IterativeSolver.axpy(alpha, p, x);
+      IterativeSolver.axpy(-alpha, q, r);
+      relative = IterativeSolver.norm(r) / bnorm;
+      history.record(relative);
+      if (relative <= this.getTolerance()) {
+        return true;
+      }
+      this.precondition(r, z);
+      final double next = IterativeSolver.dot(r, z);
+      final double beta = next / rz;
+      for (int i = 0; i < p.length; i++) {
+        p[i] = z[i] + beta * p[i];
+      }
+      rz = next;
+    }
+    return false;
+  }
+}
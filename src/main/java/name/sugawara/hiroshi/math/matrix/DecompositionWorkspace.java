@@ -0,0 +1,101 @@
+/**
+ * Created Date : 2026/10/18 17:20:14
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 行列分解の作業用配列を保持し、同じ大きさの分解を繰り返すときに再利用する.
+ *
+ * <pre>
+ *  CholeskyDecomposition, QRDecomposition, SymmetricEigenDecomposition,
+ *  SingularValueDecomposition のコンストラクタにこのオブジェクトを渡すと、
+ *  分解結果を格納する配列を新しく確保せずにこのオブジェクトが保持する配列を使う.
+ *  前回と同じ大きさの行列を分解する限り、配列は一度だけ確保される.
+ *
+ *  分解オブジェクトはこのオブジェクトの配列を参照し続けるため、
+ *  同じワークスペースで次の分解を行うと、それより前の分解オブジェクトの内容は壊れる.
+ *  getQ() や solve() などが返す行列は新しく確保されるので、次の分解の後も有効である.
+ *  このクラスはスレッドセーフではない. スレッドごとに別のワークスペースを使うこと.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ *
+ * Created Date : 2026/10/18 17:20:14
+ */
+public final class DecompositionWorkspace {
+
+  /**
+   * 名前ごとの2次元配列.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final Map<String, double[][]> matrices = new HashMap<String, double[][]>();
+
+  /**
+   * 名前ごとの1次元配列.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final Map<String, double[]>   vectors  = new HashMap<String, double[]>();
+
+  /**
+   * 空のワークスペースを作る.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  public DecompositionWorkspace() {
+    // 配列は最初に要求されたときに確保する.
+  }
+
+  /**
+   * 名前に対応する rows * cols の2次元配列を返す. 大きさが異なる場合は確保し直す.
+   *
+   * <pre>
+   *  返す配列の内容は前回の使用時のままであり、0 に初期化されているとは限らない.
+   * </pre>
+   *
+   * @param name
+   *          配列の名前
+   * @param rows
+   *          行数
+   * @param cols
+   *          列数
+   * @return 2次元配列
+   * @since 2026/10/18 17:20:14
+   */
+  double[][] matrix(final String name, final int rows, final int cols) {
+    double[][] a = this.matrices.get(name);
+    if (a == null || a.length != rows || (rows > 0 && a[0].length != cols)) {
+      a = new double[rows][cols];
+      this.matrices.put(name, a);
+    }
+    return a;
+  }
+
+  /**
+   * 名前に対応する長さlengthの配列を返す. 長さが異なる場合は確保し直す.
+   *
+   * <pre>
+   *  返す配列の内容は前回の使用時のままであり、0 に初期化されているとは限らない.
+   * </pre>
+   *
+   * @param name
+   *          配列の名前
+   * @param length
+   *          長さ
+   * @return 配列
+   * @since 2026/10/18 17:20:14
+   */
+  double[] vector(final String name, final int length) {
+    double[] a = this.vectors.get(name);
+    if (a == null || a.length != length) {
+      a = new double[length];
+      this.vectors.put(name, a);
+    }
+    return a;
+  }
+}
@@ -0,0 +1,730 @@
+/**
+ * Created Date : 2026/10/18 19:22:47
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import name.sugawara.hiroshi.math.complex.DoubleComplex;
+
+/**
+ * 実部と虚部を別々の1次元配列に格納した複素数の密行列.
+ *
+ * <pre>
+ *  要素(i, j)の実部は real[i * col + j]、虚部は imaginary[i * col + j] に格納する.
+ *  ComplexMatrixは要素ごとにDoubleComplexオブジェクトを持つが、この行列は要素あたり
+ *  double 2個(16バイト)だけを使い、演算の途中でもDoubleComplexを生成しない.
+ *  ComplexVector, ComplexArray と同じ実部・虚部分離(split)形式である.
+ *
+ *  multiply() は各要素を ComplexMatrix#multiply(ComplexMatrix) と同じ順序で加算するため、
+ *  結果はビット単位で一致する. multiplyGauss() は実行列の積3回で複素行列積を求める
+ *  Gaussの方法で、乗算回数は3/4になるが加算と一時配列が増え、丸め誤差もやや大きくなる.
+ *  このクラスは不変(immutable)であり、ComplexMatrixとの相互変換で値は変わらない.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see ComplexMatrix
+ * @see DenseDoubleMatrix
+ *
+ * Created Date : 2026/10/18 19:22:47
+ */
+public final strictfp class DenseComplexMatrix extends Matrix implements Serializable {
+
+  /**
+   * シリアルバージョンID.
+   *
+   * @since 2026/10/18 19:22:47
+   */
+  private static final long serialVersionUID = 7309265880341627813L;
+
+  /**
+   * これ以下の積和回数の積は分割せずに逐次計算する.
+   *
+   * @since 2026/10/18 19:22:47
+   */
+  private static final long SEQUENTIAL_LIMIT = 1L << 16;
+
+  /**
+   * 実部を行優先で格納する配列. 他の行列と共有されることがあるため変更してはならない.
+   *
+   * @serial real part
+   * @since 2026/10/18 19:22:47
+   */
+  private final double[]    real;
+
+  /**
+   * 虚部を行優先で格納する配列. 他の行列と共有されることがあるため変更してはならない.
+   *
+   * @serial imaginary part
+   * @since 2026/10/18 19:22:47
+   */
+  private final double[]    imaginary;
+
+  /**
+   * 行数.
+   *
+   * @serial row dimension
+   * @since 2026/10/18 19:22:47
+   */
+  private final int         row;
+
+  /**
+   * 列数.
+   *
+   * @serial column dimension
+   * @since 2026/10/18 19:22:47
+   */
+  private final int         col;
+
+  /**
+   * 要素がすべて0 の row * col サイズの行列を作る.
+   *
+   * @param row
+   *          行数
+   * @param col
+   *          列数
+   * @since 2026/10/18 19:22:47
+   */
+  public DenseComplexMatrix(final int row, final int col) {
+    this(new double[row * col], new double[row * col], row, col);
+  }
+
+  /**
+   * 行優先でパックされた実部と虚部の配列から行列を作る. 配列はコピーされる.
+   *
+   * @param real
+   *          実部
+   * @param imaginary
+   *          虚部
+   * @param row
+   *          行数
+   * @param col
+   *          列数
+   * @exception IllegalArgumentException
+   *              配列の長さが row * col でない場合
+   * @since 2026/10/18 19:22:47
+   */
+  public static DenseComplexMatrix valueOf(final double[] real, final double[] imaginary,
+      final int row, final int col) {
+    if (real.length != row * col || imaginary.length != row * col) {
+      throw new IllegalArgumentException("Array length must be row * col.");
+    }
+    return new DenseComplexMatrix(real.clone(), imaginary.clone(), row, col);
+  }
+
+  /**
+   * 実部と虚部の行列から複素数行列を作る. 要素はコピーされる.
+   *
+   * @param real
+   *          実部
+   * @param imaginary
+   *          虚部
+   * @exception IllegalArgumentException
+   *              次元が一致しない場合
+   * @since 2026/10/18 19:22:47
+   */
+  public DenseComplexMatrix(final DenseDoubleMatrix real, final DenseDoubleMatrix imaginary) {
+    this(real.toPackedArray(), imaginary.toPackedArray(), real.getRowDimension(),
+        real.getColumnDimension());
+    if (imaginary.getRowDimension() != this.row
+        || imaginary.getColumnDimension() != this.col) {
+      throw new IllegalArgumentException("DenseComplexMatrix の次元は同一である必要があります。");
+    }
+  }
+
+  /**
+   * ComplexMatrixから行列を作る. 要素の値はそのまま複写される.
+   *
+   * @param matrix
+   *          行列
+   * @since 2026/10/18 19:22:47
+   */
+  public DenseComplexMatrix(final ComplexMatrix matrix) {
+    this(matrix.getRowDimension(), matrix.getColumnDimension());
+    for (int i = 0; i < this.row; i++) {
+      for (int j = 0; j < this.col; j++) {
+        final DoubleComplex z = matrix.get(i, j);
+        this.real[i * this.col + j] = z.getReal();
+        this.imaginary[i * this.col + j] = z.getImaginary();
+      }
+    }
+  }
+
+  /**
+   * 配列をコピーせずに共有して行列を作る.
+   *
+   * @param real
+   *          行優先でパックされた実部
+   * @param imaginary
+   *          行優先でパックされた虚部
+   * @param row
+   *          行数
+   * @param col
+   *          列数
+   * @since 2026/10/18 19:22:47
+   */
+  private DenseComplexMatrix(final double[] real, final double[] imaginary, final int row,
+      final int col) {
+    super();
+    this.real = real;
+    this.imaginary = imaginary;
+    this.row = row;
+    this.col = col;
+  }
+
+  /**
+   * size(a) == size(b)　かどうかを確認する.
+   *
+   * @param b
+   *          行列
+   * @since 2026/10/18 19:22:47
+   */
+  private void checkMatrixDimensions(final DenseComplexMatrix b) {
+    if (b.row != this.row || b.col != this.col) {
+      throw new IllegalArgumentException("DenseComplexMatrix の次元は同一である必要があります。");
+    }
+  }
+
+  /**
+   * 行列の要素を取得する. Get a single element.
+   *
+   * @param i
+   *          Row index.
+   * @param j
+   *          Column index.
+   * @return matrix(i,j)
+   * @exception ArrayIndexOutOfBoundsException
+   * @since 2026/10/18 19:22:47
+   */
+  public DoubleComplex get(final int i, final int j) {
+    final int p = this.index(i, j);
+    return new DoubleComplex(this.real[p], this.imaginary[p]);
+  }
+
+  /**
+   * 要素の実部を取得する. DoubleComplexを生成しない.
+   *
+   * @param i
+   *          行インデックス
+   * @param j
+   *          列インデックス
+   * @return Re(A(i,j))
+   * @exception ArrayIndexOutOfBoundsException
+   * @since 2026/10/18 19:22:47
+   */
+  public double getReal(final int i, final int j) {
+    return this.real[this.index(i, j)];
+  }
+
+  /**
+   * 要素の虚部を取得する. DoubleComplexを生成しない.
+   *
+   * @param i
+   *          行インデックス
+   * @param j
+   *          列インデックス
+   * @return Im(A(i,j))
+   * @exception ArrayIndexOutOfBoundsException
+   * @since 2026/10/18 19:22:47
+   */
+  public double getImaginary(final int i, final int j) {
+    return this.imaginary[this.index(i, j)];
+  }
+
+  /**
+   * 要素(i, j)の配列上の位置を求める.
+   *
+   * @param i
+   *          行インデックス
+   * @param j
+   *          列インデックス
+   * @return 配列上の位置
+   * @exception ArrayIndexOutOfBoundsException
+   * @since 2026/10/18 19:22:47
+   */
+  private int index(final int i, final int j) {
+    if (i < 0 || i >= this.row || j < 0 || j >= this.col) {
+      throw new ArrayIndexOutOfBoundsException();
+    }
+    return i * this.col + j;
+  }
+
+  /**
+   * 指定した位置の要素をsに置き換えた行列を返す. この行列は変更されない.
+   *
+   * @param i
+   *          行インデックス
+   * @param j
+   *          列インデックス
+   * @param s
+   *          A(i,j).
+   * @return 要素を置き換えた行列
+   * @exception ArrayIndexOutOfBoundsException
+   * @since 2026/10/18 19:22:47
+   */
+  public DenseComplexMatrix set(final int i, final int j, final DoubleComplex s) {
+    final int p = this.index(i, j);
+    final double[] re = this.real.clone();
+    final double[] im = this.imaginary.clone();
+    re[p] = s.getReal();
+    im[p] = s.getImaginary();
+    return new DenseComplexMatrix(re, im, this.row, this.col);
+  }
+
+  /**
+   * 行列の行数を取得する.
+   *
+   * @return 行数
+   * @since 2026/10/18 19:22:47
+   */
+  public int getRowDimension() {
+    return this.row;
+  }
+
+  /**
+   * 行列の列数を取得する.
+   *
+   * @return 列数
+   * @since 2026/10/18 19:22:47
+   */
+  public int getColumnDimension() {
+    return this.col;
+  }
+
+  /**
+   * 実部の行列を返す.
+   *
+   * @return 実部
+   * @since 2026/10/18 19:22:47
+   */
+  public DenseDoubleMatrix getReal() {
+    return new DenseDoubleMatrix(this.real, this.row, this.col);
+  }
+
+  /**
+   * 虚部の行列を返す.
+   *
+   * @return 虚部
+   * @since 2026/10/18 19:22:47
+   */
+  public DenseDoubleMatrix getImaginary() {
+    return new DenseDoubleMatrix(this.imaginary, this.row, this.col);
+  }
+
+  /**
+   * ComplexMatrixに変換する. 要素ごとにDoubleComplexを生成する.
+   *
+   * @return 行列
+   * @since 2026/10/18 19:22:47
+   */
+  public ComplexMatrix toComplexMatrix() {
+    final DoubleComplex[][] c = new DoubleComplex[this.row][this.col];
+    for (int i = 0; i < this.row; i++) {
+      for (int j = 0; j < this.col; j++) {
+        c[i][j] = new DoubleComplex(this.real[i * this.col + j],
+            this.imaginary[i * this.col + j]);
+      }
+    }
+    return new ComplexMatrix(c);
+  }
+
+  /**
+   * 転置行列を返す. 共役はとらない.
+   *
+   * @return A.'
+   * @since 2026/10/18 19:22:47
+   */
+  public DenseComplexMatrix transpose() {
+    final double[] re = new double[this.real.length];
+    final double[] im = new double[this.imaginary.length];
+    for (int i = 0; i < this.row; i++) {
+      for (int j = 0; j < this.col; j++) {
+        re[j * this.row + i] = this.real[i * this.col + j];
+        im[j * this.row + i] = this.imaginary[i * this.col + j];
+      }
+    }
+    return new DenseComplexMatrix(re, im, this.col, this.row);
+  }
+
+  /**
+   * 共役転置行列を返す.
+   *
+   * @return A'
+   * @since 2026/10/18 19:22:47
+   */
+  public DenseComplexMatrix conjugateTranspose() {
+    final DenseComplexMatrix t = this.transpose();
+    for (int k = 0; k < t.imaginary.length; k++) {
+      t.imaginary[k] = -t.imaginary[k];
+    }
+    return t;
+  }
+
+  /**
+   * 行列の個々の要素の共役複素数.
+   *
+   * @return 共役複素数の行列
+   * @since 2026/10/18 19:22:47
+   */
+  public DenseComplexMatrix conjugate() {
+    final double[] im = new double[this.imaginary.length];
+    for (int k = 0; k < im.length; k++) {
+      im[k] = -this.imaginary[k];
+    }
+    return new DenseComplexMatrix(this.real, im, this.row, this.col);
+  }
+
+  /**
+   * 単項マイナス.
+   *
+   * @return -this
+   * @since 2026/10/18 19:22:47
+   */
+  public DenseComplexMatrix negate() {
+    final double[] re = new double[this.real.length];
+    final double[] im = new double[this.imaginary.length];
+    for (int k = 0; k < re.length; k++) {
+      re[k] = -this.real[k];
+      im[k] = -this.imaginary[k];
+    }
+    return new DenseComplexMatrix(re, im, this.row, this.col);
+  }
+
+  /**
+   * C = a + b.
+   *
+   * @param b
+   *          another matrix
+   * @return a + b
+   * @since 2026/10/18 19:22:47
+   */
+  public DenseComplexMatrix add(final DenseComplexMatrix b) {
+    this.checkMatrixDimensions(b);
+    final double[] re = new double[this.real.length];
+    final double[] im = new double[this.imaginary.length];
+    for (int k = 0; k < re.length; k++) {
+      re[k] = this.real[k] + b.real[k];
+      im[k] = this.imaginary[k] + b.imaginary[k];
+    }
+    return new DenseComplexMatrix(re, im, this.row, this.col);
+  }
+
+  /**
+   * C = a - b.
+   *
+   * @param b
+   *          another matrix
+   * @return a - b
+   * @since 2026/10/18 19:22:47
+   */
+  public DenseComplexMatrix subtract(final DenseComplexMatrix b) {
+    this.checkMatrixDimensions(b);
+    final double[] re = new double[this.real.length];
+    final double[] im = new double[this.imaginary.length];
+    for (int k = 0; k < re.length; k++) {
+      re[k] = this.real[k] - b.real[k];
+      im[k] = this.imaginary[k] - b.imaginary[k];
+    }
+    return new DenseComplexMatrix(re, im, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素どうしの積 (C = A .* B).
+   *
+   * @param b
+   *          another matrix
+   * @return A .* B
+   * @since 2026/10/18 19:22:47
+   */
+  public DenseComplexMatrix times(final DenseComplexMatrix b) {
+    this.checkMatrixDimensions(b);
+    final double[] re = new double[this.real.length];
+    final double[] im = new double[this.imaginary.length];
+    for (int k = 0; k < re.length; k++) {
+      re[k] = this.real[k] * b.real[k] - this.imaginary[k] * b.imaginary[k];
+      im[k] = this.real[k] * b.imaginary[k] + b.real[k] * this.imaginary[k];
+    }
+    return new DenseComplexMatrix(re, im, this.row, this.col);
+  }
+
+  /**
+   * 行列のスカラー倍.
+   *
+   * @param s
+   *          スカラー
+   * @return s * A
+   * @since 2026/10/18 19:22:47
+   */
+  public DenseComplexMatrix times(final DoubleComplex s) {
+    final double sr = s.getReal();
+    final double si = s.getImaginary();
+    final double[] re = new double[this.real.length];
+    final double[] im = new double[this.imaginary.length];
+    for (int k = 0; k < re.length; k++) {
+      re[k] = this.real[k] * sr - this.imaginary[k] * si;
+      im[k] = this.real[k] * si + sr * this.imaginary[k];
+    }
+    return new DenseComplexMatrix(re, im, this.row, this.col);
+  }
+
+  /**
+   * Linear algebraic matrix multiplication, A * b.
+   *
+   * <pre>
+   *  Cの行のブロックごとにForkJoinPoolで並列に計算する. 各要素は k の昇順に
+   *  (ar * br - ai * bi) + i (ar * bi + br * ai) を加算するため、
+   *  ComplexMatrix#multiply(ComplexMatrix)とビット単位で一致する.
+   * </pre>
+   *
+   * @param b
+   *          another matrix
+   * @return DenseComplexMatrix product, A * b
+   * @exception IllegalArgumentException
+   *              次元が一致しない場合
+   * @since 2026/10/18 19:22:47
+   */
+  public DenseComplexMatrix multiply(final DenseComplexMatrix b) {
+    if (b.row != this.col) {
+      throw new IllegalArgumentException("DenseComplexMatrix inner dimensions must agree.");
+    }
+    final DenseComplexMatrix c = new DenseComplexMatrix(this.row, b.col);
+    final Product task = new Product(this, b, c, 0, this.row);
+    if ((long) this.row * this.col * b.col <= DenseComplexMatrix.SEQUENTIAL_LIMIT) {
+      task.compute();
+    } else {
+      ForkJoinPool.commonPool().invoke(task);
+    }
+    return c;
+  }
+
+  /**
+   * Gaussの方法による行列積 A * b.
+   *
+   * <pre>
+   *  T1 = Ar * Br, T2 = Ai * Bi, T3 = (Ar + Ai) * (Br + Bi) の実行列積3回から
+   *  Re(C) = T1 - T2, Im(C) = T3 - T1 - T2 として求める.
+   *  実行列積にはDenseDoubleMatrixと同じタイル分割・並列化された計算カーネルを使う.
+   *  乗算回数は multiply() の3/4だが、加算と一時配列が増えるため常に速いとは限らない.
+   *  また Im(C) は打ち消し合いのため |A| * |B| 程度の絶対誤差を含むことがある.
+   * </pre>
+   *
+   * @param b
+   *          another matrix
+   * @return DenseComplexMatrix product, A * b
+   * @exception IllegalArgumentException
+   *              次元が一致しない場合
+   * @since 2026/10/18 19:22:47
+   */
+  public DenseComplexMatrix multiplyGauss(final DenseComplexMatrix b) {
+    if (b.row != this.col) {
+      throw new IllegalArgumentException("DenseComplexMatrix inner dimensions must agree.");
+    }
+    final int m = this.row;
+    final int n = this.col;
+    final int p = b.col;
+    final double[] t1 = new double[m * p];
+    final double[] t2 = new double[m * p];
+    final double[] t3 = new double[m * p];
+    MatrixMultiplication.multiply(this.real, b.real, t1, m, n, p);
+    MatrixMultiplication.multiply(this.imaginary, b.imaginary, t2, m, n, p);
+    final double[] sa = new double[m * n];
+    for (int k = 0; k < sa.length; k++) {
+      sa[k] = this.real[k] + this.imaginary[k];
+    }
+    final double[] sb = new double[n * p];
+    for (int k = 0; k < sb.length; k++) {
+      sb[k] = b.real[k] + b.imaginary[k];
+    }
+    MatrixMultiplication.multiply(sa, sb, t3, m, n, p);
+    for (int k = 0; k < t3.length; k++) {
+      t3[k] = t3[k] - t1[k] - t2[k];
+      t1[k] = t1[k] - t2[k];
+    }
+    return new DenseComplexMatrix(t1, t3, m, p);
+  }
+
+  /**
+   * ふたつの行列の次元と要素がすべて等しければtrueを返す.
+   *
+   * @param other
+   *          比較対象
+   * @return 同値であればtrue
+   * @see java.lang.Object#equals(java.lang.Object)
+   * @since 2026/10/18 19:22:47
+   */
+  @Override
+  public boolean equals(final Object other) {
+    if (!(other instanceof DenseComplexMatrix)) {
+      return false;
+    }
+    final DenseComplexMatrix castOther = (DenseComplexMatrix) other;
+    return this.row == castOther.row && this.col == castOther.col
+        && Arrays.equals(this.real, castOther.real)
+        && Arrays.equals(this.imaginary, castOther.imaginary);
+  }
+
+  /**
+   * ハッシュコードを求める.
+   *
+   * @return ハッシュコード
+   * @see java.lang.Object#hashCode()
+   * @since 2026/10/18 19:22:47
+   */
+  @Override
+  public int hashCode() {
+    return (31 * this.col + Arrays.hashCode(this.real)) * 31 + Arrays.hashCode(this.imaginary);
+  }
+
+  /**
+   * このオブジェクトの文字列表現.
+   *
+   * @return 文字列表現
+   * @see java.lang.Object#toString()
+   * @since 2026/10/18 19:22:47
+   */
+  @Override
+  public String toString() {
+    final StringBuilder result = new StringBuilder();
+    for (int i = 0; i < this.row; i++) {
+      for (int j = 0; j < this.col; j++) {
+        final int p = i * this.col + j;
+        result.append(String.format(Locale.JAPAN, "%+3.3e%+3.3ei",
+            Double.valueOf(this.real[p]), Double.valueOf(this.imaginary[p])));
+        result.append(" ");
+      }
+      result.append("\n");
+    }
+    return result.toString();
+  }
+
+  /**
+   * 行列積 C = A * B の行 i0 から i1 - 1 までを計算するタスク.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   * @since 2026/10/18 19:22:47
+   */
+  private static final class Product extends RecursiveAction {
+
+    /**
+     * シリアルバージョンID.
+     *
+     * @since 2026/10/18 19:22:47
+     */
+    private static final long        serialVersionUID = -5216380944152738195L;
+
+    /**
+     * 左の行列.
+     *
+     * @since 2026/10/18 19:22:47
+     */
+    private final DenseComplexMatrix a;
+
+    /**
+     * 右の行列.
+     *
+     * @since 2026/10/18 19:22:47
+     */
+    private final DenseComplexMatrix b;
+
+    /**
+     * 結果の行列.
+     *
+     * @since 2026/10/18 19:22:47
+     */
+    private final DenseComplexMatrix c;
+
+    /**
+     * 最初の行.
+     *
+     * @since 2026/10/18 19:22:47
+     */
+    private final int                i0;
+
+    /**
+     * 最後の行の次.
+     *
+     * @since 2026/10/18 19:22:47
+     */
+    private final int                i1;
+
+    /**
+     * タスクを作る.
+     *
+     * @param a
+     *          左の行列
+     * @param b
+     *          右の行列
+     * @param c
+     *          結果の行列
+     * @param i0
+     *          最初の行
+     * @param i1
+     *          最後の行の次
+     * @since 2026/10/18 19:22:47
+     */
+    Product(final DenseComplexMatrix a, final DenseComplexMatrix b, final DenseComplexMatrix c,
+        final int i0, final int i1) {
+      super();
+      this.a = a;
+      this.b = b;
+      this.c = c;
+      this.i0 = i0;
+      this.i1 = i1;
+    }
+
+    /**
+     * 行数が多ければ2分割し、少なければ逐次計算する.
+     *
+     * @see java.util.concurrent.RecursiveAction#compute()
+     * @since 2026/10/18 19:22:47
+     */
+    @Override
+    protected void compute() {
+      final long work = (long) (this.i1 - this.i0) * this.a.col * this.b.col;
+      if (this.i1 - this.i0 < 2 || work <= DenseComplexMatrix.SEQUENTIAL_LIMIT) {
+        this.multiplyRows();
+      } else {
+        final int middle = (this.i0 + this.i1) >>> 1;
+        ForkJoinTask.invokeAll(new Product(this.a, this.b, this.c, this.i0, middle),
+            new Product(this.a, this.b, this.c, middle, this.i1));
+      }
+    }
+
+    /**
+     * 担当する行を i-k-j の順に計算する. Bの行を連続してアクセスする.
+     *
+     * @since 2026/10/18 19:22:47
+     */
+    private void multiplyRows() {
+      final int n = this.a.col;
+      final int p = this.b.col;
+      final double[] ar = this.a.real;
+      final double[] ai = this.a.imaginary;
+      final double[] br = this.b.real;
+      final double[] bi = this.b.imaginary;
+      final double[] cr = this.c.real;
+      final double[] ci = this.c.imaginary;
+      for (int i = this.i0; i < this.i1; i++) {
+        final int ci0 = i * p;
+        for (int k = 0; k < n; k++) {
+          final double xr = ar[i * n + k];
+          final double xi = ai[i * n + k];
+          final int bk0 = k * p;
+          for (int j = 0; j < p; j++) {
+            final double yr = br[bk0 + j];
+            final double yi = bi[bk0 + j];
+            cr[ci0 + j] += xr * yr - xi * yi;
+            ci[ci0 + j] += xr * yi + yr * xi;
+          }
+        }
+      }
+    }
+  }
+}
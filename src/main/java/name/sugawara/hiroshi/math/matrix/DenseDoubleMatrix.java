@@ -0,0 +1,946 @@
+/**
+ * Created Date : 2026/10/18 13:05:12
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Locale;
+
+import name.sugawara.hiroshi.math.function.typedouble.DoubleMath;
+
+/**
+ * 1次元配列に格納されたdouble型の密行列.
+ *
+ * <pre>
+ *  要素は1本のdouble[]に格納され、要素(i, j)の位置は offset + i * rowStride + j * colStride で求める.
+ *  DoubleMatrixと異なり行ごとのオブジェクトを持たないため、参照の局所性がよく、
+ *  行列全体をSystem.arraycopyで一括コピーできる.
+ *
+ *  行列は不変(immutable)であり、setなどの変更操作は新しい行列を返す.
+ *  そのためgetMatrix(i0, i1, j0, j1)とtranspose()は配列をコピーせず、
+ *  同じ配列を参照するストライド付きのビューを定数時間で返す.
+ *  DoubleVectorとの相互変換も、連続した行優先の行列であれば配列をコピーしない.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see DoubleMatrix
+ *
+ * Created Date : 2026/10/18 13:05:12
+ */
+public final strictfp class DenseDoubleMatrix extends Matrix implements Serializable {
+
+  /**
+   * シリアルバージョンID.
+   *
+   * @since 2026/10/18 13:05:12
+   */
+  private static final long serialVersionUID = -3176458827719036612L;
+
+  /**
+   * 要素を格納する配列. 他の行列と共有されることがあるため変更してはならない.
+   *
+   * @serial internal array storage.
+   * @since 2026/10/18 13:05:12
+   */
+  private final double[]    data;
+
+  /**
+   * 要素(0, 0)の配列上の位置.
+   *
+   * @serial offset
+   * @since 2026/10/18 13:05:12
+   */
+  private final int         offset;
+
+  /**
+   * 行が1つ進むときの配列上の間隔.
+   *
+   * @serial row stride
+   * @since 2026/10/18 13:05:12
+   */
+  private final int         rowStride;
+
+  /**
+   * 列が1つ進むときの配列上の間隔.
+   *
+   * @serial column stride
+   * @since 2026/10/18 13:05:12
+   */
+  private final int         colStride;
+
+  /**
+   * 行数.
+   *
+   * @serial row dimension
+   * @since 2026/10/18 13:05:12
+   */
+  private final int         row;
+
+  /**
+   * 列数.
+   *
+   * @serial column dimension
+   * @since 2026/10/18 13:05:12
+   */
+  private final int         col;
+
+  /**
+   * 要素がすべて0 の row * col サイズの行列を作る.
+   *
+   * @param row
+   *          行数
+   * @param col
+   *          列数
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix(final int row, final int col) {
+    this(new double[row * col], 0, col, 1, row, col);
+  }
+
+  /**
+   * 要素がすべてs の row * col サイズの行列を作る.
+   *
+   * @param row
+   *          行数
+   * @param col
+   *          列数
+   * @param s
+   *          行列の要素値
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix(final int row, final int col, final double s) {
+    this(new double[row * col], 0, col, 1, row, col);
+    Arrays.fill(this.data, s);
+  }
+
+  /**
+   * 行優先でパックされた1次元配列から行列を作る. 配列はコピーされる.
+   *
+   * @param vals
+   *          行優先でパックされたdouble型の一次元配列
+   * @param row
+   *          行数
+   * @param col
+   *          列数
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix(final double[] vals, final int row, final int col) {
+    this(DenseDoubleMatrix.checkLength(vals, row, col).clone(), 0, col, 1, row, col);
+  }
+
+  /**
+   * 2次元配列から行列を作る. 配列はコピーされる.
+   *
+   * @param matrix
+   *          double型の2次元配列
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix(final double[][] matrix) {
+    this(new double[matrix.length * matrix[0].length], 0, matrix[0].length, 1, matrix.length,
+        matrix[0].length);
+    for (int i = 0; i < this.row; i++) {
+      if (matrix[i].length != this.col) {
+        throw new IllegalArgumentException("All rows must have the same length.");
+      }
+      System.arraycopy(matrix[i], 0, this.data, i * this.col, this.col);
+    }
+  }
+
+  /**
+   * DoubleMatrixから行列を作る. 要素はコピーされる.
+   *
+   * @param matrix
+   *          行列
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix(final DoubleMatrix matrix) {
+    this(matrix.getArray());
+  }
+
+  /**
+   * 配列をコピーせずに共有してストライド付きの行列を作る.
+   *
+   * @param data
+   *          配列
+   * @param offset
+   *          要素(0, 0)の配列上の位置
+   * @param rowStride
+   *          行が1つ進むときの配列上の間隔
+   * @param colStride
+   *          列が1つ進むときの配列上の間隔
+   * @param row
+   *          行数
+   * @param col
+   *          列数
+   * @since 2026/10/18 13:05:12
+   */
+  private DenseDoubleMatrix(final double[] data, final int offset, final int rowStride,
+      final int colStride, final int row, final int col) {
+    super();
+    this.data = data;
+    this.offset = offset;
+    this.rowStride = rowStride;
+    this.colStride = colStride;
+    this.row = row;
+    this.col = col;
+  }
+
+  /**
+   * 連続した行優先の配列をコピーせずに共有して行列を作る.
+   *
+   * @param data
+   *          行優先でパックされた配列
+   * @param row
+   *          行数
+   * @param col
+   *          列数
+   * @return 行列
+   * @since 2026/10/18 13:05:12
+   */
+  private static DenseDoubleMatrix wrap(final double[] data, final int row, final int col) {
+    return new DenseDoubleMatrix(data, 0, col, 1, row, col);
+  }
+
+  /**
+   * 行ベクトルの配列をコピーせずに、行優先で row 行の行列として参照する. 計算量は定数時間.
+   *
+   * @param vector
+   *          行ベクトル
+   * @param row
+   *          行数
+   * @return 行列
+   * @since 2026/10/18 13:05:12
+   */
+  public static DenseDoubleMatrix valueOf(final DoubleVector vector, final int row) {
+    final double[] array = vector.array();
+    if (row == 0 || array.length % row != 0) {
+      throw new IllegalArgumentException("Array length must be a multiple of row.");
+    }
+    return DenseDoubleMatrix.wrap(array, row, array.length / row);
+  }
+
+  /**
+   * 配列の長さが row * col であることを確認する.
+   *
+   * @param vals
+   *          配列
+   * @param row
+   *          行数
+   * @param col
+   *          列数
+   * @return vals
+   * @since 2026/10/18 13:05:12
+   */
+  private static double[] checkLength(final double[] vals, final int row, final int col) {
+    if (vals.length != row * col) {
+      throw new IllegalArgumentException("Array length must be row * col.");
+    }
+    return vals;
+  }
+
+  /**
+   * size(a) == size(b)　かどうかを確認する.
+   *
+   * @param b
+   *          行列
+   * @since 2026/10/18 13:05:12
+   */
+  private void checkMatrixDimensions(final DenseDoubleMatrix b) {
+    if (b.row != this.row || b.col != this.col) {
+      throw new IllegalArgumentException("DenseDoubleMatrix の次元は同一である必要があります。");
+    }
+  }
+
+  /**
+   * 配列が連続した行優先の形式で、かつ配列全体を占めているかどうか.
+   *
+   * @return 連続した行優先の形式であればtrue
+   * @since 2026/10/18 13:05:12
+   */
+  boolean isPacked() {
+    return this.offset == 0 && this.colStride == 1 && this.rowStride == this.col
+        && this.data.length == this.row * this.col;
+  }
+
+  /**
+   * 行優先でパックされた要素の配列を返す. 連続した形式であれば内部の配列をそのまま返す.
+   *
+   * @return 行優先でパックされた配列. 変更してはならない.
+   * @since 2026/10/18 13:05:12
+   */
+  double[] packed() {
+    return this.isPacked() ? this.data : this.toPackedArray();
+  }
+
+  /**
+   * 行優先でパックされた要素の配列を新しく作って返す.
+   *
+   * @return 行優先でパックされた配列のコピー
+   * @since 2026/10/18 13:05:12
+   */
+  double[] toPackedArray() {
+    final double[] c = new double[this.row * this.col];
+    if (this.isPacked()) {
+      System.arraycopy(this.data, 0, c, 0, c.length);
+    } else if (this.colStride == 1) {
+      for (int i = 0; i < this.row; i++) {
+        System.arraycopy(this.data, this.offset + i * this.rowStride, c, i * this.col, this.col);
+      }
+    } else {
+      int k = 0;
+      for (int i = 0; i < this.row; i++) {
+        int p = this.offset + i * this.rowStride;
+        for (int j = 0; j < this.col; j++, p += this.colStride) {
+          c[k++] = this.data[p];
+        }
+      }
+    }
+    return c;
+  }
+
+  /**
+   * 行列の要素を取得する. Get a single element.
+   *
+   * @param i
+   *          Row index.
+   * @param j
+   *          Column index.
+   * @return matrix(i,j)
+   * @exception ArrayIndexOutOfBoundsException
+   * @since 2026/10/18 13:05:12
+   */
+  public double get(final int i, final int j) {
+    if (i < 0 || i >= this.row || j < 0 || j >= this.col) {
+      throw new ArrayIndexOutOfBoundsException();
+    }
+    return this.data[this.offset + i * this.rowStride + j * this.colStride];
+  }
+
+  /**
+   * 指定した位置の要素をsに置き換えた行列を返す. この行列は変更されない.
+   *
+   * @param i
+   *          行インデックス
+   * @param j
+   *          列インデックス
+   * @param s
+   *          A(i,j).
+   * @return 要素を置き換えた行列
+   * @exception ArrayIndexOutOfBoundsException
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix set(final int i, final int j, final double s) {
+    if (i < 0 || i >= this.row || j < 0 || j >= this.col) {
+      throw new ArrayIndexOutOfBoundsException();
+    }
+    final double[] c = this.toPackedArray();
+    c[i * this.col + j] = s;
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の行数を取得する.
+   *
+   * @return 行数
+   * @since 2026/10/18 13:05:12
+   */
+  public int getRowDimension() {
+    return this.row;
+  }
+
+  /**
+   * 行列の列数を取得する.
+   *
+   * @return 列数
+   * @since 2026/10/18 13:05:12
+   */
+  public int getColumnDimension() {
+    return this.col;
+  }
+
+  /**
+   * 行列をdouble型2次元配列に変換する. 要素はコピーされる.
+   *
+   * @return 2次元配列
+   * @since 2026/10/18 13:05:12
+   */
+  public double[][] getArray() {
+    final double[][] c = new double[this.row][this.col];
+    for (int i = 0; i < this.row; i++) {
+      int p = this.offset + i * this.rowStride;
+      for (int j = 0; j < this.col; j++, p += this.colStride) {
+        c[i][j] = this.data[p];
+      }
+    }
+    return c;
+  }
+
+  /**
+   * DoubleMatrixに変換する. 要素はコピーされる.
+   *
+   * @return 行列
+   * @since 2026/10/18 13:05:12
+   */
+  public DoubleMatrix toDoubleMatrix() {
+    return DoubleMatrix.wrap(this.getArray());
+  }
+
+  /**
+   * 要素を行優先で並べた行ベクトルに変換する.
+   * 連続した行優先の行列であれば配列をコピーしないため定数時間で変換できる.
+   *
+   * @return 行ベクトル
+   * @since 2026/10/18 13:05:12
+   */
+  public DoubleVector toVector() {
+    return new DoubleVector(this.packed(), true);
+  }
+
+  /**
+   * 始点と終点を指定して部分行列を取り出す. 配列はコピーせずに共有する. Get a submatrix.
+   *
+   * @param i0
+   *          Initial row index
+   * @param i1
+   *          Final row index
+   * @param j0
+   *          Initial column index
+   * @param j1
+   *          Final column index
+   * @return A(i0:i1,j0:j1)
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix getMatrix(final int i0, final int i1, final int j0, final int j1) {
+    if (i0 < 0 || i1 >= this.row || i0 > i1 + 1 || j0 < 0 || j1 >= this.col || j0 > j1 + 1) {
+      throw new ArrayIndexOutOfBoundsException("Submatrix indices.");
+    }
+    return new DenseDoubleMatrix(this.data, this.offset + i0 * this.rowStride + j0 * this.colStride,
+        this.rowStride, this.colStride, i1 - i0 + 1, j1 - j0 + 1);
+  }
+
+  /**
+   * 転置行列を返す. 配列はコピーせず、行と列のストライドを入れ替えたビューを返す.
+   *
+   * @return a'
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix transpose() {
+    return new DenseDoubleMatrix(this.data, this.offset, this.colStride, this.rowStride, this.col,
+        this.row);
+  }
+
+  /**
+   * 単項マイナス.
+   *
+   * @return -this
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix negate() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = -c[k];
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * C = a + b.
+   *
+   * @param b
+   *          another matrix
+   * @return a + b
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix add(final DenseDoubleMatrix b) {
+    this.checkMatrixDimensions(b);
+    final double[] c = this.toPackedArray();
+    final double[] bp = b.packed();
+    for (int k = 0; k < c.length; k++) {
+      c[k] += bp[k];
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * C = a - b.
+   *
+   * @param b
+   *          another matrix
+   * @return a - b
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix subtract(final DenseDoubleMatrix b) {
+    this.checkMatrixDimensions(b);
+    final double[] c = this.toPackedArray();
+    final double[] bp = b.packed();
+    for (int k = 0; k < c.length; k++) {
+      c[k] -= bp[k];
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素どうしの積 ( C = a .* b).
+   *
+   * @param b
+   *          もうひとつの行列
+   * @return a .* b
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix times(final DenseDoubleMatrix b) {
+    this.checkMatrixDimensions(b);
+    final double[] c = this.toPackedArray();
+    final double[] bp = b.packed();
+    for (int k = 0; k < c.length; k++) {
+      c[k] *= bp[k];
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素どうしの商 ( C = a ./ b).
+   *
+   * @param b
+   *          除算する行列
+   * @return a ./ b
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix divide(final DenseDoubleMatrix b) {
+    this.checkMatrixDimensions(b);
+    final double[] c = this.toPackedArray();
+    final double[] bp = b.packed();
+    for (int k = 0; k < c.length; k++) {
+      c[k] /= bp[k];
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列要素の累乗.
+   *
+   * @param b
+   *          指数の行列
+   * @return 行列の個々の要素を行列bの要素で累乗した行列
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix pow(final DenseDoubleMatrix b) {
+    this.checkMatrixDimensions(b);
+    final double[] c = this.toPackedArray();
+    final double[] bp = b.packed();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.pow(c[k], bp[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の要素の4象限逆正接 Four Quadrant Arc Tangent. thisをy、bをxとする.
+   *
+   * @param b
+   *          xの行列
+   * @return atan2(a, b)
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix atan2(final DenseDoubleMatrix b) {
+    this.checkMatrixDimensions(b);
+    final double[] c = this.toPackedArray();
+    final double[] bp = b.packed();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.atan2(c[k], bp[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列のスカラー倍 ( c = s * a).
+   *
+   * @param s
+   *          スカラー
+   * @return s * a
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix times(final double s) {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] *= s;
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の各要素をスカラーで除算する.
+   *
+   * @param s
+   *          除数
+   * @return a / s
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix divide(final double s) {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] /= s;
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列要素の累乗.
+   *
+   * @param s
+   *          指数
+   * @return 行列の個々の要素をs乗した行列
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix pow(final double s) {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.pow(c[k], s);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * Linear algebraic matrix multiplication, A * b.
+   *
+   * <pre>
+   *  DoubleMatrix#multiply(DoubleMatrix)と同じ計算カーネルを用いるため、結果はビット単位で一致する.
+   * </pre>
+   *
+   * @param b
+   *          another matrix
+   * @return DenseDoubleMatrix product, A * b
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix multiply(final DenseDoubleMatrix b) {
+    if (b.row != this.col) {
+      throw new IllegalArgumentException("DenseDoubleMatrix inner dimensions must agree.");
+    }
+    final double[] c = new double[this.row * b.col];
+    MatrixMultiplication.multiply(this.packed(), b.packed(), c, this.row, this.col, b.col);
+    return DenseDoubleMatrix.wrap(c, this.row, b.col);
+  }
+
+  /**
+   * 行列の個々の要素の絶対値.
+   *
+   * @return 行列の個々の要素に対する絶対値
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix abs() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.abs(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素の逆余弦(arc cosine).
+   *
+   * @return 行列の個々の要素に対する逆余弦
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix acos() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.acos(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素の逆正弦(arc sine).
+   *
+   * @return 行列の個々の要素に対する逆正弦
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix asin() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.asin(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素の逆正接(arc tangent).
+   *
+   * @return 行列の個々の要素に対する逆正接
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix atan() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.atan(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素の余弦(cosine).
+   *
+   * @return 行列の個々の要素に対する余弦
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix cos() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.cos(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素の正弦(sine).
+   *
+   * @return 行列の個々の要素に対する正弦
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix sin() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.sin(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素の正接(tangent).
+   *
+   * @return 行列の個々の要素に対する正接
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix tan() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.tan(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素のexp関数 exp(x).
+   *
+   * @return 行列の個々の要素に対するexp関数 exp
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix exp() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.exp(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素の自然対数.
+   *
+   * @return 行列の個々の要素に対する自然対数
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix log() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.log(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素の常用対数.
+   *
+   * @return 行列の個々の要素に対する常用対数
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix log10() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.log10(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素の平方根.
+   *
+   * @return 行列の個々の要素に対する平方根
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix sqrt() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.sqrt(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素の立方根(cube root).
+   *
+   * @return 行列の個々の要素に対する立方根
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix cbrt() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.cbrt(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素の双曲線正弦(Hyperbolic Sine).
+   *
+   * @return 行列の個々の要素に対する双曲線正弦
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix sinh() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.sinh(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素の双曲線余弦(Hyperbolic Cosine).
+   *
+   * @return 行列の個々の要素に対する双曲線余弦
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix cosh() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.cosh(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素の双曲線正接(Hyperbolic Tangent).
+   *
+   * @return 行列の個々の要素に対する双曲線正接
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix tanh() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = Math.tanh(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素の逆双曲線正弦(Inverse Hyperbolic Sine).
+   *
+   * @return 行列の個々の要素に対する逆双曲線正弦
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix asinh() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = DoubleMath.asinh(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素の逆双曲線余弦(Inverse Hyperbolic Cosine).
+   *
+   * @return 行列の個々の要素に対する逆双曲線余弦
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix acosh() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = DoubleMath.acosh(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の個々の要素の逆双曲線正接(Inverse Hyperbolic Tangent).
+   *
+   * @return 行列の個々の要素に対する逆双曲線正接
+   * @since 2026/10/18 13:05:12
+   */
+  public DenseDoubleMatrix atanh() {
+    final double[] c = this.toPackedArray();
+    for (int k = 0; k < c.length; k++) {
+      c[k] = DoubleMath.atanh(c[k]);
+    }
+    return DenseDoubleMatrix.wrap(c, this.row, this.col);
+  }
+
+  /**
+   * 行列の列のみの各要素の和を行ベクトルで返す.
+   *
+   * @return 各列の要素の和の行ベクトル
+   * @since 2026/10/18 13:05:12
+   */
+  public DoubleVector sum() {
+    final double[] c = new double[this.col];
+    for (int i = 0; i < this.row; i++) {
+      int p = this.offset + i * this.rowStride;
+      for (int j = 0; j < this.col; j++, p += this.colStride) {
+        c[j] += this.data[p];
+      }
+    }
+    return new DoubleVector(c, true);
+  }
+
+  /**
+   * ふたつの行列の次元と要素がすべて等しければtrueを返す. 格納形式(ストライド)は比較しない.
+   *
+   * @param other
+   *          比較対象
+   * @return 同値であればtrue
+   * @see java.lang.Object#equals(java.lang.Object)
+   * @since 2026/10/18 13:05:12
+   */
+  @Override
+  public boolean equals(final Object other) {
+    if (!(other instanceof DenseDoubleMatrix)) {
+      return false;
+    }
+    final DenseDoubleMatrix castOther = (DenseDoubleMatrix) other;
+    return this.row == castOther.row && this.col == castOther.col
+        && Arrays.equals(this.packed(), castOther.packed());
+  }
+
+  /**
+   * ハッシュコードを求める.
+   *
+   * @return ハッシュコード
+   * @see java.lang.Object#hashCode()
+   * @since 2026/10/18 13:05:12
+   */
+  @Override
+  public int hashCode() {
+    return 31 * this.col + Arrays.hashCode(this.packed());
+  }
+
+  /**
+   * このオブジェクトの文字列表現.
+   *
+   * @return 文字列表現
+   * @see java.lang.Object#toString()
+   * @since 2026/10/18 13:05:12
+   */
+  @Override
+  public String toString() {
+    final StringBuilder result = new StringBuilder();
+    for (int i = 0; i < this.row; i++) {
+      int p = this.offset + i * this.rowStride;
+      for (int j = 0; j < this.col; j++, p += this.colStride) {
+        result.append(String.format(Locale.JAPAN, "%+3.3e", Double.valueOf(this.data[p])));
+        result.append(" ");
+      }
+      result.append("\n");
+    }
+    return result.toString();
+  }
+
+}
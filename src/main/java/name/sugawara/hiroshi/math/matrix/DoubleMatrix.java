@@ -6,22 +6,35 @@ package name.sugawara.hiroshi.math.matrix;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.lang.builder.EqualsBuilder;
 import org.apache.commons.lang.builder.HashCodeBuilder;
 
+import name.sugawara.hiroshi.math.array.ArraysUtil;
+import name.sugawara.hiroshi.math.array.Summation;
 import name.sugawara.hiroshi.math.function.typedouble.DoubleMath;
 
 /**
  * double型行列. Mathworks, Inc のJAMA(A Java Matrix Package)を参考にして作成.
  *
+ * <pre>
+ *  要素ごとの演算には、結果を新しい行列で返すメソッドのほかに、
+ *  結果の格納先destを指定するメソッド (例: add(b, dest)) と
+ *  この行列の要素を書き換えるin-placeのメソッド (例: addInPlace(b), axpy(alpha, x)) がある.
+ *  これらは結果用の配列を確保しないため、反復計算のループの中で使用する.
+ *  コンストラクタとgetArray()は2次元配列を行ごとにコピーするため、
+ *  in-placeの演算で呼び出し元の配列や他の行列が書き換わることはない.
+ * </pre>
+ *
  * @author Hiroshi Sugawara
  * @version $Id: DoubleMatrix.java 109 2010-06-13 04:26:48Z sugawara $
  * @since 1.1
  * @uml.stereotype uml_id="null" isDefined="true" name="tagged"
  */
 
-public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Serializable {
+public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Serializable,
+    LinearOperator {
 
   /**
    * シリアルバージョンID.
@@ -81,20 +94,65 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
   }
 
   /**
-   * 既存の2次元配列から行列クラスを生成.
+   * 既存の2次元配列から行列クラスを生成. 配列は行ごとにコピーされる.
    *
    * @param matrix
    *          double型の2次元配列.
    */
   public DoubleMatrix(final double[][] matrix) {
-    this.row = matrix.length;
-    this.col = matrix[0].length;
-    for (int i = 0; i < this.row; i++) {
-      if (matrix[i].length != this.col) {
+    this(DoubleMatrix.checkRows(matrix), matrix[0].length, DoubleMatrix.copyRows(matrix));
+  }
+
+  /**
+   * 2次元配列をコピーせずに保持する.
+   *
+   * @param row
+   *          行数
+   * @param col
+   *          列数
+   * @param matrix
+   *          行列の要素を格納した2次元配列
+   * @since 2026/10/19 5:03:17
+   */
+  private DoubleMatrix(final int row, final int col, final double[][] matrix) {
+    this.row = row;
+    this.col = col;
+    this.matrix = matrix;
+  }
+
+  /**
+   * 新しく確保した2次元配列をコピーせずに行列にする.
+   *
+   * <pre>
+   *  演算結果の配列を行列にするときに使う. 行列は配列を共有するため、
+   *  呼び出し元はこのあと配列を書き換えたり他に渡したりしてはならない.
+   * </pre>
+   *
+   * @param matrix
+   *          他と行配列を共有しない2次元配列
+   * @return 配列を保持する行列
+   * @since 2026/10/19 5:03:17
+   */
+  static DoubleMatrix wrap(final double[][] matrix) {
+    return new DoubleMatrix(DoubleMatrix.checkRows(matrix), matrix[0].length, matrix);
+  }
+
+  /**
+   * 2次元配列のすべての行の長さが等しいことを確認する.
+   *
+   * @param matrix
+   *          2次元配列
+   * @return 行数
+   * @since 2026/10/19 5:03:17
+   */
+  private static int checkRows(final double[][] matrix) {
+    final int col = matrix[0].length;
+    for (final double[] r : matrix) {
+      if (r.length != col) {
         throw new IllegalArgumentException("All rows must have the same length.");
       }
     }
-    this.matrix = matrix.clone();
+    return matrix.length;
   }
 
   /**
@@ -141,7 +199,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.abs(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -157,7 +215,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.acos(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -175,7 +233,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = this.matrix[i][j] + b.matrix[i][j];
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -191,7 +249,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.asin(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -207,7 +265,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.atan(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -227,7 +285,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.atan2(this.matrix[i][j], x.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -243,6 +301,26 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
     }
   }
 
+  /**
+   * 2次元配列の各行をコピーした2次元配列を返す.
+   *
+   * <pre>
+   *  in-placeの演算で他の行列に影響しないように、新しい行列を作るときは行配列を共有しない.
+   * </pre>
+   *
+   * @param rows
+   *          2次元配列
+   * @return 各行をコピーした2次元配列
+   * @since 2026/10/18 15:02:44
+   */
+  private static double[][] copyRows(final double[][] rows) {
+    final double[][] c = new double[rows.length][];
+    for (int i = 0; i < rows.length; i++) {
+      c[i] = rows[i].clone();
+    }
+    return c;
+  }
+
   /**
    * オブジェクトのクローン. <br />
    * 行列の要素はdeep copyされる.
@@ -255,7 +333,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
   @Override
   public Object clone() throws CloneNotSupportedException {
     super.clone();
-    final double[][] c = Arrays.copyOf(this.matrix, this.matrix.length);
+    final double[][] c = DoubleMatrix.copyRows(this.matrix);
 
     // c = (double[][])matrix.clone();
     // for (int i = 0; i < this.row; i++) {
@@ -265,7 +343,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
     // }
     // }
 
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -281,7 +359,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.cos(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -314,7 +392,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = this.matrix[i][j] / v.matrix[i][j];
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -330,7 +408,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.exp(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -346,7 +424,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         flipped[i][j] = this.matrix[i][this.col - 1 - j];
       }
     }
-    return new DoubleMatrix(flipped);
+    return DoubleMatrix.wrap(flipped);
   }
 
   /**
@@ -362,7 +440,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         flipped[i][j] = this.matrix[this.row - 1 - i][j];
       }
     }
-    return new DoubleMatrix(flipped);
+    return DoubleMatrix.wrap(flipped);
   }
 
   /**
@@ -389,7 +467,17 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
    * @return Pointer to the two-dimensional array of matrix elements.
    */
   public double[][] getArray() {
-    return Arrays.copyOf(this.matrix, this.matrix.length);
+    return DoubleMatrix.copyRows(this.matrix);
+  }
+
+  /**
+   * 内部の2次元配列をコピーせずに返す.
+   *
+   * @return 内部の2次元配列
+   * @since 2026/10/18 15:48:09
+   */
+  double[][] array() {
+    return this.matrix;
   }
 
   /**
@@ -426,7 +514,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
     } catch (ArrayIndexOutOfBoundsException e) {
       throw new ArrayIndexOutOfBoundsException("Submatrix indices.");
     }
-    return new DoubleMatrix(x);
+    return DoubleMatrix.wrap(x);
   }
 
   /**
@@ -453,7 +541,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
     } catch (ArrayIndexOutOfBoundsException e) {
       throw new ArrayIndexOutOfBoundsException("Submatrix indices.");
     }
-    return new DoubleMatrix(x);
+    return DoubleMatrix.wrap(x);
   }
 
   /**
@@ -480,7 +568,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
     } catch (ArrayIndexOutOfBoundsException e) {
       throw new ArrayIndexOutOfBoundsException("Submatrix indices.");
     }
-    return new DoubleMatrix(b);
+    return DoubleMatrix.wrap(b);
   }
 
   /**
@@ -505,7 +593,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
     } catch (ArrayIndexOutOfBoundsException e) {
       throw new ArrayIndexOutOfBoundsException("部分行列のインデックス。");
     }
-    return new DoubleMatrix(x);
+    return DoubleMatrix.wrap(x);
   }
 
   /**
@@ -540,7 +628,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.log(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -556,7 +644,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.log10(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -591,11 +679,61 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
       for (int i = 0; i < this.row; i++) {
         c[j] += this.matrix[i][j];
       }
-      c[j] /= this.col;
+      c[j] /= this.row;
     }
     return new DoubleVector(c);
   }
 
+  /**
+   * 指定された計算方法で、行列の各列の要素の平均を行ベクトルで返す.
+   *
+   * @param summation
+   *          計算方法
+   * @return 各列の平均値の行ベクトル
+   * @see Summation
+   * @since 2026/10/18 22:10:25
+   */
+  public DoubleVector mean(final Summation summation) {
+    final double[] c = this.columnSums(summation);
+    for (int j = 0; j < this.col; j++) {
+      c[j] /= this.row;
+    }
+    return new DoubleVector(c, true);
+  }
+
+  /**
+   * 指定された計算方法で、行列の各列の要素の和を行ベクトルで返す.
+   *
+   * @param summation
+   *          計算方法
+   * @return 各列の要素の和の行ベクトル
+   * @see Summation
+   * @since 2026/10/18 22:10:25
+   */
+  public DoubleVector sum(final Summation summation) {
+    return new DoubleVector(this.columnSums(summation), true);
+  }
+
+  /**
+   * 各列の要素を配列に集め、指定された計算方法で和を求める.
+   *
+   * @param summation
+   *          計算方法
+   * @return 各列の和
+   * @since 2026/10/18 22:10:25
+   */
+  private double[] columnSums(final Summation summation) {
+    final double[] c = new double[this.col];
+    final double[] column = new double[this.row];
+    for (int j = 0; j < this.col; j++) {
+      for (int i = 0; i < this.row; i++) {
+        column[i] = this.matrix[i][j];
+      }
+      c[j] = summation.sum(column);
+    }
+    return c;
+  }
+
   /**
    * 行列の各列の最小要素をベクトルで求める.
    *
@@ -618,6 +756,12 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
   /**
    * Linear algebraic matrix multiplication, A * b.
    *
+   * <pre>
+   *  タイル分割・レジスタブロッキングした計算カーネルを用い、
+   *  大きな行列では行・列パネルごとに並列に計算する.
+   *  各要素の加算順序は単純な三重ループと同一であるため、結果は逐次計算とビット単位で一致する.
+   * </pre>
+   *
    * @param b
    *          another matrix
    * @return DoubleMatrix product, A * b
@@ -628,22 +772,36 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
     }
 
     final double[][] c = new double[this.row][b.col];
-    final double[] bcolj = new double[this.col];
-    for (int j = 0; j < b.col; j++) {
-      for (int k = 0; k < this.col; k++) {
-        bcolj[k] = b.matrix[k][j];
-      }
+    MatrixMultiplication.multiply(this.matrix, b.matrix, c, this.row, this.col, b.col);
+    return DoubleMatrix.wrap(c);
+  }
 
-      for (int i = 0; i < this.row; i++) {
-        final double[] arowi = this.matrix[i];
-        double s = 0;
-        for (int k = 0; k < this.col; k++) {
-          s += arowi[k] * bcolj[k];
-        }
-        c[i][j] = s;
-      }
+  /**
+   * 行列積 A * b を求め、あらかじめ確保された行列intoに格納する.
+   *
+   * <pre>
+   *  結果用の配列を確保しないため、同じ大きさの行列積を繰り返し求める場合に使用する.
+   *  intoの要素はすべて上書きされる. intoはthisやbと要素(行配列)を共有してはならない.
+   *  計算結果は {@link #multiply(DoubleMatrix)} とビット単位で一致する.
+   * </pre>
+   *
+   * @param b
+   *          another matrix
+   * @param into
+   *          結果を格納する this.getRowDimension() * b.getColumnDimension() の行列
+   * @return 結果を格納したinto
+   * @since 2026/10/18 10:12:40
+   */
+  public DoubleMatrix multiply(final DoubleMatrix b, final DoubleMatrix into) {
+    if (b.row != this.col) {
+      throw new IllegalArgumentException("DoubleMatrix inner dimensions must agree.");
+    }
+    if (into.row != this.row || into.col != b.col) {
+      throw new IllegalArgumentException("結果を格納する行列の次元が行列積の次元と一致しません。");
     }
-    return new DoubleMatrix(c);
+    MatrixMultiplication.checkNotAliased(this.matrix, b.matrix, into.matrix);
+    MatrixMultiplication.multiply(this.matrix, b.matrix, into.matrix, this.row, this.col, b.col);
+    return into;
   }
 
   /**
@@ -658,7 +816,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = -this.matrix[i][j];
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -707,7 +865,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.pow(this.matrix[i][j], d);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -725,7 +883,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.pow(this.matrix[i][j], d.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -762,7 +920,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         rotated[i][j] = this.matrix[j][this.col - 1 - i];
       }
     }
-    return new DoubleMatrix(rotated);
+    return DoubleMatrix.wrap(rotated);
   }
 
   /**
@@ -779,9 +937,9 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
    */
   public DoubleMatrix set(final int i, final int j, final double s) {
 
-    final double[][] d = Arrays.copyOf(this.matrix, this.matrix.length);
+    final double[][] d = DoubleMatrix.copyRows(this.matrix);
     d[i][j] = s;
-    return new DoubleMatrix(d);
+    return DoubleMatrix.wrap(d);
   }
 
   /**
@@ -801,7 +959,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
    */
   public DoubleMatrix setMatrix(final int i0, final int i1, final int j0, final int j1,
       final DoubleMatrix x) {
-    final double[][] d = Arrays.copyOf(this.matrix, this.matrix.length);
+    final double[][] d = DoubleMatrix.copyRows(this.matrix);
     try {
       for (int i = i0; i <= i1; i++) {
         for (int j = j0; j <= j1; j++) {
@@ -811,7 +969,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
     } catch (ArrayIndexOutOfBoundsException e) {
       throw new ArrayIndexOutOfBoundsException("部分行列のインデックス。");
     }
-    return new DoubleMatrix(d);
+    return DoubleMatrix.wrap(d);
   }
 
   /**
@@ -829,7 +987,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
    */
   public DoubleMatrix setMatrix(final int i0, final int i1, final int[] col, final DoubleMatrix x) {
 
-    final double[][] d = Arrays.copyOf(this.matrix, this.matrix.length);
+    final double[][] d = DoubleMatrix.copyRows(this.matrix);
     try {
       for (int i = i0; i <= i1; i++) {
         for (int j = 0; j < col.length; j++) {
@@ -839,7 +997,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
     } catch (ArrayIndexOutOfBoundsException e) {
       throw new ArrayIndexOutOfBoundsException("Submatrix indices.");
     }
-    return new DoubleMatrix(d);
+    return DoubleMatrix.wrap(d);
   }
 
   /**
@@ -857,7 +1015,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
    */
   public DoubleMatrix setMatrix(final int[] row, final int j0, final int j1, final DoubleMatrix x) {
 
-    final double[][] d = Arrays.copyOf(this.matrix, this.matrix.length);
+    final double[][] d = DoubleMatrix.copyRows(this.matrix);
     try {
       for (int i = 0; i < row.length; i++) {
         for (int j = j0; j <= j1; j++) {
@@ -867,7 +1025,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
     } catch (ArrayIndexOutOfBoundsException e) {
       throw new ArrayIndexOutOfBoundsException("Submatrix indices.");
     }
-    return new DoubleMatrix(d);
+    return DoubleMatrix.wrap(d);
   }
 
   /**
@@ -882,7 +1040,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
    * @return 行列
    */
   public DoubleMatrix setMatrix(final int[] row, final int[] col, final DoubleMatrix x) {
-    final double[][] d = Arrays.copyOf(this.matrix, this.matrix.length);
+    final double[][] d = DoubleMatrix.copyRows(this.matrix);
     try {
       for (int i = 0; i < row.length; i++) {
         for (int j = 0; j < col.length; j++) {
@@ -892,7 +1050,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
     } catch (ArrayIndexOutOfBoundsException e) {
       throw new ArrayIndexOutOfBoundsException("部分行列のインデックス。");
     }
-    return new DoubleMatrix(d);
+    return DoubleMatrix.wrap(d);
   }
 
   /**
@@ -908,7 +1066,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.sin(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -924,7 +1082,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.sqrt(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -942,7 +1100,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = this.matrix[i][j] - b.matrix[i][j];
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -979,7 +1137,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.tan(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -996,7 +1154,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = s * this.matrix[i][j];
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -1014,7 +1172,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = this.matrix[i][j] * b.matrix[i][j];
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -1029,7 +1187,202 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[j][i] = this.matrix[i][j];
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
+  }
+
+  /**
+   * 行列全体を参照するビューを返す. 要素はコピーしない.
+   *
+   * <pre>
+   *  ビューの getMatrix(i0, i1, j0, j1), transpose(), fliplr(), flipud(), rot90() は
+   *  要素をコピーせずに定数時間で求まる. ブロックアルゴリズムの内側のループで部分行列を取り出すときに使用する.
+   * </pre>
+   *
+   * @return ビュー
+   * @since 2026/10/18 14:20:31
+   */
+  public DoubleMatrixView view() {
+    return new DoubleMatrixView(this.matrix, new ViewIndex(this.row, this.col));
+  }
+
+  /**
+   * 要素ごとの演算を遅延評価する式を返す.
+   *
+   * <pre>
+   *  m.lazy().times(2).add(b).exp().sqrt().evaluate() のように演算を連ねると、
+   *  中間結果の行列を作らずに1回の走査で計算する.
+   * </pre>
+   *
+   * @return 式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix lazy() {
+    return new LazyDoubleMatrix(new ElementWisePipeline(this.matrix, this.col));
+  }
+
+  /**
+   * 列ごとの統計量を共通プールで並列に計算するハンドルを返す.
+   *
+   * @return ハンドル
+   * @see ParallelDoubleMatrix
+   * @since 2026/10/18 22:48:31
+   */
+  public ParallelDoubleMatrix parallel() {
+    return new ParallelDoubleMatrix(this, ArraysUtil.parallel());
+  }
+
+  /**
+   * 列ごとの統計量を指定されたプールで並列に計算するハンドルを返す.
+   *
+   * @param pool
+   *          プール
+   * @return ハンドル
+   * @see ParallelDoubleMatrix
+   * @since 2026/10/18 22:48:31
+   */
+  public ParallelDoubleMatrix parallel(final ForkJoinPool pool) {
+    return new ParallelDoubleMatrix(this, ArraysUtil.parallel(pool));
+  }
+
+  /**
+   * 部分ピボット選択付きLU分解を返す.
+   *
+   * <pre>
+   *  同じ係数行列で右辺だけを変えて何度も方程式を解く場合は、
+   *  この戻り値を保持して solve() を呼び出せば分解は1回で済む.
+   * </pre>
+   *
+   * @return LU分解
+   * @exception IllegalArgumentException
+   *              正方行列でない場合
+   * @since 2026/10/18 16:42:05
+   */
+  public LUDecomposition lu() {
+    return new LUDecomposition(this);
+  }
+
+  /**
+   * 連立一次方程式 A * X = B を解く. 呼び出すたびにLU分解を行う.
+   *
+   * @param b
+   *          右辺行列
+   * @return X
+   * @exception ArithmeticException
+   *              特異行列の場合
+   * @see LUDecomposition#solve(DoubleMatrix)
+   * @since 2026/10/18 16:42:05
+   */
+  public DoubleMatrix solve(final DoubleMatrix b) {
+    return this.lu().solve(b);
+  }
+
+  /**
+   * 連立一次方程式 A * x = b を解く. 呼び出すたびにLU分解を行う.
+   *
+   * @param b
+   *          右辺ベクトル
+   * @return x
+   * @exception ArithmeticException
+   *              特異行列の場合
+   * @see LUDecomposition#solve(DoubleVector)
+   * @since 2026/10/18 16:42:05
+   */
+  public DoubleVector solve(final DoubleVector b) {
+    return this.lu().solve(b);
+  }
+
+  /**
+   * 逆行列を返す.
+   *
+   * @return A^-1
+   * @exception ArithmeticException
+   *              特異行列の場合
+   * @see LUDecomposition#inverse()
+   * @since 2026/10/18 16:42:05
+   */
+  public DoubleMatrix inverse() {
+    return this.lu().inverse();
+  }
+
+  /**
+   * 行列式を返す.
+   *
+   * @return 行列式
+   * @see LUDecomposition#determinant()
+   * @since 2026/10/18 16:42:05
+   */
+  public double determinant() {
+    return this.lu().determinant();
+  }
+
+  /**
+   * Cholesky分解を返す.
+   *
+   * @return Cholesky分解
+   * @exception IllegalArgumentException
+   *              正方行列でない場合
+   * @since 2026/10/18 17:20:14
+   */
+  public CholeskyDecomposition chol() {
+    return new CholeskyDecomposition(this);
+  }
+
+  /**
+   * Householder変換によるQR分解を返す.
+   *
+   * @return QR分解
+   * @since 2026/10/18 17:20:14
+   */
+  public QRDecomposition qr() {
+    return new QRDecomposition(this);
+  }
+
+  /**
+   * 実対称行列の固有値分解を返す.
+   *
+   * @return 固有値分解
+   * @exception IllegalArgumentException
+   *              対称行列でない場合
+   * @since 2026/10/18 17:20:14
+   */
+  public SymmetricEigenDecomposition eig() {
+    return new SymmetricEigenDecomposition(this);
+  }
+
+  /**
+   * 薄い特異値分解を返す.
+   *
+   * @return 特異値分解
+   * @since 2026/10/18 17:20:14
+   */
+  public SingularValueDecomposition svd() {
+    return new SingularValueDecomposition(this);
+  }
+
+  /**
+   * 行列とベクトルの積 A * x を求め、yに格納する. 反復法の中で結果用の配列を確保しないために使用する.
+   *
+   * @param x
+   *          長さが列数と等しい配列
+   * @param y
+   *          結果を格納する長さが行数と等しい配列. xと同じ配列であってはならない
+   * @exception IllegalArgumentException
+   *              配列の長さが一致しない場合
+   * @see name.sugawara.hiroshi.math.matrix.LinearOperator#apply(double[], double[])
+   * @since 2026/10/18 18:48:20
+   */
+  public void apply(final double[] x, final double[] y) {
+    if (x.length != this.col || y.length != this.row) {
+      throw new IllegalArgumentException("Matrix inner dimensions must agree.");
+    }
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      double s = 0.0d;
+      for (int j = 0; j < this.col; j++) {
+        s += ai[j] * x[j];
+      }
+      y[i] = s;
+    }
   }
 
   /**
@@ -1071,7 +1424,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
       // }
       // }
     }
-    return new DoubleMatrix(deletedMatrix);
+    return DoubleMatrix.wrap(deletedMatrix);
   }
 
   /**
@@ -1147,7 +1500,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         }
       }
     }
-    return new DoubleMatrix(insertedMatrix);
+    return DoubleMatrix.wrap(insertedMatrix);
   }
 
   /**
@@ -1207,7 +1560,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
       // }
       // }
     }
-    insertedMatrix[index] = Arrays.copyOf(element, element.length);
+    insertedMatrix[index] = element;
     return new DoubleMatrix(insertedMatrix);
   }
 
@@ -1239,7 +1592,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.sinh(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -1255,7 +1608,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.cosh(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -1271,7 +1624,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.tanh(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -1287,7 +1640,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = DoubleMath.asinh(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -1303,7 +1656,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = DoubleMath.acosh(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
@@ -1319,7 +1672,917 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = DoubleMath.atanh(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
+  }
+
+  /**
+   * this = this + alpha * x を計算する(BLASのaxpy). この行列の要素を書き換える.
+   *
+   * @param alpha
+   *          スカラー
+   * @param x
+   *          行列
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix axpy(final double alpha, final DoubleMatrix x) {
+    this.checkMatrixDimensions(x);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ci = this.matrix[i];
+      final double[] xi = x.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] += alpha * xi[j];
+      }
+    }
+    return this;
+  }
+
+  /**
+   * 行列の個々の要素の絶対値を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix abs(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.abs(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をその絶対値で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix absInPlace() {
+    return this.abs(this);
+  }
+
+  /**
+   * 行列の個々の要素の逆余弦(arc cosine)を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix acos(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.acos(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をその逆余弦(arc cosine)で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix acosInPlace() {
+    return this.acos(this);
+  }
+
+  /**
+   * 行列の個々の要素の逆正弦(arc sine)を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix asin(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.asin(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をその逆正弦(arc sine)で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix asinInPlace() {
+    return this.asin(this);
+  }
+
+  /**
+   * 行列の個々の要素の逆正接(arc tangent)を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix atan(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.atan(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をその逆正接(arc tangent)で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix atanInPlace() {
+    return this.atan(this);
+  }
+
+  /**
+   * 行列の個々の要素の余弦(cosine)を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix cos(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.cos(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をその余弦(cosine)で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix cosInPlace() {
+    return this.cos(this);
+  }
+
+  /**
+   * 行列の個々の要素の正弦(sine)を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix sin(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.sin(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をその正弦(sine)で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix sinInPlace() {
+    return this.sin(this);
+  }
+
+  /**
+   * 行列の個々の要素の正接(tangent)を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix tan(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.tan(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をその正接(tangent)で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix tanInPlace() {
+    return this.tan(this);
+  }
+
+  /**
+   * 行列の個々の要素のexp関数 exp(x)を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix exp(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.exp(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をそのexp関数 exp(x)で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix expInPlace() {
+    return this.exp(this);
+  }
+
+  /**
+   * 行列の個々の要素の自然対数を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix log(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.log(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をその自然対数で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix logInPlace() {
+    return this.log(this);
+  }
+
+  /**
+   * 行列の個々の要素の常用対数を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix log10(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.log10(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をその常用対数で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix log10InPlace() {
+    return this.log10(this);
+  }
+
+  /**
+   * 行列の個々の要素の平方根を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix sqrt(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.sqrt(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をその平方根で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix sqrtInPlace() {
+    return this.sqrt(this);
+  }
+
+  /**
+   * 行列の個々の要素の立方根(cube root)を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix cbrt(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.cbrt(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をその立方根(cube root)で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix cbrtInPlace() {
+    return this.cbrt(this);
+  }
+
+  /**
+   * 行列の個々の要素の双曲線正弦(Hyperbolic Sine)を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix sinh(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.sinh(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をその双曲線正弦(Hyperbolic Sine)で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix sinhInPlace() {
+    return this.sinh(this);
+  }
+
+  /**
+   * 行列の個々の要素の双曲線余弦(Hyperbolic Cosine)を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix cosh(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.cosh(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をその双曲線余弦(Hyperbolic Cosine)で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix coshInPlace() {
+    return this.cosh(this);
+  }
+
+  /**
+   * 行列の個々の要素の双曲線正接(Hyperbolic Tangent)を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix tanh(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.tanh(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をその双曲線正接(Hyperbolic Tangent)で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix tanhInPlace() {
+    return this.tanh(this);
+  }
+
+  /**
+   * 行列の個々の要素の逆双曲線正弦(Inverse Hyperbolic Sine)を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix asinh(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = DoubleMath.asinh(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をその逆双曲線正弦(Inverse Hyperbolic Sine)で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix asinhInPlace() {
+    return this.asinh(this);
+  }
+
+  /**
+   * 行列の個々の要素の逆双曲線余弦(Inverse Hyperbolic Cosine)を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix acosh(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = DoubleMath.acosh(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をその逆双曲線余弦(Inverse Hyperbolic Cosine)で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix acoshInPlace() {
+    return this.acosh(this);
+  }
+
+  /**
+   * 行列の個々の要素の逆双曲線正接(Inverse Hyperbolic Tangent)を求め、行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix atanh(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = DoubleMath.atanh(ai[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素をその逆双曲線正接(Inverse Hyperbolic Tangent)で置き換える.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix atanhInPlace() {
+    return this.atanh(this);
+  }
+
+  /**
+   * 行列の個々の要素の符号を反転して行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix negate(final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = -ai[j];
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 行列の個々の要素の符号を反転する.
+   *
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix negateInPlace() {
+    return this.negate(this);
+  }
+
+  /**
+   * this + b を求め、行列destに格納する.
+   *
+   * @param b
+   *          another matrix
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix add(final DoubleMatrix b, final DoubleMatrix dest) {
+    this.checkMatrixDimensions(b);
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] bi = b.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = ai[j] + bi[j];
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * this + b を求め、この行列の要素を置き換える.
+   *
+   * @param b
+   *          another matrix
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix addInPlace(final DoubleMatrix b) {
+    return this.add(b, this);
+  }
+
+  /**
+   * this - b を求め、行列destに格納する.
+   *
+   * @param b
+   *          another matrix
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix subtract(final DoubleMatrix b, final DoubleMatrix dest) {
+    this.checkMatrixDimensions(b);
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] bi = b.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = ai[j] - bi[j];
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * this - b を求め、この行列の要素を置き換える.
+   *
+   * @param b
+   *          another matrix
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix subtractInPlace(final DoubleMatrix b) {
+    return this.subtract(b, this);
+  }
+
+  /**
+   * this .* b を求め、行列destに格納する.
+   *
+   * @param b
+   *          もうひとつの行列
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix times(final DoubleMatrix b, final DoubleMatrix dest) {
+    this.checkMatrixDimensions(b);
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] bi = b.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = ai[j] * bi[j];
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * this .* b を求め、この行列の要素を置き換える.
+   *
+   * @param b
+   *          もうひとつの行列
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix timesInPlace(final DoubleMatrix b) {
+    return this.times(b, this);
+  }
+
+  /**
+   * this ./ b を求め、行列destに格納する.
+   *
+   * @param b
+   *          除算する行列
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix divide(final DoubleMatrix b, final DoubleMatrix dest) {
+    this.checkMatrixDimensions(b);
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] bi = b.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = ai[j] / bi[j];
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * this ./ b を求め、この行列の要素を置き換える.
+   *
+   * @param b
+   *          除算する行列
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix divideInPlace(final DoubleMatrix b) {
+    return this.divide(b, this);
+  }
+
+  /**
+   * 要素ごとの累乗 を求め、行列destに格納する.
+   *
+   * @param b
+   *          指数の行列
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix pow(final DoubleMatrix b, final DoubleMatrix dest) {
+    this.checkMatrixDimensions(b);
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] bi = b.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.pow(ai[j], bi[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 要素ごとの累乗 を求め、この行列の要素を置き換える.
+   *
+   * @param b
+   *          指数の行列
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix powInPlace(final DoubleMatrix b) {
+    return this.pow(b, this);
+  }
+
+  /**
+   * 要素ごとの4象限逆正接 atan2(this, b) を求め、行列destに格納する.
+   *
+   * @param b
+   *          xの行列
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix atan2(final DoubleMatrix b, final DoubleMatrix dest) {
+    this.checkMatrixDimensions(b);
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] bi = b.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.atan2(ai[j], bi[j]);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 要素ごとの4象限逆正接 atan2(this, b) を求め、この行列の要素を置き換える.
+   *
+   * @param b
+   *          xの行列
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix atan2InPlace(final DoubleMatrix b) {
+    return this.atan2(b, this);
+  }
+
+  /**
+   * s * this を求め、行列destに格納する.
+   *
+   * @param s
+   *          スカラー
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix times(final double s, final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = s * ai[j];
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * s * this を求め、この行列の要素を置き換える.
+   *
+   * @param s
+   *          スカラー
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix timesInPlace(final double s) {
+    return this.times(s, this);
+  }
+
+  /**
+   * this / s を求め、行列destに格納する.
+   *
+   * @param s
+   *          除数
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix divide(final double s, final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = ai[j] / s;
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * this / s を求め、この行列の要素を置き換える.
+   *
+   * @param s
+   *          除数
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix divideInPlace(final double s) {
+    return this.divide(s, this);
+  }
+
+  /**
+   * 要素ごとのs乗 を求め、行列destに格納する.
+   *
+   * @param s
+   *          指数
+   * @param dest
+   *          結果を格納する行列. thisと同じ大きさでなければならない. thisを指定するとin-placeで計算する.
+   * @return dest
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix pow(final double s, final DoubleMatrix dest) {
+    this.checkMatrixDimensions(dest);
+    for (int i = 0; i < this.row; i++) {
+      final double[] ai = this.matrix[i];
+      final double[] ci = dest.matrix[i];
+      for (int j = 0; j < this.col; j++) {
+        ci[j] = Math.pow(ai[j], s);
+      }
+    }
+    return dest;
+  }
+
+  /**
+   * 要素ごとのs乗 を求め、この行列の要素を置き換える.
+   *
+   * @param s
+   *          指数
+   * @return this
+   * @since 2026/10/18 15:02:44
+   */
+  public DoubleMatrix powInPlace(final double s) {
+    return this.pow(s, this);
   }
 
   /**
@@ -1379,7 +2642,7 @@ public final strictfp class DoubleMatrix extends Matrix implements Cloneable, Se
         c[i][j] = Math.cbrt(this.matrix[i][j]);
       }
     }
-    return new DoubleMatrix(c);
+    return DoubleMatrix.wrap(c);
   }
 
   /**
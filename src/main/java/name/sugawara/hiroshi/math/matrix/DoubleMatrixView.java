@@ -0,0 +1,232 @@
+/**
+ * Created Date : 2026/10/18 14:20:31
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+/**
+ * DoubleMatrixの要素をコピーせずに参照するビュー.
+ *
+ * <pre>
+ *  部分行列、転置、左右反転、上下反転、90度回転のビューは、
+ *  元の行列の2次元配列を共有したまま定数時間・定数メモリで作成できる.
+ *  要素のコピーは materialize() を呼んだときと、ビューに初めて書き込んだとき(コピーオンライト)にだけ行う.
+ *  書き込みは元の行列にも、同じ配列を共有する他のビューにも反映されない.
+ *  逆に、元の行列をin-placeの演算で書き換えると、まだコピーしていないビューには反映される.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see DoubleMatrix#view()
+ *
+ * Created Date : 2026/10/18 14:20:31
+ */
+public final strictfp class DoubleMatrixView {
+
+  /**
+   * 参照している2次元配列.
+   *
+   * @since 2026/10/18 14:20:31
+   */
+  private double[][] source;
+
+  /**
+   * ビューの添字から配列の添字への対応.
+   *
+   * @since 2026/10/18 14:20:31
+   */
+  private ViewIndex  index;
+
+  /**
+   * 配列を他の行列やビューと共有していればtrue. trueのときに書き込むと配列をコピーする.
+   *
+   * @since 2026/10/18 14:20:31
+   */
+  private boolean    shared;
+
+  /**
+   * 2次元配列を共有するビューを作る.
+   *
+   * @param source
+   *          参照する2次元配列
+   * @param index
+   *          ビューの添字から配列の添字への対応
+   * @since 2026/10/18 14:20:31
+   */
+  DoubleMatrixView(final double[][] source, final ViewIndex index) {
+    this.source = source;
+    this.index = index;
+    this.shared = true;
+  }
+
+  /**
+   * このビューと配列を共有する新しいビューを作る.
+   *
+   * @param derived
+   *          新しいビューの添字
+   * @return ビュー
+   * @since 2026/10/18 14:20:31
+   */
+  private DoubleMatrixView derive(final ViewIndex derived) {
+    // 書き込みで自分専用の配列を持っていても、以後は共有されるため次の書き込みではコピーする.
+    this.shared = true;
+    return new DoubleMatrixView(this.source, derived);
+  }
+
+  /**
+   * ビューの行数を返す.
+   *
+   * @return 行数
+   * @since 2026/10/18 14:20:31
+   */
+  public int getRowDimension() {
+    return this.index.getRowDimension();
+  }
+
+  /**
+   * ビューの列数を返す.
+   *
+   * @return 列数
+   * @since 2026/10/18 14:20:31
+   */
+  public int getColumnDimension() {
+    return this.index.getColumnDimension();
+  }
+
+  /**
+   * 要素を取得する.
+   *
+   * @param i
+   *          行インデックス
+   * @param j
+   *          列インデックス
+   * @return A(i,j)
+   * @exception ArrayIndexOutOfBoundsException
+   * @since 2026/10/18 14:20:31
+   */
+  public double get(final int i, final int j) {
+    this.index.check(i, j);
+    return this.source[this.index.sourceRow(i, j)][this.index.sourceColumn(i, j)];
+  }
+
+  /**
+   * 要素をセットする. 配列を共有している間は、最初の書き込みでビューの範囲だけをコピーする.
+   *
+   * @param i
+   *          行インデックス
+   * @param j
+   *          列インデックス
+   * @param s
+   *          A(i,j)
+   * @return このビュー
+   * @exception ArrayIndexOutOfBoundsException
+   * @since 2026/10/18 14:20:31
+   */
+  public DoubleMatrixView set(final int i, final int j, final double s) {
+    this.index.check(i, j);
+    if (this.shared) {
+      this.source = this.toArray();
+      this.index = new ViewIndex(this.getRowDimension(), this.getColumnDimension());
+      this.shared = false;
+    }
+    this.source[this.index.sourceRow(i, j)][this.index.sourceColumn(i, j)] = s;
+    return this;
+  }
+
+  /**
+   * 部分行列のビューを返す. Get a submatrix.
+   *
+   * @param i0
+   *          Initial row index
+   * @param i1
+   *          Final row index
+   * @param j0
+   *          Initial column index
+   * @param j1
+   *          Final column index
+   * @return A(i0:i1,j0:j1)
+   * @since 2026/10/18 14:20:31
+   */
+  public DoubleMatrixView getMatrix(final int i0, final int i1, final int j0, final int j1) {
+    return this.derive(this.index.sub(i0, i1, j0, j1));
+  }
+
+  /**
+   * 転置行列のビューを返す.
+   *
+   * @return a'
+   * @since 2026/10/18 14:20:31
+   */
+  public DoubleMatrixView transpose() {
+    return this.derive(this.index.transpose());
+  }
+
+  /**
+   * 列を左右逆順に反転したビューを返す.
+   *
+   * @return 列を左右逆順に反転したビュー
+   * @since 2026/10/18 14:20:31
+   */
+  public DoubleMatrixView fliplr() {
+    return this.derive(this.index.fliplr());
+  }
+
+  /**
+   * 行を上下逆順に反転したビューを返す.
+   *
+   * @return 行を上下逆順に反転したビュー
+   * @since 2026/10/18 14:20:31
+   */
+  public DoubleMatrixView flipud() {
+    return this.derive(this.index.flipud());
+  }
+
+  /**
+   * 90度回転したビューを返す.
+   *
+   * @return 90度回転したビュー
+   * @since 2026/10/18 14:20:31
+   */
+  public DoubleMatrixView rot90() {
+    return this.derive(this.index.rot90());
+  }
+
+  /**
+   * ビューの要素を新しい2次元配列にコピーする.
+   *
+   * @return 2次元配列
+   * @since 2026/10/18 14:20:31
+   */
+  private double[][] toArray() {
+    final int row = this.getRowDimension();
+    final int col = this.getColumnDimension();
+    final double[][] c = new double[row][col];
+    for (int i = 0; i < row; i++) {
+      for (int j = 0; j < col; j++) {
+        c[i][j] = this.source[this.index.sourceRow(i, j)][this.index.sourceColumn(i, j)];
+      }
+    }
+    return c;
+  }
+
+  /**
+   * ビューの要素をコピーしてDoubleMatrixを作る.
+   *
+   * @return 行列
+   * @since 2026/10/18 14:20:31
+   */
+  public DoubleMatrix materialize() {
+    return DoubleMatrix.wrap(this.toArray());
+  }
+
+  /**
+   * このオブジェクトの文字列表現.
+   *
+   * @return 文字列表現
+   * @see java.lang.Object#toString()
+   * @since 2026/10/18 14:20:31
+   */
+  @Override
+  public String toString() {
+    return this.materialize().toString();
+  }
+}
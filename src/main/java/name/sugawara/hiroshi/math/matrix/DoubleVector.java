@@ -6,7 +6,12 @@ package name.sugawara.hiroshi.math.matrix;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
+import name.sugawara.hiroshi.math.array.ArraysUtil;
+import name.sugawara.hiroshi.math.array.Summation;
+import name.sugawara.hiroshi.math.fft.Convolution;
+import name.sugawara.hiroshi.math.fft.RealFFT;
 import name.sugawara.hiroshi.math.function.typedouble.DoubleMath;
 
 /**
@@ -57,6 +62,23 @@ public final class DoubleVector extends RowVector implements Cloneable, Serializ
     this.vector = vector.clone();
   }
 
+  /**
+   * 配列をコピーせずに共有して行ベクトルを生成する.
+   *
+   * <pre>
+   *  DenseDoubleMatrixとの相互変換で使用する. 呼び出し元は配列を変更してはならない.
+   * </pre>
+   *
+   * @param vector
+   *          共有する配列
+   * @param share
+   *          ダミー引数(コピーする公開コンストラクタと区別するため)
+   * @since 2026/10/18 13:05:12
+   */
+  DoubleVector(final double[] vector, final boolean share) {
+    this.vector = vector;
+  }
+
   /**
    * 値がすべてsの行ベクトルを生成.
    *
@@ -93,6 +115,56 @@ public final class DoubleVector extends RowVector implements Cloneable, Serializ
     return this.vector.clone();
   }
 
+  /**
+   * 内部の配列をコピーせずに返す. 呼び出し元は配列を変更してはならない.
+   *
+   * @return 内部の配列
+   * @since 2026/10/18 13:05:12
+   */
+  double[] array() {
+    return this.vector;
+  }
+
+  /**
+   * 要素ごとの演算を遅延評価する式を返す.
+   *
+   * <pre>
+   *  v.lazy().times(2).add(w).exp().sqrt().norm() のように演算を連ねると、
+   *  中間結果のベクトルを作らずに1回の走査で計算する.
+   * </pre>
+   *
+   * @return 式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector lazy() {
+    return new LazyDoubleVector(new ElementWisePipeline(new double[][] { this.vector },
+        this.vector.length));
+  }
+
+  /**
+   * 要素ごとの演算と集約を共通プールで並列に計算するハンドルを返す.
+   *
+   * @return ハンドル
+   * @see ParallelDoubleVector
+   * @since 2026/10/18 22:48:31
+   */
+  public ParallelDoubleVector parallel() {
+    return new ParallelDoubleVector(this, ArraysUtil.parallel());
+  }
+
+  /**
+   * 要素ごとの演算と集約を指定されたプールで並列に計算するハンドルを返す.
+   *
+   * @param pool
+   *          プール
+   * @return ハンドル
+   * @see ParallelDoubleVector
+   * @since 2026/10/18 22:48:31
+   */
+  public ParallelDoubleVector parallel(final ForkJoinPool pool) {
+    return new ParallelDoubleVector(this, ArraysUtil.parallel(pool));
+  }
+
   /**
    * 行ベクトルの要素を取得する. Get a single element.
    *
@@ -130,11 +202,8 @@ public final class DoubleVector extends RowVector implements Cloneable, Serializ
    */
   public DoubleVector add(final DoubleVector v) {
     this.checkVectorSize(v);
-    final double[] d = new double[this.vector.length];
-    for (int i = 0; i < d.length; i++) {
-      d[i] = this.vector[i] + v.vector[i];
-    }
-    return new DoubleVector(d);
+    return new DoubleVector(ArraysUtil.add(this.vector, v.vector, new double[this.vector.length]),
+        true);
   }
 
   /**
@@ -146,7 +215,8 @@ public final class DoubleVector extends RowVector implements Cloneable, Serializ
    * @since 1.1
    */
   public DoubleVector add(final double value) {
-    return this.add(new DoubleVector(this.vector.length, value));
+    return new DoubleVector(ArraysUtil.add(this.vector, value, new double[this.vector.length]),
+        true);
   }
 
   /**
@@ -159,11 +229,8 @@ public final class DoubleVector extends RowVector implements Cloneable, Serializ
    */
   public DoubleVector subtract(final DoubleVector v) {
     this.checkVectorSize(v);
-    final double[] d = new double[this.vector.length];
-    for (int i = 0; i < d.length; i++) {
-      d[i] = this.vector[i] - v.vector[i];
-    }
-    return new DoubleVector(d);
+    return new DoubleVector(ArraysUtil.subtract(this.vector, v.vector,
+        new double[this.vector.length]), true);
   }
 
   /**
@@ -175,7 +242,8 @@ public final class DoubleVector extends RowVector implements Cloneable, Serializ
    * @since 1.1
    */
   public DoubleVector subtract(final double value) {
-    return this.subtract(new DoubleVector(this.vector.length, value));
+    return new DoubleVector(ArraysUtil.subtract(this.vector, value,
+        new double[this.vector.length]), true);
   }
 
   /**
@@ -217,6 +285,32 @@ public final class DoubleVector extends RowVector implements Cloneable, Serializ
     return this.sum() / this.vector.length;
   }
 
+  /**
+   * 指定された計算方法でベクトルの要素の和を返す.
+   *
+   * @param summation
+   *          計算方法
+   * @return 和
+   * @see Summation
+   * @since 2026/10/18 22:10:25
+   */
+  public double sum(final Summation summation) {
+    return summation.sum(this.vector);
+  }
+
+  /**
+   * 指定された計算方法でベクトルの要素の平均を返す.
+   *
+   * @param summation
+   *          計算方法
+   * @return 平均
+   * @see Summation
+   * @since 2026/10/18 22:10:25
+   */
+  public double avg(final Summation summation) {
+    return summation.mean(this.vector);
+  }
+
   /**
    * ベクトルの内積.
    *
@@ -226,11 +320,24 @@ public final class DoubleVector extends RowVector implements Cloneable, Serializ
    * @since 1.1
    */
   public double innerProduct(final DoubleVector v) {
-    double innerProduct = 0.0d;
-    for (int i = 0; i < this.vector.length; i++) {
-      innerProduct += this.vector[i] * v.vector[i];
-    }
-    return innerProduct;
+    this.checkVectorSize(v);
+    return ArraysUtil.innerProduct(this.vector, 0, v.vector, 0, this.vector.length);
+  }
+
+  /**
+   * 指定された計算方法でベクトルの内積を返す.
+   *
+   * @param v
+   *          ベクトル
+   * @param summation
+   *          計算方法
+   * @return 内積
+   * @see Summation
+   * @since 2026/10/18 22:10:25
+   */
+  public double innerProduct(final DoubleVector v, final Summation summation) {
+    this.checkVectorSize(v);
+    return summation.innerProduct(this.vector, v.vector);
   }
 
   /**
@@ -298,13 +405,9 @@ public final class DoubleVector extends RowVector implements Cloneable, Serializ
    * @return 指定された配列aと指定された配列bを除算した配列
    */
   public DoubleVector divide(final DoubleVector v) {
-
     this.checkVectorSize(v);
-    final double[] c = new double[this.vector.length];
-    for (int i = 0; i < c.length; i++) {
-      c[i] = this.vector[i] / v.vector[i];
-    }
-    return new DoubleVector(c);
+    return new DoubleVector(ArraysUtil.divide(this.vector, v.vector,
+        new double[this.vector.length]), true);
   }
 
   /**
@@ -316,8 +419,8 @@ public final class DoubleVector extends RowVector implements Cloneable, Serializ
    * @return 指定された配列aの各要素に指定された値bを除算した配列を返す.
    */
   public DoubleVector divide(final double value) {
-    final DoubleVector rv = new DoubleVector(this.vector.length, value);
-    return this.divide(rv);
+    return new DoubleVector(ArraysUtil.divide(this.vector, value,
+        new double[this.vector.length]), true);
   }
 
   /**
@@ -330,12 +433,8 @@ public final class DoubleVector extends RowVector implements Cloneable, Serializ
    */
   public DoubleVector multiply(final DoubleVector multiplier) {
     this.checkVectorSize(multiplier);
-    final double[] product = new double[this.vector.length];
-
-    for (int i = 0; i < product.length; i++) {
-      product[i] = this.vector[i] * multiplier.vector[i];
-    }
-    return new DoubleVector(product);
+    return new DoubleVector(ArraysUtil.multiply(this.vector, multiplier.vector,
+        new double[this.vector.length]), true);
   }
 
   /**
@@ -347,8 +446,8 @@ public final class DoubleVector extends RowVector implements Cloneable, Serializ
    * @return ベクトルの個々の要素を実数倍した配列を返す.
    */
   public DoubleVector multiply(final double times) {
-    final DoubleVector rv = new DoubleVector(this.vector.length, times);
-    return this.multiply(rv);
+    return new DoubleVector(ArraysUtil.multiply(this.vector, times,
+        new double[this.vector.length]), true);
   }
 
   /**
@@ -619,18 +718,7 @@ public final class DoubleVector extends RowVector implements Cloneable, Serializ
    * @since 1.1
    */
   public DoubleVector convolute(final DoubleVector h) {
-    final double[] y = new double[this.vector.length + h.vector.length - 1];
-    Arrays.fill(y, 0.0d);
-    int hofIndex;
-    for (int n = 0; n < y.length; n++) {
-      for (int k = 0; k < this.vector.length; k++) {
-        hofIndex = n - k;
-        if ((hofIndex >= 0) && (hofIndex < h.vector.length)) {
-          y[n] += this.vector[k] * h.vector[n - k];
-        }
-      }
-    }
-    return new DoubleVector(y);
+    return new DoubleVector(Convolution.convolve(this.vector, h.vector), true);
   }
 
   /**
@@ -644,7 +732,7 @@ public final class DoubleVector extends RowVector implements Cloneable, Serializ
    * @since 1.1
    */
   public DoubleVector correlate(final DoubleVector h) {
-    return this.convolute(h.fliplr());
+    return new DoubleVector(Convolution.correlate(this.vector, h.vector), true);
   }
 
   /**
@@ -658,6 +746,26 @@ public final class DoubleVector extends RowVector implements Cloneable, Serializ
     return this.correlate(this);
   }
 
+  /**
+   * 離散フーリエ変換(FFT)を返す.
+   *
+   * <pre>
+   *  実数列のFFTとして長さ size() / 2 の複素FFTで計算し、
+   *  後半は X(n - k) = conj(X(k)) で埋める.
+   *  スペクトルの前半だけが必要な場合は RealFFT を直接使えば複写も半分で済む.
+   * </pre>
+   *
+   * @return 長さが this.size() のスペクトル
+   * @see RealFFT#forwardFull(double[], double[], double[])
+   * @since 2026/10/18 19:58:06
+   */
+  public ComplexVector fft() {
+    final double[] re = new double[this.vector.length];
+    final double[] im = new double[this.vector.length];
+    RealFFT.getInstance(this.vector.length).forwardFull(this.vector, re, im);
+    return new ComplexVector(re, im);
+  }
+
   /**
    * 一行this.size()列の行列、Matrix型オブジェクトに変換して返す.
    *
@@ -670,7 +778,7 @@ public final class DoubleVector extends RowVector implements Cloneable, Serializ
     // for (int i = 0; i < this.vector.length; i++) {
     // d[0][i] = this.vector[i];
     // }
-    return new DoubleMatrix(d);
+    return DoubleMatrix.wrap(d);
   }
 
   /**
@@ -0,0 +1,790 @@
+/**
+ * Created Date : 2026/10/18 15:48:09
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 要素ごとの演算を連ねた式を、中間結果の行列を作らずに1回の走査で評価する.
+ *
+ * <pre>
+ *  元の行列を行 * 列ブロック(最大 BLOCK 要素)の単位に分け、単位ごとに
+ *  元の要素を小さな作業配列へ読み込み、すべての演算をその作業配列の上で順に適用してから
+ *  結果の行列へ書き出す(または集約する). 作業配列はキャッシュに収まるため、
+ *  演算の数によらず元の行列と結果の行列をそれぞれ1回しか走査しない.
+ *
+ *  要素ごとの演算の順序は即時評価と同じであるため、結果はビット単位で一致する.
+ *  要素数 * 演算数が閾値を超える場合は単位ごとにForkJoinPoolで並列化する.
+ *  集約(和、最大値など)は単位ごとの部分結果を配列に保存してから順に集約するため、
+ *  スレッド数によらず結果は同じになる.
+ *
+ *  このクラスは不変(immutable)であり、演算を追加すると新しいパイプラインを返す.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ *
+ * Created Date : 2026/10/18 15:48:09
+ */
+final strictfp class ElementWisePipeline {
+
+  /**
+   * 1単位の最大要素数(作業配列の長さ).
+   *
+   * @since 2026/10/18 15:48:09
+   */
+  private static final int    BLOCK            = 1024;
+
+  /**
+   * 要素数 * 演算数がこれ以下であれば逐次計算する.
+   *
+   * @since 2026/10/18 15:48:09
+   */
+  private static final long   SEQUENTIAL_LIMIT = 1L << 16;
+
+  /**
+   * 元の行列の行配列.
+   *
+   * @since 2026/10/18 15:48:09
+   */
+  private final double[][]    source;
+
+  /**
+   * 列数.
+   *
+   * @since 2026/10/18 15:48:09
+   */
+  private final int           col;
+
+  /**
+   * 適用する演算の列.
+   *
+   * @since 2026/10/18 15:48:09
+   */
+  private final Stage[]       stages;
+
+  /**
+   * 演算を持たないパイプラインを作る.
+   *
+   * @param source
+   *          元の行列の行配列. すべての行は同じ長さでなければならない.
+   * @param col
+   *          列数
+   * @since 2026/10/18 15:48:09
+   */
+  ElementWisePipeline(final double[][] source, final int col) {
+    this(source, col, new Stage[0]);
+  }
+
+  /**
+   * パイプラインを作る.
+   *
+   * @param source
+   *          元の行列の行配列
+   * @param col
+   *          列数
+   * @param stages
+   *          適用する演算の列
+   * @since 2026/10/18 15:48:09
+   */
+  private ElementWisePipeline(final double[][] source, final int col, final Stage[] stages) {
+    this.source = source;
+    this.col = col;
+    this.stages = stages;
+  }
+
+  /**
+   * 行数を返す.
+   *
+   * @return 行数
+   * @since 2026/10/18 15:48:09
+   */
+  int getRowDimension() {
+    return this.source.length;
+  }
+
+  /**
+   * 列数を返す.
+   *
+   * @return 列数
+   * @since 2026/10/18 15:48:09
+   */
+  int getColumnDimension() {
+    return this.col;
+  }
+
+  /**
+   * 引数を取らない演算を追加したパイプラインを返す.
+   *
+   * @param operation
+   *          演算
+   * @return パイプライン
+   * @since 2026/10/18 15:48:09
+   */
+  ElementWisePipeline then(final Operation operation) {
+    return this.then(new Stage(operation, 0.0d, null));
+  }
+
+  /**
+   * スカラーを引数に取る演算を追加したパイプラインを返す.
+   *
+   * @param operation
+   *          演算
+   * @param s
+   *          スカラー
+   * @return パイプライン
+   * @since 2026/10/18 15:48:09
+   */
+  ElementWisePipeline then(final Operation operation, final double s) {
+    return this.then(new Stage(operation, s, null));
+  }
+
+  /**
+   * 同じ大きさの行列を引数に取る演算を追加したパイプラインを返す.
+   *
+   * @param operation
+   *          演算
+   * @param operand
+   *          引数の行列の行配列
+   * @return パイプライン
+   * @since 2026/10/18 15:48:09
+   */
+  ElementWisePipeline then(final Operation operation, final double[][] operand) {
+    if (operand.length != this.source.length
+        || (operand.length > 0 && operand[0].length != this.col)) {
+      throw new IllegalArgumentException("行列の次元は同一である必要があります。");
+    }
+    return this.then(new Stage(operation, 0.0d, operand));
+  }
+
+  /**
+   * 演算を追加したパイプラインを返す.
+   *
+   * @param stage
+   *          演算
+   * @return パイプライン
+   * @since 2026/10/18 15:48:09
+   */
+  private ElementWisePipeline then(final Stage stage) {
+    final Stage[] s = Arrays.copyOf(this.stages, this.stages.length + 1);
+    s[this.stages.length] = stage;
+    return new ElementWisePipeline(this.source, this.col, s);
+  }
+
+  /**
+   * 式を評価して結果を行配列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行配列. 元の行列と同じ大きさでなければならない. 元の行列を指定してもよい.
+   * @since 2026/10/18 15:48:09
+   */
+  void evaluate(final double[][] dest) {
+    this.run(null, dest);
+  }
+
+  /**
+   * 式を評価して集約する.
+   *
+   * @param reduction
+   *          集約の方法
+   * @return 集約した値
+   * @since 2026/10/18 15:48:09
+   */
+  double reduce(final Reduction reduction) {
+    final double[] partial = new double[this.units()];
+    this.run(reduction, partial);
+    double r = reduction.identity();
+    for (final double p : partial) {
+      r = reduction.combine(r, p);
+    }
+    return reduction.finish(r);
+  }
+
+  /**
+   * 1行あたりの単位の数を返す.
+   *
+   * @return 1行あたりの単位の数
+   * @since 2026/10/18 15:48:09
+   */
+  private int blocksPerRow() {
+    return Math.max(1, (this.col + ElementWisePipeline.BLOCK - 1) / ElementWisePipeline.BLOCK);
+  }
+
+  /**
+   * 単位の総数を返す.
+   *
+   * @return 単位の総数
+   * @since 2026/10/18 15:48:09
+   */
+  private int units() {
+    return this.source.length * this.blocksPerRow();
+  }
+
+  /**
+   * すべての単位を評価する.
+   *
+   * @param reduction
+   *          集約の方法. 集約しない場合はnull
+   * @param out
+   *          集約しない場合は結果の行配列(double[][])、集約する場合は単位ごとの部分結果(double[])
+   * @since 2026/10/18 15:48:09
+   */
+  private void run(final Reduction reduction, final Object out) {
+    final Task task = new Task(this, reduction, out, 0, this.units());
+    final long work = (long) this.source.length * this.col * (this.stages.length + 1);
+    if (work <= ElementWisePipeline.SEQUENTIAL_LIMIT) {
+      task.compute();
+    } else {
+      ForkJoinPool.commonPool().invoke(task);
+    }
+  }
+
+  /**
+   * 1つの単位を評価する.
+   *
+   * @param unit
+   *          単位の番号
+   * @param buffer
+   *          作業配列
+   * @param reduction
+   *          集約の方法. 集約しない場合はnull
+   * @param out
+   *          結果の格納先
+   * @since 2026/10/18 15:48:09
+   */
+  private void evaluateUnit(final int unit, final double[] buffer, final Reduction reduction,
+      final Object out) {
+    final int perRow = this.blocksPerRow();
+    final int i = unit / perRow;
+    final int j0 = (unit % perRow) * ElementWisePipeline.BLOCK;
+    final int length = Math.min(ElementWisePipeline.BLOCK, this.col - j0);
+    System.arraycopy(this.source[i], j0, buffer, 0, length);
+    for (final Stage stage : this.stages) {
+      stage.operation.apply(buffer, length, stage.scalar,
+          stage.operand == null ? null : stage.operand[i], j0);
+    }
+    if (reduction == null) {
+      System.arraycopy(buffer, 0, ((double[][]) out)[i], j0, length);
+    } else {
+      double r = reduction.identity();
+      for (int k = 0; k < length; k++) {
+        r = reduction.accumulate(r, buffer[k]);
+      }
+      ((double[]) out)[unit] = r;
+    }
+  }
+
+  /**
+   * 要素ごとの演算.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   *
+   * Created Date : 2026/10/18 15:48:09
+   */
+  enum Operation {
+    /** 絶対値. */
+    ABS {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = Math.abs(x[k]);
+        }
+      }
+    },
+    /** 符号反転. */
+    NEGATE {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = -x[k];
+        }
+      }
+    },
+    /** 平方根. */
+    SQRT {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = Math.sqrt(x[k]);
+        }
+      }
+    },
+    /** 立方根. */
+    CBRT {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = Math.cbrt(x[k]);
+        }
+      }
+    },
+    /** 指数関数. */
+    EXP {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = Math.exp(x[k]);
+        }
+      }
+    },
+    /** 自然対数. */
+    LOG {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = Math.log(x[k]);
+        }
+      }
+    },
+    /** 常用対数. */
+    LOG10 {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = Math.log10(x[k]);
+        }
+      }
+    },
+    /** 正弦. */
+    SIN {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = Math.sin(x[k]);
+        }
+      }
+    },
+    /** 余弦. */
+    COS {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = Math.cos(x[k]);
+        }
+      }
+    },
+    /** 正接. */
+    TAN {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = Math.tan(x[k]);
+        }
+      }
+    },
+    /** 逆正弦. */
+    ASIN {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = Math.asin(x[k]);
+        }
+      }
+    },
+    /** 逆余弦. */
+    ACOS {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = Math.acos(x[k]);
+        }
+      }
+    },
+    /** 逆正接. */
+    ATAN {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = Math.atan(x[k]);
+        }
+      }
+    },
+    /** 双曲線正弦. */
+    SINH {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = Math.sinh(x[k]);
+        }
+      }
+    },
+    /** 双曲線余弦. */
+    COSH {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = Math.cosh(x[k]);
+        }
+      }
+    },
+    /** 双曲線正接. */
+    TANH {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = Math.tanh(x[k]);
+        }
+      }
+    },
+    /** スカラーの加算. */
+    ADD_SCALAR {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = x[k] + s;
+        }
+      }
+    },
+    /** スカラーの減算. */
+    SUBTRACT_SCALAR {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = x[k] - s;
+        }
+      }
+    },
+    /** スカラー倍. */
+    TIMES_SCALAR {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = s * x[k];
+        }
+      }
+    },
+    /** スカラーによる除算. */
+    DIVIDE_SCALAR {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = x[k] / s;
+        }
+      }
+    },
+    /** スカラー乗. */
+    POW_SCALAR {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = Math.pow(x[k], s);
+        }
+      }
+    },
+    /** 行列の加算. */
+    ADD {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = x[k] + b[off + k];
+        }
+      }
+    },
+    /** 行列の減算. */
+    SUBTRACT {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = x[k] - b[off + k];
+        }
+      }
+    },
+    /** 要素ごとの積. */
+    TIMES {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = x[k] * b[off + k];
+        }
+      }
+    },
+    /** 要素ごとの商. */
+    DIVIDE {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = x[k] / b[off + k];
+        }
+      }
+    },
+    /** 要素ごとの累乗. */
+    POW {
+      @Override
+      void apply(final double[] x, final int n, final double s, final double[] b, final int off) {
+        for (int k = 0; k < n; k++) {
+          x[k] = Math.pow(x[k], b[off + k]);
+        }
+      }
+    };
+
+    /**
+     * 作業配列の先頭n要素に演算を適用する.
+     *
+     * @param x
+     *          作業配列
+     * @param n
+     *          要素数
+     * @param s
+     *          スカラーの引数
+     * @param b
+     *          引数の行列の行
+     * @param off
+     *          作業配列の先頭に対応する引数の行の位置
+     * @since 2026/10/18 15:48:09
+     */
+    abstract void apply(double[] x, int n, double s, double[] b, int off);
+  }
+
+  /**
+   * 集約の方法.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   *
+   * Created Date : 2026/10/18 15:48:09
+   */
+  enum Reduction {
+    /** 和. */
+    SUM {
+      @Override
+      double identity() {
+        return 0.0d;
+      }
+
+      @Override
+      double accumulate(final double r, final double x) {
+        return r + x;
+      }
+    },
+    /** 最大値. */
+    MAX {
+      @Override
+      double identity() {
+        return Double.NEGATIVE_INFINITY;
+      }
+
+      @Override
+      double accumulate(final double r, final double x) {
+        return Math.max(r, x);
+      }
+    },
+    /** 最小値. */
+    MIN {
+      @Override
+      double identity() {
+        return Double.POSITIVE_INFINITY;
+      }
+
+      @Override
+      double accumulate(final double r, final double x) {
+        return Math.min(r, x);
+      }
+    },
+    /** 2乗ノルム(フロベニウスノルム). */
+    NORM {
+      @Override
+      double identity() {
+        return 0.0d;
+      }
+
+      @Override
+      double accumulate(final double r, final double x) {
+        return r + x * x;
+      }
+
+      @Override
+      double combine(final double r, final double partial) {
+        return r + partial;
+      }
+
+      @Override
+      double finish(final double r) {
+        return Math.sqrt(r);
+      }
+    };
+
+    /**
+     * 単位元を返す.
+     *
+     * @return 単位元
+     * @since 2026/10/18 15:48:09
+     */
+    abstract double identity();
+
+    /**
+     * 途中の値に要素を加える.
+     *
+     * @param r
+     *          途中の値
+     * @param x
+     *          要素
+     * @return 新しい途中の値
+     * @since 2026/10/18 15:48:09
+     */
+    abstract double accumulate(double r, double x);
+
+    /**
+     * 途中の値に単位ごとの部分結果を加える.
+     *
+     * @param r
+     *          途中の値
+     * @param partial
+     *          部分結果
+     * @return 新しい途中の値
+     * @since 2026/10/18 15:48:09
+     */
+    double combine(final double r, final double partial) {
+      return this.accumulate(r, partial);
+    }
+
+    /**
+     * 途中の値から最終的な値を求める.
+     *
+     * @param r
+     *          途中の値
+     * @return 最終的な値
+     * @since 2026/10/18 15:48:09
+     */
+    double finish(final double r) {
+      return r;
+    }
+  }
+
+  /**
+   * パイプラインの1つの演算.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   *
+   * Created Date : 2026/10/18 15:48:09
+   */
+  private static final class Stage {
+
+    /**
+     * 演算.
+     */
+    final Operation  operation;
+
+    /**
+     * スカラーの引数.
+     */
+    final double     scalar;
+
+    /**
+     * 引数の行列の行配列. 行列を引数に取らない演算ではnull.
+     */
+    final double[][] operand;
+
+    /**
+     * 演算を作る.
+     *
+     * @param operation
+     *          演算
+     * @param scalar
+     *          スカラーの引数
+     * @param operand
+     *          引数の行列の行配列
+     * @since 2026/10/18 15:48:09
+     */
+    Stage(final Operation operation, final double scalar, final double[][] operand) {
+      this.operation = operation;
+      this.scalar = scalar;
+      this.operand = operand;
+    }
+  }
+
+  /**
+   * 単位の範囲 [u0, u1) を評価するタスク.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   *
+   * Created Date : 2026/10/18 15:48:09
+   */
+  private static final class Task extends RecursiveAction {
+
+    /**
+     * シリアルバージョンID.
+     *
+     * @since 2026/10/18 15:48:09
+     */
+    private static final long         serialVersionUID = -5402214963351869072L;
+
+    /**
+     * パイプライン.
+     */
+    private final ElementWisePipeline pipeline;
+
+    /**
+     * 集約の方法. 集約しない場合はnull.
+     */
+    private final Reduction           reduction;
+
+    /**
+     * 結果の格納先.
+     */
+    private final Object              out;
+
+    /**
+     * 先頭の単位(含む).
+     */
+    private final int                 u0;
+
+    /**
+     * 末端の単位(含まない).
+     */
+    private final int                 u1;
+
+    /**
+     * タスクを作る.
+     *
+     * @param pipeline
+     *          パイプライン
+     * @param reduction
+     *          集約の方法
+     * @param out
+     *          結果の格納先
+     * @param u0
+     *          先頭の単位(含む)
+     * @param u1
+     *          末端の単位(含まない)
+     * @since 2026/10/18 15:48:09
+     */
+    Task(final ElementWisePipeline pipeline, final Reduction reduction, final Object out,
+        final int u0, final int u1) {
+      this.pipeline = pipeline;
+      this.reduction = reduction;
+      this.out = out;
+      this.u0 = u0;
+      this.u1 = u1;
+    }
+
+    /**
+     * 単位が多ければ2分割し、少なければ逐次評価する.
+     *
+     * @see java.util.concurrent.RecursiveAction#compute()
+     * @since 2026/10/18 15:48:09
+     */
+    @Override
+    protected void compute() {
+      final long work = (long) (this.u1 - this.u0) * ElementWisePipeline.BLOCK
+          * (this.pipeline.stages.length + 1);
+      if (this.u1 - this.u0 > 1 && work > ElementWisePipeline.SEQUENTIAL_LIMIT
+          && ForkJoinTask.inForkJoinPool()) {
+        final int mid = (this.u0 + this.u1) >>> 1;
+        ForkJoinTask.invokeAll(new Task(this.pipeline, this.reduction, this.out, this.u0, mid),
+            new Task(this.pipeline, this.reduction, this.out, mid, this.u1));
+        return;
+      }
+      final double[] buffer = new double[ElementWisePipeline.BLOCK];
+      for (int u = this.u0; u < this.u1; u++) {
+        this.pipeline.evaluateUnit(u, buffer, this.reduction, this.out);
+      }
+    }
+  }
+}
@@ -0,0 +1,278 @@
+/**
+ * Created Date : 2026/10/18 18:48:20
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import java.util.Arrays;
+
+/**
+ * 右前処理付きリスタート版一般化最小残差法 (GMRES(m)).
+ *
+ * <pre>
+ *  非対称な係数行列に使える. m 回の反復ごとに近似解を更新してリスタートする.
+ *  基底ベクトルは修正Gram-Schmidt法で直交化し、Hessenberg 行列は Givens 回転で
+ *  逐次上三角化するため、反復中の残差ノルムは A の作用を追加せずに得られる.
+ *  作業用ベクトルは m + 3 本で、m が大きいほど収束は速いがメモリと直交化の計算量が増える.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see IterativeSolver
+ *
+ * Created Date : 2026/10/18 18:48:20
+ */
+public final strictfp class GMRES extends IterativeSolver {
+
+  /**
+   * リスタートまでの反復回数の既定値.
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  public static final int  DEFAULT_RESTART = 30;
+
+  /**
+   * リスタートまでの反復回数.
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  private final int        restart;
+
+  /**
+   * Hessenberg 行列. Givens 回転を適用して上三角化したものを保持する.
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  private final double[][] hessenberg;
+
+  /**
+   * Givens 回転の cos.
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  private final double[]   cosine;
+
+  /**
+   * Givens 回転の sin.
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  private final double[]   sine;
+
+  /**
+   * 最小二乗問題の右辺 ||r|| * e1 に Givens 回転を適用したもの.
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  private final double[]   g;
+
+  /**
+   * 前処理なしのGMRES(30)を作る.
+   *
+   * @param tolerance
+   *          相対残差の許容誤差
+   * @param maxIterations
+   *          反復回数の上限
+   * @since 2026/10/18 18:48:20
+   */
+  public GMRES(final double tolerance, final int maxIterations) {
+    this(tolerance, maxIterations, GMRES.DEFAULT_RESTART, null);
+  }
+
+  /**
+   * 前処理付きのGMRES(30)を作る.
+   *
+   * @param tolerance
+   *          相対残差の許容誤差
+   * @param maxIterations
+   *          反復回数の上限
+   * @param preconditioner
+   *          前処理. nullの場合は前処理なし
+   * @since 2026/10/18 18:48:20
+   */
+  public GMRES(final double tolerance, final int maxIterations,
+      final Preconditioner preconditioner) {
+    this(tolerance, maxIterations, GMRES.DEFAULT_RESTART, preconditioner);
+  }
+
+  /**
+   * 前処理付きのGMRES(m)を作る.
+   *
+   * @param tolerance
+   *          相対残差の許容誤差
+   * @param maxIterations
+   *          反復回数の上限
+   * @param restart
+   *          リスタートまでの反復回数 m
+   * @param preconditioner
+   *          前処理. nullの場合は前処理なし
+   * @exception IllegalArgumentException
+   *              引数が範囲外の場合
+   * @since 2026/10/18 18:48:20
+   */
+  public GMRES(final double tolerance, final int maxIterations, final int restart,
+      final Preconditioner preconditioner) {
+    super(tolerance, maxIterations, preconditioner);
+    if (restart < 1) {
+      throw new IllegalArgumentException("Restart must be positive.");
+    }
+    this.restart = restart;
+    this.hessenberg = new double[restart + 1][restart];
+    this.cosine = new double[restart];
+    this.sine = new double[restart];
+    this.g = new double[restart + 1];
+  }
+
+  /**
+   * リスタートまでの反復回数を返す.
+   *
+   * @return リスタートまでの反復回数
+   * @since 2026/10/18 18:48:20
+   */
+  public int getRestart() {
+    return this.restart;
+  }
+
+  /**
+   * GMRES(m)の反復を実行する.
+   *
+   * @param a
+   *          係数行列
+   * @param b
+   *          右辺
+   * @param x
+   *          初期値. 解で上書きする
+   * @param bnorm
+   *          右辺のノルム
+   * @param history
+   *          相対残差の記録
+   * @return 収束した場合はtrue
+   * @see name.sugawara.hiroshi.math.matrix.IterativeSolver#iterate(LinearOperator, double[],
+   *      double[], double, IterativeSolver.History)
+   * @since 2026/10/18 18:48:20
+   */
+  @Override
+  boolean iterate(final LinearOperator a, final double[] b, final double[] x,
+      final double bnorm, final History history) {
+    final int n = x.length;
+    final int m = this.restart;
+    final double[][] work = this.workspace(m + 3, n);
+    final double[] r = work[m + 1];
+    final double[] z = work[m + 2];
+    final double[][] h = this.hessenberg;
+
+    int total = 0;
+    while (true) {
+      IterativeSolver.residual(a, b, x, r);
+      final double beta = IterativeSolver.norm(r);
+      final double initial = beta / bnorm;
+      if (total == 0) {
+        history.record(initial);
+      }
+      if (initial <= this.getTolerance()) {
+        return true;
+      }
+      if (total >= this.getMaxIterations()) {
+        return false;
+      }
+      final double[] v0 = work[0];
+      for (int i = 0; i < n; i++) {
+        v0[i] = r[i] / beta;
+      }
+      Arrays.fill(this.g, 0.0d);
+      this.g[0] = beta;
+
+      int k = 0;
+      while (k < m && total < this.getMaxIterations()) {
+        final double[] w = work[k + 1];
+        this.precondition(work[k], z);
+        a.apply(z, w);
+        for (int i = 0; i <= k; i++) {
+          final double hik = IterativeSolver.dot(w, work[i]);
+          h[i][k] = hik;
+          IterativeSolver.axpy(-hik, work[i], w);
+        }
+        final double subdiagonal = IterativeSolver.norm(w);
+        h[k + 1][k] = subdiagonal;
+        if (subdiagonal != 0.0d) {
+          for (int i = 0; i < n; i++) {
+            w[i] /= subdiagonal;
+          }
+        }
+        this.rotate(k);
+        k++;
+        total++;
+        final double relative = Math.abs(this.g[k]) / bnorm;
+        history.record(relative);
+        if (relative <= this.getTolerance() || subdiagonal == 0.0d) {
+          break;
+        }
+      }
+      this.update(k, work, r, z, x);
+    }
+  }
+
+  /**
+   * Hessenberg 行列の k 列目にこれまでの Givens 回転を適用し、新しい回転で h(k+1,k) を消去する.
+   *
+   * @param k
+   *          列
+   * @since 2026/10/18 18:48:20
+   */
+  private void rotate(final int k) {
+    final double[][] h = this.hessenberg;
+    for (int i = 0; i < k; i++) {
+      final double upper = h[i][k];
+      final double lower = h[i + 1][k];
+      h[i][k] = this.cosine[i] * upper + this.sine[i] * lower;
+      h[i + 1][k] = -this.sine[i] * upper + this.cosine[i] * lower;
+    }
+    final double diagonal = h[k][k];
+    final double subdiagonal = h[k + 1][k];
+    final double radius = Math.hypot(diagonal, subdiagonal);
+    if (radius == 0.0d) {
+      this.cosine[k] = 1.0d;
+      this.sine[k] = 0.0d;
+    } else {
+      this.cosine[k] = diagonal / radius;
+      this.sine[k] = subdiagonal / radius;
+    }
+    h[k][k] = radius;
+    h[k + 1][k] = 0.0d;
+    this.g[k + 1] = -this.sine[k] * this.g[k];
+    this.g[k] = this.cosine[k] * this.g[k];
+  }
+
+  /**
+   * 上三角化した Hessenberg 行列で最小二乗問題を解き、x = x + M^-1 * V * y で更新する.
+   *
+   * @param k
+   *          基底の数
+   * @param v
+   *          基底ベクトル
+   * @param u
+   *          作業用ベクトル
+   * @param z
+   *          作業用ベクトル
+   * @param x
+   *          近似解
+   * @since 2026/10/18 18:48:20
+   */
+  private void update(final int k, final double[][] v, final double[] u, final double[] z,
+      final double[] x) {
+    final double[][] h = this.hessenberg;
+    final double[] y = this.g;
+    for (int i = k - 1; i >= 0; i--) {
+      double s = y[i];
+      for (int j = i + 1; j < k; j++) {
+        s -= h[i][j] * y[j];
+      }
+      y[i] = h[i][i] == 0.0d ? 0.0d : s / h[i][i];
+    }
+    Arrays.fill(u, 0.0d);
+    for (int i = 0; i < k; i++) {
+      IterativeSolver.axpy(y[i], v[i], u);
+    }
+    this.precondition(u, z);
+    IterativeSolver.axpy(1.0d, z, x);
+  }
+}
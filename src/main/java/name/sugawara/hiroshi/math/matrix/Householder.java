@@ -0,0 +1,432 @@
+/**
+ * Created Date : 2026/10/18 17:20:14
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ブロック化したHouseholder変換の計算カーネル.
+ *
+ * <pre>
+ *  列 j の鏡映変換は H(j) = I - tau[j] * v * v' であり、v は j 行目が 1、
+ *  それより下の要素を行列の対角より下に格納する(LAPACKの xGEQRF と同じ形式).
+ *
+ *  幅 BLOCK 列ごとに鏡映変換をまとめ、コンパクトWY表現
+ *  H(kb) * H(kb + 1) * ... * H(ke - 1) = I - Y * T * Y' (Tは上三角行列)
+ *  を作ってから残りの列へ一度に適用する. 1本ずつ適用する場合は鏡映変換ごとに
+ *  残りの行列全体を読み書きするが、まとめて適用すればブロックあたり2回の走査で済む.
+ *  適用は行優先の行配列に沿って行うため、内側のループは連続したメモリを参照する.
+ *  列が多い場合は列を分割してForkJoinPoolで並列に適用する.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see QRDecomposition
+ *
+ * Created Date : 2026/10/18 17:20:14
+ */
+final strictfp class Householder {
+
+  /**
+   * まとめて適用する鏡映変換の数(ブロックサイズ).
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  static final int          BLOCK            = 32;
+
+  /**
+   * これ以下の積和回数の適用は分割せずに逐次計算する.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private static final long SEQUENTIAL_LIMIT = 1L << 18;
+
+  /**
+   * 分割後の列数の下限.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private static final int  MIN_COLUMNS      = 32;
+
+  /**
+   * コンストラクタ使用禁止.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private Householder() {
+    // コンストラクタ使用禁止.
+  }
+
+  /**
+   * m * n の行列aをQR分解し、aをRと鏡映変換のベクトルで上書きする.
+   *
+   * @param a
+   *          m * n の行列. 対角を含む上がR、対角より下が鏡映変換のベクトルになる
+   * @param m
+   *          行数
+   * @param n
+   *          列数
+   * @param tau
+   *          鏡映変換の係数を格納する長さ min(m, n) 以上の配列
+   * @param t
+   *          BLOCK * BLOCK 以上の作業用配列
+   * @since 2026/10/18 17:20:14
+   */
+  static void factor(final double[][] a, final int m, final int n, final double[] tau,
+      final double[][] t) {
+    final int k = Math.min(m, n);
+    for (int kb = 0; kb < k; kb += Householder.BLOCK) {
+      final int ke = Math.min(kb + Householder.BLOCK, k);
+      Householder.factorPanel(a, m, kb, ke, tau);
+      if (ke < n) {
+        Householder.buildT(a, m, kb, ke, tau, t);
+        Householder.apply(a, m, kb, ke, t, true, a, ke, n);
+      }
+    }
+  }
+
+  /**
+   * kb列からke - 1列までのパネルを1列ずつ鏡映変換で上三角化する.
+   *
+   * @param a
+   *          分解中の配列
+   * @param m
+   *          行数
+   * @param kb
+   *          パネルの先頭列(含む)
+   * @param ke
+   *          パネルの末端列(含まない)
+   * @param tau
+   *          鏡映変換の係数
+   * @since 2026/10/18 17:20:14
+   */
+  private static void factorPanel(final double[][] a, final int m, final int kb, final int ke,
+      final double[] tau) {
+    final double[] w = new double[ke - kb];
+    for (int j = kb; j < ke; j++) {
+      double scale = 0.0d;
+      for (int i = j; i < m; i++) {
+        scale = Math.max(scale, Math.abs(a[i][j]));
+      }
+      if (scale == 0.0d) {
+        tau[j] = 0.0d;
+        continue;
+      }
+      // オーバーフローとアンダーフローを避けるため、最大値で割ってから2乗和をとる.
+      double sum = 0.0d;
+      for (int i = j; i < m; i++) {
+        final double x = a[i][j] / scale;
+        sum += x * x;
+      }
+      final double alpha = a[j][j];
+      final double norm = scale * Math.sqrt(sum);
+      final double beta = alpha > 0.0d ? -norm : norm;
+      tau[j] = (beta - alpha) / beta;
+      final double f = 1.0d / (alpha - beta);
+      for (int i = j + 1; i < m; i++) {
+        a[i][j] *= f;
+      }
+      a[j][j] = beta;
+
+      // パネルの残りの列に H(j) を適用する.
+      final int c0 = j + 1;
+      if (c0 == ke) {
+        continue;
+      }
+      final double[] rj = a[j];
+      for (int c = c0; c < ke; c++) {
+        w[c - kb] = rj[c];
+      }
+      for (int i = j + 1; i < m; i++) {
+        final double[] ri = a[i];
+        final double vi = ri[j];
+        for (int c = c0; c < ke; c++) {
+          w[c - kb] += vi * ri[c];
+        }
+      }
+      for (int c = c0; c < ke; c++) {
+        w[c - kb] *= tau[j];
+        rj[c] -= w[c - kb];
+      }
+      for (int i = j + 1; i < m; i++) {
+        final double[] ri = a[i];
+        final double vi = ri[j];
+        for (int c = c0; c < ke; c++) {
+          ri[c] -= vi * w[c - kb];
+        }
+      }
+    }
+  }
+
+  /**
+   * kb列からke - 1列までの鏡映変換のコンパクトWY表現の上三角行列Tを求める (LAPACKの xLARFT).
+   *
+   * @param y
+   *          鏡映変換のベクトルを格納した配列
+   * @param m
+   *          行数
+   * @param kb
+   *          先頭列(含む)
+   * @param ke
+   *          末端列(含まない)
+   * @param tau
+   *          鏡映変換の係数
+   * @param t
+   *          Tを格納する BLOCK * BLOCK 以上の配列
+   * @since 2026/10/18 17:20:14
+   */
+  static void buildT(final double[][] y, final int m, final int kb, final int ke,
+      final double[] tau, final double[][] t) {
+    final int nb = ke - kb;
+    final double[] z = new double[nb];
+    for (int i = 0; i < nb; i++) {
+      final int col = kb + i;
+      // z(0:i) = Y(:, 0:i)' * Y(:, i). Y(:, i) は col 行目が 1、それより上は 0.
+      final double[] rc = y[col];
+      for (int r = 0; r < i; r++) {
+        z[r] = rc[kb + r];
+      }
+      for (int row = col + 1; row < m; row++) {
+        final double[] rr = y[row];
+        final double yi = rr[col];
+        for (int r = 0; r < i; r++) {
+          z[r] += rr[kb + r] * yi;
+        }
+      }
+      // T(0:i, i) = -tau * T(0:i, 0:i) * z.
+      for (int r = 0; r < i; r++) {
+        double s = 0.0d;
+        for (int q = r; q < i; q++) {
+          s += t[r][q] * z[q];
+        }
+        t[r][i] = -tau[col] * s;
+      }
+      t[i][i] = tau[col];
+    }
+  }
+
+  /**
+   * 行列cの j0 列から j1 - 1 列までに (I - Y * T * Y') または (I - Y * T' * Y') を左から掛ける.
+   *
+   * @param y
+   *          鏡映変換のベクトルを格納した配列
+   * @param m
+   *          行数
+   * @param kb
+   *          鏡映変換の先頭列(含む)
+   * @param ke
+   *          鏡映変換の末端列(含まない)
+   * @param t
+   *          buildTで求めた上三角行列
+   * @param transpose
+   *          trueなら Q' = H(ke - 1) * ... * H(kb)、falseなら Q = H(kb) * ... * H(ke - 1) を掛ける
+   * @param c
+   *          m行の行列
+   * @param j0
+   *          先頭列(含む)
+   * @param j1
+   *          末端列(含まない)
+   * @since 2026/10/18 17:20:14
+   */
+  static void apply(final double[][] y, final int m, final int kb, final int ke,
+      final double[][] t, final boolean transpose, final double[][] c, final int j0,
+      final int j1) {
+    final Application task = new Application(y, m, kb, ke, t, transpose, c, j0, j1);
+    if ((long) (m - kb) * (j1 - j0) * (ke - kb) <= Householder.SEQUENTIAL_LIMIT) {
+      task.compute();
+    } else {
+      ForkJoinPool.commonPool().invoke(task);
+    }
+  }
+
+  /**
+   * 鏡映変換のブロックを列を分割して適用するタスク.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   *
+   * Created Date : 2026/10/18 17:20:14
+   */
+  private static final class Application extends RecursiveAction {
+
+    /**
+     * シリアルバージョンID.
+     *
+     * @since 2026/10/18 17:20:14
+     */
+    private static final long serialVersionUID = -5960271430378410297L;
+
+    /**
+     * 鏡映変換のベクトルを格納した配列.
+     */
+    private final double[][]  y;
+
+    /**
+     * 行数.
+     */
+    private final int         m;
+
+    /**
+     * 鏡映変換の先頭列(含む).
+     */
+    private final int         kb;
+
+    /**
+     * 鏡映変換の末端列(含まない).
+     */
+    private final int         ke;
+
+    /**
+     * コンパクトWY表現の上三角行列.
+     */
+    private final double[][]  t;
+
+    /**
+     * Tを転置して適用するならtrue.
+     */
+    private final boolean     transpose;
+
+    /**
+     * 適用先の行列.
+     */
+    private final double[][]  c;
+
+    /**
+     * 先頭列(含む).
+     */
+    private final int         j0;
+
+    /**
+     * 末端列(含まない).
+     */
+    private final int         j1;
+
+    /**
+     * タスクを生成する.
+     *
+     * @param y
+     *          鏡映変換のベクトルを格納した配列
+     * @param m
+     *          行数
+     * @param kb
+     *          鏡映変換の先頭列(含む)
+     * @param ke
+     *          鏡映変換の末端列(含まない)
+     * @param t
+     *          コンパクトWY表現の上三角行列
+     * @param transpose
+     *          Tを転置して適用するならtrue
+     * @param c
+     *          適用先の行列
+     * @param j0
+     *          先頭列(含む)
+     * @param j1
+     *          末端列(含まない)
+     * @since 2026/10/18 17:20:14
+     */
+    Application(final double[][] y, final int m, final int kb, final int ke,
+        final double[][] t, final boolean transpose, final double[][] c, final int j0,
+        final int j1) {
+      this.y = y;
+      this.m = m;
+      this.kb = kb;
+      this.ke = ke;
+      this.t = t;
+      this.transpose = transpose;
+      this.c = c;
+      this.j0 = j0;
+      this.j1 = j1;
+    }
+
+    /**
+     * 列が多ければ2分割し、少なければ逐次計算する.
+     *
+     * @see java.util.concurrent.RecursiveAction#compute()
+     * @since 2026/10/18 17:20:14
+     */
+    @Override
+    protected void compute() {
+      final int cols = this.j1 - this.j0;
+      final int nb = this.ke - this.kb;
+      if (cols >= 2 * Householder.MIN_COLUMNS
+          && (long) (this.m - this.kb) * cols * nb > Householder.SEQUENTIAL_LIMIT) {
+        final int mid = this.j0 + cols / 2;
+        ForkJoinTask.invokeAll(new Application(this.y, this.m, this.kb, this.ke, this.t,
+            this.transpose, this.c, this.j0, mid), new Application(this.y, this.m, this.kb,
+            this.ke, this.t, this.transpose, this.c, mid, this.j1));
+        return;
+      }
+
+      // W = Y' * C.
+      final double[][] w = new double[nb][cols];
+      for (int row = this.kb; row < this.m; row++) {
+        final double[] cr = this.c[row];
+        final double[] yr = this.y[row];
+        final int rmax = Math.min(nb, row - this.kb + 1);
+        for (int r = 0; r < rmax; r++) {
+          final double yv = this.kb + r == row ? 1.0d : yr[this.kb + r];
+          if (yv == 0.0d) {
+            continue;
+          }
+          final double[] wr = w[r];
+          for (int j = 0; j < cols; j++) {
+            wr[j] += yv * cr[this.j0 + j];
+          }
+        }
+      }
+
+      // W = T' * W または T * W. Tは上三角なので、上書きしてもまだ使う行を壊さない順に計算する.
+      if (this.transpose) {
+        for (int r = nb - 1; r >= 0; r--) {
+          final double[] wr = w[r];
+          final double trr = this.t[r][r];
+          for (int j = 0; j < cols; j++) {
+            wr[j] *= trr;
+          }
+          for (int q = 0; q < r; q++) {
+            final double tqr = this.t[q][r];
+            final double[] wq = w[q];
+            for (int j = 0; j < cols; j++) {
+              wr[j] += tqr * wq[j];
+            }
+          }
+        }
+      } else {
+        for (int r = 0; r < nb; r++) {
+          final double[] wr = w[r];
+          final double trr = this.t[r][r];
+          for (int j = 0; j < cols; j++) {
+            wr[j] *= trr;
+          }
+          for (int q = r + 1; q < nb; q++) {
+            final double trq = this.t[r][q];
+            final double[] wq = w[q];
+            for (int j = 0; j < cols; j++) {
+              wr[j] += trq * wq[j];
+            }
+          }
+        }
+      }
+
+      // C = C - Y * W.
+      for (int row = this.kb; row < this.m; row++) {
+        final double[] cr = this.c[row];
+        final double[] yr = this.y[row];
+        final int rmax = Math.min(nb, row - this.kb + 1);
+        for (int r = 0; r < rmax; r++) {
+          final double yv = this.kb + r == row ? 1.0d : yr[this.kb + r];
+          if (yv == 0.0d) {
+            continue;
+          }
+          final double[] wr = w[r];
+          for (int j = 0; j < cols; j++) {
+            cr[this.j0 + j] -= yv * wr[j];
+          }
+        }
+      }
+    }
+  }
+}
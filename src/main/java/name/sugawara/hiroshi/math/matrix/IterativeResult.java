@@ -0,0 +1,142 @@
+/**
+ * Created Date : 2026/10/18 18:48:20
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+/**
+ * 反復法の結果. 近似解と収束の履歴を保持する.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see IterativeSolver
+ *
+ * Created Date : 2026/10/18 18:48:20
+ */
+public final class IterativeResult {
+
+  /**
+   * 近似解.
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  private final DoubleVector solution;
+
+  /**
+   * 収束したかどうか.
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  private final boolean      converged;
+
+  /**
+   * 相対残差の履歴. 先頭は初期残差.
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  private final double[]     residuals;
+
+  /**
+   * 反復1回ごとの時間(ナノ秒).
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  private final long[]       times;
+
+  /**
+   * 結果を作る.
+   *
+   * @param solution
+   *          近似解
+   * @param converged
+   *          収束したかどうか
+   * @param residuals
+   *          相対残差の履歴
+   * @param times
+   *          反復1回ごとの時間
+   * @since 2026/10/18 18:48:20
+   */
+  IterativeResult(final DoubleVector solution, final boolean converged,
+      final double[] residuals, final long[] times) {
+    this.solution = solution;
+    this.converged = converged;
+    this.residuals = residuals;
+    this.times = times;
+  }
+
+  /**
+   * 近似解を返す.
+   *
+   * @return 近似解
+   * @since 2026/10/18 18:48:20
+   */
+  public DoubleVector getSolution() {
+    return this.solution;
+  }
+
+  /**
+   * 相対残差が許容誤差以下になったかどうか.
+   *
+   * @return 収束した場合はtrue
+   * @since 2026/10/18 18:48:20
+   */
+  public boolean isConverged() {
+    return this.converged;
+  }
+
+  /**
+   * 反復回数を返す.
+   *
+   * @return 反復回数
+   * @since 2026/10/18 18:48:20
+   */
+  public int getIterationCount() {
+    return this.times.length;
+  }
+
+  /**
+   * 最後の相対残差 ||b - A * x|| / ||b|| を返す.
+   *
+   * @return 相対残差
+   * @since 2026/10/18 18:48:20
+   */
+  public double getResidual() {
+    return this.residuals[this.residuals.length - 1];
+  }
+
+  /**
+   * 相対残差の履歴を返す. 長さは反復回数 + 1 で、先頭は初期残差である.
+   *
+   * <pre>
+   *  GMRESでは反復中の値は Hessenberg 行列から求めた推定値である.
+   * </pre>
+   *
+   * @return 相対残差の履歴
+   * @since 2026/10/18 18:48:20
+   */
+  public double[] getResidualHistory() {
+    return this.residuals.clone();
+  }
+
+  /**
+   * 反復1回ごとにかかった時間をナノ秒で返す. 長さは反復回数である.
+   *
+   * @return 反復1回ごとの時間
+   * @since 2026/10/18 18:48:20
+   */
+  public long[] getIterationTimes() {
+    return this.times.clone();
+  }
+
+  /**
+   * このオブジェクトの文字列表現.
+   *
+   * @return 文字列表現
+   * @see java.lang.Object#toString()
+   * @since 2026/10/18 18:48:20
+   */
+  @Override
+  public String toString() {
+    return "converged=" + this.converged + ", iterations=" + this.getIterationCount()
+        + ", residual=" + this.getResidual();
+  }
+}
@@ -0,0 +1,376 @@
+/**
+ * Created Date : 2026/10/18 18:48:20
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import java.util.Arrays;
+
+/**
+ * 線形方程式 A * x = b を解くクリロフ部分空間反復法の基底クラス.
+ *
+ * <pre>
+ *  係数行列は LinearOperator として与え、その作用 apply() だけを使う.
+ *  相対残差 ||b - A * x|| / ||b|| が許容誤差以下になるか、反復回数が上限に達すると終了する.
+ *  前処理を指定しない場合は M = I として計算する.
+ *
+ *  作業用のベクトルは最初の solve() で確保し、次数が変わらない限り以降の呼び出しでも再利用する.
+ *  反復の中では配列を確保しない.
+ *  このため1つのインスタンスを複数のスレッドから同時に使ってはならない.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see ConjugateGradient
+ * @see BiCGSTAB
+ * @see GMRES
+ *
+ * Created Date : 2026/10/18 18:48:20
+ */
+public abstract strictfp class IterativeSolver {
+
+  /**
+   * 相対残差の許容誤差.
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  private final double         tolerance;
+
+  /**
+   * 反復回数の上限.
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  private final int            maxIterations;
+
+  /**
+   * 前処理. nullの場合は前処理なし.
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  private final Preconditioner preconditioner;
+
+  /**
+   * 作業用のベクトル.
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  private double[][]           work = new double[0][0];
+
+  /**
+   * 反復法を作る.
+   *
+   * @param tolerance
+   *          相対残差の許容誤差
+   * @param maxIterations
+   *          反復回数の上限
+   * @param preconditioner
+   *          前処理. nullの場合は前処理なし
+   * @exception IllegalArgumentException
+   *              許容誤差が正でないか、反復回数の上限が負の場合
+   * @since 2026/10/18 18:48:20
+   */
+  IterativeSolver(final double tolerance, final int maxIterations,
+      final Preconditioner preconditioner) {
+    if (!(tolerance > 0.0d)) {
+      throw new IllegalArgumentException("Tolerance must be positive.");
+    }
+    if (maxIterations < 0) {
+      throw new IllegalArgumentException("Maximum iterations must be non-negative.");
+    }
+    this.tolerance = tolerance;
+    this.maxIterations = maxIterations;
+    this.preconditioner = preconditioner;
+  }
+
+  /**
+   * 初期値を 0 として A * x = b を解く.
+   *
+   * @param a
+   *          正方の係数行列
+   * @param b
+   *          右辺
+   * @return 反復の結果
+   * @exception IllegalArgumentException
+   *              次元が一致しない場合
+   * @since 2026/10/18 18:48:20
+   */
+  public IterativeResult solve(final LinearOperator a, final DoubleVector b) {
+    return this.solve(a, b, null);
+  }
+
+  /**
+   * 初期値 x0 から反復して A * x = b を解く.
+   *
+   * @param a
+   *          正方の係数行列
+   * @param b
+   *          右辺
+   * @param x0
+   *          初期値. nullの場合は 0
+   * @return 反復の結果
+   * @exception IllegalArgumentException
+   *              次元が一致しない場合
+   * @since 2026/10/18 18:48:20
+   */
+  public IterativeResult solve(final LinearOperator a, final DoubleVector b,
+      final DoubleVector x0) {
+    final int n = a.getRowDimension();
+    if (n != a.getColumnDimension()) {
+      throw new IllegalArgumentException("Matrix must be square.");
+    }
+    if (b.size() != n || x0 != null && x0.size() != n) {
+      throw new IllegalArgumentException("Matrix row dimensions must agree.");
+    }
+    final double[] x = x0 == null ? new double[n] : x0.array().clone();
+    final History history = new History(this.maxIterations);
+    final double[] rhs = b.array();
+    final double bnorm = IterativeSolver.norm(rhs);
+    final boolean converged;
+    if (bnorm == 0.0d) {
+      Arrays.fill(x, 0.0d);
+      history.record(0.0d);
+      converged = true;
+    } else {
+      converged = this.iterate(a, rhs, x, bnorm, history);
+    }
+    return new IterativeResult(new DoubleVector(x, true), converged, history.residuals(),
+        history.times());
+  }
+
+  /**
+   * 反復を実行する. 初期残差と各反復の後の相対残差を history に記録する.
+   *
+   * @param a
+   *          係数行列
+   * @param b
+   *          右辺. 変更してはならない
+   * @param x
+   *          初期値. 解で上書きする
+   * @param bnorm
+   *          右辺のノルム. 0 ではない
+   * @param history
+   *          相対残差の記録
+   * @return 収束した場合はtrue
+   * @since 2026/10/18 18:48:20
+   */
+  abstract boolean iterate(LinearOperator a, double[] b, double[] x, double bnorm,
+      History history);
+
+  /**
+   * 相対残差の許容誤差を返す.
+   *
+   * @return 許容誤差
+   * @since 2026/10/18 18:48:20
+   */
+  public double getTolerance() {
+    return this.tolerance;
+  }
+
+  /**
+   * 反復回数の上限を返す.
+   *
+   * @return 反復回数の上限
+   * @since 2026/10/18 18:48:20
+   */
+  public int getMaxIterations() {
+    return this.maxIterations;
+  }
+
+  /**
+   * 前処理 z = M^-1 * r を計算する. 前処理がなければ r を z に複写する.
+   *
+   * @param r
+   *          残差
+   * @param z
+   *          結果
+   * @since 2026/10/18 18:48:20
+   */
+  final void precondition(final double[] r, final double[] z) {
+    if (this.preconditioner == null) {
+      System.arraycopy(r, 0, z, 0, r.length);
+    } else {
+      this.preconditioner.apply(r, z);
+    }
+  }
+
+  /**
+   * 長さ n の作業用ベクトルを count 本返す. 前回と同じ大きさなら前回の配列を再利用する.
+   *
+   * @param count
+   *          本数
+   * @param n
+   *          長さ
+   * @return 作業用ベクトル
+   * @since 2026/10/18 18:48:20
+   */
+  final double[][] workspace(final int count, final int n) {
+    if (this.work.length != count || count > 0 && this.work[0].length != n) {
+      this.work = new double[count][n];
+    }
+    return this.work;
+  }
+
+  /**
+   * r = b - A * x を計算する.
+   *
+   * @param a
+   *          係数行列
+   * @param b
+   *          右辺
+   * @param x
+   *          近似解
+   * @param r
+   *          結果
+   * @since 2026/10/18 18:48:20
+   */
+  static void residual(final LinearOperator a, final double[] b, final double[] x,
+      final double[] r) {
+    a.apply(x, r);
+    for (int i = 0; i < r.length; i++) {
+      r[i] = b[i] - r[i];
+    }
+  }
+
+  /**
+   * 内積を求める.
+   *
+   * @param x
+   *          ベクトル
+   * @param y
+   *          ベクトル
+   * @return x' * y
+   * @since 2026/10/18 18:48:20
+   */
+  static double dot(final double[] x, final double[] y) {
+    double s = 0.0d;
+    for (int i = 0; i < x.length; i++) {
+      s += x[i] * y[i];
+    }
+    return s;
+  }
+
+  /**
+   * 2ノルムを求める.
+   *
+   * @param x
+   *          ベクトル
+   * @return ||x||
+   * @since 2026/10/18 18:48:20
+   */
+  static double norm(final double[] x) {
+    return Math.sqrt(IterativeSolver.dot(x, x));
+  }
+
+  /**
+   * y = y + alpha * x を計算する.
+   *
+   * @param alpha
+   *          係数
+   * @param x
+   *          ベクトル
+   * @param y
+   *          結果
+   * @since 2026/10/18 18:48:20
+   */
+  static void axpy(final double alpha, final double[] x, final double[] y) {
+    for (int i = 0; i < y.length; i++) {
+      y[i] += alpha * x[i];
+    }
+  }
+
+  /**
+   * 相対残差と反復1回あたりの時間の記録.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   * @since 2026/10/18 18:48:20
+   */
+  static final class History {
+
+    /**
+     * 相対残差. 先頭は初期残差.
+     *
+     * @since 2026/10/18 18:48:20
+     */
+    private final double[] residual;
+
+    /**
+     * 反復1回ごとの経過時間(ナノ秒).
+     *
+     * @since 2026/10/18 18:48:20
+     */
+    private final long[]   time;
+
+    /**
+     * 記録した相対残差の数.
+     *
+     * @since 2026/10/18 18:48:20
+     */
+    private int            count;
+
+    /**
+     * 前回記録した時刻.
+     *
+     * @since 2026/10/18 18:48:20
+     */
+    private long           last;
+
+    /**
+     * 記録を作る.
+     *
+     * @param maxIterations
+     *          反復回数の上限
+     * @since 2026/10/18 18:48:20
+     */
+    History(final int maxIterations) {
+      this.residual = new double[maxIterations + 1];
+      this.time = new long[maxIterations];
+    }
+
+    /**
+     * 相対残差を記録する. 最初の記録は初期残差とし、以降は前回からの経過時間も記録する.
+     *
+     * @param relative
+     *          相対残差
+     * @since 2026/10/18 18:48:20
+     */
+    void record(final double relative) {
+      final long now = System.nanoTime();
+      if (this.count > 0) {
+        this.time[this.count - 1] = now - this.last;
+      }
+      this.residual[this.count++] = relative;
+      this.last = now;
+    }
+
+    /**
+     * 反復回数を返す.
+     *
+     * @return 反復回数
+     * @since 2026/10/18 18:48:20
+     */
+    int iterations() {
+      return this.count - 1;
+    }
+
+    /**
+     * 記録した相対残差を返す.
+     *
+     * @return 相対残差
+     * @since 2026/10/18 18:48:20
+     */
+    double[] residuals() {
+      return Arrays.copyOf(this.residual, this.count);
+    }
+
+    /**
+     * 記録した反復1回ごとの時間を返す.
+     *
+     * @return 時間(ナノ秒)
+     * @since 2026/10/18 18:48:20
+     */
+    long[] times() {
+      return Arrays.copyOf(this.time, this.count - 1);
+    }
+  }
+}
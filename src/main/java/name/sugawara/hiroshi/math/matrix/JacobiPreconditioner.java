@@ -0,0 +1,103 @@
+/**
+ * Created Date : 2026/10/18 18:48:20
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+/**
+ * 対角スケーリング(Jacobi)前処理. M は係数行列の対角部分.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see IterativeSolver
+ *
+ * Created Date : 2026/10/18 18:48:20
+ */
+public final strictfp class JacobiPreconditioner implements Preconditioner {
+
+  /**
+   * 対角要素の逆数.
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  private final double[] inverse;
+
+  /**
+   * 対角要素から前処理を作る.
+   *
+   * @param diagonal
+   *          係数行列の対角要素
+   * @exception ArithmeticException
+   *              対角要素に 0 がある場合
+   * @since 2026/10/18 18:48:20
+   */
+  public JacobiPreconditioner(final DoubleVector diagonal) {
+    final double[] d = diagonal.array();
+    this.inverse = new double[d.length];
+    for (int i = 0; i < d.length; i++) {
+      if (d[i] == 0.0d) {
+        throw new ArithmeticException("Zero diagonal element at " + i + ".");
+      }
+      this.inverse[i] = 1.0d / d[i];
+    }
+  }
+
+  /**
+   * 疎行列の対角要素から前処理を作る.
+   *
+   * @param a
+   *          係数行列
+   * @exception ArithmeticException
+   *              対角要素に 0 がある場合
+   * @since 2026/10/18 18:48:20
+   */
+  public JacobiPreconditioner(final CSRMatrix a) {
+    this(a.diagonal());
+  }
+
+  /**
+   * 密行列の対角要素から前処理を作る.
+   *
+   * @param a
+   *          係数行列
+   * @exception ArithmeticException
+   *              対角要素に 0 がある場合
+   * @since 2026/10/18 18:48:20
+   */
+  public JacobiPreconditioner(final DoubleMatrix a) {
+    this(JacobiPreconditioner.diagonal(a));
+  }
+
+  /**
+   * 密行列の対角要素を取り出す.
+   *
+   * @param a
+   *          行列
+   * @return 対角要素
+   * @since 2026/10/18 18:48:20
+   */
+  private static DoubleVector diagonal(final DoubleMatrix a) {
+    final double[][] source = a.array();
+    final double[] d = new double[Math.min(a.getRowDimension(), a.getColumnDimension())];
+    for (int i = 0; i < d.length; i++) {
+      d[i] = source[i][i];
+    }
+    return new DoubleVector(d, true);
+  }
+
+  /**
+   * z = D^-1 * r を計算する.
+   *
+   * @param r
+   *          残差
+   * @param z
+   *          結果
+   * @see name.sugawara.hiroshi.math.matrix.Preconditioner#apply(double[], double[])
+   * @since 2026/10/18 18:48:20
+   */
+  @Override
+  public void apply(final double[] r, final double[] z) {
+    for (int i = 0; i < this.inverse.length; i++) {
+      z[i] = this.inverse[i] * r[i];
+    }
+  }
+}
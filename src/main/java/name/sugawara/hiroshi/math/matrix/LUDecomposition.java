@@ -0,0 +1,720 @@
+/**
+ * Created Date : 2026/10/18 16:42:05
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 正方行列の部分ピボット選択付きLU分解 PA = LU. Mathworks, Inc のJAMAのLUDecompositionを参考にして作成.
+ *
+ * <pre>
+ *  分解はブロック化した右方向(right-looking)のアルゴリズムで行う.
+ *  幅 BLOCK 列のパネルをピボット選択しながら分解し、Uの行ブロックを求めたあと、
+ *  残りの部分行列(trailing matrix) A22 -= L21 * U12 を更新する.
+ *  演算量のほとんどを占めるこの更新は、行をForkJoinPoolで分割して並列に計算する.
+ *  行の交換は行配列の参照を入れ替えるだけなので、要素のコピーは行わない.
+ *
+ *  分解の結果は不変であり、同じ係数行列に対して右辺を変えながら何度でも
+ *  solve() を呼び出せる. 分解は O(n^3)、1回の solve() は右辺1列あたり O(n^2) である.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see DoubleMatrix#lu()
+ *
+ * Created Date : 2026/10/18 16:42:05
+ */
+public final strictfp class LUDecomposition {
+
+  /**
+   * パネルの列数(ブロックサイズ).
+   *
+   * @since 2026/10/18 16:42:05
+   */
+  private static final int    BLOCK               = 64;
+
+  /**
+   * これ以下の積和回数の更新・前進後退代入は分割せずに逐次計算する.
+   *
+   * @since 2026/10/18 16:42:05
+   */
+  private static final long   SEQUENTIAL_LIMIT    = 1L << 18;
+
+  /**
+   * 条件数の推定で行う反復の最大回数.
+   *
+   * @since 2026/10/18 16:42:05
+   */
+  private static final int    ESTIMATE_ITERATIONS = 5;
+
+  /**
+   * LとUをまとめて格納した配列. 対角より下がL(対角は1で省略)、対角を含む上がU.
+   *
+   * @since 2026/10/18 16:42:05
+   */
+  private final double[][]    lu;
+
+  /**
+   * 行列の次数.
+   *
+   * @since 2026/10/18 16:42:05
+   */
+  private final int           n;
+
+  /**
+   * ピボットの並び. LUのi行目は元の行列のpivot[i]行目に対応する.
+   *
+   * @since 2026/10/18 16:42:05
+   */
+  private final int[]         pivot;
+
+  /**
+   * 行の交換回数が偶数なら1、奇数なら-1.
+   *
+   * @since 2026/10/18 16:42:05
+   */
+  private final int           pivotSign;
+
+  /**
+   * 元の行列の1ノルム.
+   *
+   * @since 2026/10/18 16:42:05
+   */
+  private final double        norm;
+
+  /**
+   * 正方行列をLU分解する. 元の行列は変更しない.
+   *
+   * @param a
+   *          正方行列
+   * @exception IllegalArgumentException
+   *              正方行列でない場合
+   * @since 2026/10/18 16:42:05
+   */
+  public LUDecomposition(final DoubleMatrix a) {
+    if (a.getRowDimension() != a.getColumnDimension()) {
+      throw new IllegalArgumentException("Matrix must be square.");
+    }
+    this.n = a.getRowDimension();
+    final double[][] source = a.array();
+    this.lu = new double[this.n][];
+    for (int i = 0; i < this.n; i++) {
+      this.lu[i] = source[i].clone();
+    }
+    double max = 0.0d;
+    for (int j = 0; j < this.n; j++) {
+      double s = 0.0d;
+      for (int i = 0; i < this.n; i++) {
+        s += Math.abs(this.lu[i][j]);
+      }
+      max = Math.max(max, s);
+    }
+    this.norm = max;
+    this.pivot = new int[this.n];
+    for (int i = 0; i < this.n; i++) {
+      this.pivot[i] = i;
+    }
+
+    int sign = 1;
+    for (int kb = 0; kb < this.n; kb += LUDecomposition.BLOCK) {
+      final int ke = Math.min(kb + LUDecomposition.BLOCK, this.n);
+      sign *= this.factorPanel(kb, ke);
+      this.solveUpperBlock(kb, ke);
+      if (ke < this.n) {
+        final Update update = new Update(this.lu, kb, ke, ke, this.n, ke, this.n);
+        if ((long) (this.n - ke) * (this.n - ke) * (ke - kb) <= LUDecomposition.SEQUENTIAL_LIMIT) {
+          update.compute();
+        } else {
+          ForkJoinPool.commonPool().invoke(update);
+        }
+      }
+    }
+    this.pivotSign = sign;
+  }
+
+  /**
+   * kb列からke - 1列までのパネルを部分ピボット選択しながら分解する.
+   *
+   * @param kb
+   *          パネルの先頭列(含む)
+   * @param ke
+   *          パネルの末端列(含まない)
+   * @return パネル内の行の交換回数が偶数なら1、奇数なら-1
+   * @since 2026/10/18 16:42:05
+   */
+  private int factorPanel(final int kb, final int ke) {
+    int sign = 1;
+    for (int k = kb; k < ke; k++) {
+      int p = k;
+      for (int i = k + 1; i < this.n; i++) {
+        if (Math.abs(this.lu[i][k]) > Math.abs(this.lu[p][k])) {
+          p = i;
+        }
+      }
+      if (p != k) {
+        // 行配列ごと入れ替えるので、分解済みのLの部分も残りの部分も同時に交換される.
+        final double[] t = this.lu[p];
+        this.lu[p] = this.lu[k];
+        this.lu[k] = t;
+        final int q = this.pivot[p];
+        this.pivot[p] = this.pivot[k];
+        this.pivot[k] = q;
+        sign = -sign;
+      }
+      final double[] rk = this.lu[k];
+      final double ukk = rk[k];
+      if (ukk == 0.0d) {
+        continue;
+      }
+      for (int i = k + 1; i < this.n; i++) {
+        final double[] ri = this.lu[i];
+        final double lik = ri[k] / ukk;
+        ri[k] = lik;
+        for (int j = k + 1; j < ke; j++) {
+          ri[j] -= lik * rk[j];
+        }
+      }
+    }
+    return sign;
+  }
+
+  /**
+   * パネルの右側のUの行ブロック U12 = L11^-1 * A12 を求める.
+   *
+   * @param kb
+   *          パネルの先頭列(含む)
+   * @param ke
+   *          パネルの末端列(含まない)
+   * @since 2026/10/18 16:42:05
+   */
+  private void solveUpperBlock(final int kb, final int ke) {
+    for (int k = kb; k < ke; k++) {
+      final double[] rk = this.lu[k];
+      for (int i = k + 1; i < ke; i++) {
+        final double[] ri = this.lu[i];
+        final double lik = ri[k];
+        for (int j = ke; j < this.n; j++) {
+          ri[j] -= lik * rk[j];
+        }
+      }
+    }
+  }
+
+  /**
+   * 行列が正則であるかどうかを返す.
+   *
+   * @return Uの対角要素に0がなければtrue
+   * @since 2026/10/18 16:42:05
+   */
+  public boolean isNonsingular() {
+    for (int j = 0; j < this.n; j++) {
+      if (this.lu[j][j] == 0.0d) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 下三角行列Lを返す. 対角要素は1である.
+   *
+   * @return L
+   * @since 2026/10/18 16:42:05
+   */
+  public DoubleMatrix getL() {
+    final double[][] l = new double[this.n][this.n];
+    for (int i = 0; i < this.n; i++) {
+      System.arraycopy(this.lu[i], 0, l[i], 0, i);
+      l[i][i] = 1.0d;
+    }
+    return DoubleMatrix.wrap(l);
+  }
+
+  /**
+   * 上三角行列Uを返す.
+   *
+   * @return U
+   * @since 2026/10/18 16:42:05
+   */
+  public DoubleMatrix getU() {
+    final double[][] u = new double[this.n][this.n];
+    for (int i = 0; i < this.n; i++) {
+      System.arraycopy(this.lu[i], i, u[i], i, this.n - i);
+    }
+    return DoubleMatrix.wrap(u);
+  }
+
+  /**
+   * ピボットの並びを返す. LUのi行目は元の行列のgetPivot()[i]行目に対応する.
+   *
+   * @return ピボットの並び
+   * @since 2026/10/18 16:42:05
+   */
+  public int[] getPivot() {
+    return this.pivot.clone();
+  }
+
+  /**
+   * 行列式を返す.
+   *
+   * @return 行列式
+   * @since 2026/10/18 16:42:05
+   */
+  public double determinant() {
+    double d = this.pivotSign;
+    for (int j = 0; j < this.n; j++) {
+      d *= this.lu[j][j];
+    }
+    return d;
+  }
+
+  /**
+   * 正則であることを確認する.
+   *
+   * @exception ArithmeticException
+   *              特異行列の場合
+   * @since 2026/10/18 16:42:05
+   */
+  private void checkNonsingular() {
+    if (!this.isNonsingular()) {
+      throw new ArithmeticException("Matrix is singular.");
+    }
+  }
+
+  /**
+   * 連立一次方程式 A * X = B を解く.
+   *
+   * <pre>
+   *  Bの列ごとに独立に前進代入・後退代入を行う. 右辺の列が多い場合は列を分割して並列に計算する.
+   * </pre>
+   *
+   * @param b
+   *          Aと同じ行数の右辺行列
+   * @return X
+   * @exception IllegalArgumentException
+   *              行数が一致しない場合
+   * @exception ArithmeticException
+   *              特異行列の場合
+   * @since 2026/10/18 16:42:05
+   */
+  public DoubleMatrix solve(final DoubleMatrix b) {
+    if (b.getRowDimension() != this.n) {
+      throw new IllegalArgumentException("Matrix row dimensions must agree.");
+    }
+    this.checkNonsingular();
+    final int cols = b.getColumnDimension();
+    final double[][] source = b.array();
+    final double[][] x = new double[this.n][];
+    for (int i = 0; i < this.n; i++) {
+      x[i] = source[this.pivot[i]].clone();
+    }
+    this.substitute(x, cols);
+    return DoubleMatrix.wrap(x);
+  }
+
+  /**
+   * 連立一次方程式 A * x = b を解く.
+   *
+   * @param b
+   *          次数がAの行数と等しい右辺ベクトル
+   * @return x
+   * @exception IllegalArgumentException
+   *              次数が一致しない場合
+   * @exception ArithmeticException
+   *              特異行列の場合
+   * @since 2026/10/18 16:42:05
+   */
+  public DoubleVector solve(final DoubleVector b) {
+    if (b.size() != this.n) {
+      throw new IllegalArgumentException("Matrix row dimensions must agree.");
+    }
+    this.checkNonsingular();
+    final double[] source = b.array();
+    final double[] x = new double[this.n];
+    for (int i = 0; i < this.n; i++) {
+      x[i] = source[this.pivot[i]];
+    }
+    for (int k = 0; k < this.n; k++) {
+      final double xk = x[k];
+      for (int i = k + 1; i < this.n; i++) {
+        x[i] -= xk * this.lu[i][k];
+      }
+    }
+    for (int k = this.n - 1; k >= 0; k--) {
+      x[k] /= this.lu[k][k];
+      final double xk = x[k];
+      for (int i = 0; i < k; i++) {
+        x[i] -= xk * this.lu[i][k];
+      }
+    }
+    return new DoubleVector(x, true);
+  }
+
+  /**
+   * 逆行列を返す. 単位行列を右辺として solve() を解く.
+   *
+   * @return A^-1
+   * @exception ArithmeticException
+   *              特異行列の場合
+   * @since 2026/10/18 16:42:05
+   */
+  public DoubleMatrix inverse() {
+    this.checkNonsingular();
+    final double[][] x = new double[this.n][this.n];
+    for (int i = 0; i < this.n; i++) {
+      x[i][this.pivot[i]] = 1.0d;
+    }
+    this.substitute(x, this.n);
+    return DoubleMatrix.wrap(x);
+  }
+
+  /**
+   * 行を並べ替えた右辺xに対して前進代入・後退代入を行い、xを解で上書きする.
+   *
+   * @param x
+   *          行を並べ替えた右辺
+   * @param cols
+   *          右辺の列数
+   * @since 2026/10/18 16:42:05
+   */
+  private void substitute(final double[][] x, final int cols) {
+    final Substitution task = new Substitution(this.lu, x, 0, cols);
+    if ((long) this.n * this.n * cols <= LUDecomposition.SEQUENTIAL_LIMIT) {
+      task.compute();
+    } else {
+      ForkJoinPool.commonPool().invoke(task);
+    }
+  }
+
+  /**
+   * 1ノルムの条件数 ||A||_1 * ||A^-1||_1 の推定値を返す.
+   *
+   * <pre>
+   *  ||A^-1||_1 を逆行列を求めずに、A と A' の方程式を数回解くだけで推定する
+   *  (Hager の方法に Higham の改良を加えたもの. LAPACK の xGECON と同じ考え方).
+   *  推定値は真の値以下になるが、ほとんどの場合は真の値と一致するか、その数倍以内に収まる.
+   * </pre>
+   *
+   * @return 条件数の推定値. 特異行列の場合は正の無限大
+   * @since 2026/10/18 16:42:05
+   */
+  public double conditionEstimate() {
+    if (!this.isNonsingular()) {
+      return Double.POSITIVE_INFINITY;
+    }
+    if (this.n == 0) {
+      return 0.0d;
+    }
+    double[] x = new double[this.n];
+    Arrays.fill(x, 1.0d / this.n);
+    double estimate = 0.0d;
+    for (int iteration = 0; iteration < LUDecomposition.ESTIMATE_ITERATIONS; iteration++) {
+      final double[] y = this.solve(new DoubleVector(x, true)).array();
+      estimate = Math.max(estimate, LUDecomposition.oneNorm(y));
+      final double[] s = new double[this.n];
+      for (int i = 0; i < this.n; i++) {
+        s[i] = y[i] >= 0.0d ? 1.0d : -1.0d;
+      }
+      final double[] z = this.solveTranspose(s);
+      int j = 0;
+      double zx = 0.0d;
+      for (int i = 0; i < this.n; i++) {
+        if (Math.abs(z[i]) > Math.abs(z[j])) {
+          j = i;
+        }
+        zx += z[i] * x[i];
+      }
+      if (iteration > 0 && Math.abs(z[j]) <= zx) {
+        break;
+      }
+      x = new double[this.n];
+      x[j] = 1.0d;
+    }
+
+    // 符号が交互に変わる右辺による推定値で、Hagerの方法が苦手とする行列を補う.
+    final double[] alt = new double[this.n];
+    for (int i = 0; i < this.n; i++) {
+      final double t = this.n > 1 ? 1.0d + (double) i / (this.n - 1) : 1.0d;
+      alt[i] = i % 2 == 0 ? t : -t;
+    }
+    final double[] y = this.solve(new DoubleVector(alt, true)).array();
+    estimate = Math.max(estimate, 2.0d * LUDecomposition.oneNorm(y) / (3.0d * this.n));
+
+    return this.norm * estimate;
+  }
+
+  /**
+   * 転置した方程式 A' * x = b を解く.
+   *
+   * @param b
+   *          右辺
+   * @return x
+   * @since 2026/10/18 16:42:05
+   */
+  private double[] solveTranspose(final double[] b) {
+    // A = P' * L * U より A' = U' * L' * P なので、U' と L' の方程式を順に解いて並べ替える.
+    final double[] z = b.clone();
+    for (int k = 0; k < this.n; k++) {
+      z[k] /= this.lu[k][k];
+      final double zk = z[k];
+      final double[] rk = this.lu[k];
+      for (int j = k + 1; j < this.n; j++) {
+        z[j] -= rk[j] * zk;
+      }
+    }
+    // ここまでで U' * w = b を解いた. 次に L' * v = w を解く.
+    for (int k = this.n - 1; k >= 0; k--) {
+      final double zk = z[k];
+      final double[] rk = this.lu[k];
+      for (int i = 0; i < k; i++) {
+        z[i] -= rk[i] * zk;
+      }
+    }
+    final double[] x = new double[this.n];
+    for (int i = 0; i < this.n; i++) {
+      x[this.pivot[i]] = z[i];
+    }
+    return x;
+  }
+
+  /**
+   * 配列の1ノルムを返す.
+   *
+   * @param x
+   *          配列
+   * @return 要素の絶対値の和
+   * @since 2026/10/18 16:42:05
+   */
+  private static double oneNorm(final double[] x) {
+    double s = 0.0d;
+    for (final double d : x) {
+      s += Math.abs(d);
+    }
+    return s;
+  }
+
+  /**
+   * 残りの部分行列の更新 A22 -= L21 * U12 を行単位で分割して計算するタスク.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   *
+   * Created Date : 2026/10/18 16:42:05
+   */
+  private static final class Update extends RecursiveAction {
+
+    /**
+     * シリアルバージョンID.
+     *
+     * @since 2026/10/18 16:42:05
+     */
+    private static final long serialVersionUID = -4431290851625093184L;
+
+    /**
+     * 分解中の配列.
+     */
+    private final double[][]  lu;
+
+    /**
+     * パネルの先頭列(含む).
+     */
+    private final int         k0;
+
+    /**
+     * パネルの末端列(含まない).
+     */
+    private final int         k1;
+
+    /**
+     * 先頭行(含む).
+     */
+    private final int         i0;
+
+    /**
+     * 末端行(含まない).
+     */
+    private final int         i1;
+
+    /**
+     * 先頭列(含む).
+     */
+    private final int         j0;
+
+    /**
+     * 末端列(含まない).
+     */
+    private final int         j1;
+
+    /**
+     * タスクを生成する.
+     *
+     * @param lu
+     *          分解中の配列
+     * @param k0
+     *          パネルの先頭列(含む)
+     * @param k1
+     *          パネルの末端列(含まない)
+     * @param i0
+     *          先頭行(含む)
+     * @param i1
+     *          末端行(含まない)
+     * @param j0
+     *          先頭列(含む)
+     * @param j1
+     *          末端列(含まない)
+     * @since 2026/10/18 16:42:05
+     */
+    Update(final double[][] lu, final int k0, final int k1, final int i0, final int i1,
+        final int j0, final int j1) {
+      this.lu = lu;
+      this.k0 = k0;
+      this.k1 = k1;
+      this.i0 = i0;
+      this.i1 = i1;
+      this.j0 = j0;
+      this.j1 = j1;
+    }
+
+    /**
+     * 更新する範囲が大きければ行で2分割し、小さければ逐次計算する.
+     *
+     * @see java.util.concurrent.RecursiveAction#compute()
+     * @since 2026/10/18 16:42:05
+     */
+    @Override
+    protected void compute() {
+      final int rows = this.i1 - this.i0;
+      if (rows > 1
+          && (long) rows * (this.j1 - this.j0) * (this.k1 - this.k0)
+              > LUDecomposition.SEQUENTIAL_LIMIT) {
+        final int mid = this.i0 + rows / 2;
+        ForkJoinTask.invokeAll(new Update(this.lu, this.k0, this.k1, this.i0, mid, this.j0,
+            this.j1), new Update(this.lu, this.k0, this.k1, mid, this.i1, this.j0, this.j1));
+        return;
+      }
+      for (int i = this.i0; i < this.i1; i++) {
+        final double[] ri = this.lu[i];
+        for (int k = this.k0; k < this.k1; k++) {
+          final double lik = ri[k];
+          if (lik == 0.0d) {
+            continue;
+          }
+          final double[] rk = this.lu[k];
+          for (int j = this.j0; j < this.j1; j++) {
+            ri[j] -= lik * rk[j];
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * 右辺の列を分割して前進代入・後退代入を計算するタスク.
+   *
+   * @author Hiroshi Sugawara
+   * @version $Id$
+   *
+   * Created Date : 2026/10/18 16:42:05
+   */
+  private static final class Substitution extends RecursiveAction {
+
+    /**
+     * シリアルバージョンID.
+     *
+     * @since 2026/10/18 16:42:05
+     */
+    private static final long serialVersionUID = 2718402551893007716L;
+
+    /**
+     * 分解済みの配列.
+     */
+    private final double[][]  lu;
+
+    /**
+     * 右辺. 解で上書きされる.
+     */
+    private final double[][]  x;
+
+    /**
+     * 先頭列(含む).
+     */
+    private final int         j0;
+
+    /**
+     * 末端列(含まない).
+     */
+    private final int         j1;
+
+    /**
+     * タスクを生成する.
+     *
+     * @param lu
+     *          分解済みの配列
+     * @param x
+     *          行を並べ替えた右辺
+     * @param j0
+     *          先頭列(含む)
+     * @param j1
+     *          末端列(含まない)
+     * @since 2026/10/18 16:42:05
+     */
+    Substitution(final double[][] lu, final double[][] x, final int j0, final int j1) {
+      this.lu = lu;
+      this.x = x;
+      this.j0 = j0;
+      this.j1 = j1;
+    }
+
+    /**
+     * 列が多ければ2分割し、少なければ逐次計算する.
+     *
+     * @see java.util.concurrent.RecursiveAction#compute()
+     * @since 2026/10/18 16:42:05
+     */
+    @Override
+    protected void compute() {
+      final int n = this.lu.length;
+      final int cols = this.j1 - this.j0;
+      if (cols > 1 && (long) n * n * cols > LUDecomposition.SEQUENTIAL_LIMIT) {
+        final int mid = this.j0 + cols / 2;
+        ForkJoinTask.invokeAll(new Substitution(this.lu, this.x, this.j0, mid),
+            new Substitution(this.lu, this.x, mid, this.j1));
+        return;
+      }
+      for (int k = 0; k < n; k++) {
+        final double[] xk = this.x[k];
+        for (int i = k + 1; i < n; i++) {
+          final double lik = this.lu[i][k];
+          if (lik == 0.0d) {
+            continue;
+          }
+          final double[] xi = this.x[i];
+          for (int j = this.j0; j < this.j1; j++) {
+            xi[j] -= xk[j] * lik;
+          }
+        }
+      }
+      for (int k = n - 1; k >= 0; k--) {
+        final double[] xk = this.x[k];
+        final double ukk = this.lu[k][k];
+        for (int j = this.j0; j < this.j1; j++) {
+          xk[j] /= ukk;
+        }
+        for (int i = 0; i < k; i++) {
+          final double uik = this.lu[i][k];
+          if (uik == 0.0d) {
+            continue;
+          }
+          final double[] xi = this.x[i];
+          for (int j = this.j0; j < this.j1; j++) {
+            xi[j] -= xk[j] * uik;
+          }
+        }
+      }
+    }
+  }
+}
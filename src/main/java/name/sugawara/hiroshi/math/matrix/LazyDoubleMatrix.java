@@ -0,0 +1,396 @@
+/**
+ * Created Date : 2026/10/18 15:48:09
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+/**
+ * DoubleMatrixの要素ごとの演算を遅延評価する式.
+ *
+ * <pre>
+ *  例: m.lazy().times(2).add(b).exp().sqrt().evaluate()
+ *  演算を追加するメソッドは式を記録するだけで計算しない. evaluate() または集約(sum, max, min, norm)を
+ *  呼んだときに、すべての演算を融合して元のデータを1回だけ走査する. 大きなデータでは並列に計算する.
+ *  各要素の計算順序は即時評価のメソッドを連ねた場合と同じであるため、evaluate() の結果はビット単位で一致する.
+ *  式は不変(immutable)であり、途中の式から別の演算を分岐させてもよい.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see DoubleMatrix#lazy()
+ *
+ * Created Date : 2026/10/18 15:48:09
+ */
+public final strictfp class LazyDoubleMatrix {
+
+  /**
+   * 式を評価するパイプライン.
+   *
+   * @since 2026/10/18 15:48:09
+   */
+  private final ElementWisePipeline pipeline;
+
+  /**
+   * 式を作る.
+   *
+   * @param pipeline
+   *          式を評価するパイプライン
+   * @since 2026/10/18 15:48:09
+   */
+  LazyDoubleMatrix(final ElementWisePipeline pipeline) {
+    this.pipeline = pipeline;
+  }
+
+  /**
+   * 各要素の絶対値を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix abs() {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.ABS));
+  }
+
+  /**
+   * 各要素の符号反転を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix negate() {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.NEGATE));
+  }
+
+  /**
+   * 各要素の平方根を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix sqrt() {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.SQRT));
+  }
+
+  /**
+   * 各要素の立方根を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix cbrt() {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.CBRT));
+  }
+
+  /**
+   * 各要素のexp関数を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix exp() {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.EXP));
+  }
+
+  /**
+   * 各要素の自然対数を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix log() {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.LOG));
+  }
+
+  /**
+   * 各要素の常用対数を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix log10() {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.LOG10));
+  }
+
+  /**
+   * 各要素の正弦を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix sin() {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.SIN));
+  }
+
+  /**
+   * 各要素の余弦を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix cos() {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.COS));
+  }
+
+  /**
+   * 各要素の正接を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix tan() {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.TAN));
+  }
+
+  /**
+   * 各要素の逆正弦を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix asin() {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.ASIN));
+  }
+
+  /**
+   * 各要素の逆余弦を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix acos() {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.ACOS));
+  }
+
+  /**
+   * 各要素の逆正接を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix atan() {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.ATAN));
+  }
+
+  /**
+   * 各要素の双曲線正弦を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix sinh() {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.SINH));
+  }
+
+  /**
+   * 各要素の双曲線余弦を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix cosh() {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.COSH));
+  }
+
+  /**
+   * 各要素の双曲線正接を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix tanh() {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.TANH));
+  }
+
+  /**
+   * 各要素にsを加算する演算を追加する.
+   *
+   * @param s
+   *          スカラー
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix add(final double s) {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.ADD_SCALAR, s));
+  }
+
+  /**
+   * 各要素からsを減算する演算を追加する.
+   *
+   * @param s
+   *          スカラー
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix subtract(final double s) {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.SUBTRACT_SCALAR,
+        s));
+  }
+
+  /**
+   * 各要素をs倍する演算を追加する.
+   *
+   * @param s
+   *          スカラー
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix times(final double s) {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.TIMES_SCALAR, s));
+  }
+
+  /**
+   * 各要素をsで除算する演算を追加する.
+   *
+   * @param s
+   *          スカラー
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix divide(final double s) {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.DIVIDE_SCALAR, s));
+  }
+
+  /**
+   * 各要素をs乗する演算を追加する.
+   *
+   * @param s
+   *          スカラー
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix pow(final double s) {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.POW_SCALAR, s));
+  }
+
+  /**
+   * 行列bと要素ごとに加算する演算を追加する.
+   *
+   * @param b
+   *          同じ大きさの行列
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix add(final DoubleMatrix b) {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.ADD, b.array()));
+  }
+
+  /**
+   * 行列bと要素ごとに減算する演算を追加する.
+   *
+   * @param b
+   *          同じ大きさの行列
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix subtract(final DoubleMatrix b) {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.SUBTRACT,
+        b.array()));
+  }
+
+  /**
+   * 行列bと要素ごとに乗算する演算を追加する.
+   *
+   * @param b
+   *          同じ大きさの行列
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix times(final DoubleMatrix b) {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.TIMES, b.array()));
+  }
+
+  /**
+   * 行列bと要素ごとに除算する演算を追加する.
+   *
+   * @param b
+   *          同じ大きさの行列
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix divide(final DoubleMatrix b) {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.DIVIDE,
+        b.array()));
+  }
+
+  /**
+   * 行列bと要素ごとに累乗する演算を追加する.
+   *
+   * @param b
+   *          同じ大きさの行列
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleMatrix pow(final DoubleMatrix b) {
+    return new LazyDoubleMatrix(this.pipeline.then(ElementWisePipeline.Operation.POW, b.array()));
+  }
+
+  /**
+   * 式を評価して新しい行列を返す.
+   *
+   * @return 行列
+   * @since 2026/10/18 15:48:09
+   */
+  public DoubleMatrix evaluate() {
+    final double[][] c = new double[this.pipeline.getRowDimension()][this.pipeline
+        .getColumnDimension()];
+    this.pipeline.evaluate(c);
+    return DoubleMatrix.wrap(c);
+  }
+
+  /**
+   * 式を評価して結果を行列destに格納する.
+   *
+   * @param dest
+   *          結果を格納する行列. 元の行列と同じ大きさでなければならない. 元の行列を指定してもよい.
+   * @return dest
+   * @since 2026/10/18 15:48:09
+   */
+  public DoubleMatrix evaluate(final DoubleMatrix dest) {
+    if (dest.getRowDimension() != this.pipeline.getRowDimension()
+        || dest.getColumnDimension() != this.pipeline.getColumnDimension()) {
+      throw new IllegalArgumentException("DoubleMatrix の次元は同一である必要があります。");
+    }
+    this.pipeline.evaluate(dest.array());
+    return dest;
+  }
+
+  /**
+   * 式を評価した行列の全要素の和を、中間結果を作らずに求める.
+   *
+   * @return 全要素の和
+   * @since 2026/10/18 15:48:09
+   */
+  public double sum() {
+    return this.pipeline.reduce(ElementWisePipeline.Reduction.SUM);
+  }
+
+  /**
+   * 式を評価した行列の最大要素を、中間結果を作らずに求める.
+   *
+   * @return 最大要素
+   * @since 2026/10/18 15:48:09
+   */
+  public double max() {
+    return this.pipeline.reduce(ElementWisePipeline.Reduction.MAX);
+  }
+
+  /**
+   * 式を評価した行列の最小要素を、中間結果を作らずに求める.
+   *
+   * @return 最小要素
+   * @since 2026/10/18 15:48:09
+   */
+  public double min() {
+    return this.pipeline.reduce(ElementWisePipeline.Reduction.MIN);
+  }
+
+  /**
+   * 式を評価した行列の2乗ノルム(フロベニウスノルム)を、中間結果を作らずに求める.
+   *
+   * @return 2乗ノルム
+   * @since 2026/10/18 15:48:09
+   */
+  public double norm() {
+    return this.pipeline.reduce(ElementWisePipeline.Reduction.NORM);
+  }
+
+}
@@ -0,0 +1,381 @@
+/**
+ * Created Date : 2026/10/18 15:48:09
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+/**
+ * DoubleVectorの要素ごとの演算を遅延評価する式.
+ *
+ * <pre>
+ *  例: v.lazy().times(2).add(w).exp().sqrt().norm()
+ *  演算を追加するメソッドは式を記録するだけで計算しない. evaluate() または集約(sum, max, min, norm)を
+ *  呼んだときに、すべての演算を融合して元のデータを1回だけ走査する. 大きなデータでは並列に計算する.
+ *  各要素の計算順序は即時評価のメソッドを連ねた場合と同じであるため、evaluate() の結果はビット単位で一致する.
+ *  式は不変(immutable)であり、途中の式から別の演算を分岐させてもよい.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see DoubleVector#lazy()
+ *
+ * Created Date : 2026/10/18 15:48:09
+ */
+public final strictfp class LazyDoubleVector {
+
+  /**
+   * 式を評価するパイプライン. ベクトルを1行の行列として扱う.
+   *
+   * @since 2026/10/18 15:48:09
+   */
+  private final ElementWisePipeline pipeline;
+
+  /**
+   * 式を作る.
+   *
+   * @param pipeline
+   *          式を評価するパイプライン
+   * @since 2026/10/18 15:48:09
+   */
+  LazyDoubleVector(final ElementWisePipeline pipeline) {
+    this.pipeline = pipeline;
+  }
+
+  /**
+   * 各要素の絶対値を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector abs() {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.ABS));
+  }
+
+  /**
+   * 各要素の符号反転を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector negate() {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.NEGATE));
+  }
+
+  /**
+   * 各要素の平方根を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector sqrt() {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.SQRT));
+  }
+
+  /**
+   * 各要素の立方根を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector cbrt() {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.CBRT));
+  }
+
+  /**
+   * 各要素のexp関数を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector exp() {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.EXP));
+  }
+
+  /**
+   * 各要素の自然対数を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector log() {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.LOG));
+  }
+
+  /**
+   * 各要素の常用対数を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector log10() {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.LOG10));
+  }
+
+  /**
+   * 各要素の正弦を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector sin() {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.SIN));
+  }
+
+  /**
+   * 各要素の余弦を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector cos() {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.COS));
+  }
+
+  /**
+   * 各要素の正接を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector tan() {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.TAN));
+  }
+
+  /**
+   * 各要素の逆正弦を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector asin() {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.ASIN));
+  }
+
+  /**
+   * 各要素の逆余弦を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector acos() {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.ACOS));
+  }
+
+  /**
+   * 各要素の逆正接を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector atan() {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.ATAN));
+  }
+
+  /**
+   * 各要素の双曲線正弦を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector sinh() {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.SINH));
+  }
+
+  /**
+   * 各要素の双曲線余弦を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector cosh() {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.COSH));
+  }
+
+  /**
+   * 各要素の双曲線正接を求める演算を追加する.
+   *
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector tanh() {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.TANH));
+  }
+
+  /**
+   * 各要素にsを加算する演算を追加する.
+   *
+   * @param s
+   *          スカラー
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector add(final double s) {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.ADD_SCALAR, s));
+  }
+
+  /**
+   * 各要素からsを減算する演算を追加する.
+   *
+   * @param s
+   *          スカラー
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector subtract(final double s) {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.SUBTRACT_SCALAR,
+        s));
+  }
+
+  /**
+   * 各要素をs倍する演算を追加する.
+   *
+   * @param s
+   *          スカラー
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector times(final double s) {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.TIMES_SCALAR, s));
+  }
+
+  /**
+   * 各要素をsで除算する演算を追加する.
+   *
+   * @param s
+   *          スカラー
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector divide(final double s) {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.DIVIDE_SCALAR, s));
+  }
+
+  /**
+   * 各要素をs乗する演算を追加する.
+   *
+   * @param s
+   *          スカラー
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector pow(final double s) {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.POW_SCALAR, s));
+  }
+
+  /**
+   * ベクトルbと要素ごとに加算する演算を追加する.
+   *
+   * @param b
+   *          同じ大きさのベクトル
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector add(final DoubleVector b) {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.ADD,
+        new double[][] { b.array() }));
+  }
+
+  /**
+   * ベクトルbと要素ごとに減算する演算を追加する.
+   *
+   * @param b
+   *          同じ大きさのベクトル
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector subtract(final DoubleVector b) {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.SUBTRACT,
+        new double[][] { b.array() }));
+  }
+
+  /**
+   * ベクトルbと要素ごとに乗算する演算を追加する.
+   *
+   * @param b
+   *          同じ大きさのベクトル
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector times(final DoubleVector b) {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.TIMES,
+        new double[][] { b.array() }));
+  }
+
+  /**
+   * ベクトルbと要素ごとに除算する演算を追加する.
+   *
+   * @param b
+   *          同じ大きさのベクトル
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector divide(final DoubleVector b) {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.DIVIDE,
+        new double[][] { b.array() }));
+  }
+
+  /**
+   * ベクトルbと要素ごとに累乗する演算を追加する.
+   *
+   * @param b
+   *          同じ大きさのベクトル
+   * @return 演算を追加した式
+   * @since 2026/10/18 15:48:09
+   */
+  public LazyDoubleVector pow(final DoubleVector b) {
+    return new LazyDoubleVector(this.pipeline.then(ElementWisePipeline.Operation.POW,
+        new double[][] { b.array() }));
+  }
+
+  /**
+   * 式を評価して新しいベクトルを返す.
+   *
+   * @return ベクトル
+   * @since 2026/10/18 15:48:09
+   */
+  public DoubleVector evaluate() {
+    final double[][] c = new double[1][this.pipeline.getColumnDimension()];
+    this.pipeline.evaluate(c);
+    return new DoubleVector(c[0], true);
+  }
+
+  /**
+   * 式を評価したベクトルの全要素の和を、中間結果を作らずに求める.
+   *
+   * @return 全要素の和
+   * @since 2026/10/18 15:48:09
+   */
+  public double sum() {
+    return this.pipeline.reduce(ElementWisePipeline.Reduction.SUM);
+  }
+
+  /**
+   * 式を評価したベクトルの最大要素を、中間結果を作らずに求める.
+   *
+   * @return 最大要素
+   * @since 2026/10/18 15:48:09
+   */
+  public double max() {
+    return this.pipeline.reduce(ElementWisePipeline.Reduction.MAX);
+  }
+
+  /**
+   * 式を評価したベクトルの最小要素を、中間結果を作らずに求める.
+   *
+   * @return 最小要素
+   * @since 2026/10/18 15:48:09
+   */
+  public double min() {
+    return this.pipeline.reduce(ElementWisePipeline.Reduction.MIN);
+  }
+
+  /**
+   * 式を評価したベクトルの2乗ノルムを、中間結果を作らずに求める.
+   *
+   * @return 2乗ノルム
+   * @since 2026/10/18 15:48:09
+   */
+  public double norm() {
+    return this.pipeline.reduce(ElementWisePipeline.Reduction.NORM);
+  }
+
+}
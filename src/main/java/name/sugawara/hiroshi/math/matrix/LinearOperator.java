@@ -0,0 +1,51 @@
+/**
+ * Created Date : 2026/10/18 18:48:20
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+/**
+ * 線形作用素 y = A * x.
+ *
+ * <pre>
+ *  反復法は係数行列の要素を直接参照せず、この作用だけを使う.
+ *  DoubleMatrix, CSRMatrix, CSCMatrix はこのインターフェースを実装しており、
+ *  行列を作らずに作用だけを定義した作用素も同じ反復法で解ける.
+ *  apply() は反復の中で毎回呼ばれるため、結果用の配列を確保してはならない.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see IterativeSolver
+ *
+ * Created Date : 2026/10/18 18:48:20
+ */
+public interface LinearOperator {
+
+  /**
+   * 行数(結果 y の次数)を返す.
+   *
+   * @return 行数
+   * @since 2026/10/18 18:48:20
+   */
+  int getRowDimension();
+
+  /**
+   * 列数(引数 x の次数)を返す.
+   *
+   * @return 列数
+   * @since 2026/10/18 18:48:20
+   */
+  int getColumnDimension();
+
+  /**
+   * y = A * x を計算する. yの内容はすべて上書きされる.
+   *
+   * @param x
+   *          長さが列数と等しい配列. 変更してはならない
+   * @param y
+   *          結果を格納する長さが行数と等しい配列. xと同じ配列であってはならない
+   * @since 2026/10/18 18:48:20
+   */
+  void apply(double[] x, double[] y);
+
+}
@@ -0,0 +1,103 @@
+/**
+ * Created Date : 2026/10/18 22:48:31
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import name.sugawara.hiroshi.math.array.ParallelArrays;
+
+/**
+ * DoubleMatrixの列ごとの統計量を列の範囲に分けて並列に計算する.
+ *
+ * <pre>
+ *  例: m.parallel().mean()
+ *  各列は上の行から順に集約するため、DoubleMatrix の同名のメソッドとビット単位で一致する.
+ *  要素数が ParallelArrays の閾値以下なら呼び出したスレッドで逐次計算する.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see DoubleMatrix#parallel()
+ * @see ParallelArrays
+ *
+ * Created Date : 2026/10/18 22:48:31
+ */
+public final strictfp class ParallelDoubleMatrix {
+
+  /**
+   * 行列.
+   *
+   * @since 2026/10/18 22:48:31
+   */
+  private final DoubleMatrix   matrix;
+
+  /**
+   * 並列演算.
+   *
+   * @since 2026/10/18 22:48:31
+   */
+  private final ParallelArrays parallel;
+
+  /**
+   * 行列を並列に計算するハンドルを作る.
+   *
+   * @param matrix
+   *          行列
+   * @param parallel
+   *          並列演算
+   * @since 2026/10/18 22:48:31
+   */
+  ParallelDoubleMatrix(final DoubleMatrix matrix, final ParallelArrays parallel) {
+    this.matrix = matrix;
+    this.parallel = parallel;
+  }
+
+  /**
+   * 行列の各列の要素の和を行ベクトルで返す.
+   *
+   * @return 各列の要素の和の行ベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector sum() {
+    return new DoubleVector(this.parallel.columnSum(this.matrix.array()), true);
+  }
+
+  /**
+   * 行列の各列の要素の平均を行ベクトルで返す.
+   *
+   * @return 各列の平均値の行ベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector mean() {
+    return new DoubleVector(this.parallel.columnMean(this.matrix.array()), true);
+  }
+
+  /**
+   * 行列の各列の要素の積を行ベクトルで返す.
+   *
+   * @return 各列の要素の積の行ベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector product() {
+    return new DoubleVector(this.parallel.columnProduct(this.matrix.array()), true);
+  }
+
+  /**
+   * 行列の各列の最大要素を行ベクトルで返す.
+   *
+   * @return 各列の最大要素の行ベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector max() {
+    return new DoubleVector(this.parallel.columnMax(this.matrix.array()), true);
+  }
+
+  /**
+   * 行列の各列の最小要素を行ベクトルで返す.
+   *
+   * @return 各列の最小要素の行ベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector min() {
+    return new DoubleVector(this.parallel.columnMin(this.matrix.array()), true);
+  }
+}
@@ -0,0 +1,304 @@
+/**
+ * Created Date : 2026/10/18 22:48:31
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import name.sugawara.hiroshi.math.array.ParallelArrays;
+
+/**
+ * DoubleVectorの要素ごとの演算と集約を並列に計算する.
+ *
+ * <pre>
+ *  例: v.parallel().exp().parallel().sum()
+ *  要素数が ParallelArrays の閾値以下なら呼び出したスレッドで逐次計算する.
+ *  要素ごとの演算は DoubleVector の同名のメソッドとビット単位で一致する.
+ *  sum, avg, innerProduct, norm は Summation.PAIRWISE で足すため、単純な加算を行う
+ *  DoubleVector.sum() などとは丸め誤差の分だけ異なることがある.
+ *  演算を連ねる場合は中間結果を作らない DoubleVector.lazy() も検討すること.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see DoubleVector#parallel()
+ * @see ParallelArrays
+ *
+ * Created Date : 2026/10/18 22:48:31
+ */
+public final strictfp class ParallelDoubleVector {
+
+  /**
+   * ベクトル.
+   *
+   * @since 2026/10/18 22:48:31
+   */
+  private final DoubleVector   vector;
+
+  /**
+   * 並列演算.
+   *
+   * @since 2026/10/18 22:48:31
+   */
+  private final ParallelArrays parallel;
+
+  /**
+   * ベクトルを並列に計算するハンドルを作る.
+   *
+   * @param vector
+   *          ベクトル
+   * @param parallel
+   *          並列演算
+   * @since 2026/10/18 22:48:31
+   */
+  ParallelDoubleVector(final DoubleVector vector, final ParallelArrays parallel) {
+    this.vector = vector;
+    this.parallel = parallel;
+  }
+
+  /**
+   * 結果の配列をコピーせずにベクトルにする.
+   *
+   * @param c
+   *          配列
+   * @return ベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  private static DoubleVector wrap(final double[] c) {
+    return new DoubleVector(c, true);
+  }
+
+  /**
+   * ベクトルの要素の指数関数.
+   *
+   * @return 結果のベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector exp() {
+    return ParallelDoubleVector.wrap(this.parallel.exp(this.vector.array()));
+  }
+
+  /**
+   * ベクトルの要素の自然対数.
+   *
+   * @return 結果のベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector log() {
+    return ParallelDoubleVector.wrap(this.parallel.log(this.vector.array()));
+  }
+
+  /**
+   * ベクトルの要素の常用対数.
+   *
+   * @return 結果のベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector log10() {
+    return ParallelDoubleVector.wrap(this.parallel.log10(this.vector.array()));
+  }
+
+  /**
+   * ベクトルの要素の平方根.
+   *
+   * @return 結果のベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector sqrt() {
+    return ParallelDoubleVector.wrap(this.parallel.sqrt(this.vector.array()));
+  }
+
+  /**
+   * ベクトルの要素の立方根.
+   *
+   * @return 結果のベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector cbrt() {
+    return ParallelDoubleVector.wrap(this.parallel.cbrt(this.vector.array()));
+  }
+
+  /**
+   * ベクトルの要素の絶対値.
+   *
+   * @return 結果のベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector abs() {
+    return ParallelDoubleVector.wrap(this.parallel.abs(this.vector.array()));
+  }
+
+  /**
+   * ベクトルの要素の正弦.
+   *
+   * @return 結果のベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector sin() {
+    return ParallelDoubleVector.wrap(this.parallel.sin(this.vector.array()));
+  }
+
+  /**
+   * ベクトルの要素の余弦.
+   *
+   * @return 結果のベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector cos() {
+    return ParallelDoubleVector.wrap(this.parallel.cos(this.vector.array()));
+  }
+
+  /**
+   * ベクトルの要素の正接.
+   *
+   * @return 結果のベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector tan() {
+    return ParallelDoubleVector.wrap(this.parallel.tan(this.vector.array()));
+  }
+
+  /**
+   * ベクトルの要素の逆正弦.
+   *
+   * @return 結果のベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector asin() {
+    return ParallelDoubleVector.wrap(this.parallel.asin(this.vector.array()));
+  }
+
+  /**
+   * ベクトルの要素の逆余弦.
+   *
+   * @return 結果のベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector acos() {
+    return ParallelDoubleVector.wrap(this.parallel.acos(this.vector.array()));
+  }
+
+  /**
+   * ベクトルの要素の逆正接.
+   *
+   * @return 結果のベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector atan() {
+    return ParallelDoubleVector.wrap(this.parallel.atan(this.vector.array()));
+  }
+
+  /**
+   * ベクトルの要素の双曲線正弦.
+   *
+   * @return 結果のベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector sinh() {
+    return ParallelDoubleVector.wrap(this.parallel.sinh(this.vector.array()));
+  }
+
+  /**
+   * ベクトルの要素の双曲線余弦.
+   *
+   * @return 結果のベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector cosh() {
+    return ParallelDoubleVector.wrap(this.parallel.cosh(this.vector.array()));
+  }
+
+  /**
+   * ベクトルの要素の双曲線正接.
+   *
+   * @return 結果のベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector tanh() {
+    return ParallelDoubleVector.wrap(this.parallel.tanh(this.vector.array()));
+  }
+
+  /**
+   * ベクトルの要素の累乗.
+   *
+   * @param d
+   *          指数
+   * @return 結果のベクトル
+   * @since 2026/10/18 22:48:31
+   */
+  public DoubleVector pow(final double d) {
+    return ParallelDoubleVector.wrap(this.parallel.pow(this.vector.array(), d));
+  }
+
+  /**
+   * ベクトルの要素の和.
+   *
+   * @return 和
+   * @since 2026/10/18 22:48:31
+   */
+  public double sum() {
+    return this.parallel.sum(this.vector.array());
+  }
+
+  /**
+   * ベクトルの要素の平均.
+   *
+   * @return 平均
+   * @since 2026/10/18 22:48:31
+   */
+  public double avg() {
+    return this.sum() / this.vector.size();
+  }
+
+  /**
+   * ベクトルの要素の積.
+   *
+   * @return 積
+   * @since 2026/10/18 22:48:31
+   */
+  public double product() {
+    return this.parallel.product(this.vector.array());
+  }
+
+  /**
+   * ベクトルの要素の最大値.
+   *
+   * @return 最大値
+   * @since 2026/10/18 22:48:31
+   */
+  public double max() {
+    return this.parallel.max(this.vector.array());
+  }
+
+  /**
+   * ベクトルの要素の最小値.
+   *
+   * @return 最小値
+   * @since 2026/10/18 22:48:31
+   */
+  public double min() {
+    return this.parallel.min(this.vector.array());
+  }
+
+  /**
+   * 2乗ノルム.
+   *
+   * @return 2乗ノルム
+   * @since 2026/10/18 22:48:31
+   */
+  public double norm() {
+    return this.parallel.norm(this.vector.array());
+  }
+
+  /**
+   * ベクトルの内積.
+   *
+   * @param v
+   *          ベクトル
+   * @return 内積
+   * @exception IllegalArgumentException
+   *              ベクトルのサイズが異なる場合
+   * @since 2026/10/18 22:48:31
+   */
+  public double innerProduct(final DoubleVector v) {
+    return this.parallel.innerProduct(this.vector.array(), v.array());
+  }
+}
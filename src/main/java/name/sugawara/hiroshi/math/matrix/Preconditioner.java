@@ -0,0 +1,34 @@
+/**
+ * Created Date : 2026/10/18 18:48:20
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+/**
+ * 反復法の前処理 z = M^-1 * r.
+ *
+ * <pre>
+ *  M は係数行列 A の近似で、M^-1 * r を安く計算できるものを選ぶ.
+ *  apply() は反復の中で毎回呼ばれるため、結果用の配列を確保してはならない.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see JacobiPreconditioner
+ * @see ILU0Preconditioner
+ *
+ * Created Date : 2026/10/18 18:48:20
+ */
+public interface Preconditioner {
+
+  /**
+   * z = M^-1 * r を計算する. zの内容はすべて上書きされる.
+   *
+   * @param r
+   *          残差. 変更してはならない
+   * @param z
+   *          結果を格納する配列. rと同じ配列であってはならない
+   * @since 2026/10/18 18:48:20
+   */
+  void apply(double[] r, double[] z);
+
+}
@@ -0,0 +1,243 @@
+/**
+ * Created Date : 2026/10/18 17:20:14
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+/**
+ * Householder変換によるQR分解 A = QR. Mathworks, Inc のJAMAのQRDecompositionを参考にして作成.
+ *
+ * <pre>
+ *  m * n の行列 A を、m * k の列直交行列 Q と k * n の上三角行列 R の積に分解する
+ *  (k = min(m, n)). 鏡映変換は幅 32 列ごとにコンパクトWY表現でまとめて
+ *  残りの列に適用するため、大きな行列でもキャッシュを有効に使える.
+ *  Q は鏡映変換のベクトルのまま保持し、getQ() を呼んだときにだけ組み立てる.
+ *
+ *  m &gt;= n かつフルランクのとき、solve() は最小二乗問題 min ||A * X - B|| の解を返す.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see DoubleMatrix#qr()
+ * @see DecompositionWorkspace
+ *
+ * Created Date : 2026/10/18 17:20:14
+ */
+public final strictfp class QRDecomposition {
+
+  /**
+   * Rと鏡映変換のベクトルを格納した配列. 対角を含む上がR、対角より下が鏡映変換のベクトル.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final double[][] qr;
+
+  /**
+   * 鏡映変換の係数.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final double[]   tau;
+
+  /**
+   * コンパクトWY表現の作業用配列.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final double[][] t;
+
+  /**
+   * 行数.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final int        m;
+
+  /**
+   * 列数.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final int        n;
+
+  /**
+   * 行列をQR分解する. 元の行列は変更しない.
+   *
+   * @param a
+   *          行列
+   * @since 2026/10/18 17:20:14
+   */
+  public QRDecomposition(final DoubleMatrix a) {
+    this(a, new DecompositionWorkspace());
+  }
+
+  /**
+   * ワークスペースの配列を使って行列をQR分解する. 元の行列は変更しない.
+   *
+   * @param a
+   *          行列
+   * @param workspace
+   *          作業用配列. 次にこのワークスペースで分解を行うまで、この分解オブジェクトは有効である
+   * @since 2026/10/18 17:20:14
+   */
+  public QRDecomposition(final DoubleMatrix a, final DecompositionWorkspace workspace) {
+    this.m = a.getRowDimension();
+    this.n = a.getColumnDimension();
+    final double[][] source = a.array();
+    this.qr = workspace.matrix("qr", this.m, this.n);
+    for (int i = 0; i < this.m; i++) {
+      System.arraycopy(source[i], 0, this.qr[i], 0, this.n);
+    }
+    this.tau = workspace.vector("qr.tau", Math.min(this.m, this.n));
+    this.t = workspace.matrix("qr.t", Householder.BLOCK, Householder.BLOCK);
+    Householder.factor(this.qr, this.m, this.n, this.tau, this.t);
+  }
+
+  /**
+   * Rの対角要素がすべて0でなければtrueを返す.
+   *
+   * @return m &gt;= n かつRの対角要素に0がなければtrue
+   * @since 2026/10/18 17:20:14
+   */
+  public boolean isFullRank() {
+    if (this.m < this.n) {
+      return false;
+    }
+    for (int j = 0; j < this.n; j++) {
+      if (this.qr[j][j] == 0.0d) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 上三角行列Rを返す.
+   *
+   * @return min(m, n) * n の上三角行列
+   * @since 2026/10/18 17:20:14
+   */
+  public DoubleMatrix getR() {
+    final int k = Math.min(this.m, this.n);
+    final double[][] r = new double[k][this.n];
+    for (int i = 0; i < k; i++) {
+      System.arraycopy(this.qr[i], i, r[i], i, this.n - i);
+    }
+    return DoubleMatrix.wrap(r);
+  }
+
+  /**
+   * 列直交行列Qを返す.
+   *
+   * @return m * min(m, n) の列直交行列
+   * @since 2026/10/18 17:20:14
+   */
+  public DoubleMatrix getQ() {
+    final int k = Math.min(this.m, this.n);
+    final double[][] q = new double[this.m][k];
+    for (int i = 0; i < k; i++) {
+      q[i][i] = 1.0d;
+    }
+    // Q = H(0) * H(1) * ... * H(k - 1) * I なので、後ろのブロックから順に掛ける.
+    final int last = (k - 1) / Householder.BLOCK * Householder.BLOCK;
+    for (int kb = last; kb >= 0; kb -= Householder.BLOCK) {
+      final int ke = Math.min(kb + Householder.BLOCK, k);
+      Householder.buildT(this.qr, this.m, kb, ke, this.tau, this.t);
+      Householder.apply(this.qr, this.m, kb, ke, this.t, false, q, kb, k);
+    }
+    return DoubleMatrix.wrap(q);
+  }
+
+  /**
+   * 行列cにQ'を左から掛ける. cは上書きされる.
+   *
+   * @param c
+   *          m行の行列
+   * @param cols
+   *          cの列数
+   * @since 2026/10/18 17:20:14
+   */
+  void applyQTranspose(final double[][] c, final int cols) {
+    final int k = Math.min(this.m, this.n);
+    for (int kb = 0; kb < k; kb += Householder.BLOCK) {
+      final int ke = Math.min(kb + Householder.BLOCK, k);
+      Householder.buildT(this.qr, this.m, kb, ke, this.tau, this.t);
+      Householder.apply(this.qr, this.m, kb, ke, this.t, true, c, 0, cols);
+    }
+  }
+
+  /**
+   * 最小二乗問題 min ||A * X - B|| を解く.
+   *
+   * @param b
+   *          Aと同じ行数の右辺行列
+   * @return n * (Bの列数) の最小二乗解
+   * @exception IllegalArgumentException
+   *              行数が一致しない場合
+   * @exception ArithmeticException
+   *              フルランクでない場合
+   * @since 2026/10/18 17:20:14
+   */
+  public DoubleMatrix solve(final DoubleMatrix b) {
+    if (b.getRowDimension() != this.m) {
+      throw new IllegalArgumentException("Matrix row dimensions must agree.");
+    }
+    if (!this.isFullRank()) {
+      throw new ArithmeticException("Matrix is rank deficient.");
+    }
+    final int cols = b.getColumnDimension();
+    final double[][] source = b.array();
+    final double[][] y = new double[this.m][];
+    for (int i = 0; i < this.m; i++) {
+      y[i] = source[i].clone();
+    }
+    this.applyQTranspose(y, cols);
+
+    // R * X = (Q' * B)(0:n) を後退代入で解く.
+    final double[][] x = new double[this.n][];
+    System.arraycopy(y, 0, x, 0, this.n);
+    for (int k = this.n - 1; k >= 0; k--) {
+      final double[] xk = x[k];
+      final double rkk = this.qr[k][k];
+      for (int j = 0; j < cols; j++) {
+        xk[j] /= rkk;
+      }
+      for (int i = 0; i < k; i++) {
+        final double rik = this.qr[i][k];
+        final double[] xi = x[i];
+        for (int j = 0; j < cols; j++) {
+          xi[j] -= xk[j] * rik;
+        }
+      }
+    }
+    return DoubleMatrix.wrap(x);
+  }
+
+  /**
+   * 最小二乗問題 min ||A * x - b|| を解く.
+   *
+   * @param b
+   *          次数がAの行数と等しい右辺ベクトル
+   * @return 次数nの最小二乗解
+   * @exception IllegalArgumentException
+   *              次数が一致しない場合
+   * @exception ArithmeticException
+   *              フルランクでない場合
+   * @since 2026/10/18 17:20:14
+   */
+  public DoubleVector solve(final DoubleVector b) {
+    if (b.size() != this.m) {
+      throw new IllegalArgumentException("Matrix row dimensions must agree.");
+    }
+    final double[] source = b.array();
+    final double[][] c = new double[this.m][1];
+    for (int i = 0; i < this.m; i++) {
+      c[i][0] = source[i];
+    }
+    final double[][] x = this.solve(DoubleMatrix.wrap(c)).array();
+    final double[] v = new double[this.n];
+    for (int i = 0; i < this.n; i++) {
+      v[i] = x[i][0];
+    }
+    return new DoubleVector(v, true);
+  }
+}
@@ -0,0 +1,382 @@
+/**
+ * Created Date : 2026/10/18 17:20:14
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+/**
+ * 行列の薄い特異値分解 A = U * S * V'.
+ *
+ * <pre>
+ *  m * n の行列 A (k = min(m, n)) を、m * k の列直交行列 U、
+ *  特異値を降順に並べた k * k の対角行列 S、n * k の列直交行列 V に分解する.
+ *
+ *  m &gt;= n の場合、まずブロック化したHouseholder変換で A = Q * R とQR分解し、
+ *  n * n の R に片側Jacobi法を適用して R = Ur * S * V' を求め、U = Q * Ur とする.
+ *  演算量の大きい O(m * n^2) の部分はQR分解のブロック化された更新で行い、
+ *  Jacobi法は小さい R だけに行う. Jacobi法は R の列を V と同時に回転して
+ *  互いに直交させる方法で、小さい特異値も相対精度よく求まる.
+ *  列の回転が連続したメモリへの操作になるように、R と V は転置して行として保持する.
+ *  m &lt; n の場合は A' を分解して U と V を入れ替える.
+ *
+ *  特異値が 0 の列に対応する U の列は 0 ベクトルになる.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see DoubleMatrix#svd()
+ * @see DecompositionWorkspace
+ *
+ * Created Date : 2026/10/18 17:20:14
+ */
+public final strictfp class SingularValueDecomposition {
+
+  /**
+   * 倍精度の計算機イプシロン 2^-52.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private static final double EPSILON    = 2.220446049250313E-16d;
+
+  /**
+   * Jacobi法の掃引回数の上限.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private static final int    MAX_SWEEPS = 60;
+
+  /**
+   * 元の行列の行数.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final int           m;
+
+  /**
+   * 元の行列の列数.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final int           n;
+
+  /**
+   * 降順に並べた特異値.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final double[]      s;
+
+  /**
+   * 左特異ベクトル U (m * k).
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final double[][]    u;
+
+  /**
+   * 右特異ベクトル V (n * k).
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final double[][]    v;
+
+  /**
+   * 行列を特異値分解する. 元の行列は変更しない.
+   *
+   * @param a
+   *          行列
+   * @since 2026/10/18 17:20:14
+   */
+  public SingularValueDecomposition(final DoubleMatrix a) {
+    this(a, new DecompositionWorkspace());
+  }
+
+  /**
+   * ワークスペースの配列を使って行列を特異値分解する. 元の行列は変更しない.
+   *
+   * @param a
+   *          行列
+   * @param workspace
+   *          作業用配列. 次にこのワークスペースで分解を行うまで、この分解オブジェクトは有効である
+   * @since 2026/10/18 17:20:14
+   */
+  public SingularValueDecomposition(final DoubleMatrix a,
+      final DecompositionWorkspace workspace) {
+    this.m = a.getRowDimension();
+    this.n = a.getColumnDimension();
+    final boolean wide = this.m < this.n;
+    final DoubleMatrix tall = wide ? a.transpose() : a;
+    final int rows = Math.max(this.m, this.n);
+    final int k = Math.min(this.m, this.n);
+
+    final QRDecomposition qr = new QRDecomposition(tall, workspace);
+    final double[][] r = qr.getR().array();
+
+    // w の j 行目は R の j 列目、vt の j 行目は V の j 列目.
+    final double[][] w = workspace.matrix("svd.w", k, k);
+    final double[][] vt = workspace.matrix("svd.vt", k, k);
+    for (int i = 0; i < k; i++) {
+      for (int j = 0; j < k; j++) {
+        w[j][i] = r[i][j];
+        vt[i][j] = i == j ? 1.0d : 0.0d;
+      }
+    }
+    SingularValueDecomposition.jacobi(w, vt, k);
+
+    // 特異値の降順に並べる.
+    this.s = workspace.vector("svd.s", k);
+    for (int j = 0; j < k; j++) {
+      this.s[j] = SingularValueDecomposition.norm(w[j]);
+    }
+    for (int i = 0; i < k - 1; i++) {
+      int max = i;
+      for (int j = i + 1; j < k; j++) {
+        if (this.s[j] > this.s[max]) {
+          max = j;
+        }
+      }
+      if (max != i) {
+        final double t = this.s[i];
+        this.s[i] = this.s[max];
+        this.s[max] = t;
+        final double[] tw = w[i];
+        w[i] = w[max];
+        w[max] = tw;
+        final double[] tv = vt[i];
+        vt[i] = vt[max];
+        vt[max] = tv;
+      }
+    }
+
+    // Ur の j 列目は w の j 行目を特異値で割ったもの. U = Q * Ur.
+    final double[][] ur = new double[k][k];
+    for (int j = 0; j < k; j++) {
+      final double sj = this.s[j];
+      if (sj == 0.0d) {
+        continue;
+      }
+      final double[] wj = w[j];
+      for (int i = 0; i < k; i++) {
+        ur[i][j] = wj[i] / sj;
+      }
+    }
+    final double[][] left = workspace.matrix("svd.u", rows, k);
+    MatrixMultiplication.multiply(qr.getQ().array(), ur, left, rows, k, k);
+    final double[][] right = workspace.matrix("svd.v", k, k);
+    for (int j = 0; j < k; j++) {
+      final double[] vj = vt[j];
+      for (int i = 0; i < k; i++) {
+        right[i][j] = vj[i];
+      }
+    }
+    if (wide) {
+      this.u = right;
+      this.v = left;
+    } else {
+      this.u = left;
+      this.v = right;
+    }
+  }
+
+  /**
+   * 片側Jacobi法で w の行を互いに直交させ、同じ回転を vt の行にも適用する.
+   *
+   * @param w
+   *          k * k の配列. 行が直交化される
+   * @param vt
+   *          k * k の配列. 回転が累積される
+   * @param k
+   *          次数
+   * @since 2026/10/18 17:20:14
+   */
+  private static void jacobi(final double[][] w, final double[][] vt, final int k) {
+    final double[] squares = new double[k];
+    for (int sweep = 0; sweep < SingularValueDecomposition.MAX_SWEEPS; sweep++) {
+      // 行の2乗ノルムは回転ごとに更新し、誤差が蓄積しないよう掃引のたびに計算し直す.
+      for (int j = 0; j < k; j++) {
+        double sum = 0.0d;
+        for (final double x : w[j]) {
+          sum += x * x;
+        }
+        squares[j] = sum;
+      }
+      boolean rotated = false;
+      for (int p = 0; p < k - 1; p++) {
+        final double[] wp = w[p];
+        final double[] vp = vt[p];
+        for (int q = p + 1; q < k; q++) {
+          final double[] wq = w[q];
+          final double alpha = squares[p];
+          final double beta = squares[q];
+          double gamma = 0.0d;
+          for (int i = 0; i < k; i++) {
+            gamma += wp[i] * wq[i];
+          }
+          if (gamma == 0.0d
+              || Math.abs(gamma) <= SingularValueDecomposition.EPSILON * Math.sqrt(alpha * beta)) {
+            continue;
+          }
+          rotated = true;
+          final double zeta = (beta - alpha) / (2.0d * gamma);
+          final double t = (zeta >= 0.0d ? 1.0d : -1.0d)
+              / (Math.abs(zeta) + Math.sqrt(1.0d + zeta * zeta));
+          final double c = 1.0d / Math.sqrt(1.0d + t * t);
+          final double sn = c * t;
+          squares[p] = alpha - t * gamma;
+          squares[q] = beta + t * gamma;
+          SingularValueDecomposition.rotate(wp, wq, c, sn, k);
+          SingularValueDecomposition.rotate(vp, vt[q], c, sn, k);
+        }
+      }
+      if (!rotated) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * 2つの配列に平面回転 (x, y) = (c * x - s * y, s * x + c * y) を適用する.
+   *
+   * @param x
+   *          配列
+   * @param y
+   *          配列
+   * @param c
+   *          cos
+   * @param sn
+   *          sin
+   * @param k
+   *          長さ
+   * @since 2026/10/18 17:20:14
+   */
+  private static void rotate(final double[] x, final double[] y, final double c,
+      final double sn, final int k) {
+    for (int i = 0; i < k; i++) {
+      final double xi = x[i];
+      final double yi = y[i];
+      x[i] = c * xi - sn * yi;
+      y[i] = sn * xi + c * yi;
+    }
+  }
+
+  /**
+   * 配列のユークリッドノルムを返す.
+   *
+   * @param x
+   *          配列
+   * @return ノルム
+   * @since 2026/10/18 17:20:14
+   */
+  private static double norm(final double[] x) {
+    double scale = 0.0d;
+    for (final double d : x) {
+      scale = Math.max(scale, Math.abs(d));
+    }
+    if (scale == 0.0d) {
+      return 0.0d;
+    }
+    double sum = 0.0d;
+    for (final double d : x) {
+      final double t = d / scale;
+      sum += t * t;
+    }
+    return scale * Math.sqrt(sum);
+  }
+
+  /**
+   * 降順に並べた特異値を返す.
+   *
+   * @return 特異値
+   * @since 2026/10/18 17:20:14
+   */
+  public double[] getSingularValues() {
+    return this.s.clone();
+  }
+
+  /**
+   * 特異値を対角要素に持つ対角行列Sを返す.
+   *
+   * @return min(m, n) * min(m, n) の対角行列
+   * @since 2026/10/18 17:20:14
+   */
+  public DoubleMatrix getS() {
+    final int k = this.s.length;
+    final double[][] c = new double[k][k];
+    for (int i = 0; i < k; i++) {
+      c[i][i] = this.s[i];
+    }
+    return DoubleMatrix.wrap(c);
+  }
+
+  /**
+   * 左特異ベクトルを列に持つ行列Uを返す.
+   *
+   * @return m * min(m, n) の列直交行列
+   * @since 2026/10/18 17:20:14
+   */
+  public DoubleMatrix getU() {
+    return SingularValueDecomposition.copy(this.u);
+  }
+
+  /**
+   * 右特異ベクトルを列に持つ行列Vを返す.
+   *
+   * @return n * min(m, n) の列直交行列
+   * @since 2026/10/18 17:20:14
+   */
+  public DoubleMatrix getV() {
+    return SingularValueDecomposition.copy(this.v);
+  }
+
+  /**
+   * 2次元配列をコピーして行列を作る.
+   *
+   * @param a
+   *          2次元配列
+   * @return 行列
+   * @since 2026/10/18 17:20:14
+   */
+  private static DoubleMatrix copy(final double[][] a) {
+    final double[][] c = new double[a.length][];
+    for (int i = 0; i < a.length; i++) {
+      c[i] = a[i].clone();
+    }
+    return DoubleMatrix.wrap(c);
+  }
+
+  /**
+   * 2ノルム(最大特異値)を返す.
+   *
+   * @return 最大特異値
+   * @since 2026/10/18 17:20:14
+   */
+  public double norm2() {
+    return this.s[0];
+  }
+
+  /**
+   * 2ノルムの条件数(最大特異値と最小特異値の比)を返す.
+   *
+   * @return 条件数
+   * @since 2026/10/18 17:20:14
+   */
+  public double cond() {
+    return this.s[0] / this.s[this.s.length - 1];
+  }
+
+  /**
+   * 数値的なランクを返す. max(m, n) * s[0] * eps より大きい特異値の数.
+   *
+   * @return ランク
+   * @since 2026/10/18 17:20:14
+   */
+  public int rank() {
+    final double tol = Math.max(this.m, this.n) * this.s[0] * SingularValueDecomposition.EPSILON;
+    int r = 0;
+    for (final double d : this.s) {
+      if (d > tol) {
+        r++;
+      }
+    }
+    return r;
+  }
+}
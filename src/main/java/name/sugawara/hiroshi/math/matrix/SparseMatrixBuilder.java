@@ -0,0 +1,165 @@
+/**
+ * Created Date : 2026/10/18 18:05:37
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import java.util.Arrays;
+
+/**
+ * 座標形式 (COO: (行, 列, 値) の組) で要素を集め、CSR形式またはCSC形式の疎行列を作る.
+ *
+ * <pre>
+ *  要素は任意の順に追加でき、同じ位置に複数回追加した値は加算される.
+ *  有限要素法の組み立てのように、同じ位置へ何度も足し込む用途を想定している.
+ *  toCSR(), toCSC() の計算量は O(追加した要素数 + 行数 + 列数) であり、
+ *  ビルダーはその後も要素を追加して再利用できる.
+ * </pre>
+ *
+ * <pre>
+ *  CSRMatrix a = new SparseMatrixBuilder(3, 3).add(0, 0, 2.0).add(1, 2, -1.0).add(0, 0, 1.0)
+ *      .toCSR();
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see CSRMatrix
+ * @see CSCMatrix
+ *
+ * Created Date : 2026/10/18 18:05:37
+ */
+public final class SparseMatrixBuilder {
+
+  /**
+   * 配列の初期容量.
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  private static final int INITIAL_CAPACITY = 16;
+
+  /**
+   * 行数.
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  private final int        row;
+
+  /**
+   * 列数.
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  private final int        col;
+
+  /**
+   * 追加した要素の行インデックス.
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  private int[]            rows;
+
+  /**
+   * 追加した要素の列インデックス.
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  private int[]            cols;
+
+  /**
+   * 追加した要素の値.
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  private double[]         vals;
+
+  /**
+   * 追加した要素の数.
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  private int              count;
+
+  /**
+   * row * col の疎行列のビルダーを作る.
+   *
+   * @param row
+   *          行数
+   * @param col
+   *          列数
+   * @exception IllegalArgumentException
+   *              行数または列数が負の場合
+   * @since 2026/10/18 18:05:37
+   */
+  public SparseMatrixBuilder(final int row, final int col) {
+    if (row < 0 || col < 0) {
+      throw new IllegalArgumentException("Matrix dimensions must be non-negative.");
+    }
+    this.row = row;
+    this.col = col;
+    this.rows = new int[SparseMatrixBuilder.INITIAL_CAPACITY];
+    this.cols = new int[SparseMatrixBuilder.INITIAL_CAPACITY];
+    this.vals = new double[SparseMatrixBuilder.INITIAL_CAPACITY];
+  }
+
+  /**
+   * 要素を追加する. 同じ位置に追加済みの値があれば加算される.
+   *
+   * @param i
+   *          行インデックス
+   * @param j
+   *          列インデックス
+   * @param value
+   *          値
+   * @return このビルダー
+   * @exception ArrayIndexOutOfBoundsException
+   *              インデックスが範囲外の場合
+   * @since 2026/10/18 18:05:37
+   */
+  public SparseMatrixBuilder add(final int i, final int j, final double value) {
+    if (i < 0 || i >= this.row || j < 0 || j >= this.col) {
+      throw new ArrayIndexOutOfBoundsException();
+    }
+    if (this.count == this.rows.length) {
+      final int capacity = this.count * 2;
+      this.rows = Arrays.copyOf(this.rows, capacity);
+      this.cols = Arrays.copyOf(this.cols, capacity);
+      this.vals = Arrays.copyOf(this.vals, capacity);
+    }
+    this.rows[this.count] = i;
+    this.cols[this.count] = j;
+    this.vals[this.count] = value;
+    this.count++;
+    return this;
+  }
+
+  /**
+   * これまでに追加した要素の数を返す. 同じ位置への追加も別に数える.
+   *
+   * @return 追加した要素の数
+   * @since 2026/10/18 18:05:37
+   */
+  public int size() {
+    return this.count;
+  }
+
+  /**
+   * 追加した要素から CSR 形式の疎行列を作る.
+   *
+   * @return CSR形式の疎行列
+   * @since 2026/10/18 18:05:37
+   */
+  public CSRMatrix toCSR() {
+    return CSRMatrix.fromTriplets(this.row, this.col, this.rows, this.cols, this.vals,
+        this.count);
+  }
+
+  /**
+   * 追加した要素から CSC 形式の疎行列を作る.
+   *
+   * @return CSC形式の疎行列
+   * @since 2026/10/18 18:05:37
+   */
+  public CSCMatrix toCSC() {
+    return new CSCMatrix(CSRMatrix.fromTriplets(this.col, this.row, this.cols, this.rows,
+        this.vals, this.count));
+  }
+}
@@ -0,0 +1,378 @@
+/**
+ * Created Date : 2026/10/18 17:20:14
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+/**
+ * 実対称行列の固有値分解 A = V * D * V'. Mathworks, Inc
+ * のJAMAのEigenvalueDecomposition(対称行列の場合)を参考にして作成.
+ *
+ * <pre>
+ *  Householder変換で三重対角行列に変換し (tred2)、陰的シフト付きQL法で対角化する (tql2).
+ *  QL法の各回転は固有ベクトル行列の隣り合う2列に作用するため、
+ *  固有ベクトルを転置した V' の行として保持し、回転が連続したメモリへの操作になるようにしている.
+ *  固有値は昇順に並べ、V の列は対応する正規直交な固有ベクトルである.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @see DoubleMatrix#eig()
+ * @see DecompositionWorkspace
+ *
+ * Created Date : 2026/10/18 17:20:14
+ */
+public final strictfp class SymmetricEigenDecomposition {
+
+  /**
+   * 倍精度の計算機イプシロン 2^-52.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private static final double EPSILON = 2.220446049250313E-16d;
+
+  /**
+   * 行列の次数.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final int           n;
+
+  /**
+   * 固有値.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final double[]      d;
+
+  /**
+   * 三重対角行列の副対角要素(作業用).
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final double[]      e;
+
+  /**
+   * 固有ベクトル. 三重対角化の間は V、QL法の間とそれ以後は V' を格納する.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private final double[][]    v;
+
+  /**
+   * 実対称行列を固有値分解する. 元の行列は変更しない.
+   *
+   * @param a
+   *          実対称行列
+   * @exception IllegalArgumentException
+   *              対称行列でない場合
+   * @since 2026/10/18 17:20:14
+   */
+  public SymmetricEigenDecomposition(final DoubleMatrix a) {
+    this(a, new DecompositionWorkspace());
+  }
+
+  /**
+   * ワークスペースの配列を使って実対称行列を固有値分解する. 元の行列は変更しない.
+   *
+   * @param a
+   *          実対称行列
+   * @param workspace
+   *          作業用配列. 次にこのワークスペースで分解を行うまで、この分解オブジェクトは有効である
+   * @exception IllegalArgumentException
+   *              対称行列でない場合
+   * @since 2026/10/18 17:20:14
+   */
+  public SymmetricEigenDecomposition(final DoubleMatrix a, final DecompositionWorkspace workspace) {
+    if (a.getRowDimension() != a.getColumnDimension()) {
+      throw new IllegalArgumentException("Matrix must be square.");
+    }
+    this.n = a.getRowDimension();
+    final double[][] s = a.array();
+    for (int i = 0; i < this.n; i++) {
+      for (int j = 0; j < i; j++) {
+        if (s[i][j] != s[j][i]) {
+          throw new IllegalArgumentException("Matrix must be symmetric.");
+        }
+      }
+    }
+    this.v = workspace.matrix("eig.v", this.n, this.n);
+    for (int i = 0; i < this.n; i++) {
+      System.arraycopy(s[i], 0, this.v[i], 0, this.n);
+    }
+    this.d = workspace.vector("eig.d", this.n);
+    this.e = workspace.vector("eig.e", this.n);
+    this.tred2();
+    this.transposeV();
+    this.tql2();
+  }
+
+  /**
+   * Householder変換で三重対角行列に変換する. vは変換行列で上書きされる.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private void tred2() {
+    final double[][] a = this.v;
+    final int last = this.n - 1;
+    for (int j = 0; j < this.n; j++) {
+      this.d[j] = a[last][j];
+    }
+
+    for (int i = last; i > 0; i--) {
+      double scale = 0.0d;
+      double h = 0.0d;
+      for (int k = 0; k < i; k++) {
+        scale += Math.abs(this.d[k]);
+      }
+      if (scale == 0.0d) {
+        this.e[i] = this.d[i - 1];
+        for (int j = 0; j < i; j++) {
+          this.d[j] = a[i - 1][j];
+          a[i][j] = 0.0d;
+          a[j][i] = 0.0d;
+        }
+      } else {
+        for (int k = 0; k < i; k++) {
+          this.d[k] /= scale;
+          h += this.d[k] * this.d[k];
+        }
+        double f = this.d[i - 1];
+        double g = Math.sqrt(h);
+        if (f > 0.0d) {
+          g = -g;
+        }
+        this.e[i] = scale * g;
+        h -= f * g;
+        this.d[i - 1] = f - g;
+        for (int j = 0; j < i; j++) {
+          this.e[j] = 0.0d;
+        }
+        for (int j = 0; j < i; j++) {
+          f = this.d[j];
+          a[j][i] = f;
+          g = this.e[j] + a[j][j] * f;
+          for (int k = j + 1; k <= i - 1; k++) {
+            g += a[k][j] * this.d[k];
+            this.e[k] += a[k][j] * f;
+          }
+          this.e[j] = g;
+        }
+        f = 0.0d;
+        for (int j = 0; j < i; j++) {
+          this.e[j] /= h;
+          f += this.e[j] * this.d[j];
+        }
+        final double hh = f / (h + h);
+        for (int j = 0; j < i; j++) {
+          this.e[j] -= hh * this.d[j];
+        }
+        for (int j = 0; j < i; j++) {
+          f = this.d[j];
+          g = this.e[j];
+          for (int k = j; k <= i - 1; k++) {
+            a[k][j] -= f * this.e[k] + g * this.d[k];
+          }
+          this.d[j] = a[i - 1][j];
+          a[i][j] = 0.0d;
+        }
+      }
+      this.d[i] = h;
+    }
+
+    // 変換行列を累積する.
+    for (int i = 0; i < last; i++) {
+      a[last][i] = a[i][i];
+      a[i][i] = 1.0d;
+      final double h = this.d[i + 1];
+      if (h != 0.0d) {
+        for (int k = 0; k <= i; k++) {
+          this.d[k] = a[k][i + 1] / h;
+        }
+        for (int j = 0; j <= i; j++) {
+          double g = 0.0d;
+          for (int k = 0; k <= i; k++) {
+            g += a[k][i + 1] * a[k][j];
+          }
+          for (int k = 0; k <= i; k++) {
+            a[k][j] -= g * this.d[k];
+          }
+        }
+      }
+      for (int k = 0; k <= i; k++) {
+        a[k][i + 1] = 0.0d;
+      }
+    }
+    for (int j = 0; j < this.n; j++) {
+      this.d[j] = a[last][j];
+      a[last][j] = 0.0d;
+    }
+    a[last][last] = 1.0d;
+    this.e[0] = 0.0d;
+  }
+
+  /**
+   * vをその場で転置する.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private void transposeV() {
+    for (int i = 0; i < this.n; i++) {
+      for (int j = 0; j < i; j++) {
+        final double t = this.v[i][j];
+        this.v[i][j] = this.v[j][i];
+        this.v[j][i] = t;
+      }
+    }
+  }
+
+  /**
+   * 陰的シフト付きQL法で三重対角行列を対角化し、固有値を昇順に並べる. vはV'を格納している.
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  private void tql2() {
+    for (int i = 1; i < this.n; i++) {
+      this.e[i - 1] = this.e[i];
+    }
+    this.e[this.n - 1] = 0.0d;
+
+    double f = 0.0d;
+    double tst1 = 0.0d;
+    for (int l = 0; l < this.n; l++) {
+      tst1 = Math.max(tst1, Math.abs(this.d[l]) + Math.abs(this.e[l]));
+      int m = l;
+      while (m < this.n) {
+        if (Math.abs(this.e[m]) <= SymmetricEigenDecomposition.EPSILON * tst1) {
+          break;
+        }
+        m++;
+      }
+
+      if (m > l) {
+        do {
+          double g = this.d[l];
+          double p = (this.d[l + 1] - g) / (2.0d * this.e[l]);
+          double r = Math.hypot(p, 1.0d);
+          if (p < 0.0d) {
+            r = -r;
+          }
+          this.d[l] = this.e[l] / (p + r);
+          this.d[l + 1] = this.e[l] * (p + r);
+          final double dl1 = this.d[l + 1];
+          double h = g - this.d[l];
+          for (int i = l + 2; i < this.n; i++) {
+            this.d[i] -= h;
+          }
+          f += h;
+
+          p = this.d[m];
+          double c = 1.0d;
+          double c2 = c;
+          double c3 = c;
+          final double el1 = this.e[l + 1];
+          double s = 0.0d;
+          double s2 = 0.0d;
+          for (int i = m - 1; i >= l; i--) {
+            c3 = c2;
+            c2 = c;
+            s2 = s;
+            g = c * this.e[i];
+            h = c * p;
+            r = Math.hypot(p, this.e[i]);
+            this.e[i + 1] = s * r;
+            s = this.e[i] / r;
+            c = p / r;
+            p = c * this.d[i] - s * g;
+            this.d[i + 1] = h + s * (c * g + s * this.d[i]);
+
+            // V の i 列と i + 1 列の回転は、V' の i 行と i + 1 行の回転になる.
+            final double[] vi = this.v[i];
+            final double[] vi1 = this.v[i + 1];
+            for (int k = 0; k < this.n; k++) {
+              h = vi1[k];
+              vi1[k] = s * vi[k] + c * h;
+              vi[k] = c * vi[k] - s * h;
+            }
+          }
+          p = -s * s2 * c3 * el1 * this.e[l] / dl1;
+          this.e[l] = s * p;
+          this.d[l] = c * p;
+        } while (Math.abs(this.e[l]) > SymmetricEigenDecomposition.EPSILON * tst1);
+      }
+      this.d[l] += f;
+      this.e[l] = 0.0d;
+    }
+
+    // 固有値を昇順に並べ、固有ベクトル(V' の行)も同じ順に並べ替える.
+    for (int i = 0; i < this.n - 1; i++) {
+      int k = i;
+      double p = this.d[i];
+      for (int j = i + 1; j < this.n; j++) {
+        if (this.d[j] < p) {
+          k = j;
+          p = this.d[j];
+        }
+      }
+      if (k != i) {
+        this.d[k] = this.d[i];
+        this.d[i] = p;
+        final double[] t = this.v[i];
+        this.v[i] = this.v[k];
+        this.v[k] = t;
+      }
+    }
+  }
+
+  /**
+   * 固有値を昇順に並べた配列を返す.
+   *
+   * @return 固有値
+   * @since 2026/10/18 17:20:14
+   */
+  public double[] getEigenvalues() {
+    return this.d.clone();
+  }
+
+  /**
+   * 固有値を対角要素に持つ対角行列Dを返す.
+   *
+   * @return D
+   * @since 2026/10/18 17:20:14
+   */
+  public DoubleMatrix getD() {
+    final double[][] c = new double[this.n][this.n];
+    for (int i = 0; i < this.n; i++) {
+      c[i][i] = this.d[i];
+    }
+    return DoubleMatrix.wrap(c);
+  }
+
+  /**
+   * 固有ベクトルを列に持つ直交行列Vを返す.
+   *
+   * @return V
+   * @since 2026/10/18 17:20:14
+   */
+  public DoubleMatrix getV() {
+    final double[][] c = new double[this.n][this.n];
+    for (int i = 0; i < this.n; i++) {
+      final double[] vi = this.v[i];
+      for (int j = 0; j < this.n; j++) {
+        c[j][i] = vi[j];
+      }
+    }
+    return DoubleMatrix.wrap(c);
+  }
+
+  /**
+   * i番目の固有値に対応する固有ベクトルを返す.
+   *
+   * @param i
+   *          固有値のインデックス
+   * @return 長さ1の固有ベクトル
+   * @since 2026/10/18 17:20:14
+   */
+  public DoubleVector getEigenvector(final int i) {
+    return new DoubleVector(this.v[i].clone(), true);
+  }
+}
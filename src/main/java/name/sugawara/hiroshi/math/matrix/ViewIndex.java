@@ -0,0 +1,254 @@
+/**
+ * Created Date : 2026/10/18 14:20:31
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+/**
+ * 行列のビューの添字を元の2次元配列の添字に対応付ける.
+ *
+ * <pre>
+ *  ビューの要素(i, j)は、転置フラグが立っていなければ (a, b) = (i, j)、
+ *  立っていれば (a, b) = (j, i) として、元の配列の
+ *  [rowOffset + a * rowStep][colOffset + b * colStep] に対応する.
+ *  rowStep, colStep は 1 または -1 であり、-1 のときはその方向に反転している.
+ *
+ *  部分行列、転置、左右反転、上下反転、90度回転はいずれも
+ *  このオフセットとフラグを書き換えるだけで求まるため、計算量は定数時間である.
+ *  このクラスは不変(immutable)である.
+ * </pre>
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ *
+ * Created Date : 2026/10/18 14:20:31
+ */
+final class ViewIndex {
+
+  /**
+   * 元の配列の行の開始位置.
+   *
+   * @since 2026/10/18 14:20:31
+   */
+  private final int     rowOffset;
+
+  /**
+   * 元の配列の列の開始位置.
+   *
+   * @since 2026/10/18 14:20:31
+   */
+  private final int     colOffset;
+
+  /**
+   * 元の配列の行方向の増分(1 または -1).
+   *
+   * @since 2026/10/18 14:20:31
+   */
+  private final int     rowStep;
+
+  /**
+   * 元の配列の列方向の増分(1 または -1).
+   *
+   * @since 2026/10/18 14:20:31
+   */
+  private final int     colStep;
+
+  /**
+   * 転置フラグ.
+   *
+   * @since 2026/10/18 14:20:31
+   */
+  private final boolean transposed;
+
+  /**
+   * ビューの行数.
+   *
+   * @since 2026/10/18 14:20:31
+   */
+  private final int     row;
+
+  /**
+   * ビューの列数.
+   *
+   * @since 2026/10/18 14:20:31
+   */
+  private final int     col;
+
+  /**
+   * row * col の配列全体を参照する添字を作る.
+   *
+   * @param row
+   *          行数
+   * @param col
+   *          列数
+   * @since 2026/10/18 14:20:31
+   */
+  ViewIndex(final int row, final int col) {
+    this(0, 0, 1, 1, false, row, col);
+  }
+
+  /**
+   * 添字を作る.
+   *
+   * @param rowOffset
+   *          元の配列の行の開始位置
+   * @param colOffset
+   *          元の配列の列の開始位置
+   * @param rowStep
+   *          元の配列の行方向の増分
+   * @param colStep
+   *          元の配列の列方向の増分
+   * @param transposed
+   *          転置フラグ
+   * @param row
+   *          ビューの行数
+   * @param col
+   *          ビューの列数
+   * @since 2026/10/18 14:20:31
+   */
+  private ViewIndex(final int rowOffset, final int colOffset, final int rowStep,
+      final int colStep, final boolean transposed, final int row, final int col) {
+    this.rowOffset = rowOffset;
+    this.colOffset = colOffset;
+    this.rowStep = rowStep;
+    this.colStep = colStep;
+    this.transposed = transposed;
+    this.row = row;
+    this.col = col;
+  }
+
+  /**
+   * ビューの行数を返す.
+   *
+   * @return 行数
+   * @since 2026/10/18 14:20:31
+   */
+  int getRowDimension() {
+    return this.row;
+  }
+
+  /**
+   * ビューの列数を返す.
+   *
+   * @return 列数
+   * @since 2026/10/18 14:20:31
+   */
+  int getColumnDimension() {
+    return this.col;
+  }
+
+  /**
+   * ビューの添字が範囲内であることを確認する.
+   *
+   * @param i
+   *          行インデックス
+   * @param j
+   *          列インデックス
+   * @since 2026/10/18 14:20:31
+   */
+  void check(final int i, final int j) {
+    if (i < 0 || i >= this.row || j < 0 || j >= this.col) {
+      throw new ArrayIndexOutOfBoundsException();
+    }
+  }
+
+  /**
+   * ビューの要素(i, j)に対応する元の配列の行インデックスを返す.
+   *
+   * @param i
+   *          行インデックス
+   * @param j
+   *          列インデックス
+   * @return 元の配列の行インデックス
+   * @since 2026/10/18 14:20:31
+   */
+  int sourceRow(final int i, final int j) {
+    return this.rowOffset + (this.transposed ? j : i) * this.rowStep;
+  }
+
+  /**
+   * ビューの要素(i, j)に対応する元の配列の列インデックスを返す.
+   *
+   * @param i
+   *          行インデックス
+   * @param j
+   *          列インデックス
+   * @return 元の配列の列インデックス
+   * @since 2026/10/18 14:20:31
+   */
+  int sourceColumn(final int i, final int j) {
+    return this.colOffset + (this.transposed ? i : j) * this.colStep;
+  }
+
+  /**
+   * 部分行列 A(i0:i1, j0:j1) の添字を返す.
+   *
+   * @param i0
+   *          Initial row index
+   * @param i1
+   *          Final row index
+   * @param j0
+   *          Initial column index
+   * @param j1
+   *          Final column index
+   * @return 部分行列の添字
+   * @since 2026/10/18 14:20:31
+   */
+  ViewIndex sub(final int i0, final int i1, final int j0, final int j1) {
+    if (i0 < 0 || i1 >= this.row || i0 > i1 + 1 || j0 < 0 || j1 >= this.col || j0 > j1 + 1) {
+      throw new ArrayIndexOutOfBoundsException("Submatrix indices.");
+    }
+    return new ViewIndex(this.sourceRow(i0, j0), this.sourceColumn(i0, j0), this.rowStep,
+        this.colStep, this.transposed, i1 - i0 + 1, j1 - j0 + 1);
+  }
+
+  /**
+   * 転置した添字を返す.
+   *
+   * @return 転置した添字
+   * @since 2026/10/18 14:20:31
+   */
+  ViewIndex transpose() {
+    return new ViewIndex(this.rowOffset, this.colOffset, this.rowStep, this.colStep,
+        !this.transposed, this.col, this.row);
+  }
+
+  /**
+   * 列を左右逆順に反転した添字を返す.
+   *
+   * @return 左右反転した添字
+   * @since 2026/10/18 14:20:31
+   */
+  ViewIndex fliplr() {
+    if (this.transposed) {
+      return new ViewIndex(this.rowOffset + (this.col - 1) * this.rowStep, this.colOffset,
+          -this.rowStep, this.colStep, true, this.row, this.col);
+    }
+    return new ViewIndex(this.rowOffset, this.colOffset + (this.col - 1) * this.colStep,
+        this.rowStep, -this.colStep, false, this.row, this.col);
+  }
+
+  /**
+   * 行を上下逆順に反転した添字を返す.
+   *
+   * @return 上下反転した添字
+   * @since 2026/10/18 14:20:31
+   */
+  ViewIndex flipud() {
+    if (this.transposed) {
+      return new ViewIndex(this.rowOffset, this.colOffset + (this.row - 1) * this.colStep,
+          this.rowStep, -this.colStep, true, this.row, this.col);
+    }
+    return new ViewIndex(this.rowOffset + (this.row - 1) * this.rowStep, this.colOffset,
+        -this.rowStep, this.colStep, false, this.row, this.col);
+  }
+
+  /**
+   * 反時計回りに90度回転した添字を返す. DoubleMatrix#rot90() と同じ向きに回転する.
+   *
+   * @return 90度回転した添字
+   * @since 2026/10/18 14:20:31
+   */
+  ViewIndex rot90() {
+    return this.transpose().flipud();
+  }
+}
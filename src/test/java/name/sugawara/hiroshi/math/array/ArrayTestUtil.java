@@ -0,0 +1,65 @@
+/**
+ * Created Date : 2026/10/19 5:36:12
+ */
+package name.sugawara.hiroshi.math.array;
+
+import java.util.Random;
+
+import junit.framework.Assert;
+
+/**
+ * 配列を扱うテストで共通に使う乱数列の生成と比較.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ *
+ * Created Date : 2026/10/19 5:36:12
+ */
+public final class ArrayTestUtil {
+
+  /**
+   * コンストラクタ使用禁止.
+   *
+   * @since 2026/10/19 5:36:12
+   */
+  private ArrayTestUtil() {
+    // Empty block
+  }
+
+  /**
+   * 区間 [-0.5, 0.5) の一様乱数を要素とする配列を作る.
+   *
+   * @param n
+   *          長さ
+   * @param random
+   *          乱数
+   * @return 配列
+   * @since 2026/10/19 5:36:12
+   */
+  public static double[] random(final int n, final Random random) {
+    final double[] x = new double[n];
+    for (int i = 0; i < n; i++) {
+      x[i] = random.nextDouble() - 0.5d;
+    }
+    return x;
+  }
+
+  /**
+   * 配列の長さが等しく、要素がすべて許容誤差内で一致することを確認する.
+   *
+   * @param expected
+   *          期待値
+   * @param actual
+   *          結果
+   * @param delta
+   *          許容誤差
+   * @since 2026/10/19 5:36:12
+   */
+  public static void assertArray(final double[] expected, final double[] actual,
+      final double delta) {
+    Assert.assertEquals(expected.length, actual.length);
+    for (int i = 0; i < expected.length; i++) {
+      Assert.assertEquals(expected[i], actual[i], delta);
+    }
+  }
+}
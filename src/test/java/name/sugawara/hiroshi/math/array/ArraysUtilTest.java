@@ -0,0 +1,114 @@
+/**
+ * Created Date : 2026/10/18 21:40:12
+ */
+package name.sugawara.hiroshi.math.array;
+
+import junit.framework.TestCase;
+
+/**
+ * ArraysUtilの要素ごとの演算のテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 21:40:12
+ */
+public class ArraysUtilTest extends TestCase {
+
+  /**
+   * 配列a.
+   */
+  private static final double[] A = { 1.0d, -2.0d, 3.5d, 4.0d, -0.25d, 6.0d, 7.0d };
+
+  /**
+   * 配列b.
+   */
+  private static final double[] B = { 2.0d, 4.0d, -1.0d, 0.5d, 8.0d, -3.0d, 1.0d };
+
+  /**
+   * Constructor for ArraysUtilTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public ArraysUtilTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   * 配列の要素がすべて一致することを確認する.
+   *
+   * @param expected
+   *          期待値
+   * @param actual
+   *          結果
+   */
+  private static void assertArray(final double[] expected, final double[] actual) {
+    assertEquals(expected.length, actual.length);
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i], actual[i], 0.0d);
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 21:40:12
+   */
+  public void testElementWise() {
+    final int n = A.length;
+    final double[] add = new double[n];
+    final double[] subtract = new double[n];
+    final double[] multiply = new double[n];
+    final double[] divide = new double[n];
+    final double[] square = new double[n];
+    final double[] hypot = new double[n];
+    final double[] scaled = new double[n];
+    final double[] inverse = new double[n];
+    for (int i = 0; i < n; i++) {
+      add[i] = A[i] + B[i];
+      subtract[i] = A[i] - B[i];
+      multiply[i] = A[i] * B[i];
+      divide[i] = A[i] / B[i];
+      square[i] = A[i] * A[i] + B[i] * B[i];
+      hypot[i] = Math.hypot(A[i], B[i]);
+      scaled[i] = A[i] * 3.0d;
+      inverse[i] = 2.0d / A[i];
+    }
+    assertArray(add, ArraysUtil.add(A, B));
+    assertArray(subtract, ArraysUtil.subtract(A, B));
+    assertArray(multiply, ArraysUtil.multiply(A, B));
+    assertArray(divide, ArraysUtil.divide(A, B));
+    assertArray(square, ArraysUtil.sumOfSquare(A, B));
+    assertArray(hypot, ArraysUtil.hypot2(A, B));
+    assertArray(scaled, ArraysUtil.multiply(A, 3.0d));
+    assertArray(inverse, ArraysUtil.divide(2.0d, A));
+
+    final double[] result = new double[n];
+    assertSame(result, ArraysUtil.add(A, B, result));
+    assertArray(add, result);
+    final double[] inPlace = A.clone();
+    ArraysUtil.subtract(inPlace, 1.0d, inPlace);
+    ArraysUtil.add(inPlace, 1.0d, inPlace);
+    assertArray(A, inPlace);
+    try {
+      ArraysUtil.multiply(A, B, new double[n - 1]);
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 21:40:12
+   */
+  public void testInnerProduct() {
+    double expected = 0.0d;
+    for (int i = 0; i < A.length; i++) {
+      expected += A[i] * B[i];
+    }
+    assertEquals(expected, ArraysUtil.innerProduct(A, B), 1.0e-15d);
+    assertEquals(A[2] * B[3] + A[3] * B[4], ArraysUtil.innerProduct(A, 2, B, 3, 2), 0.0d);
+    assertEquals(0.0d, ArraysUtil.innerProduct(A, 0, B, 0, 0), 0.0d);
+  }
+
+}
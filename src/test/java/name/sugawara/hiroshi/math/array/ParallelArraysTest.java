@@ -0,0 +1,175 @@
+/**
+ * Created Date : 2026/10/18 22:48:31
+ */
+package name.sugawara.hiroshi.math.array;
+
+import static name.sugawara.hiroshi.math.array.ArrayTestUtil.random;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import junit.framework.TestCase;
+import name.sugawara.hiroshi.math.matrix.DoubleMatrix;
+import name.sugawara.hiroshi.math.matrix.DoubleVector;
+
+/**
+ * ParallelArraysのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 22:48:31
+ */
+public class ParallelArraysTest extends TestCase {
+
+  /**
+   * 閾値を超える要素数.
+   */
+  private static final int N = 100003;
+
+  /**
+   * Constructor for ParallelArraysTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public ParallelArraysTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   * 配列の要素がすべてビット単位で一致することを確認する.
+   *
+   * @param expected
+   *          期待値
+   * @param actual
+   *          結果
+   */
+  private static void assertBits(final double[] expected, final double[] actual) {
+    assertEquals(expected.length, actual.length);
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(Double.doubleToLongBits(expected[i]), Double.doubleToLongBits(actual[i]));
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 22:48:31
+   */
+  public void testMap() {
+    final double[] a = random(N, new Random(1L));
+    final ParallelArrays p = new ParallelArrays(ForkJoinPool.commonPool(), 1000);
+    final DoubleVector v = new DoubleVector(a);
+    assertBits(v.exp().getArray(), p.exp(a));
+    assertBits(v.log().getArray(), p.log(a));
+    assertBits(v.sin().getArray(), p.sin(a));
+    assertBits(v.cos().getArray(), p.cos(a));
+    assertBits(v.atan().getArray(), p.atan(a));
+    assertBits(v.tanh().getArray(), p.tanh(a));
+    assertBits(v.cbrt().getArray(), p.cbrt(a));
+    assertBits(v.abs().sqrt().getArray(), p.sqrt(p.abs(a)));
+    assertBits(v.pow(3.5d).getArray(), p.pow(a, 3.5d));
+    assertBits(v.exp().getArray(), v.parallel().exp().getArray());
+    assertBits(v.asin().getArray(), v.parallel(new ForkJoinPool(3)).asin().getArray());
+
+    final double[] c = a.clone();
+    assertTrue(c == p.map(c, x -> x * 2.0d, c));
+    assertBits(ArraysUtil.multiply(a, 2.0d), c);
+    try {
+      p.map(a, Math::exp, new double[3]);
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 22:48:31
+   */
+  public void testReduce() {
+    final Random random = new Random(2L);
+    for (final int n : new int[] { 0, 1, 100, 1000, N }) {
+      final double[] a = random(n, random);
+      final double[] b = random(n, random);
+      final double pairwise = Summation.PAIRWISE.sum(a);
+      final double dot = Summation.PAIRWISE.innerProduct(a, b);
+      for (final int threshold : new int[] { 1, 7, 1000, 1 << 20 }) {
+        final ParallelArrays p = new ParallelArrays(ForkJoinPool.commonPool(), threshold);
+        assertEquals(pairwise, p.sum(a), 0.0d);
+        assertEquals(dot, p.innerProduct(a, b), 0.0d);
+        assertEquals(ArraysUtil.max(a), p.max(a), 0.0d);
+        assertEquals(ArraysUtil.min(a), p.min(a), 0.0d);
+        assertEquals(Math.sqrt(Summation.PAIRWISE.innerProduct(a, a)), p.norm(a), 0.0d);
+      }
+    }
+    final double[] a = new double[N];
+    double product = 1.0d;
+    for (int i = 0; i < N; i++) {
+      a[i] = i % 2 == 0 ? 1.0d + 1.0d / N : 1.0d / (1.0d + 1.0d / N);
+      product *= a[i];
+    }
+    assertEquals(product, ArraysUtil.parallel().product(a), 1.0e-10d);
+    assertEquals(1.0d, ArraysUtil.parallel().product(new double[0]), 0.0d);
+
+    final DoubleVector v = new DoubleVector(random(N, random));
+    assertEquals(v.sum(Summation.PAIRWISE), v.parallel().sum(), 0.0d);
+    assertEquals(v.avg(Summation.PAIRWISE), v.parallel().avg(), 0.0d);
+    assertEquals(v.max(), v.parallel().max(), 0.0d);
+    assertEquals(v.min(), v.parallel().min(), 0.0d);
+    assertEquals(v.norm(), v.parallel().norm(), 1.0e-12d * v.norm());
+    assertEquals(v.innerProduct(v.exp(), Summation.PAIRWISE), v.parallel().innerProduct(v.exp()),
+        0.0d);
+    try {
+      ArraysUtil.parallel().innerProduct(new double[3], new double[2]);
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 22:48:31
+   */
+  public void testColumns() {
+    final Random random = new Random(3L);
+    final double[][] a = new double[301][517];
+    for (int i = 0; i < a.length; i++) {
+      a[i] = random(a[0].length, random);
+      a[i][i % a[0].length] = -0.0d;
+    }
+    final DoubleMatrix m = new DoubleMatrix(a);
+    final ParallelArrays p = new ParallelArrays(ForkJoinPool.commonPool(), 100);
+    assertBits(m.sum().getArray(), p.columnSum(a));
+    assertBits(m.mean().getArray(), p.columnMean(a));
+    assertBits(m.product().getArray(), p.columnProduct(a));
+    assertBits(m.max().getArray(), p.columnMax(a));
+    assertBits(m.min().getArray(), p.columnMin(a));
+    assertBits(m.sum().getArray(), m.parallel().sum().getArray());
+    assertBits(m.mean().getArray(), m.parallel().mean().getArray());
+    assertBits(m.product().getArray(), m.parallel().product().getArray());
+    assertBits(m.max().getArray(), m.parallel().max().getArray());
+    assertBits(m.min().getArray(), m.parallel().min().getArray());
+  }
+
+  /**
+   *
+   * @since 2026/10/18 22:48:31
+   */
+  public void testConstructor() {
+    final ParallelArrays p = ArraysUtil.parallel();
+    assertTrue(p == ArraysUtil.parallel());
+    assertEquals(ParallelArrays.DEFAULT_THRESHOLD, p.getThreshold());
+    assertTrue(ForkJoinPool.commonPool() == p.getPool());
+    final ForkJoinPool pool = new ForkJoinPool(2);
+    assertTrue(pool == ArraysUtil.parallel(pool).getPool());
+    try {
+      new ParallelArrays(pool, 0);
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+    pool.shutdown();
+  }
+
+}
@@ -0,0 +1,166 @@
+/**
+ * Created Date : 2026/10/18 22:10:25
+ */
+package name.sugawara.hiroshi.math.array;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import name.sugawara.hiroshi.math.matrix.DoubleMatrix;
+import name.sugawara.hiroshi.math.matrix.DoubleVector;
+
+/**
+ * Summationのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 22:10:25
+ */
+public class SummationTest extends TestCase {
+
+  /**
+   * Constructor for SummationTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public SummationTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   * 桁落ちの大きい和の配列を作る. 大きさの異なる値とその符号を反転した値を混ぜる.
+   *
+   * @param n
+   *          長さ(偶数)
+   * @param random
+   *          乱数
+   * @return 配列
+   */
+  private static double[] illConditioned(final int n, final Random random) {
+    final double[] x = new double[n];
+    for (int i = 0; i < n / 2; i++) {
+      x[i] = Math.scalb(random.nextDouble() - 0.5d, random.nextInt(120) - 60);
+      x[n / 2 + i] = -x[i] * (1.0d + Math.ulp(1.0d) * random.nextInt(4));
+    }
+    for (int i = n - 1; i > 0; i--) {
+      final int j = random.nextInt(i + 1);
+      final double t = x[i];
+      x[i] = x[j];
+      x[j] = t;
+    }
+    return x;
+  }
+
+  /**
+   * BigDecimal で正確な和を求め double に丸める.
+   *
+   * @param a
+   *          配列
+   * @param b
+   *          内積なら配列, 和ならnull
+   * @return 正しく丸めた和
+   */
+  private static double exact(final double[] a, final double[] b) {
+    BigDecimal s = BigDecimal.ZERO;
+    for (int i = 0; i < a.length; i++) {
+      final BigDecimal x = new BigDecimal(a[i]);
+      s = s.add(b == null ? x : x.multiply(new BigDecimal(b[i])));
+    }
+    return s.doubleValue();
+  }
+
+  /**
+   *
+   * @since 2026/10/18 22:10:25
+   */
+  public void testExact() {
+    final Random random = new Random(1L);
+    for (final int n : new int[] { 2, 10, 1000, 100000 }) {
+      final double[] x = illConditioned(n, random);
+      final double[] y = illConditioned(n, random);
+      assertEquals(exact(x, null), Summation.EXACT.sum(x), 0.0d);
+      assertEquals(exact(x, y), Summation.EXACT.innerProduct(x, y), 0.0d);
+    }
+    assertEquals(1.0d, Summation.EXACT.sum(new double[] { 1.0e100, 1.0d, -1.0e100 }), 0.0d);
+    assertEquals(0.0d, Summation.NAIVE.sum(new double[] { 1.0e100, 1.0d, -1.0e100 }), 0.0d);
+    final double[] tiny = { Double.MIN_VALUE, Double.MIN_VALUE, -Double.MIN_NORMAL, 1.0d, -1.0d };
+    assertEquals(exact(tiny, null), Summation.EXACT.sum(tiny), 0.0d);
+    final double[] huge = { Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE };
+    assertEquals(Double.MAX_VALUE, Summation.EXACT.sum(huge), 0.0d);
+    assertEquals(Double.POSITIVE_INFINITY,
+        Summation.EXACT.sum(new double[] { Double.MAX_VALUE, Double.MAX_VALUE }), 0.0d);
+    assertTrue(Double.isNaN(Summation.EXACT.sum(new double[] { 1.0d, Double.NaN })));
+    assertEquals(-3.0d, Summation.EXACT.sum(new double[] { -1.0d, -2.0d }), 0.0d);
+    assertEquals(0.0d, Summation.EXACT.sum(new double[0]), 0.0d);
+    // 1 + 2^-53 + 2^-105 は偶数丸めではなく切り上げになる
+    final double[] halfway = { 1.0d, Math.scalb(1.0d, -53), Math.scalb(1.0d, -105) };
+    assertEquals(1.0d + Math.ulp(1.0d), Summation.EXACT.sum(halfway), 0.0d);
+    assertEquals(1.0d, Summation.EXACT.sum(halfway, 0, 2), 0.0d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 22:10:25
+   */
+  public void testAccuracy() {
+    final Random random = new Random(2L);
+    final int n = 200000;
+    final double[] x = new double[n];
+    final double[] y = new double[n];
+    for (int i = 0; i < n; i++) {
+      x[i] = random.nextDouble();
+      y[i] = random.nextDouble() - 0.5d;
+    }
+    final double s = exact(x, null);
+    final double d = exact(x, y);
+    assertEquals(s, Summation.NEUMAIER.sum(x), Math.ulp(s));
+    assertEquals(d, Summation.NEUMAIER.innerProduct(x, y), Math.ulp(d));
+    assertEquals(s, Summation.PAIRWISE.sum(x), 1.0e-14d * s);
+    assertEquals(s, Summation.NAIVE.sum(x), 1.0e-10d * s);
+
+    // 補償加算の誤差の上界 u|S| + 2 n u^2 Σ|z_i| を確かめる
+    final double[] z = illConditioned(1000, random);
+    final double u = Math.ulp(1.0d) / 2.0d;
+    final double bound = u * Math.abs(exact(z, null))
+        + 2.0d * z.length * u * u * ArraysUtil.sum(ArraysUtil.abs(z));
+    assertEquals(exact(z, null), Summation.NEUMAIER.sum(z), bound);
+    assertTrue(Math.abs(exact(z, null) - Summation.NAIVE.sum(z)) > bound);
+    assertEquals(s / n, Summation.EXACT.mean(x), 0.0d);
+    assertEquals(Summation.PAIRWISE.sum(x, 10, 5000),
+        Summation.PAIRWISE.sum(Arrays.copyOfRange(x, 10, 5010)), 0.0d);
+    assertEquals(Summation.PAIRWISE.innerProduct(x, 3, y, 7, 100000),
+        Summation.PAIRWISE.innerProduct(Arrays.copyOfRange(x, 3, 100003),
+            Arrays.copyOfRange(y, 7, 100007)), 0.0d);
+    try {
+      Summation.NEUMAIER.innerProduct(x, new double[3]);
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 22:10:25
+   */
+  public void testIntegration() {
+    final double[] x = { 1.0e100, 1.0d, -1.0e100, 3.0d };
+    assertEquals(4.0d, ArraysUtil.sum(x, Summation.NEUMAIER), 0.0d);
+    assertEquals(1.0d, ArraysUtil.mean(x, Summation.EXACT), 0.0d);
+    assertEquals(4.0d, ArraysUtil.innerProduct(x, new double[] { 1, 1, 1, 1 },
+        Summation.EXACT), 0.0d);
+    final DoubleVector v = new DoubleVector(x);
+    assertEquals(4.0d, v.sum(Summation.EXACT), 0.0d);
+    assertEquals(1.0d, v.avg(Summation.PAIRWISE), 1.0e-300d + 1.0d);
+    assertEquals(4.0d, v.innerProduct(new DoubleVector(4, 1.0d), Summation.NEUMAIER), 0.0d);
+    final DoubleMatrix m = new DoubleMatrix(new double[][] { { 1.0e100, 1.0d }, { 1.0d, 2.0d },
+        { -1.0e100, 3.0d } });
+    assertEquals(1.0d, m.sum(Summation.EXACT).get(0), 0.0d);
+    assertEquals(6.0d, m.sum(Summation.EXACT).get(1), 0.0d);
+    assertEquals(2.0d, m.mean(Summation.NEUMAIER).get(1), 0.0d);
+  }
+
+}
@@ -0,0 +1,121 @@
+/**
+ * Created Date : 2026/10/19 6:20:14
+ */
+package name.sugawara.hiroshi.math.complex;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+import junit.framework.TestCase;
+import name.sugawara.hiroshi.math.precision.Precision;
+import name.sugawara.hiroshi.math.precision.RoundingError;
+
+/**
+ * BigComplexのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/19 6:20:14
+ */
+public class BigComplexTest extends TestCase {
+
+  /**
+   * 30 桁の精度.
+   *
+   * @since 2026/10/19 6:20:14
+   */
+  private static final Precision PRECISION = new RoundingError(new MathContext(30));
+
+  /**
+   * 許容誤差.
+   *
+   * @since 2026/10/19 6:20:14
+   */
+  private static final BigDecimal DELTA = new BigDecimal("1E-28");
+
+  /**
+   * Constructor for BigComplexTest.
+   *
+   * @param arg0
+   *          テスト名
+   * @since 2026/10/19 6:20:14
+   */
+  public BigComplexTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   * 複素数を作る.
+   *
+   * @param x
+   *          実部
+   * @param y
+   *          虚部
+   * @return 複素数
+   * @since 2026/10/19 6:20:14
+   */
+  private static BigComplex complex(final String x, final String y) {
+    return new BigComplex(new BigDecimal(x), new BigDecimal(y), BigComplexTest.PRECISION);
+  }
+
+  /**
+   * 実部と虚部の誤差が delta 以下であることを確認する.
+   *
+   * @param x
+   *          期待する実部
+   * @param y
+   *          期待する虚部
+   * @param actual
+   *          結果
+   * @param delta
+   *          許容誤差
+   * @since 2026/10/19 6:20:14
+   */
+  private static void assertComplex(final String x, final String y, final BigComplex actual,
+      final BigDecimal delta) {
+    final BigDecimal re = new BigDecimal(x).subtract(actual.getReal()).abs();
+    final BigDecimal im = new BigDecimal(y).subtract(actual.getImaginary()).abs();
+    assertTrue("real: " + actual.getReal(), re.compareTo(delta) <= 0);
+    assertTrue("imaginary: " + actual.getImaginary(), im.compareTo(delta) <= 0);
+  }
+
+  /**
+   * 'BigComplex.sqrt()' と 'BigComplexUtils.sqrt(BigComplex)' のためのテスト・メソッド. 実数、純虚数、一般の複素数で
+   * 主値を返すことを確認する.
+   *
+   * @since 2026/10/19 6:20:14
+   */
+  @SuppressWarnings("deprecation")
+  public void testSqrt() {
+    final BigComplexUtils utils = new BigComplexUtils(BigComplexTest.PRECISION);
+    final String[][] cases = { { "4", "0", "2", "0" }, { "-4", "0", "0", "2" },
+        { "0", "-2", "1", "-1" }, { "0", "2", "1", "1" }, { "3", "4", "2", "1" },
+        { "3", "-4", "2", "-1" },
+        { "1", "1", "1.09868411346780996603980119524", "0.455089860562227341304357757822" } };
+    for (final String[] c : cases) {
+      final BigComplex z = BigComplexTest.complex(c[0], c[1]);
+      assertComplex(c[2], c[3], z.sqrt(), BigComplexTest.DELTA);
+      assertComplex(c[2], c[3], utils.sqrt(z), BigComplexTest.DELTA);
+    }
+  }
+
+  /**
+   * 'BigComplex.pow(BigInteger)' のためのテスト・メソッド. 負の指数でも逆数の丸め誤差が増幅されず、
+   * 20 桁の精度で正しい値を返すことを確認する.
+   *
+   * @since 2026/10/19 6:58:20
+   */
+  @SuppressWarnings("deprecation")
+  public void testPowNegative() {
+    final BigComplex z = new BigComplex(new BigDecimal("0.6"), new BigDecimal("0.7"),
+        new RoundingError(new MathContext(20)));
+    assertComplex("-0.17993079584775086505", "-1.1626297577854671280", z.pow(BigInteger
+        .valueOf(-2L)), new BigDecimal("1E-20"));
+    assertComplex("3.8235844042288766009E+34", "-1.9144482554047534146E+35", z.pow(BigInteger
+        .valueOf(-1000L)), new BigDecimal("1E+15"));
+    assertComplex("0.6", "0.7", z.pow(BigInteger.ONE), BigDecimal.ZERO);
+    assertComplex("1", "0", z.pow(BigInteger.ZERO), BigDecimal.ZERO);
+  }
+
+}
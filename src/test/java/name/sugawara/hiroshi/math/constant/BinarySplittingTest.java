@@ -0,0 +1,112 @@
+/**
+ * Created Date : 2026/10/18 23:52:37
+ */
+package name.sugawara.hiroshi.math.constant;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import junit.framework.TestCase;
+import name.sugawara.hiroshi.math.precision.NandEpsilon;
+import name.sugawara.hiroshi.math.precision.NumberOfTerm;
+
+/**
+ * BinarySplittingのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 23:52:37
+ */
+public class BinarySplittingTest extends TestCase {
+
+  /**
+   * 円周率.
+   */
+  private static final String PI = "3.14159265358979323846264338327950288419716939937510582097494"
+                                     + "4592307816";
+
+  /**
+   * 自然対数の底.
+   */
+  private static final String E  = "2.71828182845904523536028747135266249775724709369995957496696"
+                                     + "7627724077";
+
+  /**
+   * Constructor for BinarySplittingTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public BinarySplittingTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 23:52:37
+   */
+  public void testValues() {
+    for (final int digits : new int[] { 1, 2, 15, 30, 60 }) {
+      for (final RoundingMode mode : new RoundingMode[] { RoundingMode.HALF_EVEN,
+          RoundingMode.FLOOR, RoundingMode.UP }) {
+        final MathContext mc = new MathContext(digits, mode);
+        assertEquals(new BigDecimal(PI).round(mc), BinarySplitting.pi(mc));
+        assertEquals(new BigDecimal(E).round(mc), BinarySplitting.e(mc));
+      }
+    }
+    try {
+      BinarySplitting.e(MathContext.UNLIMITED);
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 23:52:37
+   */
+  public void testLegacy() {
+    final MathContext mc = new MathContext(1000);
+    final MathContext working = new MathContext(1020);
+    final BigDecimal pi = Pi.pi(new NandEpsilon(BigInteger.valueOf(520L), BigDecimal.ONE,
+        working));
+    assertEquals(pi.round(mc), BinarySplitting.pi(mc));
+    final BigDecimal e = Exp.exp(new NumberOfTerm(BigInteger.valueOf(500L), working));
+    assertEquals(e.round(mc), BinarySplitting.e(mc));
+  }
+
+  /**
+   *
+   * @since 2026/10/18 23:52:37
+   */
+  public void testParallel() {
+    final MathContext mc = new MathContext(20000);
+    final ForkJoinPool pool = new ForkJoinPool(3);
+    assertEquals(BinarySplitting.pi(mc), BinarySplitting.pi(mc, pool));
+    assertEquals(BinarySplitting.e(mc), BinarySplitting.e(mc, pool));
+    pool.shutdown();
+  }
+
+  /**
+   *
+   * @since 2026/10/18 23:52:37
+   */
+  public void testSqrt() {
+    final Random random = new Random(1L);
+    for (int i = 0; i < 200; i++) {
+      final BigInteger n = new BigInteger(1 + random.nextInt(3000), random);
+      final BigInteger s = BinarySplitting.sqrt(n);
+      assertTrue(s.multiply(s).compareTo(n) <= 0);
+      assertTrue(s.add(BigInteger.ONE).pow(2).compareTo(n) > 0);
+    }
+    assertEquals(BigInteger.ZERO, BinarySplitting.sqrt(BigInteger.ZERO));
+    final BigInteger square = BigInteger.TEN.pow(200).subtract(BigInteger.ONE);
+    assertEquals(square, BinarySplitting.sqrt(square.multiply(square)));
+  }
+
+}
@@ -0,0 +1,138 @@
+/**
+ * Created Date : 2026/10/18 23:20:14
+ */
+package name.sugawara.hiroshi.math.constant;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import junit.framework.TestCase;
+import name.sugawara.hiroshi.math.precision.NandEpsilon;
+
+/**
+ * ConstantCacheのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 23:20:14
+ */
+public class ConstantCacheTest extends TestCase {
+
+  /**
+   * 円周率.
+   */
+  private static final String PI   = "3.14159265358979323846264338327950288419716939937510582097494"
+                                       + "4592307816";
+
+  /**
+   * 自然対数の底.
+   */
+  private static final String E    = "2.71828182845904523536028747135266249775724709369995957496696"
+                                       + "7627724077";
+
+  /**
+   * ln 2.
+   */
+  private static final String LN2  = "0.69314718055994530941723212145817656807550013436025525412068"
+                                       + "00094933936";
+
+  /**
+   * ln 10.
+   */
+  private static final String LN10 = "2.30258509299404568401799145468436420760110148862877297603332"
+                                       + "7900967573";
+
+  /**
+   * Constructor for ConstantCacheTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public ConstantCacheTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   * 70桁の値を mc で丸めた値と一致することを確認する.
+   *
+   * @param expected
+   *          70桁の値
+   * @param actual
+   *          結果
+   * @param mc
+   *          精度
+   */
+  private static void assertRounded(final String expected, final BigDecimal actual,
+      final MathContext mc) {
+    assertEquals(new BigDecimal(expected).round(mc), actual);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 23:20:14
+   */
+  public void testValues() {
+    for (final int digits : new int[] { 1, 5, 16, 40, 60 }) {
+      for (final RoundingMode mode : new RoundingMode[] { RoundingMode.HALF_EVEN,
+          RoundingMode.DOWN, RoundingMode.CEILING }) {
+        final MathContext mc = new MathContext(digits, mode);
+        assertRounded(PI, ConstantCache.pi(mc), mc);
+        assertRounded(E, ConstantCache.e(mc), mc);
+        assertRounded(LN2, ConstantCache.ln2(mc), mc);
+        assertRounded(LN10, ConstantCache.ln10(mc), mc);
+      }
+    }
+    try {
+      ConstantCache.pi(MathContext.UNLIMITED);
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 23:20:14
+   */
+  public void testCache() {
+    ConstantCache.clear();
+    assertEquals(0L, ConstantCache.getHitCount());
+    assertEquals(0L, ConstantCache.getMissCount());
+    final BigDecimal pi = ConstantCache.pi(new MathContext(200));
+    assertEquals(1L, ConstantCache.getMissCount());
+    assertEquals(pi.round(MathContext.DECIMAL64), ConstantCache.pi(MathContext.DECIMAL64));
+    assertEquals(pi, ConstantCache.pi(new MathContext(200)));
+    assertEquals(2L, ConstantCache.getHitCount());
+    assertEquals(1L, ConstantCache.getMissCount());
+    ConstantCache.pi(new MathContext(300));
+    assertEquals(2L, ConstantCache.getMissCount());
+    ConstantCache.e(MathContext.DECIMAL32);
+    assertEquals(3L, ConstantCache.getMissCount());
+
+    final Constant c = new Constant(new NandEpsilon(BigInteger.TEN, BigDecimal.ONE,
+        new MathContext(30)));
+    assertEquals(ConstantCache.pi(new MathContext(30)), c.pi());
+    assertEquals(ConstantCache.e(new MathContext(30)), c.exp());
+    assertEquals(ConstantCache.ln2(new MathContext(30)), c.ln2());
+    assertEquals(ConstantCache.ln10(new MathContext(30)), c.ln10());
+  }
+
+  /**
+   *
+   * @since 2026/10/18 23:20:14
+   */
+  public void testHighPrecision() {
+    final MathContext mc = new MathContext(1000);
+    assertEquals(ConstantCache.compute(ConstantCache.Kind.PI, 1100).round(mc),
+        ConstantCache.pi(mc));
+    assertEquals(ConstantCache.compute(ConstantCache.Kind.E, 1100).round(mc),
+        ConstantCache.e(mc));
+    assertEquals(ConstantCache.compute(ConstantCache.Kind.LN2, 1100).round(mc),
+        ConstantCache.ln2(mc));
+    assertEquals(ConstantCache.compute(ConstantCache.Kind.LN10, 1100).round(mc),
+        ConstantCache.ln10(mc));
+  }
+
+}
@@ -0,0 +1,168 @@
+/**
+ * Created Date : 2026/10/18 20:41:33
+ */
+package name.sugawara.hiroshi.math.fft;
+
+import static name.sugawara.hiroshi.math.array.ArrayTestUtil.assertArray;
+import static name.sugawara.hiroshi.math.array.ArrayTestUtil.random;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import name.sugawara.hiroshi.math.array.ArraysUtil;
+import name.sugawara.hiroshi.math.complex.ComplexArray;
+import name.sugawara.hiroshi.math.matrix.ComplexVector;
+
+/**
+ * Convolutionのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 20:41:33
+ */
+public class ConvolutionTest extends TestCase {
+
+  /**
+   * 試す長さの組. 直接計算, FFT1回, overlap-add, 短い方が先の場合を含む.
+   */
+  private static final int[][] SIZES = { { 1, 1 }, { 5, 3 }, { 3, 5 }, { 100, 100 },
+      { 1000, 7 }, { 3000, 200 }, { 200, 3000 }, { 1023, 1025 }, { 4096, 33 } };
+
+  /**
+   * Constructor for ConvolutionTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public ConvolutionTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   * 定義どおりに複素数列の畳み込みを計算する.
+   *
+   * @param xr
+   *          信号の実部
+   * @param xi
+   *          信号の虚部
+   * @param hr
+   *          システムの実部
+   * @param hi
+   *          システムの虚部
+   * @return {実部, 虚部}
+   */
+  private static double[][] naive(final double[] xr, final double[] xi, final double[] hr,
+      final double[] hi) {
+    final double[] yr = new double[xr.length + hr.length - 1];
+    final double[] yi = new double[yr.length];
+    for (int n = 0; n < yr.length; n++) {
+      for (int k = 0; k < xr.length; k++) {
+        if (0 <= n - k && n - k < hr.length) {
+          yr[n] += xr[k] * hr[n - k] - xi[k] * hi[n - k];
+          yi[n] += xr[k] * hi[n - k] + xi[k] * hr[n - k];
+        }
+      }
+    }
+    return new double[][] { yr, yi };
+  }
+
+  /**
+   *
+   * @since 2026/10/18 20:41:33
+   */
+  public void testSelect() {
+    assertEquals(Convolution.Method.DIRECT, Convolution.select(10, 10));
+    assertEquals(Convolution.Method.DIRECT, Convolution.select(1000000, 4));
+    assertEquals(Convolution.Method.DIRECT, Convolution.select(0, 1000));
+    assertEquals(Convolution.Method.FFT, Convolution.select(1000, 1000));
+    assertEquals(Convolution.Method.FFT, Convolution.select(1000000, 1000));
+    final int full = Convolution.blockSize(1000, 1000);
+    assertTrue(full >= 1999);
+    final int block = Convolution.blockSize(1000000, 1000);
+    assertTrue(block >= 2000 && block < 1000000);
+    assertEquals(Integer.bitCount(block), 1);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 20:41:33
+   */
+  public void testReal() {
+    final Random random = new Random(1L);
+    for (final int[] size : SIZES) {
+      final double[] x = random(size[0], random);
+      final double[] h = random(size[1], random);
+      final double[] zero = new double[size[0]];
+      final double[] expected = naive(x, zero, h, new double[size[1]])[0];
+      final double[] reversed = naive(x, zero, ArraysUtil.fliplr(h), new double[size[1]])[0];
+      final double delta = 1.0e-12d * Math.max(size[0], size[1]);
+      assertArray(expected, Convolution.convolve(x, h), delta);
+      assertArray(reversed, Convolution.correlate(x, h), delta);
+      final int block = Convolution.blockSize(size[0], size[1]);
+      for (final int s : new int[] { 0, block, Integer.highestOneBit(2 * size[1]) << 1 }) {
+        if (s == 0 || s >= 2 * Math.min(size[0], size[1])) {
+          assertArray(expected, Convolution.real(x, h, false, s), delta);
+          assertArray(reversed, Convolution.real(x, h, true, s), delta);
+        }
+      }
+    }
+    assertEquals(0, Convolution.convolve(new double[0], new double[0]).length);
+    assertArray(new double[4], Convolution.convolve(new double[5], new double[0]), 0.0d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 20:41:33
+   */
+  public void testComplex() {
+    final Random random = new Random(2L);
+    for (final int[] size : SIZES) {
+      final double[] xr = random(size[0], random);
+      final double[] xi = random(size[0], random);
+      final double[] hr = random(size[1], random);
+      final double[] hi = random(size[1], random);
+      final double[][] expected = naive(xr, xi, hr, hi);
+      final double[][] reversed = naive(xr, xi, ArraysUtil.fliplr(hr), ArraysUtil.fliplr(hi));
+      final double delta = 1.0e-12d * Math.max(size[0], size[1]);
+      final double[][] y = Convolution.convolve(xr, xi, hr, hi);
+      assertArray(expected[0], y[0], delta);
+      assertArray(expected[1], y[1], delta);
+      final double[][] c = Convolution.correlate(xr, xi, hr, hi);
+      assertArray(reversed[0], c[0], delta);
+      assertArray(reversed[1], c[1], delta);
+      final double[][] d = Convolution.complex(xr, xi, hr, hi, false, 0);
+      assertArray(expected[0], d[0], delta);
+      assertArray(expected[1], d[1], delta);
+    }
+    try {
+      Convolution.convolve(new double[3], new double[2], new double[3], new double[3]);
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 20:41:33
+   */
+  public void testIntegration() {
+    final Random random = new Random(3L);
+    final double[] xr = random(300, random);
+    final double[] xi = random(300, random);
+    final double[] hr = random(40, random);
+    final double[] hi = random(40, random);
+    final double[][] expected = naive(xr, xi, hr, hi);
+    final ComplexArray y = new ComplexArray(xr, xi).convolute(new ComplexArray(hr, hi));
+    assertArray(expected[0], y.getRealArray(), 1.0e-12d);
+    assertArray(expected[1], y.getImaginaryArray(), 1.0e-12d);
+
+    final ComplexVector v = new ComplexVector(xr, xi).convolute(new ComplexVector(hr, hi));
+    assertArray(expected[0], v.getReal().getArray(), 1.0e-12d);
+    assertArray(expected[1], v.getImaginary().getArray(), 1.0e-12d);
+
+    final double[] auto = naive(xr, new double[300], ArraysUtil.fliplr(xr), new double[300])[0];
+    assertArray(auto, ArraysUtil.correlate(xr), 1.0e-12d);
+  }
+
+}
@@ -0,0 +1,216 @@
+/**
+ * Created Date : 2026/10/18 19:58:06
+ */
+package name.sugawara.hiroshi.math.fft;
+
+import static name.sugawara.hiroshi.math.array.ArrayTestUtil.assertArray;
+import static name.sugawara.hiroshi.math.array.ArrayTestUtil.random;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import name.sugawara.hiroshi.math.complex.ComplexArray;
+import name.sugawara.hiroshi.math.matrix.ComplexVector;
+import name.sugawara.hiroshi.math.matrix.DoubleVector;
+
+/**
+ * FFT, RealFFTのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 19:58:06
+ */
+public class FFTTest extends TestCase {
+
+  /**
+   * 基数2, 混合基数, Bluestein のそれぞれの経路を通る長さ.
+   */
+  private static final int[] SIZES = { 1, 2, 4, 8, 64, 1024, 3, 6, 12, 15, 60, 100, 243, 1000,
+      7, 37, 74, 97, 101, 257, 1009 };
+
+  /**
+   * Constructor for FFTTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public FFTTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   * 定義どおりにO(n^2)で離散フーリエ変換を計算する.
+   *
+   * @param re
+   *          実部
+   * @param im
+   *          虚部
+   * @return {実部, 虚部}
+   */
+  private static double[][] dft(final double[] re, final double[] im) {
+    final int n = re.length;
+    final double[] xr = new double[n];
+    final double[] xi = new double[n];
+    for (int k = 0; k < n; k++) {
+      for (int j = 0; j < n; j++) {
+        final double angle = -2.0d * Math.PI * ((long) j * k % n) / n;
+        xr[k] += re[j] * Math.cos(angle) - im[j] * Math.sin(angle);
+        xi[k] += re[j] * Math.sin(angle) + im[j] * Math.cos(angle);
+      }
+    }
+    return new double[][] { xr, xi };
+  }
+
+  /**
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  public void testForward() {
+    final Random random = new Random(1L);
+    for (final int n : SIZES) {
+      final double[] re = random(n, random);
+      final double[] im = random(n, random);
+      final double[][] expected = dft(re, im);
+      final FFT fft = FFT.getInstance(n);
+      assertEquals(n, fft.getSize());
+      fft.forward(re, im);
+      final double delta = 1.0e-12d * n;
+      assertArray(expected[0], re, delta);
+      assertArray(expected[1], im, delta);
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  public void testInverse() {
+    final Random random = new Random(2L);
+    for (final int n : SIZES) {
+      final double[] re = random(n, random);
+      final double[] im = random(n, random);
+      final double[] xr = re.clone();
+      final double[] xi = im.clone();
+      final FFT fft = FFT.getInstance(n);
+      fft.forward(xr, xi);
+      fft.inverse(xr, xi);
+      assertArray(re, xr, 1.0e-14d * n);
+      assertArray(im, xi, 1.0e-14d * n);
+    }
+    assertSame(FFT.getInstance(100), FFT.getInstance(100));
+    try {
+      FFT.getInstance(8).forward(new double[8], new double[7]);
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+    try {
+      FFT.getInstance(0);
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  public void testRealFFT() {
+    final Random random = new Random(3L);
+    for (final int n : SIZES) {
+      final double[] x = random(n, random);
+      final double[][] expected = dft(x, new double[n]);
+      final RealFFT fft = RealFFT.getInstance(n);
+      final int h = fft.getSpectrumSize();
+      assertEquals(n / 2 + 1, h);
+      final double[] re = new double[h];
+      final double[] im = new double[h];
+      fft.forward(x, re, im);
+      final double delta = 1.0e-12d * n;
+      for (int k = 0; k < h; k++) {
+        assertEquals(expected[0][k], re[k], delta);
+        assertEquals(expected[1][k], im[k], delta);
+      }
+      final double[] y = new double[n];
+      fft.inverse(re, im, y);
+      assertArray(x, y, 1.0e-14d * n);
+
+      final double[] fullRe = new double[n];
+      final double[] fullIm = new double[n];
+      fft.forwardFull(x, fullRe, fullIm);
+      assertArray(expected[0], fullRe, delta);
+      assertArray(expected[1], fullIm, delta);
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  public void testBatch() {
+    final Random random = new Random(4L);
+    final int n = 360;
+    final int count = 200;
+    final double[][] re = new double[count][];
+    final double[][] im = new double[count][];
+    final double[][] er = new double[count][];
+    final double[][] ei = new double[count][];
+    final FFT fft = FFT.getInstance(n);
+    for (int i = 0; i < count; i++) {
+      re[i] = random(n, random);
+      im[i] = random(n, random);
+      er[i] = re[i].clone();
+      ei[i] = im[i].clone();
+      fft.forward(er[i], ei[i]);
+    }
+    final double[][] xr = new double[count][];
+    final double[][] xi = new double[count][];
+    for (int i = 0; i < count; i++) {
+      xr[i] = re[i].clone();
+      xi[i] = im[i].clone();
+    }
+    fft.forward(xr, xi);
+    for (int i = 0; i < count; i++) {
+      assertArray(er[i], xr[i], 0.0d);
+      assertArray(ei[i], xi[i], 0.0d);
+    }
+    fft.inverse(xr, xi);
+    for (int i = 0; i < count; i++) {
+      assertArray(re[i], xr[i], 1.0e-13d);
+      assertArray(im[i], xi[i], 1.0e-13d);
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 19:58:06
+   */
+  @SuppressWarnings("deprecation")
+  public void testIntegration() {
+    final Random random = new Random(5L);
+    final int n = 30;
+    final double[] re = random(n, random);
+    final double[] im = random(n, random);
+    final double[][] expected = dft(re, im);
+
+    final ComplexArray array = new ComplexArray(re, im);
+    final ComplexArray spectrum = array.fft();
+    assertArray(expected[0], spectrum.getRealArray(), 1.0e-12d);
+    assertArray(expected[1], spectrum.getImaginaryArray(), 1.0e-12d);
+    assertArray(re, array.getRealArray(), 0.0d);
+    spectrum.ifftInPlace();
+    assertArray(re, spectrum.getRealArray(), 1.0e-14d);
+    assertArray(im, spectrum.getImaginaryArray(), 1.0e-14d);
+
+    final ComplexVector vector = new ComplexVector(re, im).fft();
+    assertArray(expected[0], vector.getReal().getArray(), 1.0e-12d);
+    assertArray(im, vector.ifft().getImaginary().getArray(), 1.0e-14d);
+
+    final double[][] real = dft(re, new double[n]);
+    final ComplexVector realSpectrum = new DoubleVector(re).fft();
+    assertArray(real[0], realSpectrum.getReal().getArray(), 1.0e-12d);
+    assertArray(real[1], realSpectrum.getImaginary().getArray(), 1.0e-12d);
+  }
+
+}
@@ -0,0 +1,164 @@
+/**
+ * Created Date : 2026/10/18 21:12:40
+ */
+package name.sugawara.hiroshi.math.fft;
+
+import static name.sugawara.hiroshi.math.array.ArrayTestUtil.random;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * StreamingConvolutionのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 21:12:40
+ */
+public class StreamingConvolutionTest extends TestCase {
+
+  /**
+   * 入力を分ける断片の長さ. 1周するまで繰り返す.
+   */
+  private static final int[] CHUNKS = { 1, 7, 300, 0, 2048, 5000, 13, 64 };
+
+  /**
+   * Constructor for StreamingConvolutionTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public StreamingConvolutionTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   * 配列の先頭 actual.length 個が一致することを確認する.
+   *
+   * @param expected
+   *          期待値(長さ actual.length 以上)
+   * @param actual
+   *          結果
+   * @param delta
+   *          許容誤差
+   */
+  private static void assertPrefix(final double[] expected, final double[] actual,
+      final double delta) {
+    for (int i = 0; i < actual.length; i++) {
+      assertEquals(expected[i], actual[i], delta);
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  public void testReal() {
+    final Random random = new Random(1L);
+    for (final int m : new int[] { 1, 5, 100, 1500 }) {
+      final double[] h = random(m, random);
+      final double[] x = random(20000, random);
+      final StreamingConvolution convolver = StreamingConvolution.convolver(h);
+      final StreamingConvolution correlator = StreamingConvolution.correlator(h);
+      assertEquals(m, convolver.getFilterLength());
+      assertTrue(convolver.getBlockSize() >= m);
+      assertFalse(convolver.isComplex());
+      final double[] y = new double[x.length];
+      final double[] z = new double[x.length];
+      int position = 0;
+      for (int c = 0; position < x.length; c++) {
+        final int n = Math.min(CHUNKS[c % CHUNKS.length], x.length - position);
+        convolver.process(x, position, n, y, position);
+        correlator.process(x, position, n, z, position);
+        position += n;
+      }
+      assertPrefix(Convolution.convolve(x, h), y, 1.0e-11d);
+      assertPrefix(Convolution.correlate(x, h), z, 1.0e-11d);
+
+      convolver.reset();
+      final double[] head = new double[100];
+      System.arraycopy(x, 0, head, 0, head.length);
+      assertPrefix(y, convolver.process(head), 1.0e-11d);
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  public void testBuffer() {
+    final Random random = new Random(2L);
+    final double[] h = random(40, random);
+    final double[] x = random(3000, random);
+    final double[] expected = Convolution.convolve(x, h);
+    final StreamingConvolution filter = StreamingConvolution.convolver(h);
+    final DoubleBuffer out = DoubleBuffer.allocate(x.length);
+    filter.process(DoubleBuffer.wrap(x, 0, 1000), out);
+    final DoubleBuffer direct = ByteBuffer.allocateDirect(8 * 2000).asDoubleBuffer();
+    direct.put(x, 1000, 2000).flip();
+    filter.process(direct, out);
+    assertEquals(x.length, out.position());
+    assertFalse(direct.hasRemaining());
+    assertPrefix(expected, out.array(), 1.0e-12d);
+    try {
+      filter.process(DoubleBuffer.wrap(x), DoubleBuffer.allocate(10));
+      fail();
+    } catch (final BufferOverflowException e) {
+      assertNotNull(e);
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 21:12:40
+   */
+  public void testComplex() {
+    final Random random = new Random(3L);
+    final double[] hr = random(60, random);
+    final double[] hi = random(60, random);
+    final double[] xr = random(5000, random);
+    final double[] xi = random(5000, random);
+    final double[][] expected = Convolution.convolve(xr, xi, hr, hi);
+    final StreamingConvolution filter = StreamingConvolution.convolver(hr, hi);
+    assertTrue(filter.isComplex());
+    final double[] yr = new double[xr.length];
+    final double[] yi = new double[xr.length];
+    int position = 0;
+    for (int c = 0; position < xr.length; c++) {
+      final int n = Math.min(CHUNKS[c % CHUNKS.length], xr.length - position);
+      final double[] cr = new double[n];
+      final double[] ci = new double[n];
+      System.arraycopy(xr, position, cr, 0, n);
+      System.arraycopy(xi, position, ci, 0, n);
+      final double[][] y = filter.process(cr, ci);
+      System.arraycopy(y[0], 0, yr, position, n);
+      System.arraycopy(y[1], 0, yi, position, n);
+      position += n;
+    }
+    assertPrefix(expected[0], yr, 1.0e-11d);
+    assertPrefix(expected[1], yi, 1.0e-11d);
+    try {
+      filter.process(new double[3]);
+      fail();
+    } catch (final IllegalStateException e) {
+      assertNotNull(e.getMessage());
+    }
+    try {
+      filter.process(new double[3], new double[2]);
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+    try {
+      StreamingConvolution.convolver(new double[0]);
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+}
@@ -4,6 +4,9 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -50,7 +53,7 @@ public class ArcCosineTest extends DecimalFunctionTest {
    *           例外.
    */
   @Before
-  protected final void setUp() throws Exception {
+  public final void setUp() throws Exception {
 
     this.acos = new ArcCosine(DecimalFunctionTest.PRECISION);
     this.acos2 = new ArcCosine(DecimalFunctionTest.PRECISION);
@@ -96,12 +99,13 @@ public class ArcCosineTest extends DecimalFunctionTest {
     double doubleResult;
     for (double i = -1; i < 1; i += 0.05) {
       str = Double.toString(i);
-      result = this.acos.getDependentVariable(new BigDecimal(str));
+      result = this.acos.getDependentVariable(new BigDecimal(i));
       doubleResult = Math.acos(i);
 
       System.out.println(" acos(" + str + ")= " + result + "\n");
       System.out.println("For Comparing To Math.acos(" + str + ") = " + doubleResult);
-      Assert.assertEquals("引数の値=" + str, result.doubleValue(), doubleResult, 10e-324);
+      Assert.assertEquals("引数の値=" + str, doubleResult, result.doubleValue(),
+          Math.ulp(doubleResult));
     }
 
     BigDecimal result1 = this.acos.getDependentVariable(BigDecimal.ONE);
@@ -119,4 +123,21 @@ public class ArcCosineTest extends DecimalFunctionTest {
     Assert.assertEquals(result2.doubleValue(), doubleResult2, 10e-324);
 
   }
+
+  /**
+   * 1 に近い x で桁落ちせず、x = -1 で π を返すことを確認する.
+   *
+   * @since 2026/10/19 4:12:30
+   */
+  @Test
+  public void testNearOne() {
+    final ArcCosine acos30 = new ArcCosine(new RoundingError(new MathContext(30)));
+    Assert.assertEquals(new BigDecimal("1.41421356237309504880168872421E-19"), acos30
+        .getDependentVariable(new BigDecimal("0.99999999999999999999999999999999999999")));
+    Assert.assertEquals(new BigDecimal("3.14159265358979323846264338328"), acos30
+        .getDependentVariable(BigDecimal.ONE.negate()));
+    Assert.assertEquals(new BigDecimal("1.047197551196597746154214461093167628066"),
+        new ArcCosine(new RoundingError(new MathContext(40))).getDependentVariable(new BigDecimal(
+            "0.5")));
+  }
 }
@@ -4,6 +4,9 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import junit.framework.TestCase;
 
@@ -44,7 +47,7 @@ public class ArcSineTest extends DecimalFunctionTest {
    *           例外.
    */
   @Before
-  protected void setUp() throws Exception {
+  public void setUp() throws Exception {
     this.asin = new ArcSine(DecimalFunctionTest.PRECISION);
     this.asin2 = new ArcSine(DecimalFunctionTest.PRECISION);
   }
@@ -84,28 +87,44 @@ public class ArcSineTest extends DecimalFunctionTest {
     double doubleResult;
     for (double i = -1; i < 1; i += 0.05) {
       str = Double.toString(i);
-      result = this.asin.getDependentVariable(new BigDecimal(str));
-      doubleResult = Math.acos(i);
+      result = this.asin.getDependentVariable(new BigDecimal(i));
+      doubleResult = Math.asin(i);
 
-      System.out.println(" acos(" + str + ")= " + result + "\n");
-      System.out.println("For Comparing To Math.acos(" + str + ") = " + doubleResult);
-      Assert.assertEquals("引数の値=" + str, result.doubleValue(), doubleResult, 10e-324);
+      System.out.println(" asin(" + str + ")= " + result + "\n");
+      System.out.println("For Comparing To Math.asin(" + str + ") = " + doubleResult);
+      Assert.assertEquals("引数の値=" + str, doubleResult, result.doubleValue(),
+          Math.ulp(doubleResult));
     }
 
     BigDecimal result1 = this.asin.getDependentVariable(BigDecimal.ONE);
     BigDecimal result2 = this.asin.getDependentVariable(BigDecimal.ONE.negate());
-    System.out.println(" acos(1)= " + result1);
-    System.out.println(" acos(-1)= " + result2);
+    System.out.println(" asin(1)= " + result1);
+    System.out.println(" asin(-1)= " + result2);
 
-    double doubleResult1 = Math.acos(1);
-    double doubleResult2 = Math.acos(-1);
+    double doubleResult1 = Math.asin(1);
+    double doubleResult2 = Math.asin(-1);
 
-    System.out.println("For Comparing To Math.acos(-1) = " + Math.acos(-1));
-    System.out.println("For Comparing To Math.acos(1) = " + Math.acos(1));
+    System.out.println("For Comparing To Math.asin(-1) = " + Math.asin(-1));
+    System.out.println("For Comparing To Math.asin(1) = " + Math.asin(1));
 
     Assert.assertEquals(result1.doubleValue(), doubleResult1, 10e-324);
     Assert.assertEquals(result2.doubleValue(), doubleResult2, 10e-324);
 
   }
 
+  /**
+   * 1 に近い x と定義域の端で、精度どおりに丸めた値を返すことを確認する.
+   *
+   * @since 2026/10/19 4:12:30
+   */
+  @Test
+  public void testNearOne() {
+    final ArcSine asin30 = new ArcSine(new RoundingError(new MathContext(30)));
+    Assert.assertEquals(new BigDecimal("1.57079632679489661908990033540"), asin30
+        .getDependentVariable(new BigDecimal("0.99999999999999999999999999999999999999")));
+    Assert.assertEquals(new BigDecimal("-1.57079632679489661923132169164"), asin30
+        .getDependentVariable(BigDecimal.ONE.negate()));
+    Assert.assertEquals(new BigDecimal("0.5235987755982988730771072305465838140329"), new ArcSine(
+        new RoundingError(new MathContext(40))).getDependentVariable(new BigDecimal("0.5")));
+  }
 }
@@ -4,6 +4,10 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import junit.framework.Assert;
 import junit.framework.TestCase;
@@ -39,7 +43,7 @@ public final class ArcTangentTest extends DecimalFunctionTest {
    *           例外.
    */
   @Before
-  protected void setUp() throws Exception {
+  public void setUp() throws Exception {
     this.atan = new ArcTangent(DecimalFunctionTest.PRECISION);
     this.atan2 = new ArcTangent(DecimalFunctionTest.PRECISION);
   }
@@ -69,7 +73,7 @@ public final class ArcTangentTest extends DecimalFunctionTest {
 
     System.out.println("value1=" + value1);
     System.out.println("value2=" + value2);
-    System.out.println("value3=" + value2);
+    System.out.println("value3=" + value3);
     Assert.assertEquals(value1.doubleValue(), value2.doubleValue(), 10e-324);
     Assert.assertEquals(value2.doubleValue(), value3.doubleValue(), 10e-324);
     Assert.assertEquals(value3.doubleValue(), value1.doubleValue(), 10e-324);
@@ -79,28 +83,51 @@ public final class ArcTangentTest extends DecimalFunctionTest {
     double doubleResult;
     for (double i = -1; i < 1; i += 0.05) {
       str = Double.toString(i);
-      result = this.atan.getDependentVariable(new BigDecimal(str));
-      doubleResult = Math.acos(i);
+      result = this.atan.getDependentVariable(new BigDecimal(i));
+      doubleResult = Math.atan(i);
 
-      System.out.println(" acos(" + str + ")= " + result + "\n");
-      System.out.println("For Comparing To Math.acos(" + str + ") = " + doubleResult);
-      Assert.assertEquals("引数の値=" + str, result.doubleValue(), doubleResult, 10e-324);
+      System.out.println(" atan(" + str + ")= " + result + "\n");
+      System.out.println("For Comparing To Math.atan(" + str + ") = " + doubleResult);
+      Assert.assertEquals("引数の値=" + str, doubleResult, result.doubleValue(),
+          Math.ulp(doubleResult));
     }
 
     BigDecimal result1 = this.atan.getDependentVariable(BigDecimal.ONE);
     BigDecimal result2 = this.atan.getDependentVariable(BigDecimal.ONE.negate());
-    System.out.println(" acos(1)= " + result1);
-    System.out.println(" acos(-1)= " + result2);
+    System.out.println(" atan(1)= " + result1);
+    System.out.println(" atan(-1)= " + result2);
 
-    double doubleResult1 = Math.acos(1);
-    double doubleResult2 = Math.acos(-1);
+    double doubleResult1 = Math.atan(1);
+    double doubleResult2 = Math.atan(-1);
 
-    System.out.println("For Comparing To Math.acos(-1) = " + Math.acos(-1));
-    System.out.println("For Comparing To Math.acos(1) = " + Math.acos(1));
+    System.out.println("For Comparing To Math.atan(-1) = " + Math.atan(-1));
+    System.out.println("For Comparing To Math.atan(1) = " + Math.atan(1));
 
     Assert.assertEquals(result1.doubleValue(), doubleResult1, 10e-324);
     Assert.assertEquals(result2.doubleValue(), doubleResult2, 10e-324);
 
   }
 
+  /**
+   * MathContext の精度と丸めモードどおりに丸め、|x| &gt; 1 も求められることを確認する.
+   *
+   * @since 2026/10/19 4:12:30
+   */
+  @Test
+  public void testRounding() {
+    final MathContext mc = new MathContext(50);
+    final ArcTangent atan50 = new ArcTangent(new RoundingError(mc));
+    Assert.assertEquals(new BigDecimal("0.78539816339744830961566084581987572104929234984378"),
+        atan50.getDependentVariable(BigDecimal.ONE));
+    Assert.assertEquals(new BigDecimal("1.5707963267948966192213216916397514420985846996876"),
+        atan50.getDependentVariable(new BigDecimal("1E+20")));
+
+    final BigDecimal atanHalf = new BigDecimal("-0.46364760900080611621425623146121440202853705");
+    for (final RoundingMode mode : new RoundingMode[] { RoundingMode.FLOOR,
+        RoundingMode.CEILING }) {
+      final MathContext directed = new MathContext(40, mode);
+      Assert.assertEquals(atanHalf.round(directed), new ArcTangent(new RoundingError(directed))
+          .getDependentVariable(new BigDecimal("-0.5")));
+    }
+  }
 }
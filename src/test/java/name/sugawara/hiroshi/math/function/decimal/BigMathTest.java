@@ -0,0 +1,134 @@
+/**
+ * Created Date : 2026/10/19 0:31:08
+ */
+package name.sugawara.hiroshi.math.function.decimal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import name.sugawara.hiroshi.math.complex.BigComplex;
+import name.sugawara.hiroshi.math.precision.NandEpsilon;
+import name.sugawara.hiroshi.math.precision.Precision;
+import name.sugawara.hiroshi.math.precision.RoundingError;
+
+import org.junit.Test;
+
+/**
+ * BigMath のテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$ Created Date : 2026/10/19 0:31:08
+ */
+public class BigMathTest {
+
+  /**
+   * 50桁の精度.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  private static final Precision PRECISION = new NandEpsilon(BigInteger.valueOf(40L),
+                                               new BigDecimal("1E-50"), new MathContext(50));
+
+  /**
+   * 精度ごとに関数オブジェクトを共有することを確認する.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  @Test
+  public final void testShared() {
+    final Precision same = new NandEpsilon(BigInteger.valueOf(40L), new BigDecimal("1E-50"),
+        new MathContext(50));
+    assertSame(DecimalFunctions.of(BigMathTest.PRECISION), DecimalFunctions.of(same));
+
+    final Precision other = new NandEpsilon(BigInteger.valueOf(41L), new BigDecimal("1E-50"),
+        new MathContext(50));
+    assertNotSame(DecimalFunctions.of(BigMathTest.PRECISION), DecimalFunctions.of(other));
+
+    // RoundingError#equals は NandEpsilon と等しいと判定するが、共有してはならない.
+    final Precision base = new RoundingError(new MathContext(50));
+    assertNotSame(DecimalFunctions.of(BigMathTest.PRECISION).precision.getClass(),
+        DecimalFunctions.of(base).precision.getClass());
+  }
+
+  /**
+   * 精度が null でも生成できることを確認する.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  @Test
+  public final void testNullPrecision() {
+    assertNotNull(new BigMath(null));
+    assertNotNull(BigComplex.ZERO);
+  }
+
+  /**
+   * 関数オブジェクトを直接使った場合と同じ値を返すことを確認する.
+   *
+   * @since 2026/10/19 0:31:08
+   */
+  @Test
+  public final void testValues() {
+    final BigMath math = new BigMath(BigMathTest.PRECISION);
+    final BigDecimal x = new BigDecimal("0.7");
+    assertEquals(new Sine(BigMathTest.PRECISION).getDependentVariable(x), math.sin(x));
+    assertEquals(new Tangent(BigMathTest.PRECISION).getDependentVariable(x), math.tan(x));
+    assertEquals(new ArcTangent(BigMathTest.PRECISION).getDependentVariable(x), math.atan(x));
+    assertEquals(new Exponent(BigMathTest.PRECISION).getDependentVariable(x), math.exp(x));
+    assertEquals(new Log(BigMathTest.PRECISION).getDependentVariable(x), math.log(x));
+    assertEquals(new HyperbolicSine(BigMathTest.PRECISION).getDependentVariable(x), math
+        .sinh(x));
+    assertEquals(Math.sinh(0.7), math.sinh(x).doubleValue(), 1.0E-15);
+    assertEquals(Math.cosh(0.7), math.cosh(x).doubleValue(), 1.0E-15);
+  }
+
+  /**
+   * 複数のスレッドから同時に使っても同じ値を返すことを確認する.
+   *
+   * @throws Exception
+   *           スレッドの実行に失敗した場合
+   * @since 2026/10/19 0:31:08
+   */
+  @Test
+  public final void testConcurrent() throws Exception {
+    final Precision p = new NandEpsilon(BigInteger.valueOf(30L), new BigDecimal("1E-40"),
+        new MathContext(40));
+    final BigDecimal x = new BigDecimal("1.3");
+    final BigMath expected = new BigMath(p);
+    final BigDecimal sin = new Sine(p).getDependentVariable(x);
+    final BigDecimal exp = new Exponent(p).getDependentVariable(x);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<BigDecimal[]>> futures = new ArrayList<Future<BigDecimal[]>>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(new Callable<BigDecimal[]>() {
+          @Override
+          public BigDecimal[] call() {
+            final BigMath math = new BigMath(p);
+            return new BigDecimal[] { math.sin(x), math.exp(x), expected.sin(x) };
+          }
+        }));
+      }
+      for (final Future<BigDecimal[]> future : futures) {
+        final BigDecimal[] values = future.get();
+        assertEquals(sin, values[0]);
+        assertEquals(exp, values[1]);
+        assertEquals(sin, values[2]);
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -4,10 +4,13 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
 
 import junit.framework.Assert;
 import junit.framework.TestCase;
 
+import name.sugawara.hiroshi.math.precision.RoundingError;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -37,7 +40,7 @@ public final class CosineTest extends DecimalFunctionTest {
    * @see TestCase#setUp()
    */
   @Before
-  protected void setUp() throws Exception {
+  public void setUp() throws Exception {
     this.cos = new Cosine(DecimalFunctionTest.PRECISION);
     this.cos2 = new Cosine(DecimalFunctionTest.PRECISION);
   }
@@ -93,4 +96,22 @@ public final class CosineTest extends DecimalFunctionTest {
       System.out.println("For Comparing To 1 - Math.cos(" + value.doubleValue() + ") = " + d);
     }
   }
+
+  /**
+   * 1 - cos(x) ではなく cos(x) を返すことを確認する.
+   *
+   * @since 2026/10/19 3:36:52
+   */
+  @Test
+  public void testValue() {
+    final MathContext mc = new MathContext(50);
+    final Cosine cosine = new Cosine(new RoundingError(mc));
+    Assert.assertEquals(BigDecimal.ONE, cosine.getDependentVariable(BigDecimal.ZERO));
+    Assert.assertEquals(new BigDecimal(
+        "0.5403023058681397174009366074429766037323104206179222276700972553811").round(mc), cosine
+        .getDependentVariable(BigDecimal.ONE));
+    Assert.assertEquals(new BigDecimal(
+        "0.5232147853951389454975944733847094921409199724393879535272113921043").round(mc), cosine
+        .getDependentVariable(new BigDecimal("1E+22")));
+  }
 }
@@ -4,8 +4,11 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
 
 import junit.framework.TestCase;
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -37,7 +40,7 @@ public class CubeRootTest {
    * @see TestCase#setUp()
    */
   @Before
-  protected void setUp() throws Exception {
+  public void setUp() throws Exception {
 
     this.cube = new CubeRoot(DecimalFunctionTest.PRECISION);
     this.cube2 = new CubeRoot(DecimalFunctionTest.PRECISION);
@@ -91,4 +94,47 @@ public class CubeRootTest {
 
   }
 
+  /**
+   * MathContext の精度と丸めモードどおりに丸めることを確認する.
+   *
+   * @since 2026/10/19 1:48:26
+   */
+  @Test
+  public final void testRounding() {
+    final BigDecimal root2 = new BigDecimal(
+        "1.259921049894873164767210607278228350570251464701507980081975112155300");
+    final BigDecimal two = new BigDecimal("2");
+    for (final RoundingMode mode : new RoundingMode[] { RoundingMode.HALF_EVEN,
+        RoundingMode.FLOOR, RoundingMode.CEILING, RoundingMode.DOWN, RoundingMode.UP }) {
+      final MathContext mc = new MathContext(60, mode);
+      final CubeRoot cubeRoot = new CubeRoot(new RoundingError(mc));
+      Assert.assertEquals(root2.round(mc), cubeRoot.getDependentVariable(two));
+      Assert.assertEquals(root2.negate().round(mc), cubeRoot.getDependentVariable(two.negate()));
+      Assert.assertEquals(0, new BigDecimal("-3").compareTo(cubeRoot
+          .getDependentVariable(new BigDecimal("-27"))));
+      Assert.assertEquals(0, new BigDecimal("1E-100").compareTo(cubeRoot
+          .getDependentVariable(new BigDecimal("1E-300"))));
+    }
+  }
+
+  /**
+   * 丸めの境界に保護桁より近い根も、丸めモードどおりに丸めることを確認する.
+   *
+   * @since 2026/10/19 6:34:52
+   */
+  @Test
+  public final void testRoundingNearBoundary() {
+    final BigDecimal above = new BigDecimal("8").add(new BigDecimal("1E-60"));
+    final CubeRoot ceiling = new CubeRoot(new RoundingError(new MathContext(16,
+        RoundingMode.CEILING)));
+    Assert.assertEquals(new BigDecimal("2.000000000000001"), ceiling.getDependentVariable(above));
+    Assert.assertEquals(new BigDecimal("-2.000000000000000"), ceiling.getDependentVariable(above
+        .negate()));
+    final CubeRoot floor = new CubeRoot(new RoundingError(new MathContext(16,
+        RoundingMode.FLOOR)));
+    Assert.assertEquals(new BigDecimal("2.000000000000000"), floor.getDependentVariable(above));
+    Assert.assertEquals(new BigDecimal("-2.000000000000001"), floor.getDependentVariable(above
+        .negate()));
+  }
+
 }
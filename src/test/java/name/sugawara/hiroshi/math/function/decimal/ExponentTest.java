@@ -4,6 +4,10 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import name.sugawara.hiroshi.math.constant.ConstantCache;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -32,7 +36,7 @@ public class ExponentTest {
   /**
    */
   @Before
-  protected void setUp() throws Exception {
+  public void setUp() throws Exception {
     this.exp = new Exponent(DecimalFunctionTest.PRECISION);
     this.exp2 = new Exponent(DecimalFunctionTest.PRECISION);
   }
@@ -84,4 +88,50 @@ public class ExponentTest {
 
   }
 
+  /**
+   * Exponent#exp(BigDecimal, MathContext) のためのテスト・メソッド.
+   *
+   * @since 2026/10/19 1:12:40
+   */
+  @Test
+  public final void testExp() {
+    for (final int digits : new int[] { 1, 16, 60, 300 }) {
+      final MathContext mc = new MathContext(digits, RoundingMode.HALF_EVEN);
+      Assert.assertEquals(ConstantCache.e(mc), Exponent.exp(BigDecimal.ONE, mc));
+      final MathContext wide = new MathContext(digits + 5);
+      Assert.assertEquals(0, new BigDecimal("2").compareTo(Exponent.exp(ConstantCache.ln2(wide),
+          mc)));
+      Assert.assertEquals(0, new BigDecimal("10").compareTo(Exponent.exp(
+          ConstantCache.ln10(wide), mc)));
+    }
+    final MathContext mc = new MathContext(40);
+    final BigDecimal x = new BigDecimal("-123.456");
+    final BigDecimal product = Exponent.exp(x, mc).multiply(Exponent.exp(x.negate(), mc));
+    Assert.assertEquals(BigDecimal.ONE, product.round(new MathContext(38)).stripTrailingZeros());
+    Assert.assertEquals(BigDecimal.ONE, Exponent.exp(BigDecimal.ZERO, mc));
+    Assert.assertEquals(Math.exp(1.0E-30), Exponent.exp(new BigDecimal("1E-30"), mc)
+        .doubleValue(), 0.0);
+
+    try {
+      Exponent.exp(BigDecimal.ONE, MathContext.UNLIMITED);
+      Assert.fail();
+    } catch (final IllegalArgumentException e) {
+      Assert.assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   * Exponent#ldexp(BigDecimal, int, MathContext) のためのテスト・メソッド.
+   *
+   * @since 2026/10/19 1:12:40
+   */
+  @Test
+  public final void testLdexp() {
+    final MathContext mc = new MathContext(20);
+    Assert.assertEquals(new BigDecimal("3072"), Exponent.ldexp(new BigDecimal("3"), 10, mc));
+    Assert.assertEquals(0, new BigDecimal("0.375").compareTo(Exponent.ldexp(new BigDecimal("3"),
+        -3, mc)));
+    Assert.assertEquals(new BigDecimal("1.5"), Exponent.ldexp(new BigDecimal("1.5"), 0, mc));
+  }
+
 }
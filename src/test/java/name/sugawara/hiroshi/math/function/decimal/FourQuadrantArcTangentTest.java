@@ -4,6 +4,9 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -31,7 +34,7 @@ public class FourQuadrantArcTangentTest extends DecimalFunctionTest {
    * セットアップ.
    */
   @Before
-  protected void setUp() throws Exception {
+  public void setUp() throws Exception {
     this.atan2a = new FourQuadrantArcTangent(DecimalFunctionTest.PRECISION);
     this.atan2b = new FourQuadrantArcTangent(DecimalFunctionTest.PRECISION);
   }
@@ -167,4 +170,21 @@ public class FourQuadrantArcTangentTest extends DecimalFunctionTest {
 
   }
 
+  /**
+   * 負の実軸をはさむ点で、偏角が ±π に近い値になることを確認する.
+   *
+   * @since 2026/10/19 4:12:30
+   */
+  @Test
+  public void testNearNegativeAxis() {
+    final FourQuadrantArcTangent atan2 = new FourQuadrantArcTangent(new RoundingError(
+        new MathContext(30)));
+    final BigDecimal minusOne = BigDecimal.ONE.negate();
+    Assert.assertEquals(new BigDecimal("3.14159265358979323846264338328"), atan2
+        .getDependentVariable(new BigDecimal("1E-40"), minusOne));
+    Assert.assertEquals(new BigDecimal("-3.14159265358979323846264338328"), atan2
+        .getDependentVariable(new BigDecimal("-1E-40"), minusOne));
+    Assert.assertEquals(new BigDecimal("-2.35619449019234492884698253746"), atan2
+        .getDependentVariable(minusOne, minusOne));
+  }
 }
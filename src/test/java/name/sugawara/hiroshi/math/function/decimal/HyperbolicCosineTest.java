@@ -4,6 +4,10 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -29,7 +33,7 @@ public class HyperbolicCosineTest extends DecimalFunctionTest {
    * @see DecimalFunctionTest#setUp()
    */
   @Before
-  protected void setUp() throws Exception {
+  public void setUp() throws Exception {
     this.cosh = new HyperbolicCosine(DecimalFunctionTest.PRECISION);
     this.cosh2 = new HyperbolicCosine(DecimalFunctionTest.PRECISION);
 
@@ -73,4 +77,20 @@ public class HyperbolicCosineTest extends DecimalFunctionTest {
     Assert.assertEquals(b.doubleValue(), real, 10e201);
   }
 
+  /**
+   * 0 に近い x で 1 + x^2/2 の末尾の桁が丸めモードどおりになることを確認する.
+   *
+   * @since 2026/10/19 4:12:30
+   */
+  @Test
+  public void testRoundingNearZero() {
+    final BigDecimal x = new BigDecimal("1E-30");
+    Assert.assertEquals(new BigDecimal("1.00000000000000000000000000001"), new HyperbolicCosine(
+        new RoundingError(new MathContext(30, RoundingMode.CEILING))).getDependentVariable(x));
+    Assert.assertEquals(new BigDecimal("1.00000000000000000000000000000"), new HyperbolicCosine(
+        new RoundingError(new MathContext(30, RoundingMode.FLOOR))).getDependentVariable(x));
+    Assert.assertEquals(new BigDecimal("1.5430806348152437784779056207570616826015291123659"),
+        new HyperbolicCosine(new RoundingError(new MathContext(50))).getDependentVariable(
+            BigDecimal.ONE));
+  }
 }
@@ -11,6 +11,7 @@ import java.math.RoundingMode;
 import junit.framework.Assert;
 import name.sugawara.hiroshi.math.precision.NandEpsilon;
 import name.sugawara.hiroshi.math.precision.Precision;
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -34,7 +35,7 @@ public class HyperbolicSineTest extends DecimalFunctionTest {
    * @see DecimalFunctionTest#setUp()
    */
   @Before
-  protected void setUp() throws Exception {
+  public void setUp() throws Exception {
     MathContext mc = new MathContext(100, RoundingMode.HALF_EVEN);
     Precision p = new NandEpsilon(new BigInteger("1200"), DecimalFunctionTest.EPS, mc);
 
@@ -48,6 +49,7 @@ public class HyperbolicSineTest extends DecimalFunctionTest {
    * 'name.sugawara.hiroshi.math.function.decimal.HyperbolicSine.HyperbolicSine(Precision)'
    * のためのテスト・メソッド
    */
+  @Test
   public void testHyperbolicSine() {
     Assert.assertFalse(this.sinh.equals(this.sinh2));
     Assert.assertNotNull(this.sinh);
@@ -77,7 +79,7 @@ public class HyperbolicSineTest extends DecimalFunctionTest {
     System.out.println("BigDecimal sinh(" + 500 + ")=" + b);
     System.out.println("double sinh(" + 500 + ")=" + real);
 
-    Assert.assertEquals(b.doubleValue(), real, 10e-13);
+    Assert.assertEquals(real, b.doubleValue(), Math.ulp(real));
 
   }
 
@@ -101,4 +103,27 @@ public class HyperbolicSineTest extends DecimalFunctionTest {
     Assert.assertEquals(b.doubleValue(), real, 10e201);
 
   }
+
+  /**
+   * |x| &lt;= 0.001 で x + x^3/6 に打ち切らず、大きな |x| でも精度どおりの値を返すことを確認する.
+   *
+   * @since 2026/10/19 7:06:41
+   */
+  @Test
+  public void testSmallAndLarge() {
+    final HyperbolicSine sinh40 = new HyperbolicSine(new RoundingError(new MathContext(40)));
+    Assert.assertEquals(new BigDecimal("0.001000000166666675000000198412701168430360"), sinh40
+        .getDependentVariable(new BigDecimal("0.001")));
+    Assert.assertEquals(new BigDecimal("-0.0005000000208333335937500015500992117314953"), sinh40
+        .getDependentVariable(new BigDecimal("-0.0005")));
+    Assert.assertEquals(new BigDecimal("7.017961089264187053698851664204560410903E+216"), sinh40
+        .getDependentVariable(new BigDecimal("500")));
+    Assert.assertEquals(new BigDecimal("-5343237290762.231073495234278582585980811"), sinh40
+        .getDependentVariable(new BigDecimal("-30")));
+
+    // sinh(1E-20) = 1E-20 + 1.67E-61 + ... は UP で最後の桁が上がる.
+    Assert.assertEquals(new BigDecimal("1.000000000000000000000000000000000000001E-20"),
+        new HyperbolicSine(new RoundingError(new MathContext(40, RoundingMode.UP)))
+            .getDependentVariable(new BigDecimal("1E-20")));
+  }
 }
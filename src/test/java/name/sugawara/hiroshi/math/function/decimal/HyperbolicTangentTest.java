@@ -4,6 +4,10 @@
 package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -29,7 +33,7 @@ public class HyperbolicTangentTest extends DecimalFunctionTest {
    * @see DecimalFunctionTest#setUp()
    */
   @Before
-  protected void setUp() throws Exception {
+  public void setUp() throws Exception {
     this.tanh = new HyperbolicTangent(DecimalFunctionTest.PRECISION);
     this.tanh2 = new HyperbolicTangent(DecimalFunctionTest.PRECISION);
   }
@@ -69,4 +73,21 @@ public class HyperbolicTangentTest extends DecimalFunctionTest {
 
     Assert.assertEquals(b.doubleValue(), real, 10e-13);
   }
+
+  /**
+   * 大きな x で 1 に丸まり、切り捨てでは 1 未満の最大の値になることを確認する.
+   *
+   * @since 2026/10/19 4:12:30
+   */
+  @Test
+  public void testSaturation() {
+    final BigDecimal x = new BigDecimal("1E+10");
+    Assert.assertEquals(0, BigDecimal.ONE.compareTo(new HyperbolicTangent(new RoundingError(
+        new MathContext(30))).getDependentVariable(x)));
+    Assert.assertEquals(new BigDecimal("0.999999999999999999999999999999"), new HyperbolicTangent(
+        new RoundingError(new MathContext(30, RoundingMode.FLOOR))).getDependentVariable(x));
+    Assert.assertEquals(new BigDecimal("0.76159415595576488811945828260479359041276859725794"),
+        new HyperbolicTangent(new RoundingError(new MathContext(50))).getDependentVariable(
+            BigDecimal.ONE));
+  }
 }
@@ -5,9 +5,12 @@ package name.sugawara.hiroshi.math.function.decimal;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
 
 import name.sugawara.hiroshi.math.precision.NandEpsilon;
 import name.sugawara.hiroshi.math.precision.Precision;
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -33,7 +36,7 @@ public final class HypotenuseTest extends DecimalFunctionTest {
    * @see DecimalFunctionTest#setUp()
    */
   @Before
-  protected void setUp() throws Exception {
+  public void setUp() throws Exception {
     Precision p = new NandEpsilon(BigInteger.valueOf(5), DecimalFunctionTest.EPS,
         DecimalFunctionTest.MC);
     this.h = new Hypotenuse(p);
@@ -92,4 +95,43 @@ public final class HypotenuseTest extends DecimalFunctionTest {
     }
 
   }
+
+  /**
+   * 大きな値や小さな値でもあふれずに求め、正確に表せる値はそのまま返すことを確認する.
+   *
+   * @since 2026/10/19 1:48:26
+   */
+  @Test
+  public void testRange() {
+    final Hypotenuse floor = new Hypotenuse(new RoundingError(new MathContext(40,
+        RoundingMode.FLOOR)));
+    Assert.assertEquals(0, new BigDecimal("5").compareTo(floor.getDependentVariable(
+        new BigDecimal("3"), new BigDecimal("-4"))));
+    Assert.assertEquals(0, new BigDecimal("1.3E-500").compareTo(floor.getDependentVariable(
+        new BigDecimal("-5E-501"), new BigDecimal("1.2E-500"))));
+    Assert.assertEquals(0, new BigDecimal("7E+1000").compareTo(floor.getDependentVariable(
+        new BigDecimal("7E+1000"), BigDecimal.ZERO)));
+
+    final BigDecimal root2 = new BigDecimal("1.414213562373095048801688724209698078569671875376");
+    final MathContext mc = new MathContext(40);
+    Assert.assertEquals(root2.round(mc).scaleByPowerOfTen(400), new Hypotenuse(
+        new RoundingError(mc)).getDependentVariable(new BigDecimal("1E+400"), new BigDecimal(
+        "1E+400")));
+  }
+
+  /**
+   * 丸めの境界に保護桁より近い値も、丸めモードどおりに丸めることを確認する.
+   *
+   * @since 2026/10/19 6:34:52
+   */
+  @Test
+  public void testRoundingNearBoundary() {
+    final BigDecimal x = new BigDecimal("1E-30");
+    final BigDecimal y = new BigDecimal("1.5");
+    Assert.assertEquals(new BigDecimal("1.500000000000001"), new Hypotenuse(new RoundingError(
+        new MathContext(16, RoundingMode.UP))).getDependentVariable(x, y));
+    Assert.assertEquals(new BigDecimal("1.500000000000000"), new Hypotenuse(new RoundingError(
+        new MathContext(16, RoundingMode.DOWN))).getDependentVariable(x, y));
+  }
+
 }
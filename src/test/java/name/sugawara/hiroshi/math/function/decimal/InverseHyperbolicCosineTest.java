@@ -7,11 +7,13 @@ import static org.junit.Assert.assertNotNull;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
 
 import junit.framework.Assert;
 import name.sugawara.hiroshi.math.function.typedouble.DoubleMath;
 import name.sugawara.hiroshi.math.precision.NandEpsilon;
 import name.sugawara.hiroshi.math.precision.Precision;
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -104,4 +106,18 @@ public class InverseHyperbolicCosineTest {
     Assert.assertNotSame(this.arccosh, this.arccosh2);
   }
 
+  /**
+   * 1 に近い x で桁落ちせず、精度どおりの値を返すことを確認する.
+   *
+   * @since 2026/10/19 4:12:30
+   */
+  @Test
+  public void testRounding() {
+    Assert.assertEquals(new BigDecimal("1.41421356237309504880168872421E-20"),
+        new InverseHyperbolicCosine(new RoundingError(new MathContext(30))).getDependentVariable(
+            new BigDecimal("1.0000000000000000000000000000000000000001")));
+    Assert.assertEquals(new BigDecimal("1.3169578969248167086250463473079684440269819714675"),
+        new InverseHyperbolicCosine(new RoundingError(new MathContext(50))).getDependentVariable(
+            BigDecimal.valueOf(2L)));
+  }
 }
@@ -9,10 +9,12 @@ import static org.junit.Assert.assertNotSame;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
 
 import name.sugawara.hiroshi.math.function.typedouble.DoubleMath;
 import name.sugawara.hiroshi.math.precision.NandEpsilon;
 import name.sugawara.hiroshi.math.precision.Precision;
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -79,4 +81,21 @@ public class InverseHyperbolicSineTest {
     }
   }
 
+  /**
+   * 0 に近い x、大きな負の x でも精度どおりの値を返すことを確認する.
+   *
+   * @since 2026/10/19 4:12:30
+   */
+  @Test
+  public void testRounding() {
+    final InverseHyperbolicSine asinh30 = new InverseHyperbolicSine(new RoundingError(
+        new MathContext(30)));
+    assertEquals(new BigDecimal("1.00000000000000000000000000000E-30"), asinh30
+        .getDependentVariable(new BigDecimal("1E-30")));
+    assertEquals(new BigDecimal("-230.951656479964513711216377590"), asinh30
+        .getDependentVariable(new BigDecimal("-1E+100")));
+    assertEquals(new BigDecimal("0.88137358701954302523260932497979230902816032826164"),
+        new InverseHyperbolicSine(new RoundingError(new MathContext(50))).getDependentVariable(
+            BigDecimal.ONE));
+  }
 }
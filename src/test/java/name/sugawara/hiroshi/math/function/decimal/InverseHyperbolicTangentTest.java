@@ -9,10 +9,12 @@ import static org.junit.Assert.assertNotSame;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
 
 import name.sugawara.hiroshi.math.function.typedouble.DoubleMath;
 import name.sugawara.hiroshi.math.precision.NandEpsilon;
 import name.sugawara.hiroshi.math.precision.Precision;
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -106,4 +108,22 @@ public class InverseHyperbolicTangentTest {
     assertEquals(result.doubleValue(), dResult, 10e-14);
 
   }
+
+  /**
+   * 0 と ±1 の近くで精度どおりの値を返すことを確認する.
+   *
+   * @since 2026/10/19 4:12:30
+   */
+  @Test
+  public void testRounding() {
+    final InverseHyperbolicTangent atanh30 = new InverseHyperbolicTangent(new RoundingError(
+        new MathContext(30)));
+    assertEquals(new BigDecimal("1.00000000000000000000000000000E-30"), atanh30
+        .getDependentVariable(new BigDecimal("1E-30")));
+    assertEquals(new BigDecimal("-23.3724245202204294948860306076"), atanh30
+        .getDependentVariable(new BigDecimal("-0.99999999999999999999")));
+    assertEquals(new BigDecimal("0.54930614433405484569762261846126285232374527891137"),
+        new InverseHyperbolicTangent(new RoundingError(new MathContext(50)))
+            .getDependentVariable(new BigDecimal("0.5")));
+  }
 }
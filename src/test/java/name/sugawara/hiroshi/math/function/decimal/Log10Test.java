@@ -9,9 +9,12 @@ import static org.junit.Assert.assertNotSame;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
 
 import name.sugawara.hiroshi.math.precision.NandEpsilon;
 import name.sugawara.hiroshi.math.precision.Precision;
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -93,4 +96,26 @@ public class Log10Test {
     }
   }
 
+  /**
+   * 10の整数乗は丸めモードによらず正確な値を返し、それ以外は正しく丸めることを確認する.
+   *
+   * @since 2026/10/19 2:58:10
+   */
+  @Test
+  public void testExact() {
+    final MathContext ceiling = new MathContext(50, RoundingMode.CEILING);
+    final Log10 log = new Log10(new RoundingError(ceiling));
+    assertEquals(0, new BigDecimal(-3).compareTo(log.getDependentVariable(new BigDecimal(
+        "0.001"))));
+    assertEquals(0, new BigDecimal(300).compareTo(log.getDependentVariable(new BigDecimal(
+        "1E+300"))));
+
+    final String log10Of3 = "0.477121254719662437295027903255115309200128864190695864829866";
+    for (final RoundingMode mode : new RoundingMode[] { RoundingMode.HALF_EVEN,
+        RoundingMode.FLOOR, RoundingMode.CEILING }) {
+      final MathContext mc = new MathContext(50, mode);
+      assertEquals(new BigDecimal(log10Of3).round(mc), Log10.log10(new BigDecimal(3),
+          new RoundingError(mc)));
+    }
+  }
 }
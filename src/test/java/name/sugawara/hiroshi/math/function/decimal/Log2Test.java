@@ -9,9 +9,12 @@ import static org.junit.Assert.assertNotSame;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
 
 import name.sugawara.hiroshi.math.precision.NandEpsilon;
 import name.sugawara.hiroshi.math.precision.Precision;
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -93,4 +96,26 @@ public class Log2Test {
     }
   }
 
+  /**
+   * 2の整数乗は丸めモードによらず正確な値を返し、それ以外は正しく丸めることを確認する.
+   *
+   * @since 2026/10/19 2:58:10
+   */
+  @Test
+  public void testExact() {
+    final MathContext floor = new MathContext(50, RoundingMode.FLOOR);
+    final Log2 log = new Log2(new RoundingError(floor));
+    assertEquals(0, BigDecimal.TEN.compareTo(log.getDependentVariable(new BigDecimal(1024))));
+    assertEquals(0, new BigDecimal(-3).compareTo(log.getDependentVariable(new BigDecimal(
+        "0.125"))));
+    assertEquals(0, BigDecimal.ZERO.compareTo(log.getDependentVariable(BigDecimal.ONE)));
+
+    final String log2Of3 = "1.58496250072115618145373894394781650875981440769248106045575";
+    for (final RoundingMode mode : new RoundingMode[] { RoundingMode.HALF_EVEN,
+        RoundingMode.FLOOR, RoundingMode.CEILING }) {
+      final MathContext mc = new MathContext(50, mode);
+      assertEquals(new BigDecimal(log2Of3).round(mc), Log2.log2(new BigDecimal(3),
+          new RoundingError(mc)));
+    }
+  }
 }
@@ -6,12 +6,16 @@ package name.sugawara.hiroshi.math.function.decimal;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
 
 import name.sugawara.hiroshi.math.precision.NandEpsilon;
 import name.sugawara.hiroshi.math.precision.Precision;
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -95,4 +99,56 @@ public class LogTest {
 
   }
 
+  /**
+   * MathContext の精度と丸めモードどおりに丸めることを確認する.
+   *
+   * @since 2026/10/19 2:58:10
+   */
+  @Test
+  public void testRounding() {
+    final BigDecimal x = new BigDecimal("0.7");
+    final String lnX = "-0.35667494393873237891263871124118447796401675904691178757393"
+        + "77510299927";
+    for (final RoundingMode mode : new RoundingMode[] { RoundingMode.HALF_EVEN,
+        RoundingMode.FLOOR, RoundingMode.CEILING, RoundingMode.DOWN, RoundingMode.UP }) {
+      final MathContext mc = new MathContext(60, mode);
+      assertEquals(new BigDecimal(lnX).round(mc), new Log(new RoundingError(mc))
+          .getDependentVariable(x));
+    }
+
+    final MathContext mc = new MathContext(100);
+    final Log log100 = new Log(new RoundingError(mc));
+    assertEquals(new BigDecimal("0.69314718055994530941723212145817656807550013436025525412068"
+        + "000949339362196969471560586332699641868754200148102").round(mc), log100
+        .getDependentVariable(new BigDecimal(2)));
+    assertEquals(new BigDecimal("690.77552789821370520539743640530926228033044658863189280999"
+        + "837029027178290320574407079916152687948950259033521").round(mc), log100
+        .getDependentVariable(new BigDecimal("1E+300")));
+    assertEquals(BigDecimal.ZERO, log100.getDependentVariable(BigDecimal.ONE));
+
+    // (1.048 - 1) / (1.048 + 1) = 0.0234375 は割り切れる.
+    assertEquals(new BigDecimal("0.0468835858988504203471460114910"), new Log(new RoundingError(
+        new MathContext(30))).getDependentVariable(new BigDecimal("1.048")));
+
+    // ln(1 + t) = t - t^2/2 + ... は t を少し下回るため、切り捨てでは t にならない.
+    final BigDecimal t = new BigDecimal("3E-60");
+    assertEquals(new BigDecimal("2.9999999999999999E-60"), new Log(new RoundingError(
+        new MathContext(17, RoundingMode.FLOOR))).getDependentVariable(BigDecimal.ONE.add(t)));
+    assertEquals(new BigDecimal("3.0000000000000000E-60"), new Log(new RoundingError(
+        new MathContext(17, RoundingMode.CEILING))).getDependentVariable(BigDecimal.ONE.add(t)));
+  }
+
+  /**
+   * 算術幾何平均を使う桁数で、ln(x) + ln(1 / x) が 0 になることを確認する.
+   *
+   * @since 2026/10/19 2:58:10
+   */
+  @Test
+  public void testHighPrecision() {
+    final Log log400 = new Log(new RoundingError(new MathContext(400)));
+    final BigDecimal sum = log400.getDependentVariable(new BigDecimal("1.3")).add(
+        log400.getDependentVariable(new BigDecimal(10).divide(new BigDecimal(13),
+            new MathContext(420))));
+    assertTrue(sum.abs().compareTo(BigDecimal.ONE.scaleByPowerOfTen(-395)) < 0);
+  }
 }
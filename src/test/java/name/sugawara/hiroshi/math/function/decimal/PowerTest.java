@@ -9,6 +9,8 @@ import static org.junit.Assert.assertNotSame;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -115,4 +117,32 @@ public class PowerTest {
       }
     }
   }
+
+  /**
+   * 途中の積を丸めながら、大きな指数でも正しく丸めた値を返すことを確認する.
+   *
+   * @since 2026/10/19 2:21:43
+   */
+  @Test
+  public final void testLargeExponent() {
+    final MathContext mc = new MathContext(40);
+    assertEquals(new BigDecimal("1.105170912549793416638382709346716159349"), Power.pow(
+        new BigDecimal("1.0000001"), BigInteger.valueOf(1000000L), mc));
+    assertEquals(new BigDecimal("0.9048374225601463730420631037862025284985"), Power.pow(
+        new BigDecimal("1.0000001"), BigInteger.valueOf(-1000000L), mc));
+
+    final BigDecimal base = new BigDecimal("-1.23");
+    for (int n = -50; n <= 50; n++) {
+      for (final RoundingMode mode : new RoundingMode[] { RoundingMode.HALF_EVEN,
+          RoundingMode.FLOOR, RoundingMode.UP }) {
+        final MathContext m = new MathContext(20, mode);
+        final BigDecimal expected = n >= 0 ? base.pow(n).round(m) : BigDecimal.ONE.divide(base
+            .pow(-n), m);
+        assertEquals(expected, Power.pow(base, BigInteger.valueOf(n), m));
+      }
+    }
+    assertEquals(new BigDecimal("-1.23").pow(7), Power.pow(base, BigInteger.valueOf(7L),
+        MathContext.UNLIMITED));
+  }
+
 }
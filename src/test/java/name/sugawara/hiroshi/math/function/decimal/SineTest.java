@@ -8,8 +8,11 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
 
 import name.sugawara.hiroshi.math.precision.Precision;
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -71,4 +74,29 @@ public class SineTest {
     }
   }
 
+  /**
+   * MathContext の精度と丸めモードどおりに丸め、大きな引数も正しく還元することを確認する.
+   *
+   * @since 2026/10/19 3:36:52
+   */
+  @Test
+  public void testRounding() {
+    final String sinOne = "0.841470984807896506652502321630298999622563060798371065672751709992";
+    for (final RoundingMode mode : new RoundingMode[] { RoundingMode.HALF_EVEN,
+        RoundingMode.FLOOR, RoundingMode.CEILING }) {
+      final MathContext mc = new MathContext(60, mode);
+      assertEquals(new BigDecimal(sinOne).round(mc), new Sine(new RoundingError(mc))
+          .getDependentVariable(BigDecimal.ONE));
+    }
+
+    final MathContext mc = new MathContext(50);
+    assertEquals(new BigDecimal("-0.8522008497671888017727058937530293682617621504100436562565")
+        .round(mc), new Sine(new RoundingError(mc)).getDependentVariable(new BigDecimal(
+        "1E+22")));
+
+    // sin(x) = x - x^3/6 + ... は x を少し下回るため、切り捨てでは x にならない.
+    final Sine floor = new Sine(new RoundingError(new MathContext(20, RoundingMode.FLOOR)));
+    assertEquals(new BigDecimal("9.9999999999999999999E-31"), floor.getDependentVariable(
+        new BigDecimal("1E-30")));
+  }
 }
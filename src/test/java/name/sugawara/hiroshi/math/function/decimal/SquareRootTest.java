@@ -8,6 +8,10 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -36,7 +40,7 @@ public final class SquareRootTest extends DecimalFunctionTest {
    * セットアップ.
    */
   @Before
-  protected void setUp() throws Exception {
+  public void setUp() throws Exception {
     this.sqrt = new SquareRoot(PRECISION);
     this.sqrt2 = new SquareRoot(PRECISION);
 
@@ -75,4 +79,68 @@ public final class SquareRootTest extends DecimalFunctionTest {
     }
   }
 
+  /**
+   * MathContext の精度と丸めモードどおりに丸めることを確認する.
+   *
+   * @since 2026/10/19 1:48:26
+   */
+  @Test
+  public void testRounding() {
+    final String root2 = "1.41421356237309504880168872420969807856967187537694807317667973799";
+    assertEquals(new BigDecimal(root2).round(new MathContext(60)), new SquareRoot(
+        new RoundingError(new MathContext(60))).getDependentVariable(TWO));
+    for (final RoundingMode mode : new RoundingMode[] { RoundingMode.FLOOR,
+        RoundingMode.CEILING, RoundingMode.DOWN, RoundingMode.UP }) {
+      final MathContext mc = new MathContext(60, mode);
+      assertEquals(new BigDecimal(root2).round(mc), new SquareRoot(new RoundingError(mc))
+          .getDependentVariable(TWO));
+    }
+
+    // 正確に表せる値は丸めモードによらずそのまま返す.
+    final SquareRoot floor = new SquareRoot(new RoundingError(new MathContext(3,
+        RoundingMode.FLOOR)));
+    assertEquals(0, new BigDecimal("0.25").compareTo(floor.getDependentVariable(new BigDecimal(
+        "0.0625"))));
+    assertEquals(0, new BigDecimal("1E+150").compareTo(floor.getDependentVariable(new BigDecimal(
+        "1E+300"))));
+    assertEquals(0, new BigDecimal("1E-150").compareTo(floor.getDependentVariable(new BigDecimal(
+        "1E-300"))));
+  }
+
+  /**
+   * 丸めの境界に保護桁より近い根も、丸めモードどおりに丸めることを確認する.
+   *
+   * @since 2026/10/19 6:34:52
+   */
+  @Test
+  public void testRoundingNearBoundary() {
+    final BigDecimal tiny = new BigDecimal("1E-60");
+    final BigDecimal above = new BigDecimal("2.25").add(tiny);
+    final BigDecimal below = new BigDecimal("2.25").subtract(tiny);
+    final BigDecimal up = new BigDecimal("1.500000000000001");
+    final BigDecimal even = new BigDecimal("1.500000000000000");
+    final BigDecimal down = new BigDecimal("1.499999999999999");
+    for (final RoundingMode mode : new RoundingMode[] { RoundingMode.UP, RoundingMode.CEILING }) {
+      assertEquals(up, new SquareRoot(new RoundingError(new MathContext(16, mode)))
+          .getDependentVariable(above));
+      assertEquals(even, new SquareRoot(new RoundingError(new MathContext(16, mode)))
+          .getDependentVariable(below));
+    }
+    for (final RoundingMode mode : new RoundingMode[] { RoundingMode.DOWN, RoundingMode.FLOOR }) {
+      assertEquals(even, new SquareRoot(new RoundingError(new MathContext(16, mode)))
+          .getDependentVariable(above));
+      assertEquals(down, new SquareRoot(new RoundingError(new MathContext(16, mode)))
+          .getDependentVariable(below));
+    }
+    final SquareRoot halfEven = new SquareRoot(new RoundingError(new MathContext(16)));
+    assertEquals(even, halfEven.getDependentVariable(above));
+    assertEquals(even, halfEven.getDependentVariable(below));
+
+    // 中点にちょうど等しい根 sqrt(2.25) = 1.5 を 1 桁に丸める.
+    assertEquals(new BigDecimal("2"), new SquareRoot(new RoundingError(new MathContext(1,
+        RoundingMode.HALF_EVEN))).getDependentVariable(new BigDecimal("2.25")));
+    assertEquals(new BigDecimal("1"), new SquareRoot(new RoundingError(new MathContext(1,
+        RoundingMode.HALF_DOWN))).getDependentVariable(new BigDecimal("2.25")));
+  }
+
 }
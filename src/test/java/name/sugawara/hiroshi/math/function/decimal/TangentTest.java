@@ -8,6 +8,9 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+
+import name.sugawara.hiroshi.math.precision.RoundingError;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -73,4 +76,24 @@ public class TangentTest {
 
   }
 
+  /**
+   * NandEpsilon 以外の精度でも求められ、π/2 に近い引数でも有限の値を返すことを確認する.
+   *
+   * @since 2026/10/19 3:36:52
+   */
+  @Test
+  public void testRoundingError() {
+    final MathContext mc = new MathContext(50);
+    final Tangent tangent = new Tangent(new RoundingError(mc));
+    assertEquals(new BigDecimal(
+        "1.5574077246549022305069748074583601730872507723815200383839466056989").round(mc), tangent
+        .getDependentVariable(BigDecimal.ONE));
+    assertEquals(new BigDecimal(
+        "-0.5463024898437905132551794657802853832975517201797912461640913859329").round(mc),
+        tangent.getDependentVariable(new BigDecimal("-0.5")));
+
+    final BigDecimal nearHalfPi = new BigDecimal("1.5707963267948966192313216916397514");
+    assertEquals(1, tangent.getDependentVariable(nearHalfPi).compareTo(BigDecimal.ONE
+        .scaleByPowerOfTen(34)));
+  }
 }
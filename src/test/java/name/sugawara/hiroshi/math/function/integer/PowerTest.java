@@ -3,6 +3,7 @@
  */
 package name.sugawara.hiroshi.math.function.integer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
@@ -68,4 +69,25 @@ public class PowerTest {
     }
   }
 
+  /**
+   * 大きな指数でも2乗と掛け算で求め、0, 1, -1 は指数によらず求めることを確認する.
+   *
+   * @since 2026/10/19 2:21:43
+   */
+  @Test
+  public final void testLargeExponent() {
+    final BigInteger three = BigInteger.valueOf(3L);
+    BigInteger expected = BigInteger.ONE;
+    for (int i = 0; i < 1000; i++) {
+      expected = expected.multiply(three);
+    }
+    assertEquals(expected, Power.pow(three, BigInteger.valueOf(1000L)));
+
+    final BigInteger huge = BigInteger.ONE.shiftLeft(100).add(BigInteger.ONE);
+    assertEquals(BigInteger.ZERO, Power.pow(BigInteger.ZERO, huge));
+    assertEquals(BigInteger.ONE, Power.pow(BigInteger.ONE, huge));
+    assertEquals(BigInteger.ONE.negate(), Power.pow(BigInteger.ONE.negate(), huge));
+    assertEquals(BigInteger.ONE, Power.pow(BigInteger.ONE.negate(), huge.add(BigInteger.ONE)));
+  }
+
 }
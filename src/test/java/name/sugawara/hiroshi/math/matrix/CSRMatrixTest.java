@@ -0,0 +1,167 @@
+/**
+ * Created Date : 2026/10/18 18:05:37
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import static name.sugawara.hiroshi.math.matrix.MatrixTestUtil.maxDifference;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * CSRMatrix, CSCMatrix, SparseMatrixBuilderのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 18:05:37
+ */
+public class CSRMatrixTest extends TestCase {
+
+  /**
+   * Constructor for CSRMatrixTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public CSRMatrixTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   * 1行あたり平均perRow個の非零要素を持つ疎行列をビルダーで作る.
+   *
+   * @param m
+   *          行数
+   * @param n
+   *          列数
+   * @param perRow
+   *          1行あたりの要素数
+   * @param seed
+   *          乱数の種
+   * @return ビルダー
+   */
+  private static SparseMatrixBuilder sample(final int m, final int n, final int perRow,
+      final long seed) {
+    final Random random = new Random(seed);
+    final SparseMatrixBuilder builder = new SparseMatrixBuilder(m, n);
+    for (int i = 0; i < m; i++) {
+      for (int k = 0; k < perRow; k++) {
+        builder.add(i, random.nextInt(n), random.nextDouble() - 0.5d);
+      }
+    }
+    return builder;
+  }
+
+  /**
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  public void testBuilder() {
+    final SparseMatrixBuilder builder = new SparseMatrixBuilder(3, 4).add(2, 3, 1.5d).add(0, 1,
+        2.0d).add(0, 0, -1.0d).add(2, 3, 0.5d).add(1, 2, 4.0d).add(1, 2, -4.0d);
+    assertEquals(6, builder.size());
+    final CSRMatrix a = builder.toCSR();
+    assertEquals(3, a.nnz());
+    assertEquals(2.0d, a.get(2, 3), 0.0d);
+    assertEquals(0.0d, a.get(1, 2), 0.0d);
+    assertEquals(-1.0d, a.get(0, 0), 0.0d);
+    final DoubleMatrix dense = new DoubleMatrix(new double[][] { { -1.0d, 2.0d, 0.0d, 0.0d },
+        { 0.0d, 0.0d, 0.0d, 0.0d }, { 0.0d, 0.0d, 0.0d, 2.0d } });
+    assertEquals(dense, a.toDoubleMatrix());
+    assertEquals(a, CSRMatrix.valueOf(dense));
+    assertEquals(builder.toCSC(), a.toCSC());
+    assertEquals(dense, builder.toCSC().toDoubleMatrix());
+    assertEquals(a, a.toCSC().toCSR());
+
+    try {
+      builder.add(3, 0, 1.0d);
+      fail();
+    } catch (final ArrayIndexOutOfBoundsException e) {
+      assertEquals(6, builder.size());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  public void testMultiply() {
+    final CSRMatrix a = sample(3000, 2000, 12, 1L).toCSR();
+    final DoubleMatrix dense = a.toDoubleMatrix();
+    final Random random = new Random(2L);
+    final double[] x = new double[2000];
+    for (int i = 0; i < x.length; i++) {
+      x[i] = random.nextDouble();
+    }
+    final DoubleMatrix column = new DoubleMatrix(new double[][] { x }).transpose();
+    final DoubleMatrix expected = dense.multiply(column);
+    final DoubleVector y = a.multiply(new DoubleVector(x));
+    for (int i = 0; i < 3000; i++) {
+      assertEquals(expected.get(i, 0), y.get(i), 1.0e-13d);
+    }
+
+    final DoubleMatrix b = dense.transpose().getMatrix(0, 1999, 0, 4);
+    assertEquals(0.0d, maxDifference(dense.multiply(b), a.multiply(b)), 1.0e-13d);
+
+    final CSCMatrix c = a.toCSC();
+    final DoubleVector z = c.multiply(new DoubleVector(x));
+    for (int i = 0; i < 3000; i++) {
+      assertEquals(y.get(i), z.get(i), 1.0e-13d);
+    }
+    assertEquals(0.0d, maxDifference(a.multiply(b), c.multiply(b)), 1.0e-13d);
+    final DoubleMatrix w = dense.getMatrix(0, 2999, 0, 2);
+    assertEquals(0.0d, maxDifference(dense.transpose().multiply(w), a.transposeMultiply(w)),
+        1.0e-13d);
+
+    try {
+      a.multiply(new DoubleVector(3));
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  public void testTranspose() {
+    final CSRMatrix a = sample(40, 70, 5, 3L).toCSR();
+    final CSCMatrix t = a.transpose();
+    assertEquals(70, t.getRowDimension());
+    assertEquals(40, t.getColumnDimension());
+    assertEquals(a.toDoubleMatrix().transpose(), t.toDoubleMatrix());
+    assertSame(a, t.transpose());
+    assertEquals(a.toDoubleMatrix().transpose(), t.toCSR().toDoubleMatrix());
+    assertEquals(a.nnz(), t.nnz());
+    assertEquals(a.get(3, 5), t.get(5, 3), 0.0d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 18:05:37
+   */
+  public void testElementWise() {
+    final CSRMatrix a = sample(50, 60, 6, 4L).toCSR();
+    final CSRMatrix b = sample(50, 60, 6, 5L).toCSR();
+    final DoubleMatrix da = a.toDoubleMatrix();
+    final DoubleMatrix db = b.toDoubleMatrix();
+    assertEquals(da.add(db), a.add(b).toDoubleMatrix());
+    assertEquals(da.subtract(db), a.subtract(b).toDoubleMatrix());
+    assertEquals(0.0d, maxDifference(da.times(db), a.times(b).toDoubleMatrix()), 0.0d);
+    assertEquals(da.times(3.0d), a.times(3.0d).toDoubleMatrix());
+    assertEquals(0.0d, maxDifference(da.negate(), a.negate().toDoubleMatrix()), 0.0d);
+    assertEquals(da.abs(), a.abs().toDoubleMatrix());
+    assertEquals(0, a.subtract(a).nnz());
+    assertEquals(0, a.times(0.0d).nnz());
+    assertTrue(a.times(b).nnz() <= Math.min(a.nnz(), b.nnz()));
+    assertEquals(da.add(db), a.toCSC().add(b.toCSC()).toDoubleMatrix());
+
+    final DoubleVector d = a.diagonal();
+    for (int i = 0; i < 50; i++) {
+      assertEquals(da.get(i, i), d.get(i), 0.0d);
+    }
+  }
+
+}
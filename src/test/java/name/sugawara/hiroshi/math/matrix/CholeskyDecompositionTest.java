@@ -0,0 +1,69 @@
+/**
+ * Created Date : 2026/10/18 17:20:14
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import static name.sugawara.hiroshi.math.matrix.MatrixTestUtil.maxDifference;
+import static name.sugawara.hiroshi.math.matrix.MatrixTestUtil.sample;
+
+import junit.framework.TestCase;
+
+/**
+ * CholeskyDecompositionのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 17:20:14
+ */
+public class CholeskyDecompositionTest extends TestCase {
+
+  /**
+   * Constructor for CholeskyDecompositionTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public CholeskyDecompositionTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  public void testDecompose() {
+    final DoubleMatrix b = sample(70, 70, 1L);
+    final DoubleMatrix a = b.transpose().multiply(b);
+    final CholeskyDecomposition chol = a.chol();
+    assertTrue(chol.isSPD());
+    final DoubleMatrix l = chol.getL();
+    assertEquals(0.0d, l.get(0, 1), 0.0d);
+    assertEquals(0.0d, maxDifference(a, l.multiply(l.transpose())), 1.0e-13d);
+    assertEquals(a.determinant(), chol.determinant(), Math.abs(a.determinant()) * 1.0e-9d);
+
+    final DoubleMatrix rhs = sample(70, 2, 2L);
+    assertEquals(0.0d, maxDifference(rhs, a.multiply(chol.solve(rhs))), 1.0e-9d);
+    final DoubleVector v = chol.solve(new DoubleVector(rhs.transpose().getArray()[0]));
+    assertEquals(0.0d, maxDifference(chol.solve(rhs).getMatrix(0, 69, 0, 0),
+        new DoubleMatrix(new double[][] { v.getArray() }).transpose()), 1.0e-12d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  public void testNotPositiveDefinite() {
+    final DoubleMatrix a = new DoubleMatrix(new double[][] { { 1.0d, 2.0d }, { 2.0d, 1.0d } });
+    final CholeskyDecomposition chol = a.chol();
+    assertFalse(chol.isSPD());
+    try {
+      chol.solve(new DoubleMatrix(2, 1));
+      fail();
+    } catch (final ArithmeticException e) {
+      assertNotNull(e.getMessage());
+    }
+    assertFalse(new DoubleMatrix(new double[][] { { 2.0d, 1.0d }, { 0.0d, 2.0d } }).chol()
+        .isSPD());
+  }
+
+}
@@ -0,0 +1,150 @@
+/**
+ * Created Date : 2026/10/18 19:22:47
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import name.sugawara.hiroshi.math.complex.DoubleComplex;
+
+/**
+ * DenseComplexMatrixのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 19:22:47
+ */
+public class DenseComplexMatrixTest extends TestCase {
+
+  /**
+   * Constructor for DenseComplexMatrixTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public DenseComplexMatrixTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   * 乱数の要素を持つComplexMatrixを作る.
+   *
+   * @param m
+   *          行数
+   * @param n
+   *          列数
+   * @param seed
+   *          乱数の種
+   * @return 行列
+   */
+  private static ComplexMatrix sample(final int m, final int n, final long seed) {
+    final Random random = new Random(seed);
+    final DoubleComplex[][] c = new DoubleComplex[m][n];
+    for (int i = 0; i < m; i++) {
+      for (int j = 0; j < n; j++) {
+        c[i][j] = new DoubleComplex(random.nextDouble() - 0.5d, random.nextDouble() - 0.5d);
+      }
+    }
+    return new ComplexMatrix(c);
+  }
+
+  /**
+   * ComplexMatrixと要素が一致することを確認する.
+   *
+   * @param expected
+   *          期待値
+   * @param actual
+   *          結果
+   * @param delta
+   *          許容誤差
+   */
+  private static void assertMatrix(final ComplexMatrix expected,
+      final DenseComplexMatrix actual, final double delta) {
+    assertEquals(expected.getRowDimension(), actual.getRowDimension());
+    assertEquals(expected.getColumnDimension(), actual.getColumnDimension());
+    for (int i = 0; i < actual.getRowDimension(); i++) {
+      for (int j = 0; j < actual.getColumnDimension(); j++) {
+        assertEquals(expected.get(i, j).getReal(), actual.getReal(i, j), delta);
+        assertEquals(expected.get(i, j).getImaginary(), actual.getImaginary(i, j), delta);
+      }
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 19:22:47
+   */
+  public void testConversion() {
+    final ComplexMatrix a = sample(7, 5, 1L);
+    final DenseComplexMatrix d = new DenseComplexMatrix(a);
+    assertMatrix(a, d, 0.0d);
+    assertEquals(d, new DenseComplexMatrix(d.toComplexMatrix()));
+    assertEquals(d, new DenseComplexMatrix(d.getReal(), d.getImaginary()));
+    assertEquals(a.get(3, 4), d.get(3, 4));
+    assertMatrix(a.transpose(), d.transpose(), 0.0d);
+    assertEquals(d.conjugate().transpose(), d.conjugateTranspose());
+    assertEquals(d.hashCode(), new DenseComplexMatrix(a).hashCode());
+
+    final DenseComplexMatrix e = d.set(2, 1, new DoubleComplex(9.0d, -9.0d));
+    assertEquals(9.0d, e.getReal(2, 1), 0.0d);
+    assertEquals(-9.0d, e.getImaginary(2, 1), 0.0d);
+    assertEquals(a.get(2, 1), d.get(2, 1));
+
+    try {
+      d.get(7, 0);
+      fail();
+    } catch (final ArrayIndexOutOfBoundsException e1) {
+      assertNotNull(d);
+    }
+    try {
+      DenseComplexMatrix.valueOf(new double[6], new double[5], 2, 3);
+      fail();
+    } catch (final IllegalArgumentException e1) {
+      assertNotNull(e1.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 19:22:47
+   */
+  public void testElementWise() {
+    final ComplexMatrix a = sample(6, 4, 2L);
+    final ComplexMatrix b = sample(6, 4, 3L);
+    final DenseComplexMatrix da = new DenseComplexMatrix(a);
+    final DenseComplexMatrix db = new DenseComplexMatrix(b);
+    assertMatrix(a.add(b), da.add(db), 0.0d);
+    assertMatrix(a.subtract(b), da.subtract(db), 0.0d);
+    assertMatrix(a.times(b), da.times(db), 0.0d);
+    assertMatrix(a.negate(), da.negate(), 0.0d);
+    final DoubleComplex s = new DoubleComplex(1.5d, -0.25d);
+    assertMatrix(a.times(s), da.times(s), 0.0d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 19:22:47
+   */
+  public void testMultiply() {
+    final ComplexMatrix a = sample(70, 90, 4L);
+    final ComplexMatrix b = sample(90, 60, 5L);
+    final ComplexMatrix expected = a.multiply(b);
+    final DenseComplexMatrix da = new DenseComplexMatrix(a);
+    final DenseComplexMatrix db = new DenseComplexMatrix(b);
+    assertEquals(new DenseComplexMatrix(expected), da.multiply(db));
+    assertMatrix(expected, da.multiplyGauss(db), 1.0e-13d);
+
+    final DenseComplexMatrix small = new DenseComplexMatrix(sample(3, 2, 6L));
+    assertEquals(new DenseComplexMatrix(small.toComplexMatrix().multiply(
+        small.transpose().toComplexMatrix())), small.multiply(small.transpose()));
+
+    try {
+      da.multiply(da);
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+}
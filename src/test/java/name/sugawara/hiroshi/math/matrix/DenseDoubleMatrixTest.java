@@ -0,0 +1,184 @@
+/**
+ * Created Date : 2026/10/18 13:05:12
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import junit.framework.TestCase;
+
+/**
+ * DenseDoubleMatrixのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 13:05:12
+ */
+public class DenseDoubleMatrixTest extends TestCase {
+
+  /**
+   * 行列用の2次元配列サンプル.
+   */
+  private static final double[][]       Z  = new double[][]
+                                            {
+                                            { 1.11d, 2.33d, -1.04d, 0.5d },
+                                            { 1.31d, -2.63d, 1.64d, -0.25d },
+                                            { -21.11d, 0.38d, -0.01d, 3.0d } };
+
+  /**
+   * 行列サンプル.
+   */
+  private static final DenseDoubleMatrix ZM = new DenseDoubleMatrix(Z);
+
+  /**
+   * 同じ要素のDoubleMatrix.
+   */
+  private static final DoubleMatrix      DM = new DoubleMatrix(Z);
+
+  /**
+   * Constructor for DenseDoubleMatrixTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public DenseDoubleMatrixTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   * DoubleMatrixと要素が一致することを確認する.
+   *
+   * @param expected
+   *          期待値
+   * @param actual
+   *          結果
+   * @param delta
+   *          許容誤差
+   */
+  private static void assertMatrix(final DoubleMatrix expected, final DenseDoubleMatrix actual,
+      final double delta) {
+    assertEquals(expected.getRowDimension(), actual.getRowDimension());
+    assertEquals(expected.getColumnDimension(), actual.getColumnDimension());
+    for (int i = 0; i < actual.getRowDimension(); i++) {
+      for (int j = 0; j < actual.getColumnDimension(); j++) {
+        assertEquals(expected.get(i, j), actual.get(i, j), delta);
+      }
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 13:05:12
+   */
+  public void testDenseDoubleMatrixDoubleMatrix() {
+    assertMatrix(DM, new DenseDoubleMatrix(DM), 0.0d);
+    assertEquals(DM, ZM.toDoubleMatrix());
+    assertEquals(ZM, new DenseDoubleMatrix(ZM.getArray()));
+  }
+
+  /**
+   *
+   * @since 2026/10/18 13:05:12
+   */
+  public void testSet() {
+    final DenseDoubleMatrix m = ZM.set(1, 2, 9.0d);
+    assertEquals(9.0d, m.get(1, 2), 0.0d);
+    assertEquals(1.64d, ZM.get(1, 2), 0.0d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 13:05:12
+   */
+  public void testGetMatrix() {
+    final DenseDoubleMatrix sub = ZM.getMatrix(1, 2, 1, 3);
+    assertMatrix(DM.getMatrix(1, 2, 1, 3), sub, 0.0d);
+    assertMatrix(DM.getMatrix(1, 2, 1, 3).getMatrix(0, 1, 1, 1), sub.getMatrix(0, 1, 1, 1), 0.0d);
+
+    try {
+      ZM.getMatrix(0, 3, 0, 0);
+      fail();
+    } catch (final ArrayIndexOutOfBoundsException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 13:05:12
+   */
+  public void testTranspose() {
+    assertMatrix(DM.transpose(), ZM.transpose(), 0.0d);
+    assertEquals(ZM, ZM.transpose().transpose());
+    assertMatrix(DM.getMatrix(0, 1, 1, 3).transpose(), ZM.getMatrix(0, 1, 1, 3).transpose(), 0.0d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 13:05:12
+   */
+  public void testArithmetic() {
+    final DenseDoubleMatrix t = ZM.transpose().transpose();
+    assertMatrix(DM.add(DM), ZM.add(t), 0.0d);
+    assertMatrix(DM.subtract(DM.times(2.0d)), ZM.subtract(t.times(2.0d)), 0.0d);
+    assertMatrix(DM.times(DM), ZM.times(t), 0.0d);
+    assertMatrix(DM.divide(DM.abs()), ZM.divide(t.abs()), 0.0d);
+    assertMatrix(DM.negate(), ZM.negate(), 0.0d);
+    assertMatrix(DM.pow(2.0d), ZM.pow(2.0d), 0.0d);
+    assertMatrix(DM.atan2(DM), ZM.atan2(t), 0.0d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 13:05:12
+   */
+  public void testElementWiseFunctions() {
+    final DenseDoubleMatrix t = ZM.transpose();
+    final DoubleMatrix dt = DM.transpose();
+    assertMatrix(dt.abs(), t.abs(), 0.0d);
+    assertMatrix(dt.sin(), t.sin(), 0.0d);
+    assertMatrix(dt.cos(), t.cos(), 0.0d);
+    assertMatrix(dt.tan(), t.tan(), 0.0d);
+    assertMatrix(dt.atan(), t.atan(), 0.0d);
+    assertMatrix(dt.exp(), t.exp(), 0.0d);
+    assertMatrix(dt.abs().log(), t.abs().log(), 0.0d);
+    assertMatrix(dt.abs().log10(), t.abs().log10(), 0.0d);
+    assertMatrix(dt.abs().sqrt(), t.abs().sqrt(), 0.0d);
+    assertMatrix(dt.cbrt(), t.cbrt(), 0.0d);
+    assertMatrix(dt.sinh(), t.sinh(), 0.0d);
+    assertMatrix(dt.cosh(), t.cosh(), 0.0d);
+    assertMatrix(dt.tanh(), t.tanh(), 0.0d);
+    assertMatrix(dt.asinh(), t.asinh(), 0.0d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 13:05:12
+   */
+  public void testMultiply() {
+    assertMatrix(DM.multiply(DM.transpose()), ZM.multiply(ZM.transpose()), 0.0d);
+    assertMatrix(DM.transpose().multiply(DM), ZM.transpose().multiply(ZM), 0.0d);
+    try {
+      ZM.multiply(ZM);
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 13:05:12
+   */
+  public void testVector() {
+    final DoubleVector v = new DoubleVector(new double[] { 1.0d, 2.0d, 3.0d, 4.0d, 5.0d, 6.0d });
+    final DenseDoubleMatrix m = DenseDoubleMatrix.valueOf(v, 2);
+    assertEquals(2, m.getRowDimension());
+    assertEquals(3, m.getColumnDimension());
+    assertEquals(6.0d, m.get(1, 2), 0.0d);
+    assertSame(v.array(), m.toVector().array());
+    assertEquals(v, m.toVector());
+    assertEquals(new DoubleVector(new double[] { 1.0d, 4.0d, 2.0d, 5.0d, 3.0d, 6.0d }), m
+        .transpose().toVector());
+    assertEquals(DM.sum(), ZM.sum());
+  }
+
+}
@@ -1406,6 +1406,68 @@ public class DoubleMatrixTest extends TestCase {
     }
   }
 
+  /**
+   * 並列化される大きさの非正方行列で、三重ループの結果とビット単位で一致することを確認する.
+   *
+   * @since 2026/10/18 10:12:40
+   */
+  public void testMultiplyLarge() {
+    final int m = 131;
+    final int n = 67;
+    final int p = 97;
+    final double[][] x = new double[m][n];
+    final double[][] y = new double[n][p];
+    for (int i = 0; i < m; i++) {
+      for (int k = 0; k < n; k++) {
+        x[i][k] = StrictMath.sin(i * 0.7d + k * 0.3d) * 10.0d;
+      }
+    }
+    for (int k = 0; k < n; k++) {
+      for (int j = 0; j < p; j++) {
+        y[k][j] = StrictMath.cos(k * 0.11d - j * 0.5d) / 3.0d;
+      }
+    }
+
+    final DoubleMatrix multiplied = new DoubleMatrix(x).multiply(new DoubleMatrix(y));
+    assertEquals(m, multiplied.getRowDimension());
+    assertEquals(p, multiplied.getColumnDimension());
+    for (int i = 0; i < m; i++) {
+      for (int j = 0; j < p; j++) {
+        double s = 0.0d;
+        for (int k = 0; k < n; k++) {
+          s += x[i][k] * y[k][j];
+        }
+        assertEquals(s, multiplied.get(i, j), 0.0d);
+      }
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 10:12:40
+   */
+  public void testMultiplyInto() {
+    final DoubleMatrix into = new DoubleMatrix(3, 3, Double.NaN);
+    final DoubleMatrix multiplied = ZM.multiply(ZM, into);
+    assertSame(into, multiplied);
+    assertEquals(ZM.multiply(ZM), multiplied);
+
+    try {
+      ZM.multiply(ZM, new DoubleMatrix(3, 2));
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+
+    final DoubleMatrix self = new DoubleMatrix(Z);
+    try {
+      self.multiply(ZM, self);
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
   /**
    * 
    * @since 2004/08/04
@@ -1649,4 +1711,73 @@ public class DoubleMatrixTest extends TestCase {
       System.out.println();
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * 
+   * @since 2026/10/18 15:02:44
+   */
+  public void testAxpy() {
+    final DoubleMatrix m = new DoubleMatrix(Z);
+    final DoubleMatrix expected = ZM.add(ZM.times(-2.5d));
+    assertSame(m, m.axpy(-2.5d, ZM));
+    assertEquals(expected, m);
+  }
+
+  /**
+   * 
+   * @since 2026/10/18 15:02:44
+   */
+  public void testInPlace() throws CloneNotSupportedException {
+    final DoubleMatrix m = (DoubleMatrix) ZM.clone();
+    assertSame(m, m.addInPlace(this.a).timesInPlace(0.5d).expInPlace().sqrtInPlace());
+    assertEquals(ZM.add(this.a).times(0.5d).exp().sqrt(), m);
+    assertEquals(new DoubleMatrix(Z), ZM);
+
+    final DoubleMatrix n = (DoubleMatrix) ZM.clone();
+    n.absInPlace().logInPlace().negateInPlace().subtractInPlace(this.b).powInPlace(2.0d);
+    assertEquals(ZM.abs().log().negate().subtract(this.b).pow(2.0d), n);
+  }
+
+  /**
+   * 
+   * @since 2026/10/18 15:02:44
+   */
+  public void testDest() {
+    final DoubleMatrix dest = new DoubleMatrix(3, 3);
+    assertSame(dest, ZM.times(this.b, dest));
+    assertEquals(ZM.times(this.b), dest);
+    assertSame(dest, ZM.divide(3.0d, dest));
+    assertEquals(ZM.divide(3.0d), dest);
+    assertSame(dest, ZM.atan2(this.a, dest));
+    assertEquals(ZM.atan2(this.a), dest);
+    assertSame(dest, ZM.sinh(dest));
+    assertEquals(ZM.sinh(), dest);
+
+    try {
+      ZM.cos(new DoubleMatrix(2, 3));
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   * in-placeの演算が、行列を作った2次元配列やgetArray()を渡した行列を書き換えないことを確認する.
+   *
+   * @since 2026/10/19 5:03:17
+   */
+  public void testInPlaceDoesNotShareRows() {
+    final double[][] raw = { { 1.0d, 2.0d }, { 3.0d, 4.0d } };
+    new DoubleMatrix(raw).expInPlace();
+    assertEquals(1.0d, raw[0][0], 0.0d);
+
+    final DoubleMatrix p = new DoubleMatrix(raw);
+    new DoubleMatrix(p.getArray()).timesInPlace(10.0d).axpy(2.0d, p);
+    assertEquals(new DoubleMatrix(raw), p);
+
+    p.getArray()[1][1] = -1.0d;
+    assertEquals(4.0d, p.get(1, 1), 0.0d);
+    p.negate(new DoubleMatrix(p.getArray()));
+    assertEquals(new DoubleMatrix(raw), p);
+  }
+}
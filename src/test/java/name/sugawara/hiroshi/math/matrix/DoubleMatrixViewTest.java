@@ -0,0 +1,142 @@
+/**
+ * Created Date : 2026/10/18 14:20:31
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import junit.framework.TestCase;
+import name.sugawara.hiroshi.math.complex.DoubleComplex;
+
+/**
+ * DoubleMatrixViewとComplexMatrixViewのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 14:20:31
+ */
+public class DoubleMatrixViewTest extends TestCase {
+
+  /**
+   * 行列用の2次元配列サンプル.
+   */
+  private static final double[][] Z = new double[][]
+                                    {
+                                    { 1.11d, 2.33d, -1.04d, 0.5d },
+                                    { 1.31d, -2.63d, 1.64d, -0.25d },
+                                    { -21.11d, 0.38d, -0.01d, 3.0d } };
+
+  /**
+   * 行列サンプル.
+   */
+  private DoubleMatrix            zm;
+
+  /**
+   * Constructor for DoubleMatrixViewTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public DoubleMatrixViewTest(final String arg0) {
+    super(arg0);
+  }
+
+  /*
+   * @see TestCase#setUp()
+   */
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    this.zm = new DoubleMatrix(Z);
+  }
+
+  /**
+   * ビューの要素が期待値の行列と一致することを確認する.
+   *
+   * @param expected
+   *          期待値
+   * @param actual
+   *          ビュー
+   */
+  private static void assertView(final DoubleMatrix expected, final DoubleMatrixView actual) {
+    assertEquals(expected.getRowDimension(), actual.getRowDimension());
+    assertEquals(expected.getColumnDimension(), actual.getColumnDimension());
+    for (int i = 0; i < actual.getRowDimension(); i++) {
+      for (int j = 0; j < actual.getColumnDimension(); j++) {
+        assertEquals(expected.get(i, j), actual.get(i, j), 0.0d);
+      }
+    }
+    assertEquals(expected, actual.materialize());
+  }
+
+  /**
+   *
+   * @since 2026/10/18 14:20:31
+   */
+  public void testViews() {
+    final DoubleMatrixView v = this.zm.view();
+    assertView(this.zm, v);
+    assertView(this.zm.transpose(), v.transpose());
+    assertView(this.zm.fliplr(), v.fliplr());
+    assertView(this.zm.flipud(), v.flipud());
+    assertView(this.zm.rot90(), v.rot90());
+    assertView(this.zm.getMatrix(1, 2, 0, 2), v.getMatrix(1, 2, 0, 2));
+  }
+
+  /**
+   *
+   * @since 2026/10/18 14:20:31
+   */
+  public void testComposedViews() {
+    final DoubleMatrixView v = this.zm.view();
+    assertView(this.zm.transpose().fliplr(), v.transpose().fliplr());
+    assertView(this.zm.transpose().flipud(), v.transpose().flipud());
+    assertView(this.zm.rot90().rot90(), v.rot90().rot90());
+    assertView(this.zm.fliplr().getMatrix(0, 1, 1, 3).transpose(), v.fliplr().getMatrix(0, 1,
+        1, 3).transpose());
+    assertView(this.zm.transpose().getMatrix(1, 3, 1, 2).flipud(), v.transpose().getMatrix(1, 3,
+        1, 2).flipud());
+
+    try {
+      v.getMatrix(0, 3, 0, 0);
+      fail();
+    } catch (final ArrayIndexOutOfBoundsException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 14:20:31
+   */
+  public void testCopyOnWrite() {
+    final DoubleMatrixView v = this.zm.view().transpose();
+    final DoubleMatrixView sub = v.getMatrix(0, 1, 0, 1);
+    assertSame(v, v.set(0, 0, 100.0d));
+    assertEquals(100.0d, v.get(0, 0), 0.0d);
+    assertEquals(1.11d, this.zm.get(0, 0), 0.0d);
+    assertEquals(1.11d, sub.get(0, 0), 0.0d);
+
+    final DoubleMatrixView derived = v.flipud();
+    v.set(3, 2, -100.0d);
+    assertEquals(-100.0d, v.get(3, 2), 0.0d);
+    assertEquals(3.0d, derived.get(0, 2), 0.0d);
+    assertEquals(100.0d, derived.get(3, 0), 0.0d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 14:20:31
+   */
+  public void testComplexMatrixView() {
+    final ComplexMatrix cm = new ComplexMatrix(this.zm, this.zm.negate());
+    final ComplexMatrixView v = cm.view();
+    assertEquals(cm.transpose(), v.transpose().materialize());
+    assertEquals(cm.rot90(), v.rot90().materialize());
+    assertEquals(cm.getMatrix(0, 1, 2, 3).flipud(), v.getMatrix(0, 1, 2, 3).flipud()
+        .materialize());
+
+    v.set(1, 1, new DoubleComplex(0.0d, 1.0d));
+    assertEquals(new DoubleComplex(0.0d, 1.0d), v.get(1, 1));
+    assertEquals(new DoubleComplex(-2.63d, 2.63d), cm.get(1, 1));
+  }
+
+}
@@ -0,0 +1,228 @@
+/**
+ * Created Date : 2026/10/18 18:48:20
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * ConjugateGradient, BiCGSTAB, GMRES と前処理のテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 18:48:20
+ */
+public class IterativeSolverTest extends TestCase {
+
+  /**
+   * Constructor for IterativeSolverTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public IterativeSolverTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   * k * k 格子の2次元ラプラシアン(5点差分)に移流項を加えた疎行列を作る. 移流項が 0 なら対称正定値.
+   *
+   * @param k
+   *          1辺の格子点数
+   * @param convection
+   *          移流項の係数
+   * @return 次数 k * k の疎行列
+   */
+  private static CSRMatrix laplacian(final int k, final double convection) {
+    final int n = k * k;
+    final SparseMatrixBuilder builder = new SparseMatrixBuilder(n, n);
+    for (int i = 0; i < k; i++) {
+      for (int j = 0; j < k; j++) {
+        final int p = i * k + j;
+        builder.add(p, p, 4.0d);
+        if (i > 0) {
+          builder.add(p, p - k, -1.0d);
+        }
+        if (i < k - 1) {
+          builder.add(p, p + k, -1.0d);
+        }
+        if (j > 0) {
+          builder.add(p, p - 1, -1.0d - convection);
+        }
+        if (j < k - 1) {
+          builder.add(p, p + 1, -1.0d + convection);
+        }
+      }
+    }
+    return builder.toCSR();
+  }
+
+  /**
+   * 乱数の右辺を作る.
+   *
+   * @param n
+   *          次数
+   * @param seed
+   *          乱数の種
+   * @return 右辺
+   */
+  private static DoubleVector rhs(final int n, final long seed) {
+    final Random random = new Random(seed);
+    final double[] b = new double[n];
+    for (int i = 0; i < n; i++) {
+      b[i] = random.nextDouble() - 0.5d;
+    }
+    return new DoubleVector(b);
+  }
+
+  /**
+   * 真の相対残差 ||b - A * x|| / ||b|| を求める.
+   *
+   * @param a
+   *          係数行列
+   * @param b
+   *          右辺
+   * @param x
+   *          近似解
+   * @return 相対残差
+   */
+  private static double residual(final LinearOperator a, final DoubleVector b,
+      final DoubleVector x) {
+    final double[] r = new double[b.size()];
+    IterativeSolver.residual(a, b.array(), x.array(), r);
+    return IterativeSolver.norm(r) / b.norm();
+  }
+
+  /**
+   * 結果の履歴が反復回数と整合しているか確認する.
+   *
+   * @param result
+   *          反復の結果
+   */
+  private static void assertHistory(final IterativeResult result) {
+    assertTrue(result.isConverged());
+    assertEquals(result.getIterationCount() + 1, result.getResidualHistory().length);
+    assertEquals(result.getIterationCount(), result.getIterationTimes().length);
+    assertTrue(result.getResidual() <= 1.0e-10d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  public void testConjugateGradient() {
+    final CSRMatrix a = laplacian(30, 0.0d);
+    final DoubleVector b = rhs(900, 1L);
+    final IterativeResult plain = new ConjugateGradient(1.0e-10d, 2000).solve(a, b);
+    assertHistory(plain);
+    assertEquals(1.0d, plain.getResidualHistory()[0], 1.0e-15d);
+    assertEquals(0.0d, residual(a, b, plain.getSolution()), 1.0e-9d);
+
+    final IterativeResult jacobi = new ConjugateGradient(1.0e-10d, 2000,
+        new JacobiPreconditioner(a)).solve(a, b);
+    assertHistory(jacobi);
+    assertEquals(0.0d, residual(a, b, jacobi.getSolution()), 1.0e-9d);
+
+    final IterativeResult ilu = new ConjugateGradient(1.0e-10d, 2000,
+        new ILU0Preconditioner(a)).solve(a, b);
+    assertHistory(ilu);
+    assertEquals(0.0d, residual(a, b, ilu.getSolution()), 1.0e-9d);
+    assertTrue(ilu.getIterationCount() < plain.getIterationCount());
+
+    final DoubleMatrix dense = a.toDoubleMatrix();
+    final DoubleVector expected = dense.solve(b);
+    final DoubleVector x = new ConjugateGradient(1.0e-12d, 2000).solve(dense, b).getSolution();
+    for (int i = 0; i < 900; i++) {
+      assertEquals(expected.get(i), x.get(i), 1.0e-9d);
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  public void testBiCGSTAB() {
+    final CSRMatrix a = laplacian(30, 0.4d);
+    final DoubleVector b = rhs(900, 2L);
+    final IterativeResult plain = new BiCGSTAB(1.0e-10d, 2000).solve(a, b);
+    assertHistory(plain);
+    assertEquals(0.0d, residual(a, b, plain.getSolution()), 1.0e-9d);
+
+    final IterativeResult ilu = new BiCGSTAB(1.0e-10d, 2000, new ILU0Preconditioner(a))
+        .solve(a, b);
+    assertHistory(ilu);
+    assertEquals(0.0d, residual(a, b, ilu.getSolution()), 1.0e-9d);
+    assertTrue(ilu.getIterationCount() < plain.getIterationCount());
+
+    final IterativeResult csc = new BiCGSTAB(1.0e-10d, 2000).solve(a.toCSC(), b);
+    assertHistory(csc);
+    assertEquals(0.0d, residual(a, b, csc.getSolution()), 1.0e-9d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  public void testGMRES() {
+    final CSRMatrix a = laplacian(30, 0.4d);
+    final DoubleVector b = rhs(900, 3L);
+    final IterativeResult plain = new GMRES(1.0e-10d, 3000).solve(a, b);
+    assertHistory(plain);
+    assertEquals(0.0d, residual(a, b, plain.getSolution()), 1.0e-9d);
+
+    final IterativeResult ilu = new GMRES(1.0e-10d, 3000, 20, new ILU0Preconditioner(a))
+        .solve(a, b);
+    assertHistory(ilu);
+    assertEquals(0.0d, residual(a, b, ilu.getSolution()), 1.0e-9d);
+    assertTrue(ilu.getIterationCount() < plain.getIterationCount());
+
+    final DoubleMatrix dense = a.toDoubleMatrix();
+    final DoubleVector expected = dense.solve(b);
+    final DoubleVector x = new GMRES(1.0e-12d, 3000, new JacobiPreconditioner(dense))
+        .solve(dense, b).getSolution();
+    for (int i = 0; i < 900; i++) {
+      assertEquals(expected.get(i), x.get(i), 1.0e-9d);
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 18:48:20
+   */
+  public void testSolverReuse() {
+    final CSRMatrix a = laplacian(10, 0.0d);
+    final ConjugateGradient solver = new ConjugateGradient(1.0e-10d, 500);
+    final IterativeResult first = solver.solve(a, rhs(100, 4L));
+    final IterativeResult second = solver.solve(a, rhs(100, 5L), first.getSolution());
+    assertHistory(first);
+    assertHistory(second);
+    assertHistory(solver.solve(laplacian(12, 0.0d), rhs(144, 6L)));
+
+    final IterativeResult zero = solver.solve(a, new DoubleVector(100));
+    assertTrue(zero.isConverged());
+    assertEquals(0, zero.getIterationCount());
+    assertEquals(0.0d, zero.getSolution().norm(), 0.0d);
+
+    final IterativeResult limited = new GMRES(1.0e-14d, 5).solve(a, rhs(100, 7L));
+    assertFalse(limited.isConverged());
+    assertEquals(5, limited.getIterationCount());
+    assertEquals(6, limited.getResidualHistory().length);
+
+    try {
+      solver.solve(a, new DoubleVector(99));
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+    try {
+      new ILU0Preconditioner(new SparseMatrixBuilder(2, 2).add(0, 1, 1.0d).add(1, 0, 1.0d)
+          .toCSR());
+      fail();
+    } catch (final ArithmeticException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+}
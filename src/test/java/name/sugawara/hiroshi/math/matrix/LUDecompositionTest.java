@@ -0,0 +1,156 @@
+/**
+ * Created Date : 2026/10/18 16:42:05
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import static name.sugawara.hiroshi.math.matrix.MatrixTestUtil.identity;
+import static name.sugawara.hiroshi.math.matrix.MatrixTestUtil.maxDifference;
+import static name.sugawara.hiroshi.math.matrix.MatrixTestUtil.sample;
+
+import junit.framework.TestCase;
+
+/**
+ * LUDecompositionのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 16:42:05
+ */
+public class LUDecompositionTest extends TestCase {
+
+  /**
+   * 行列用の2次元配列サンプル.
+   */
+  private static final double[][]   Z  = new double[][]
+                                       {
+                                       { 1.11d, 2.33d, -1.04d },
+                                       { 1.31d, -2.63d, 1.64d },
+                                       { -21.11d, 0.38d, -0.01d } };
+
+  /**
+   * 行列サンプル.
+   */
+  private static final DoubleMatrix ZM = new DoubleMatrix(Z);
+
+  /**
+   * Constructor for LUDecompositionTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public LUDecompositionTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 16:42:05
+   */
+  public void testFactor() {
+    final LUDecomposition lu = ZM.lu();
+    final int[] p = lu.getPivot();
+    final double[][] pa = new double[3][];
+    for (int i = 0; i < 3; i++) {
+      pa[i] = Z[p[i]].clone();
+    }
+    assertEquals(0.0d, maxDifference(new DoubleMatrix(pa), lu.getL().multiply(lu.getU())),
+        1.0e-13d);
+    assertEquals(2, p[0]);
+    assertTrue(lu.isNonsingular());
+
+    final double det = 1.11d * (-2.63d * -0.01d - 1.64d * 0.38d) - 2.33d
+        * (1.31d * -0.01d - 1.64d * -21.11d) + -1.04d * (1.31d * 0.38d - -2.63d * -21.11d);
+    assertEquals(det, ZM.determinant(), 1.0e-12d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 16:42:05
+   */
+  public void testSolve() {
+    final DoubleVector b = new DoubleVector(new double[] { 1.0d, -2.0d, 3.0d });
+    final DoubleVector x = ZM.solve(b);
+    for (int i = 0; i < 3; i++) {
+      double s = 0.0d;
+      for (int j = 0; j < 3; j++) {
+        s += Z[i][j] * x.get(j);
+      }
+      assertEquals(b.get(i), s, 1.0e-13d);
+    }
+    assertEquals(0.0d, maxDifference(identity(3), ZM.multiply(ZM.inverse())), 1.0e-14d);
+    assertEquals(0.0d, maxDifference(ZM.inverse().multiply(ZM.transpose()), ZM.solve(ZM
+        .transpose())), 1.0e-13d);
+
+    try {
+      ZM.solve(new DoubleMatrix(2, 2));
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+    try {
+      new DoubleMatrix(2, 3).lu();
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 16:42:05
+   */
+  public void testSingular() {
+    final DoubleMatrix s = new DoubleMatrix(new double[][] { { 1.0d, 2.0d }, { 2.0d, 4.0d } });
+    final LUDecomposition lu = s.lu();
+    assertFalse(lu.isNonsingular());
+    assertEquals(0.0d, lu.determinant(), 0.0d);
+    assertEquals(Double.POSITIVE_INFINITY, lu.conditionEstimate(), 0.0d);
+    try {
+      lu.inverse();
+      fail();
+    } catch (final ArithmeticException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 16:42:05
+   */
+  public void testConditionEstimate() {
+    final double exact = ZM.oneNorm() * ZM.inverse().oneNorm();
+    final double estimate = ZM.lu().conditionEstimate();
+    assertTrue(estimate <= exact * (1.0d + 1.0e-12d));
+    assertTrue(estimate >= exact / 3.0d);
+
+    final DoubleMatrix a = sample(40, 40, 5L);
+    final double exact40 = a.oneNorm() * a.inverse().oneNorm();
+    final double estimate40 = a.lu().conditionEstimate();
+    assertTrue(estimate40 <= exact40 * (1.0d + 1.0e-10d));
+    assertTrue(estimate40 >= exact40 / 10.0d);
+    assertEquals(1.0d, identity(5).lu().conditionEstimate(), 1.0e-15d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 16:42:05
+   */
+  public void testLarge() {
+    final int n = 300;
+    final DoubleMatrix a = sample(n, n, 1L);
+    final LUDecomposition lu = a.lu();
+    final int[] p = lu.getPivot();
+    final double[][] pa = new double[n][];
+    for (int i = 0; i < n; i++) {
+      pa[i] = a.getArray()[p[i]].clone();
+    }
+    assertEquals(0.0d, maxDifference(new DoubleMatrix(pa), lu.getL().multiply(lu.getU())),
+        1.0e-11d);
+
+    final DoubleMatrix b = sample(n, n, 2L).getMatrix(0, n - 1, 0, 9);
+    final DoubleMatrix x = lu.solve(b);
+    assertEquals(0.0d, maxDifference(b, a.multiply(x)), 1.0e-9d);
+    assertEquals(0.0d, maxDifference(identity(n), a.multiply(lu.inverse())), 1.0e-9d);
+  }
+
+}
@@ -0,0 +1,147 @@
+/**
+ * Created Date : 2026/10/18 15:48:09
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import junit.framework.TestCase;
+
+/**
+ * LazyDoubleMatrixとLazyDoubleVectorのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 15:48:09
+ */
+public class LazyDoubleMatrixTest extends TestCase {
+
+  /**
+   * 行列用の2次元配列サンプル.
+   */
+  private static final double[][]   Z  = new double[][]
+                                       {
+                                       { 1.11d, 2.33d, -1.04d },
+                                       { 1.31d, -2.63d, 1.64d },
+                                       { -21.11d, 0.38d, -0.01d } };
+
+  /**
+   * 行列サンプル.
+   */
+  private static final DoubleMatrix ZM = new DoubleMatrix(Z);
+
+  /**
+   * Constructor for LazyDoubleMatrixTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public LazyDoubleMatrixTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   * 並列化される大きさの行列を作る.
+   *
+   * @param row
+   *          行数
+   * @param col
+   *          列数
+   * @param seed
+   *          要素をずらす値
+   * @return 行列
+   */
+  private static DoubleMatrix large(final int row, final int col, final double seed) {
+    final double[][] x = new double[row][col];
+    for (int i = 0; i < row; i++) {
+      for (int j = 0; j < col; j++) {
+        x[i][j] = StrictMath.sin(i * 0.37d + j * 0.011d + seed);
+      }
+    }
+    return new DoubleMatrix(x);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 15:48:09
+   */
+  public void testEvaluate() {
+    final DoubleMatrix b = new DoubleMatrix(3, 3, 30.0d);
+    assertEquals(ZM.times(2.0d).add(b).exp().sqrt(), ZM.lazy().times(2.0d).add(b).exp().sqrt()
+        .evaluate());
+    assertEquals(ZM.abs().log().negate().pow(2.0d).divide(b), ZM.lazy().abs().log().negate()
+        .pow(2.0d).divide(b).evaluate());
+    assertEquals(ZM, ZM.lazy().evaluate());
+
+    try {
+      ZM.lazy().add(new DoubleMatrix(2, 3));
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 15:48:09
+   */
+  public void testEvaluateLarge() {
+    final DoubleMatrix x = large(300, 1500, 0.0d);
+    final DoubleMatrix y = large(300, 1500, 1.0d);
+    final DoubleMatrix expected = x.times(y).subtract(new DoubleMatrix(300, 1500, 0.5d)).exp()
+        .times(3.0d).tanh();
+    final LazyDoubleMatrix lazy = x.lazy().times(y).subtract(0.5d).exp().times(3.0d).tanh();
+    assertEquals(expected, lazy.evaluate());
+
+    final DoubleMatrix dest = new DoubleMatrix(300, 1500);
+    assertSame(dest, lazy.evaluate(dest));
+    assertEquals(expected, dest);
+
+    double sum = 0.0d;
+    double max = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < 300; i++) {
+      for (int j = 0; j < 1500; j++) {
+        sum += expected.get(i, j);
+        max = Math.max(max, expected.get(i, j));
+      }
+    }
+    assertEquals(sum, lazy.sum(), 1.0e-9d * 300 * 1500);
+    assertEquals(max, lazy.max(), 0.0d);
+    assertEquals(lazy.sum(), lazy.sum(), 0.0d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 15:48:09
+   */
+  public void testReduction() {
+    final LazyDoubleMatrix lazy = ZM.lazy().times(ZM).sqrt();
+    final DoubleMatrix m = ZM.times(ZM).sqrt();
+    double sum = 0.0d;
+    double min = Double.POSITIVE_INFINITY;
+    double square = 0.0d;
+    for (int i = 0; i < 3; i++) {
+      for (int j = 0; j < 3; j++) {
+        sum += m.get(i, j);
+        min = Math.min(min, m.get(i, j));
+        square += m.get(i, j) * m.get(i, j);
+      }
+    }
+    assertEquals(sum, lazy.sum(), 0.0d);
+    assertEquals(min, lazy.min(), 0.0d);
+    assertEquals(Math.sqrt(square), lazy.norm(), 1.0e-12d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 15:48:09
+   */
+  public void testVector() {
+    final DoubleVector v = new DoubleVector(new double[] { 0.5d, -1.5d, 2.25d, 4.0d });
+    final DoubleVector w = new DoubleVector(4, 2.0d);
+    assertEquals(v.multiply(2.0d).add(w).exp().sqrt(), v.lazy().times(2.0d).add(w).exp().sqrt()
+        .evaluate());
+    assertEquals(v.multiply(w).norm(), v.lazy().times(w).norm(), 1.0e-12d);
+    assertEquals(v.abs().sum(), v.lazy().abs().sum(), 0.0d);
+    assertEquals(v.max(), v.lazy().max(), 0.0d);
+  }
+
+}
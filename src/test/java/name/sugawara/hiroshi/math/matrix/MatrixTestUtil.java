@@ -0,0 +1,107 @@
+/**
+ * Created Date : 2026/10/19 5:21:40
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import java.util.Random;
+
+import junit.framework.Assert;
+
+/**
+ * 行列の分解や疎行列のテストで共通に使う行列の生成と比較.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ *
+ * Created Date : 2026/10/19 5:21:40
+ */
+final class MatrixTestUtil {
+
+  /**
+   * コンストラクタ使用禁止.
+   *
+   * @since 2026/10/19 5:21:40
+   */
+  private MatrixTestUtil() {
+    // Empty block
+  }
+
+  /**
+   * 区間 [-0.5, 0.5) の一様乱数を要素とする行列を作る.
+   *
+   * @param m
+   *          行数
+   * @param n
+   *          列数
+   * @param seed
+   *          乱数の種
+   * @return 行列
+   * @since 2026/10/19 5:21:40
+   */
+  static DoubleMatrix sample(final int m, final int n, final long seed) {
+    final Random random = new Random(seed);
+    final double[][] x = new double[m][n];
+    for (int i = 0; i < m; i++) {
+      for (int j = 0; j < n; j++) {
+        x[i][j] = random.nextDouble() - 0.5d;
+      }
+    }
+    return new DoubleMatrix(x);
+  }
+
+  /**
+   * 2つの行列の大きさが等しいことを確認し、要素ごとの差の最大値を返す.
+   *
+   * @param a
+   *          行列
+   * @param b
+   *          行列
+   * @return 差の最大値
+   * @since 2026/10/19 5:21:40
+   */
+  static double maxDifference(final DoubleMatrix a, final DoubleMatrix b) {
+    Assert.assertEquals(a.getRowDimension(), b.getRowDimension());
+    Assert.assertEquals(a.getColumnDimension(), b.getColumnDimension());
+    double max = 0.0d;
+    for (int i = 0; i < a.getRowDimension(); i++) {
+      for (int j = 0; j < a.getColumnDimension(); j++) {
+        max = Math.max(max, Math.abs(a.get(i, j) - b.get(i, j)));
+      }
+    }
+    return max;
+  }
+
+  /**
+   * 単位行列を返す.
+   *
+   * @param n
+   *          次数
+   * @return 単位行列
+   * @since 2026/10/19 5:21:40
+   */
+  static DoubleMatrix identity(final int n) {
+    final double[][] x = new double[n][n];
+    for (int i = 0; i < n; i++) {
+      x[i][i] = 1.0d;
+    }
+    return new DoubleMatrix(x);
+  }
+
+  /**
+   * 列が正規直交であること、すなわち Q^T Q が単位行列であることを確認する.
+   *
+   * @param q
+   *          行列
+   * @param delta
+   *          許容誤差
+   * @since 2026/10/19 5:21:40
+   */
+  static void assertOrthonormal(final DoubleMatrix q, final double delta) {
+    final DoubleMatrix qtq = q.transpose().multiply(q);
+    for (int i = 0; i < qtq.getRowDimension(); i++) {
+      for (int j = 0; j < qtq.getColumnDimension(); j++) {
+        Assert.assertEquals(i == j ? 1.0d : 0.0d, qtq.get(i, j), delta);
+      }
+    }
+  }
+}
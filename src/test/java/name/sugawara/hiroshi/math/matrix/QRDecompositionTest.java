@@ -0,0 +1,103 @@
+/**
+ * Created Date : 2026/10/18 17:20:14
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import static name.sugawara.hiroshi.math.matrix.MatrixTestUtil.assertOrthonormal;
+import static name.sugawara.hiroshi.math.matrix.MatrixTestUtil.maxDifference;
+import static name.sugawara.hiroshi.math.matrix.MatrixTestUtil.sample;
+
+import junit.framework.TestCase;
+
+/**
+ * QRDecompositionのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 17:20:14
+ */
+public class QRDecompositionTest extends TestCase {
+
+  /**
+   * Constructor for QRDecompositionTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public QRDecompositionTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  public void testSmall() {
+    final DoubleMatrix a = new DoubleMatrix(new double[][] { { 12.0d, -51.0d, 4.0d },
+        { 6.0d, 167.0d, -68.0d }, { -4.0d, 24.0d, -41.0d } });
+    final QRDecomposition qr = a.qr();
+    final DoubleMatrix r = qr.getR();
+    assertEquals(14.0d, Math.abs(r.get(0, 0)), 1.0e-12d);
+    assertEquals(175.0d, Math.abs(r.get(1, 1)), 1.0e-12d);
+    assertEquals(35.0d, Math.abs(r.get(2, 2)), 1.0e-12d);
+    assertEquals(0.0d, r.get(1, 0), 0.0d);
+    assertEquals(0.0d, maxDifference(a, qr.getQ().multiply(r)), 1.0e-12d);
+    assertOrthonormal(qr.getQ(), 1.0e-14d);
+    assertTrue(qr.isFullRank());
+  }
+
+  /**
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  public void testBlocked() {
+    for (final int[] shape : new int[][] { { 200, 90 }, { 90, 150 }, { 64, 64 } }) {
+      final DoubleMatrix a = sample(shape[0], shape[1], shape[0]);
+      final QRDecomposition qr = a.qr();
+      final DoubleMatrix q = qr.getQ();
+      assertEquals(Math.min(shape[0], shape[1]), q.getColumnDimension());
+      assertOrthonormal(q, 1.0e-13d);
+      assertEquals(0.0d, maxDifference(a, q.multiply(qr.getR())), 1.0e-13d);
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  public void testLeastSquares() {
+    final DoubleMatrix a = sample(120, 40, 3L);
+    final DoubleMatrix b = sample(120, 3, 4L);
+    final DoubleMatrix x = a.qr().solve(b);
+    // 正規方程式 A' * A * X = A' * B を満たす.
+    final DoubleMatrix at = a.transpose();
+    assertEquals(0.0d, maxDifference(at.multiply(b), at.multiply(a).multiply(x)), 1.0e-12d);
+
+    final DoubleMatrix square = sample(30, 30, 5L);
+    final DoubleVector y = new DoubleVector(30, 1.0d);
+    assertEquals(0.0d, maxDifference(square.solve(new DoubleMatrix(30, 1, 1.0d)),
+        new DoubleMatrix(new double[][] { square.qr().solve(y).getArray() }).transpose()),
+        1.0e-10d);
+
+    try {
+      new DoubleMatrix(3, 3).qr().solve(new DoubleMatrix(3, 1));
+      fail();
+    } catch (final ArithmeticException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  public void testWorkspace() {
+    final DecompositionWorkspace workspace = new DecompositionWorkspace();
+    final DoubleMatrix a = sample(80, 50, 6L);
+    final DoubleMatrix r = new QRDecomposition(a, workspace).getR();
+    new QRDecomposition(sample(80, 50, 7L), workspace);
+    assertEquals(0.0d, maxDifference(r, new QRDecomposition(a, workspace).getR()), 0.0d);
+    assertEquals(0.0d, maxDifference(r, a.qr().getR()), 0.0d);
+  }
+
+}
@@ -0,0 +1,86 @@
+/**
+ * Created Date : 2026/10/18 17:20:14
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import static name.sugawara.hiroshi.math.matrix.MatrixTestUtil.assertOrthonormal;
+import static name.sugawara.hiroshi.math.matrix.MatrixTestUtil.maxDifference;
+import static name.sugawara.hiroshi.math.matrix.MatrixTestUtil.sample;
+
+import junit.framework.TestCase;
+
+/**
+ * SingularValueDecompositionのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 17:20:14
+ */
+public class SingularValueDecompositionTest extends TestCase {
+
+  /**
+   * Constructor for SingularValueDecompositionTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public SingularValueDecompositionTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  public void testSmall() {
+    final DoubleMatrix a = new DoubleMatrix(new double[][] { { 3.0d, 0.0d }, { 4.0d, 5.0d } });
+    final SingularValueDecomposition svd = a.svd();
+    final double[] s = svd.getSingularValues();
+    assertEquals(3.0d * Math.sqrt(5.0d), s[0], 1.0e-14d);
+    assertEquals(Math.sqrt(5.0d), s[1], 1.0e-14d);
+    assertEquals(3.0d, svd.cond(), 1.0e-14d);
+    assertEquals(2, svd.rank());
+    assertEquals(s[0], svd.norm2(), 0.0d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  public void testDecompose() {
+    for (final int[] shape : new int[][] { { 150, 40 }, { 40, 90 }, { 50, 50 } }) {
+      final DoubleMatrix a = sample(shape[0], shape[1], shape[0] + shape[1]);
+      final SingularValueDecomposition svd = a.svd();
+      final DoubleMatrix u = svd.getU();
+      final DoubleMatrix v = svd.getV();
+      final int k = Math.min(shape[0], shape[1]);
+      assertEquals(shape[0], u.getRowDimension());
+      assertEquals(k, u.getColumnDimension());
+      assertEquals(shape[1], v.getRowDimension());
+      assertEquals(k, v.getColumnDimension());
+      assertOrthonormal(u, 1.0e-13d);
+      assertOrthonormal(v, 1.0e-13d);
+      assertEquals(0.0d, maxDifference(a, u.multiply(svd.getS()).multiply(v.transpose())),
+          1.0e-13d);
+      final double[] s = svd.getSingularValues();
+      for (int i = 1; i < k; i++) {
+        assertTrue(s[i - 1] >= s[i]);
+      }
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  public void testRankDeficient() {
+    final DoubleMatrix x = sample(30, 3, 1L);
+    final DoubleMatrix a = x.multiply(sample(3, 20, 2L));
+    final SingularValueDecomposition svd = new SingularValueDecomposition(a,
+        new DecompositionWorkspace());
+    assertEquals(3, svd.rank());
+    assertEquals(0.0d, maxDifference(a, svd.getU().multiply(svd.getS()).multiply(
+        svd.getV().transpose())), 1.0e-13d);
+  }
+
+}
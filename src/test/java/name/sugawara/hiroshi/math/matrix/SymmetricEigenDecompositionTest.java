@@ -0,0 +1,89 @@
+/**
+ * Created Date : 2026/10/18 17:20:14
+ */
+package name.sugawara.hiroshi.math.matrix;
+
+import static name.sugawara.hiroshi.math.matrix.MatrixTestUtil.assertOrthonormal;
+import static name.sugawara.hiroshi.math.matrix.MatrixTestUtil.maxDifference;
+import static name.sugawara.hiroshi.math.matrix.MatrixTestUtil.sample;
+
+import junit.framework.TestCase;
+
+/**
+ * SymmetricEigenDecompositionのテスト.
+ *
+ * @author Hiroshi Sugawara
+ * @version $Id$
+ * @since 2026/10/18 17:20:14
+ */
+public class SymmetricEigenDecompositionTest extends TestCase {
+
+  /**
+   * Constructor for SymmetricEigenDecompositionTest.
+   *
+   * @param arg0
+   *          テスト名.
+   */
+  public SymmetricEigenDecompositionTest(final String arg0) {
+    super(arg0);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  public void testSmall() {
+    final DoubleMatrix a = new DoubleMatrix(new double[][] { { 2.0d, -1.0d, 0.0d },
+        { -1.0d, 2.0d, -1.0d }, { 0.0d, -1.0d, 2.0d } });
+    final double[] d = a.eig().getEigenvalues();
+    assertEquals(2.0d - Math.sqrt(2.0d), d[0], 1.0e-14d);
+    assertEquals(2.0d, d[1], 1.0e-14d);
+    assertEquals(2.0d + Math.sqrt(2.0d), d[2], 1.0e-14d);
+    assertEquals(5.0d, new DoubleMatrix(1, 1, 5.0d).eig().getEigenvalues()[0], 0.0d);
+  }
+
+  /**
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  public void testDecompose() {
+    final DoubleMatrix b = sample(60, 60, 1L);
+    final DoubleMatrix a = b.add(b.transpose());
+    final SymmetricEigenDecomposition eig = a.eig();
+    final DoubleMatrix v = eig.getV();
+    assertOrthonormal(v, 1.0e-13d);
+    assertEquals(0.0d, maxDifference(a.multiply(v), v.multiply(eig.getD())), 1.0e-12d);
+    final double[] d = eig.getEigenvalues();
+    for (int i = 1; i < d.length; i++) {
+      assertTrue(d[i - 1] <= d[i]);
+    }
+    final DoubleVector x = eig.getEigenvector(59);
+    assertEquals(1.0d, x.norm(), 1.0e-14d);
+    assertEquals(v.get(7, 59), x.get(7), 0.0d);
+
+    try {
+      b.eig();
+      fail();
+    } catch (final IllegalArgumentException e) {
+      assertNotNull(e.getMessage());
+    }
+  }
+
+  /**
+   *
+   * @since 2026/10/18 17:20:14
+   */
+  public void testWorkspace() {
+    final DecompositionWorkspace workspace = new DecompositionWorkspace();
+    final DoubleMatrix b = sample(20, 20, 2L);
+    final DoubleMatrix a = b.add(b.transpose());
+    final double[] d = new SymmetricEigenDecomposition(a, workspace).getEigenvalues();
+    final DoubleMatrix c = sample(20, 20, 3L);
+    new SymmetricEigenDecomposition(c.add(c.transpose()), workspace);
+    final double[] e = new SymmetricEigenDecomposition(a, workspace).getEigenvalues();
+    for (int i = 0; i < d.length; i++) {
+      assertEquals(d[i], e[i], 0.0d);
+    }
+  }
+
+}